@@ -0,0 +1,115 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteResDto;
+import com.sparta.delivery.domain.autocomplete.enums.SuggestionType;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteIndex;
+import com.sparta.delivery.domain.autocomplete.service.HangulKeys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 색인 조회, 갱신 비용 (entries 개의 가게/상품/배달 지역 이름을 색인한 상태)
+ *
+ * 1. syllablePrefix : 완성된 음절 1 ~ 3개로 조회 ("비빔")
+ * 2. typingInProgress : 마지막 음절을 입력 중인 검색어로 조회 ("비ㅂ")
+ * 3. choseong : 초성 2 ~ 3개로 조회 ("ㅂㅂ")
+ * 4. update : 가게 이름 변경 (이전 후보 해제 + 새 후보 색인)
+ *
+ * 이름은 자주 쓰이는 음절을 무작위로 2 ~ 6개 이어 만들고, 검색어는 색인된 이름에서 뽑아 항상 후보가 있도록 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AutocompleteBenchmark {
+
+    private static final String SYLLABLES =
+            "가각간갈감강개거건게겨견경고곱공과관교구국군굴궁김까꼬꽃나낙난날남네노농누니닭다단달당대도동된두둥라락란래로롯리마막만맛매면명모목무문미밀바박반밥방배백버번보복본볶부북분불비빔빵사산살삼상새생서선설성세소손송수순숙스시식신실심쌀쌈아안알야양어언얼여역연열영오옥온왕요용우운원위유육으은을음이인일입자장전정제조족종주죽중지진짜짬찌찜차찬참천철초촌총추춘치칠칼커코콩크킹타탕토통튀파팔편포푸풍피하한할함해햄향허호홍화황회후훈흑";
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000000"})
+    public int entries;
+
+    private AutocompleteIndex index;
+
+    private String[] syllablePrefixes;
+    private String[] typingPrefixes;
+    private String[] choseongPrefixes;
+    private UUID[] updateIds;
+    private String[] updateNames;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new AutocompleteIndex();
+
+        String[] names = new String[entries];
+        UUID[] ids = new UUID[entries];
+        SuggestionType[] types = SuggestionType.values();
+        for (int i = 0; i < entries; i++) {
+            names[i] = randomName(random);
+            ids[i] = UUID.randomUUID();
+            index.put(ids[i], types[i % types.length], names[i]);
+        }
+
+        syllablePrefixes = new String[QUERY_COUNT];
+        typingPrefixes = new String[QUERY_COUNT];
+        choseongPrefixes = new String[QUERY_COUNT];
+        updateIds = new UUID[QUERY_COUNT];
+        updateNames = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String name = names[random.nextInt(entries)];
+            int length = 1 + random.nextInt(Math.min(3, name.length()));
+            syllablePrefixes[i] = name.substring(0, length);
+            // 다음 음절의 초성까지 입력한 상태 ("비빔" -> "비ㅂ")
+            typingPrefixes[i] = name.substring(0, length - 1) + HangulKeys.choseong(name.substring(length - 1, length));
+            choseongPrefixes[i] = HangulKeys.choseong(name.substring(0, Math.min(name.length(), 2 + random.nextInt(2))));
+
+            int target = random.nextInt(entries);
+            updateIds[i] = ids[target];
+            updateNames[i] = randomName(random);
+        }
+    }
+
+    @Benchmark
+    public List<AutocompleteResDto> syllablePrefix() {
+        return index.suggest(syllablePrefixes[next()], 10);
+    }
+
+    @Benchmark
+    public List<AutocompleteResDto> typingInProgress() {
+        return index.suggest(typingPrefixes[next()], 10);
+    }
+
+    @Benchmark
+    public List<AutocompleteResDto> choseong() {
+        return index.suggest(choseongPrefixes[next()], 10);
+    }
+
+    @Benchmark
+    public int update() {
+        int i = next();
+        index.put(updateIds[i], SuggestionType.STORE, updateNames[i]);
+        return index.size();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return cursor;
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(5);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+import com.sparta.delivery.domain.store.service.DeliveryAreaIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 가능 가게 조회, 가게 위치 갱신 비용 (stores 개의 가게를 서울 영역에 흩어 색인한 상태)
+ *
+ * 1. search : 무작위 배송지로 배달 가능한 가게 첫 페이지(10개) 를 가까운 순서로 조회
+ * 2. update : 가게 위치, 배달 반경 변경 (이전 칸에서 제거 + 새 칸에 등록)
+ *
+ * 배달 반경은 1 ~ 5km 에서 무작위로 정하고, 배송지는 가게와 같은 영역에서 뽑습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeliveryAreaBenchmark {
+
+    // 서울 영역 (위도, 경도 범위)
+    private static final double MIN_LATITUDE = 37.43;
+    private static final double MAX_LATITUDE = 37.70;
+    private static final double MIN_LONGITUDE = 126.80;
+    private static final double MAX_LONGITUDE = 127.18;
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"10000", "50000"})
+    public int stores;
+
+    private DeliveryAreaIndex index;
+
+    private GeoPoint[] addresses;
+    private UUID[] updateIds;
+    private GeoPoint[] updateCenters;
+    private int[] updateRadii;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new DeliveryAreaIndex();
+
+        UUID[] ids = new UUID[stores];
+        List<DeliveryAreaIndex.Area> areas = new ArrayList<>(stores);
+        for (int i = 0; i < stores; i++) {
+            ids[i] = UUID.randomUUID();
+            areas.add(new DeliveryAreaIndex.Area(ids[i], randomPoint(random), randomRadius(random)));
+        }
+        index.putAll(areas);
+
+        addresses = new GeoPoint[QUERY_COUNT];
+        updateIds = new UUID[QUERY_COUNT];
+        updateCenters = new GeoPoint[QUERY_COUNT];
+        updateRadii = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            addresses[i] = randomPoint(random);
+            updateIds[i] = ids[random.nextInt(stores)];
+            updateCenters[i] = randomPoint(random);
+            updateRadii[i] = randomRadius(random);
+        }
+    }
+
+    @Benchmark
+    public DeliveryAreaIndex.SearchResult search() {
+        return index.search(addresses[next()], 0, 10);
+    }
+
+    @Benchmark
+    public int update() {
+        int i = next();
+        index.put(updateIds[i], updateCenters[i], updateRadii[i]);
+        return index.size();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return cursor;
+    }
+
+    private static GeoPoint randomPoint(Random random) {
+        return new GeoPoint(MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE),
+                MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE));
+    }
+
+    private static int randomRadius(Random random) {
+        return 1000 + random.nextInt(4001);
+    }
+}
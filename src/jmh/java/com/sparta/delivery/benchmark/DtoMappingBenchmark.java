@@ -0,0 +1,120 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderResponseDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
+import com.sparta.delivery.domain.product.dto.ProductResponseDto;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.store.dto.StoreRegionResDto;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답마다 실행되는 엔티티 -> DTO 변환 비용 (연산당 할당량은 gc profiler 결과의 gc.alloc.rate.norm)
+ *
+ * 1. orderToResponseDto / orderToResponseListDto : 주문 단건, 목록 응답 변환 (단건은 주문 상품 id 목록 포함)
+ * 2. storeRegionResDto : 가게 + 배달 지역 목록 변환
+ * 3. productResponseDto : 상품 응답 변환
+ *
+ * size 는 주문 상품 수, 가게 배달 지역 수입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int size;
+
+    private Order order;
+    private Stores store;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .userId(UUID.randomUUID())
+                .username("benchUser")
+                .build();
+
+        store = Stores.builder()
+                .storeId(UUID.randomUUID())
+                .name("benchStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(user)
+                .category(Category.values()[0])
+                .regionList(new ArrayList<>())
+                .productList(new ArrayList<>())
+                .orderList(new ArrayList<>())
+                .starSum(40)
+                .reviewSum(10)
+                .star4Count(10)
+                .build();
+
+        product = Product.builder()
+                .productId(UUID.randomUUID())
+                .store(store)
+                .name("benchProduct")
+                .description("yummy~")
+                .price(11000)
+                .quantity(100)
+                .hidden(false)
+                .build();
+
+        order = Order.builder()
+                .orderId(UUID.randomUUID())
+                .orderTime(LocalDateTime.now())
+                .orderType(OrderType.DELIVERY)
+                .orderStatus(OrderStatus.ORDER_IN)
+                .requirements("bench order")
+                .stores(store)
+                .user(user)
+                .build();
+
+        List<OrderProduct> orderProductList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            orderProductList.add(new OrderProduct(order, product));
+            store.getRegionList().add(Region.builder()
+                    .regionId(UUID.randomUUID())
+                    .province("서울특별시")
+                    .city("종로구")
+                    .locality("세종로" + i)
+                    .stores(store)
+                    .build());
+        }
+        order.setOrderProductList(orderProductList);
+    }
+
+    @Benchmark
+    public OrderResponseDto orderToResponseDto() {
+        return order.toResponseDto();
+    }
+
+    @Benchmark
+    public OrderListResponseDto orderToResponseListDto() {
+        return order.toResponseListDto();
+    }
+
+    @Benchmark
+    public StoreRegionResDto storeRegionResDto() {
+        return new StoreRegionResDto(store);
+    }
+
+    @Benchmark
+    public ProductResponseDto productResponseDto() {
+        return ProductResponseDto.from(product);
+    }
+}
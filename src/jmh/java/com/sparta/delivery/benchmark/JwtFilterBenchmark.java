@@ -0,0 +1,112 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.config.auth.RequestPathClassifier;
+import com.sparta.delivery.config.filter.JwtAuthenticationFilter;
+import com.sparta.delivery.domain.token.dto.VerifiedJwt;
+import com.sparta.delivery.domain.token.service.JwtUtil;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 가 요청 1건당 수행하는 토큰 검증 비용 비교
+ *
+ * 1. legacyFiveParses : 기존 필터 - 파서를 매번 생성하며 isExpired, getCategory, getUsername, getEmail, getRole 각각 파싱
+ * 2. verifyWithoutCache : 파서 재사용 + 1회 파싱
+ * 3. verifyWithCache : 같은 토큰 재요청 시 캐시 적중 (서명 검증 생략)
+ * 4. createJwt : 로그인, 토큰 재발급 시 access token 생성
+ * 5. filterRequest : 경로 분류, 토큰 검증, 인증 정보 설정까지 필터 전체 (요청 객체 생성 포함, requestOnly 와 차이가 필터 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String accessToken;
+    private JwtAuthenticationFilter filter;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        uncachedJwtUtil = new JwtUtil(SECRET, 0);
+        cachedJwtUtil = new JwtUtil(SECRET, 10_000);
+        accessToken = cachedJwtUtil.createJwt("access", "benchUser", "bench@example.com", UserRoles.ROLE_CUSTOMER, 3_600_000L);
+        cachedJwtUtil.verify(accessToken);
+        filter = new JwtAuthenticationFilter(cachedJwtUtil, new RequestPathClassifier(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public String createJwt() {
+        return cachedJwtUtil.createJwt("access", "benchUser", "bench@example.com", UserRoles.ROLE_CUSTOMER, 3_600_000L);
+    }
+
+    @Benchmark
+    public MockHttpServletRequest requestOnly() {
+        return newRequest();
+    }
+
+    @Benchmark
+    public Object filterRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = newRequest();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public void legacyFiveParses(Blackhole blackhole) {
+        blackhole.consume(legacyParseClaims(accessToken).getExpiration().before(new Date()));
+        blackhole.consume(legacyParseClaims(accessToken).get("category", String.class));
+        blackhole.consume(legacyParseClaims(accessToken).get("username", String.class));
+        blackhole.consume(legacyParseClaims(accessToken).get("email", String.class));
+        blackhole.consume(legacyParseClaims(accessToken).get("role", String.class));
+    }
+
+    @Benchmark
+    public VerifiedJwt verifyWithoutCache() {
+        return uncachedJwtUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedJwt verifyWithCache() {
+        return cachedJwtUtil.verify(accessToken);
+    }
+
+    // OncePerRequestFilter 가 요청 속성으로 중복 실행을 막으므로 요청마다 새로 생성
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/order/getUserOrder");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + accessToken);
+        return request;
+    }
+
+    // 기존 JwtUtil.parseClaims 와 동일하게 호출마다 파서를 생성
+    private Claims legacyParseClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
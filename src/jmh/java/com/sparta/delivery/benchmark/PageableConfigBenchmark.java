@@ -0,0 +1,52 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.config.PageableConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 요청마다 실행되는 PageableConfig 의 페이지 요청 생성 비용
+ *
+ * 1. defaults : page, size, 정렬 조건 없이 요청한 경우
+ * 2. explicit : page, size, 정렬 필드, 정렬 방향을 모두 지정한 경우
+ * 3. cursorPageSize : 커서 조회 페이지 크기 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageableConfigBenchmark {
+
+    private PageableConfig pageableConfig;
+
+    // 상수 폴딩을 막기 위해 필드로 전달
+    private Integer page;
+    private Integer size;
+    private String sortBy;
+    private String orderBy;
+
+    @Setup
+    public void setUp() {
+        pageableConfig = new PageableConfig();
+        page = 3;
+        size = 30;
+        sortBy = "updatedAt";
+        orderBy = "desc";
+    }
+
+    @Benchmark
+    public PageRequest defaults() {
+        return pageableConfig.createPageRequest(null, null, null, null);
+    }
+
+    @Benchmark
+    public PageRequest explicit() {
+        return pageableConfig.createPageRequest(page, size, sortBy, orderBy);
+    }
+
+    @Benchmark
+    public int cursorPageSize() {
+        return pageableConfig.createCursorPageSize(size);
+    }
+}
@@ -0,0 +1,309 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.config.QuerydslConfig;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
+import com.sparta.delivery.domain.payment.dto.SearchDto;
+import com.sparta.delivery.domain.payment.repository.PaymentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 내역 검색(PaymentRepositoryCustomImpl) 의 SearchDto 조건 조합별 latency 와 실행 계획 측정
+ *
+ * 1. 벤치마크 데이터가 없으면 db/payment-search-seed.sql 로 결제 1,000만 건 생성 (최초 1회, 수 분 소요)
+ * 2. DataSource, JPA, querydsl 설정만 올린 Spring context 에서 PaymentRepository 의 검색 메서드를 그대로 호출
+ * 3. Setup 에서 검색 메서드가 실행한 SQL 과 바인딩 값을 기록하고, 같은 SQL 로 EXPLAIN (ANALYZE, BUFFERS) 결과를 출력
+ * 4. offsetPage : searchPayments (목록 + count 쿼리, Page 응답), cursorPage : searchPaymentsByCursor 두 번째 페이지 (count 없음)
+ *
+ * 접속 정보는 환경 변수 BENCH_JDBC_URL, BENCH_DB_USER, DB_PASSWORD 로 지정
+ * 실행: ./gradlew jmh -Pjmh.includes=PaymentSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PaymentSearchBenchmark {
+
+    private static final String SEED_SCRIPT = "/db/payment-search-seed.sql";
+    private static final int PAGE_SIZE = 20;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    /**
+     * SearchDto 조건 조합 (사용자 조건, 기본 금액 범위 0 ~ Integer.MAX_VALUE 는 항상 포함)
+     */
+    public enum Shape {
+        USER_ONLY(null, null, null, null, null, null),
+        AMOUNT_RANGE(30_000, 31_000, null, null, null, null),
+        PAYMENT_TIME(null, null, null, null, 7, null),
+        ORDER_STATUS(null, null, OrderStatus.ORDER_CANCEL, null, null, null),
+        ORDER_TYPE(null, null, null, OrderType.PACKAGING, null, null),
+        CARD_COMPANY(null, null, null, null, null, "국민"),
+        ALL(10_000, 50_000, OrderStatus.ORDER_COMPLETE, OrderType.DELIVERY, 180, "국민");
+
+        private final Integer minAmount;
+        private final Integer maxAmount;
+        private final OrderStatus orderStatus;
+        private final OrderType orderType;
+        private final Integer paymentDays;
+        private final String cardCompany;
+
+        Shape(Integer minAmount, Integer maxAmount, OrderStatus orderStatus, OrderType orderType, Integer paymentDays, String cardCompany) {
+            this.minAmount = minAmount;
+            this.maxAmount = maxAmount;
+            this.orderStatus = orderStatus;
+            this.orderType = orderType;
+            this.paymentDays = paymentDays;
+            this.cardCompany = cardCompany;
+        }
+
+        // 결제 시간 조건은 최근 paymentDays 일
+        SearchDto searchDto() {
+            LocalDateTime paymentTime = paymentDays == null ? null : LocalDateTime.now().minusDays(paymentDays);
+            return new SearchDto(minAmount, maxAmount, orderStatus, orderType, paymentTime, cardCompany);
+        }
+    }
+
+    @Param({"USER_ONLY", "AMOUNT_RANGE", "PAYMENT_TIME", "ORDER_STATUS", "ORDER_TYPE", "CARD_COMPANY", "ALL"})
+    public Shape shape;
+
+    private ConfigurableApplicationContext context;
+    private RecordingDataSource dataSource;
+    private PaymentRepository paymentRepository;
+    private SearchDto searchDto;
+    private UUID userId;
+    private Cursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(PaymentSearchConfig.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run("--spring.config.name=payment-search-benchmark",  // 운영 설정(application.yml) 을 읽지 않음
+                        "--spring.jpa.hibernate.ddl-auto=none");
+        dataSource = context.getBean(RecordingDataSource.class);
+        paymentRepository = context.getBean(PaymentRepository.class);
+        seedIfEmpty();
+
+        // 벤치마크 사용자는 모두 결제 1,000건 (그중 50건 삭제)
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select user_id from p_user where username = 'bench_user_1'")) {
+            resultSet.next();
+            userId = resultSet.getObject(1, UUID.class);
+        }
+        searchDto = shape.searchDto();
+
+        // 첫 페이지 마지막 행을 커서로 사용
+        String nextCursor = paymentRepository.searchPaymentsByCursor(searchDto, userId, null, PAGE_SIZE).getNextCursor();
+        cursor = nextCursor != null ? Cursor.decode(nextCursor) : new Cursor(LocalDateTime.now(), new UUID(-1L, -1L));
+
+        // 벤치마크와 같은 호출이 실행한 SQL 의 실행 계획 출력
+        List<RecordedStatement> statements = dataSource.record(() -> {
+            offsetPage();
+            cursorPage();
+        });
+        for (RecordedStatement statement : statements) {
+            printPlan(statement);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PaymentDto> offsetPage() {
+        return paymentRepository.searchPayments(searchDto, userId, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CursorPageResponseDto<PaymentDto> cursorPage() {
+        return paymentRepository.searchPaymentsByCursor(searchDto, userId, cursor, PAGE_SIZE);
+    }
+
+    private void seedIfEmpty() throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select count(*) from p_user where username = 'bench_owner'")) {
+                resultSet.next();
+                if (resultSet.getLong(1) > 0) {
+                    return;
+                }
+            }
+
+            String script;
+            try (InputStream inputStream = PaymentSearchBenchmark.class.getResourceAsStream(SEED_SCRIPT)) {
+                if (inputStream == null) {
+                    throw new IllegalStateException(SEED_SCRIPT + " 를 찾을 수 없습니다.");
+                }
+                script = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : statements(script)) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    // 주석 줄을 제외하고 ';' 기준으로 분리
+    private List<String> statements(String script) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (!line.strip().startsWith("--")) {
+                builder.append(line).append('\n');
+            }
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String sql : builder.toString().split(";")) {
+            if (!sql.isBlank()) {
+                statements.add(sql.strip());
+            }
+        }
+        return statements;
+    }
+
+    // 기록된 SQL 에 같은 바인딩 값을 같은 setter 로 다시 설정해 실행 계획 조회
+    private void printPlan(RecordedStatement recorded) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain (analyze, buffers) " + recorded.sql())) {
+            for (Bind bind : recorded.binds()) {
+                bind.setter().invoke(statement, bind.args());
+            }
+            System.out.println("[" + shape + "] " + recorded.sql());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    System.out.println("    " + resultSet.getString(1));
+                }
+            }
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return (value == null || value.isBlank()) ? defaultValue : value;
+    }
+
+    // 결제 검색에 필요한 DataSource, JPA, querydsl 설정만 포함 (웹, 보안, 스케줄러 등은 올리지 않음)
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackages = "com.sparta.delivery.domain")
+    @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+    @Import(QuerydslConfig.class)
+    static class PaymentSearchConfig {
+
+        @Bean
+        RecordingDataSource dataSource() {
+            RecordingDataSource dataSource = new RecordingDataSource();
+            dataSource.setJdbcUrl(env("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/delivery"));
+            dataSource.setUsername(env("BENCH_DB_USER", "twenty1"));
+            dataSource.setPassword(env("DB_PASSWORD", ""));
+            return dataSource;
+        }
+    }
+
+    record Bind(Method setter, Object[] args) {
+    }
+
+    record RecordedStatement(String sql, List<Bind> binds) {
+    }
+
+    /**
+     * record 실행 중에 빌린 connection 에서 실행된 SQL 과 바인딩 값을 기록하는 DataSource
+     *
+     * 기록 중이 아니면 HikariDataSource 의 connection 을 그대로 반환하므로 측정에는 영향이 없습니다.
+     */
+    static class RecordingDataSource extends HikariDataSource {
+
+        private volatile List<RecordedStatement> recorded;
+
+        List<RecordedStatement> record(Runnable action) {
+            List<RecordedStatement> statements = new ArrayList<>();
+            recorded = statements;
+            try {
+                action.run();
+            } finally {
+                recorded = null;
+            }
+            return statements;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            List<RecordedStatement> statements = recorded;
+            return statements == null ? connection : recordingConnection(connection, statements);
+        }
+
+        private static Connection recordingConnection(Connection connection, List<RecordedStatement> statements) {
+            return (Connection) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return recordingStatement(statement, (String) args[0], statements);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement recordingStatement(PreparedStatement statement, String sql, List<RecordedStatement> statements) {
+            List<Bind> binds = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        // setXxx(parameterIndex, value, ...) 호출만 바인딩으로 기록
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            binds.add(new Bind(method, args.clone()));
+                        } else if (method.getName().startsWith("execute")) {
+                            statements.add(new RecordedStatement(sql, List.copyOf(binds)));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+-- PaymentSearchBenchmark 용 데이터 생성 (PostgreSQL 13 이상, 애플리케이션을 한 번 기동해 테이블이 생성된 상태에서 실행)
+-- 사용자 10,000 명 x 결제 1,000 건 = 결제 10,000,000 건, 결제 1건당 주문 1건
+-- id 는 md5 기반 고정 UUID 라 사용자/카드/주문/결제를 별도 조회 없이 연결
+-- 결제 20건 중 1건은 삭제(soft delete) 상태
+
+INSERT INTO p_user (user_id, username, password, email, nickname, role, created_at, created_by, updated_at)
+VALUES (md5('bench_owner')::uuid, 'bench_owner', 'bench', 'bench_owner@example.com', 'bench_owner', 'ROLE_OWNER', now(), 'bench', now());
+
+INSERT INTO p_stores (store_id, name, address, status, user_id, star_sum, review_sum,
+                      star1count, star2count, star3count, star4count, star5count, category, created_at, created_by, updated_at)
+VALUES (md5('bench_store')::uuid, 'bench_store', 'Gwanghwamun', true, md5('bench_owner')::uuid, 0, 0,
+        0, 0, 0, 0, 0, '한식', now(), 'bench', now());
+
+INSERT INTO p_user (user_id, username, password, email, nickname, role, created_at, created_by, updated_at)
+SELECT md5('bench_user_' || u)::uuid, 'bench_user_' || u, 'bench', 'bench_user_' || u || '@example.com', 'bench_user_' || u,
+       'ROLE_CUSTOMER', now(), 'bench', now()
+FROM generate_series(1, 10000) AS u;
+
+INSERT INTO p_card (card_id, user_id, card_company, card_name, card_number, created_at, created_by, updated_at)
+SELECT md5('bench_card_' || u)::uuid, md5('bench_user_' || u)::uuid,
+       (ARRAY ['국민', '신한', '현대', '삼성'])[1 + u % 4], 'bench_card', lpad(u::text, 4, '0'), now(), 'bench', now()
+FROM generate_series(1, 10000) AS u;
+
+INSERT INTO p_order (order_id, order_time, order_type, order_status, requirements, store_id, user_id, created_at, created_by, updated_at)
+SELECT md5('bench_order_' || g)::uuid,
+       now() - (g % 730) * interval '1 day' - (g % 86400) * interval '1 second',
+       (ARRAY ['DELIVERY', 'PACKAGING'])[1 + g % 2],
+       (ARRAY ['PAYMENT_COMPLETE', 'ORDER_IN', 'DELIVERING', 'ORDER_COMPLETE', 'ORDER_CANCEL'])[1 + g % 5],
+       NULL, md5('bench_store')::uuid, md5('bench_user_' || (1 + g % 10000))::uuid,
+       now() - (g % 730) * interval '1 day' - (g % 86400) * interval '1 second', 'bench', now()
+FROM generate_series(1, 10000000) AS g;
+
+INSERT INTO p_payment (payment_id, user_id, card_id, order_id, amount, payment_time, created_at, created_by, updated_at, deleted_at)
+SELECT md5('bench_payment_' || g)::uuid, md5('bench_user_' || (1 + g % 10000))::uuid, md5('bench_card_' || (1 + g % 10000))::uuid,
+       md5('bench_order_' || g)::uuid, 1000 + (g * 7919) % 99000,
+       now() - (g % 730) * interval '1 day' - (g % 86400) * interval '1 second',
+       now() - (g % 730) * interval '1 day' - (g % 86400) * interval '1 second', 'bench', now(),
+       CASE WHEN g % 20 = 0 THEN now() END
+FROM generate_series(1, 10000000) AS g;
+
+ANALYZE p_user;
+ANALYZE p_card;
+ANALYZE p_order;
+ANALYZE p_payment;
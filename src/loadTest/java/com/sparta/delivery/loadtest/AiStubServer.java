@@ -0,0 +1,73 @@
+package com.sparta.delivery.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 AI API(generateContent) 대신 고정 문구를 응답하는 로컬 stub 서버
+ *
+ * 애플리케이션 기동 전에 ai.baseUrl 을 정해야 하므로 spring bean 이 아닌 LoadTestApplication 에서 직접 생성합니다.
+ */
+public class AiStubServer {
+
+    private static final String STUB_ANSWER = "오늘의 추천 메뉴, 지금 바로 주문하세요!";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile long delayMillis;
+
+    private AiStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static AiStubServer start() {
+        try {
+            AiStubServer stubServer = new AiStubServer(HttpServer.create(new InetSocketAddress("localhost", 0), 0));
+            stubServer.server.createContext("/v1beta/models/", exchange -> {
+                try {
+                    Thread.sleep(stubServer.delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                byte[] body = ("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + STUB_ANSWER + "\"}]}}]}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                exchange.sendResponseHeaders(HttpStatus.OK.value(), body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                } catch (IOException e) {
+                    // 시간 초과로 클라이언트가 먼저 연결을 끊은 경우
+                }
+            });
+            stubServer.server.setExecutor(stubServer.executor);
+            stubServer.server.start();
+            return stubServer;
+        } catch (IOException e) {
+            throw new IllegalStateException("AI stub 서버를 시작할 수 없습니다.", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    // 실제 AI API 응답 시간을 흉내내기 위한 지연 시간
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
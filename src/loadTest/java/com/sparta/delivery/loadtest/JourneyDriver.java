@@ -0,0 +1,248 @@
+package com.sparta.delivery.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sparta.delivery.domain.ai.dto.AiRequestDto;
+import com.sparta.delivery.domain.order.dto.OrderRequestDto;
+import com.sparta.delivery.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
+import com.sparta.delivery.domain.review.dto.ReviewRequestDto;
+import com.sparta.delivery.domain.user.dto.LoginRequestDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 시드 데이터로 사용자 시나리오를 일정한 속도(open model)로 실행
+ *
+ * 고객 : 로그인 -> 카테고리별 가게 검색 -> 가게 상품 조회 -> 상품 검색 -> 주문 -> 주문 내역 조회(주문 id 확인) -> 결제
+ * 가게 주인 : 주문 완료 처리, aiRatio 비율로 AI 추천 문구 요청
+ * 고객 : 리뷰 작성
+ *
+ * 응답이 늦어져도 시작 속도(rate)는 유지하며, 동시 진행 시나리오가 maxConcurrentJourneys 를 넘으면 시작하지 않고 drop 으로 집계합니다.
+ * warm-up 구간에 시작한 시나리오는 결과에서 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JourneyDriver {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final LoadTestReport loadTestReport;
+
+    @Value("${loadtest.rate}")
+    private int rate;
+
+    @Value("${loadtest.warmupSeconds}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.durationSeconds}")
+    private int durationSeconds;
+
+    @Value("${loadtest.maxConcurrentJourneys}")
+    private int maxConcurrentJourneys;
+
+    @Value("${loadtest.aiRatio}")
+    private double aiRatio;
+
+    @Value("${loadtest.seed.randomSeed:42}")
+    private long randomSeed;
+
+    public void run(String baseUrl, LoadTestDataSet dataSet) {
+        ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                .maxConnections(maxConcurrentJourneys)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                .build();
+
+        try {
+            // 가게 주인 로그인은 시나리오 시작 전에 한 번만 수행
+            Map<String, String> ownerTokens = Flux.fromIterable(dataSet.stores())
+                    .map(LoadTestDataSet.Store::ownerUsername)
+                    .distinct()
+                    .flatMap(username -> signin(webClient, username, dataSet.password())
+                            .map(token -> Map.entry(username, token)), 8)
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block();
+
+            long warmupJourneys = (long) rate * warmupSeconds;
+            long totalJourneys = warmupJourneys + (long) rate * durationSeconds;
+            log.info("부하 테스트 시작 - 초당 {}개 시나리오, warm-up {}초, 측정 {}초", rate, warmupSeconds, durationSeconds);
+
+            Flux.interval(Duration.ofNanos(1_000_000_000L / rate))
+                    .take(totalJourneys)
+                    .doOnNext(index -> {
+                        if (index == warmupJourneys) {
+                            loadTestReport.startMeasuring();
+                        }
+                    })
+                    .onBackpressureDrop(index -> loadTestReport.recordDropped())
+                    .flatMap(index -> runJourney(webClient, dataSet, ownerTokens, index, index >= warmupJourneys), maxConcurrentJourneys)
+                    .blockLast();
+
+            loadTestReport.finishMeasuring();
+        } finally {
+            provider.dispose();
+        }
+    }
+
+    private Mono<Void> runJourney(WebClient webClient, LoadTestDataSet dataSet, Map<String, String> ownerTokens, long index, boolean measured) {
+        SplittableRandom random = new SplittableRandom(randomSeed + index);
+        LoadTestDataSet.Customer customer = dataSet.customers().get((int) (index % dataSet.customers().size()));
+        LoadTestDataSet.Store store = dataSet.stores().get(random.nextInt(dataSet.stores().size()));
+        String ownerToken = ownerTokens.get(store.ownerUsername());
+
+        List<LoadTestDataSet.Product> cart = new ArrayList<>();
+        int cartSize = random.nextInt(3) + 1;
+        for (int i = 0; i < cartSize; i++) {
+            cart.add(store.products().get(random.nextInt(store.products().size())));
+        }
+        int amount = cart.stream().mapToInt(LoadTestDataSet.Product::price).sum();
+        String keyword = cart.get(0).keyword();
+        // 주문 생성 응답에 주문 id 가 없으므로 요청사항에 시나리오 번호를 넣어 주문 내역에서 찾음
+        String requirements = "loadtest-" + index;
+        boolean requestAi = random.nextDouble() < aiRatio;
+
+        long start = System.nanoTime();
+        return step("01.signin", measured, () -> signin(webClient, customer.username(), dataSet.password()))
+                .flatMap(token -> step("02.storeSearch", measured, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder.path("/api/store/search")
+                                .queryParam("category", store.category().name())
+                                .build())
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .retrieve()
+                        .toBodilessEntity())
+                        .then(step("03.storeProducts", measured, () -> webClient.get()
+                                .uri("/api/products/stores/{storeId}", store.storeId())
+                                .header(HttpHeaders.AUTHORIZATION, token)
+                                .retrieve()
+                                .toBodilessEntity()))
+                        .then(step("04.productSearch", measured, () -> webClient.get()
+                                .uri("/api/products/search/{productName}", keyword)
+                                .header(HttpHeaders.AUTHORIZATION, token)
+                                .retrieve()
+                                .toBodilessEntity()))
+                        .then(step("05.createOrder", measured, () -> webClient.post()
+                                .uri("/api/order")
+                                .header(HttpHeaders.AUTHORIZATION, token)
+                                .bodyValue(OrderRequestDto.builder()
+                                        .storeId(store.storeId())
+                                        .deliveryAddressId(customer.deliveryAddressId())
+                                        .productId(cart.stream().map(LoadTestDataSet.Product::productId).toList())
+                                        .orderType(OrderType.DELIVERY)
+                                        .requirements(requirements)
+                                        .build())
+                                .retrieve()
+                                .toBodilessEntity()))
+                        .then(step("06.userOrders", measured, () -> webClient.get()
+                                .uri(uriBuilder -> uriBuilder.path("/api/order/getUserOrder")
+                                        .queryParam("cursorMode", true)
+                                        .queryParam("orderBy", "desc")
+                                        .queryParam("storeIdList", store.storeId())
+                                        .build())
+                                .header(HttpHeaders.AUTHORIZATION, token)
+                                .retrieve()
+                                .bodyToMono(JsonNode.class)))
+                        .map(orders -> findOrderId(orders, requirements))
+                        .flatMap(orderId -> step("07.payment", measured, () -> webClient.post()
+                                .uri("/api/payment")
+                                .header(HttpHeaders.AUTHORIZATION, token)
+                                .header(IDEMPOTENCY_KEY_HEADER, requirements)
+                                .bodyValue(RegisterPaymentDto.builder()
+                                        .cardId(customer.cardId())
+                                        .amount(amount)
+                                        .orderId(orderId)
+                                        .build())
+                                .retrieve()
+                                .toBodilessEntity())
+                                .then(step("08.completeOrder", measured, () -> webClient.patch()
+                                        .uri("/api/order/updateOrderStatus/{orderId}", orderId)
+                                        .header(HttpHeaders.AUTHORIZATION, ownerToken)
+                                        .bodyValue(new OrderStatusRequestDto(OrderStatus.ORDER_COMPLETE))
+                                        .retrieve()
+                                        .toBodilessEntity()))
+                                .then(step("09.review", measured, () -> webClient.post()
+                                        .uri("/api/review")
+                                        .header(HttpHeaders.AUTHORIZATION, token)
+                                        .bodyValue(new ReviewRequestDto("맛있어요 " + requirements, random.nextInt(5) + 1, orderId))
+                                        .retrieve()
+                                        .toBodilessEntity()))))
+                .then(requestAi
+                        ? step("10.aiRecommend", measured, () -> webClient.post()
+                                .uri("/api/ai")
+                                .header(HttpHeaders.AUTHORIZATION, ownerToken)
+                                .bodyValue(new AiRequestDto(keyword + " 홍보 문구를 50자 이내로 추천해줘"))
+                                .retrieve()
+                                .toBodilessEntity())
+                        .then()
+                        : Mono.<Void>empty())
+                .doOnSuccess(ignored -> recordJourney(measured, start, true))
+                .onErrorResume(e -> {
+                    log.debug("시나리오 {} 실패 : {}", index, e.getMessage());
+                    recordJourney(measured, start, false);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<String> signin(WebClient webClient, String username, String password) {
+        return webClient.post()
+                .uri("/api/user/signin")
+                .bodyValue(new LoginRequestDto(username, password))
+                .retrieve()
+                .toBodilessEntity()
+                .map(response -> BEARER_PREFIX + response.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    private UUID findOrderId(JsonNode orders, String requirements) {
+        for (JsonNode order : orders.path("content")) {
+            if (requirements.equals(order.path("requirements").asText())) {
+                return UUID.fromString(order.path("orderId").asText());
+            }
+        }
+        throw new IllegalStateException("주문 내역에서 생성한 주문을 찾을 수 없습니다. : " + requirements);
+    }
+
+    // 구독 시점부터 응답(또는 실패)까지의 시간을 단계별로 기록
+    private <T> Mono<T> step(String name, boolean measured, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.get()
+                    .doOnSuccess(ignored -> recordStep(name, measured, start, true))
+                    .doOnError(e -> recordStep(name, measured, start, false));
+        });
+    }
+
+    private void recordStep(String name, boolean measured, long start, boolean success) {
+        if (measured) {
+            loadTestReport.recordStep(name, System.nanoTime() - start, success);
+        }
+    }
+
+    private void recordJourney(boolean measured, long start, boolean success) {
+        if (measured) {
+            loadTestReport.recordJourney(System.nanoTime() - start, success);
+        }
+    }
+}
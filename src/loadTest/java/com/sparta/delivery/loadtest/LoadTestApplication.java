@@ -0,0 +1,45 @@
+package com.sparta.delivery.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.DeliveryApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 실행 진입점 (./gradlew loadTest)
+ *
+ * 1. AI stub 서버를 띄운 뒤 loadtest profile 로 애플리케이션 기동 (임의 포트, 기본 H2)
+ * 2. LoadTestDataGenerator 로 시드 데이터 생성
+ * 3. JourneyDriver 로 실제 controller 에 사용자 시나리오 실행
+ * 4. 결과를 표준 출력과 JSON 파일(loadtest.reportDir)로 남김
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws IOException {
+        AiStubServer aiStubServer = AiStubServer.start();
+        // application.yml 의 ai.baseUrl 보다 우선하도록 system property 로 지정
+        System.setProperty("ai.baseUrl", aiStubServer.baseUrl());
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DeliveryApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            Environment environment = context.getEnvironment();
+            aiStubServer.setDelayMillis(environment.getProperty("loadtest.aiStubDelayMillis", Long.class, 0L));
+
+            LoadTestDataSet dataSet = context.getBean(LoadTestDataGenerator.class).generate();
+            context.getBean(JourneyDriver.class).run("http://localhost:" + environment.getProperty("local.server.port"), dataSet);
+
+            LoadTestReport report = context.getBean(LoadTestReport.class);
+            report.print();
+            Path reportFile = report.write(Path.of(environment.getProperty("loadtest.reportDir", "build/reports/loadtest")),
+                    context.getBean(ObjectMapper.class));
+            System.out.println("결과 파일 : " + reportFile.toAbsolutePath());
+        } finally {
+            aiStubServer.stop();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.sparta.delivery.loadtest;
+
+import com.sparta.delivery.domain.card.entity.Card;
+import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
+import com.sparta.delivery.domain.payment.entity.Payment;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 시드 데이터 생성
+ *
+ * 1. 고객 : 배송지, 카드 1개씩
+ * 2. 가게 주인, 카테고리별 가게 (가게마다 배달 지역, 상품)
+ * 3. 과거 주문 : 고객별 주문 완료 + 결제 완료 주문
+ *
+ * 같은 randomSeed 로 실행하면 같은 분포의 데이터가 생성되며,
+ * chunk 단위로 커밋하고 영속성 컨텍스트를 비워 데이터 양이 많아도 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestDataGenerator {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String[] CITIES = {"종로구", "중구", "용산구", "성동구", "마포구", "강남구", "서초구", "송파구"};
+    private static final String[] LOCALITIES = {"청운동", "사직동", "삼청동", "회현동", "이태원동", "성수동", "합정동", "역삼동", "서초동", "잠실동"};
+    private static final String[] PRODUCT_VARIANTS = {"", " 세트", " 곱빼기", " 2인분"};
+    private static final String[] CARD_COMPANIES = {"신한카드", "국민카드", "현대카드", "삼성카드"};
+
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${loadtest.seed.customers}")
+    private int customerCount;
+
+    @Value("${loadtest.seed.storesPerCategory}")
+    private int storesPerCategory;
+
+    @Value("${loadtest.seed.storesPerOwner}")
+    private int storesPerOwner;
+
+    @Value("${loadtest.seed.productsPerStore}")
+    private int productsPerStore;
+
+    @Value("${loadtest.seed.regionsPerStore}")
+    private int regionsPerStore;
+
+    @Value("${loadtest.seed.ordersPerCustomer}")
+    private int ordersPerCustomer;
+
+    @Value("${loadtest.seed.password}")
+    private String password;
+
+    @Value("${loadtest.seed.randomSeed:42}")
+    private long randomSeed;
+
+    public LoadTestDataSet generate() {
+        long start = System.currentTimeMillis();
+        Random random = new Random(randomSeed);
+        // BCrypt 인코딩은 느리므로 모든 시드 사용자가 같은 해시를 공유
+        String encodedPassword = passwordEncoder.encode(password);
+
+        List<LoadTestDataSet.Customer> customers = createCustomers(encodedPassword);
+        List<LoadTestDataSet.Store> stores = createStores(encodedPassword, random);
+        int orderCount = createHistoricalOrders(customers, stores, random);
+
+        log.info("부하 테스트 시드 데이터 생성 완료 - 고객 {}명, 가게 {}개, 상품 {}개, 과거 주문 {}건 ({}ms)",
+                customers.size(), stores.size(), stores.size() * productsPerStore, orderCount, System.currentTimeMillis() - start);
+        return new LoadTestDataSet(password, customers, stores);
+    }
+
+    private List<LoadTestDataSet.Customer> createCustomers(String encodedPassword) {
+        List<LoadTestDataSet.Customer> customers = new ArrayList<>(customerCount);
+
+        for (int chunkStart = 0; chunkStart < customerCount; chunkStart += CHUNK_SIZE) {
+            int chunkEnd = Math.min(chunkStart + CHUNK_SIZE, customerCount);
+            int from = chunkStart;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < chunkEnd; i++) {
+                    User customer = createUser("customer" + i, encodedPassword, UserRoles.ROLE_CUSTOMER);
+
+                    DeliveryAddress deliveryAddress = DeliveryAddress.builder()
+                            .deliveryAddress("집")
+                            .deliveryAddressInfo("서울특별시 " + CITIES[i % CITIES.length] + " " + LOCALITIES[i % LOCALITIES.length])
+                            .detailAddress((i % 30 + 1) + "층")
+                            .user(customer)
+                            .build();
+                    entityManager.persist(deliveryAddress);
+
+                    Card card = Card.builder()
+                            .user(customer)
+                            .cardCompany(CARD_COMPANIES[i % CARD_COMPANIES.length])
+                            .cardName("부하테스트카드")
+                            .cardNumber(String.format("1234-5678-%04d-%04d", i / 10000, i % 10000))
+                            .build();
+                    entityManager.persist(card);
+
+                    customers.add(new LoadTestDataSet.Customer(customer.getUsername(), deliveryAddress.getDeliveryAddressId(), card.getCardId()));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return customers;
+    }
+
+    private List<LoadTestDataSet.Store> createStores(String encodedPassword, Random random) {
+        List<LoadTestDataSet.Store> stores = new ArrayList<>();
+        int storesPerChunk = Math.max(CHUNK_SIZE / Math.max(productsPerStore + regionsPerStore, 1), 1);
+        int storeCount = storesPerCategory * Category.values().length;
+
+        for (int chunkStart = 0; chunkStart < storeCount; chunkStart += storesPerChunk) {
+            int chunkEnd = Math.min(chunkStart + storesPerChunk, storeCount);
+            int from = chunkStart;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                User owner = null;
+                for (int i = from; i < chunkEnd; i++) {
+                    // 가게 주인 1명이 storesPerOwner 개의 가게를 연속으로 소유
+                    String ownerUsername = "owner" + (i / storesPerOwner);
+                    if (owner == null || !owner.getUsername().equals(ownerUsername)) {
+                        owner = findOrCreateOwner(ownerUsername, encodedPassword);
+                    }
+                    stores.add(createStore(i, owner, random));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return stores;
+    }
+
+    private User findOrCreateOwner(String username, String encodedPassword) {
+        return entityManager.createQuery("select u from User u where u.username = :username", User.class)
+                .setParameter("username", username)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> createUser(username, encodedPassword, UserRoles.ROLE_OWNER));
+    }
+
+    private LoadTestDataSet.Store createStore(int index, User owner, Random random) {
+        Category category = Category.values()[index % Category.values().length];
+        String city = CITIES[random.nextInt(CITIES.length)];
+
+        Stores store = Stores.builder()
+                .name(category.name() + " 가게 " + index)
+                .address("서울특별시 " + city + " " + LOCALITIES[random.nextInt(LOCALITIES.length)] + " " + (index + 1) + "번지")
+                .status(true)
+                .user(owner)
+                .category(category)
+                .regionList(new ArrayList<>())
+                .productList(new ArrayList<>())
+                .orderList(new ArrayList<>())
+                .build();
+        entityManager.persist(store);
+
+        for (int i = 0; i < regionsPerStore; i++) {
+            entityManager.persist(Region.builder()
+                    .province("서울특별시")
+                    .city(city)
+                    .locality(LOCALITIES[(index + i) % LOCALITIES.length])
+                    .stores(store)
+                    .build());
+        }
+
+        String[] menus = menusOf(category);
+        List<LoadTestDataSet.Product> products = new ArrayList<>(productsPerStore);
+        for (int i = 0; i < productsPerStore; i++) {
+            String menu = menus[i % menus.length];
+            String variant = PRODUCT_VARIANTS[(i / menus.length) % PRODUCT_VARIANTS.length];
+            int price = (random.nextInt(30) + 6) * 1000;
+
+            Product product = Product.builder()
+                    .store(store)
+                    .name(menu + variant)
+                    .description(store.getName() + "의 " + menu)
+                    .price(price)
+                    .quantity(1_000_000)  // 측정 중 재고 소진으로 주문이 실패하지 않도록 충분히 설정
+                    .hidden(false)
+                    .build();
+            entityManager.persist(product);
+            products.add(new LoadTestDataSet.Product(product.getProductId(), product.getName(), menu, price));
+        }
+
+        return new LoadTestDataSet.Store(store.getStoreId(), category, owner.getUsername(), products);
+    }
+
+    private int createHistoricalOrders(List<LoadTestDataSet.Customer> customers, List<LoadTestDataSet.Store> stores, Random random) {
+        if (stores.isEmpty()) {
+            return 0;
+        }
+
+        int customersPerChunk = Math.max(CHUNK_SIZE / Math.max(ordersPerCustomer, 1), 1);
+        int orderCount = 0;
+
+        for (int chunkStart = 0; chunkStart < customers.size(); chunkStart += customersPerChunk) {
+            List<LoadTestDataSet.Customer> chunk = customers.subList(chunkStart, Math.min(chunkStart + customersPerChunk, customers.size()));
+
+            orderCount += transactionTemplate.execute(status -> {
+                int created = 0;
+                for (LoadTestDataSet.Customer customer : chunk) {
+                    User user = findUser(customer.username());
+                    DeliveryAddress deliveryAddress = entityManager.getReference(DeliveryAddress.class, customer.deliveryAddressId());
+                    Card card = entityManager.getReference(Card.class, customer.cardId());
+
+                    for (int i = 0; i < ordersPerCustomer; i++) {
+                        createHistoricalOrder(user, deliveryAddress, card, stores.get(random.nextInt(stores.size())), random);
+                        created++;
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return created;
+            });
+        }
+        return orderCount;
+    }
+
+    private void createHistoricalOrder(User user, DeliveryAddress deliveryAddress, Card card, LoadTestDataSet.Store store, Random random) {
+        LocalDateTime orderTime = LocalDateTime.now().minusDays(random.nextInt(90)).minusMinutes(random.nextInt(24 * 60));
+
+        Order order = Order.builder()
+                .orderTime(orderTime)
+                .orderType(OrderType.DELIVERY)
+                .orderStatus(OrderStatus.ORDER_COMPLETE)
+                .requirements("문 앞에 놓아주세요")
+                .stores(entityManager.getReference(Stores.class, store.storeId()))
+                .user(user)
+                .deliveryAddress(deliveryAddress)
+                .build();
+
+        List<OrderProduct> orderProductList = new ArrayList<>();
+        int amount = 0;
+        int productCount = random.nextInt(3) + 1;
+        for (int i = 0; i < productCount; i++) {
+            LoadTestDataSet.Product product = store.products().get(random.nextInt(store.products().size()));
+            orderProductList.add(new OrderProduct(order, entityManager.getReference(Product.class, product.productId())));
+            amount += product.price();
+        }
+        order.setOrderProductList(orderProductList);
+        entityManager.persist(order);
+
+        entityManager.persist(Payment.builder()
+                .user(user)
+                .card(card)
+                .order(order)
+                .amount(amount)
+                .paymentTime(orderTime.plusMinutes(1))
+                .build());
+    }
+
+    private User findUser(String username) {
+        return entityManager.createQuery("select u from User u where u.username = :username", User.class)
+                .setParameter("username", username)
+                .getSingleResult();
+    }
+
+    private User createUser(String username, String encodedPassword, UserRoles role) {
+        User user = User.builder()
+                .username(username)
+                .password(encodedPassword)
+                .email(username + "@loadtest.com")
+                .nickname(username)
+                .role(role)
+                .deliveryAddresses(new ArrayList<>())
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private static String[] menusOf(Category category) {
+        return switch (category) {
+            case 한식 -> new String[]{"김치찌개", "된장찌개", "불고기", "비빔밥", "제육볶음", "갈비탕"};
+            case 중식 -> new String[]{"짜장면", "짬뽕", "탕수육", "볶음밥", "마파두부", "깐풍기"};
+            case 분식 -> new String[]{"떡볶이", "김밥", "순대", "라면", "튀김", "쫄면"};
+            case 치킨 -> new String[]{"후라이드치킨", "양념치킨", "간장치킨", "순살치킨", "치킨텐더", "닭강정"};
+            case 피자 -> new String[]{"페퍼로니피자", "불고기피자", "포테이토피자", "고르곤졸라피자", "콤비네이션피자", "치즈피자"};
+        };
+    }
+}
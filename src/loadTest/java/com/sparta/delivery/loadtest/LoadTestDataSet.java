@@ -0,0 +1,22 @@
+package com.sparta.delivery.loadtest;
+
+import com.sparta.delivery.domain.store.enums.Category;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시나리오 실행에 필요한 시드 데이터 식별자 (로그인 정보, 가게/상품 id)
+ */
+public record LoadTestDataSet(String password, List<Customer> customers, List<Store> stores) {
+
+    public record Customer(String username, UUID deliveryAddressId, UUID cardId) {
+    }
+
+    public record Store(UUID storeId, Category category, String ownerUsername, List<Product> products) {
+    }
+
+    // keyword : 상품 검색에 사용할 메뉴 이름 (상품 이름에 포함됨)
+    public record Product(UUID productId, String name, String keyword, int price) {
+    }
+}
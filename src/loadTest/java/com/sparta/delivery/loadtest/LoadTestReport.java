@@ -0,0 +1,222 @@
+package com.sparta.delivery.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.config.metrics.StatementCountingInspector;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 결과 집계
+ *
+ * 1. 시나리오 단계별 / 전체 시나리오 처리량, latency(p50, p95, p99, max), 실패 수
+ * 2. API(METHOD + url pattern)별 요청당 SQL statement 수
+ * 3. 요청 밖(스케줄러)에서 실행된 statement 수
+ *
+ * warm-up 구간의 기록은 startMeasuring() 호출 시 모두 버립니다.
+ */
+@Component
+public class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Map<String, LatencyStats> stepStats = new ConcurrentSkipListMap<>();  // 단계 이름(번호 순) 정렬
+    private final LatencyStats journeyStats = new LatencyStats();
+    private final Map<String, StatementStats> statementStats = new ConcurrentHashMap<>();
+    private final LongAdder droppedJourneys = new LongAdder();
+
+    private volatile boolean measuring;
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private volatile long backgroundStatementsAtStart;
+    private volatile long backgroundStatementsAtEnd;
+
+    public void startMeasuring() {
+        stepStats.clear();
+        journeyStats.clear();
+        statementStats.clear();
+        droppedJourneys.reset();
+        backgroundStatementsAtStart = StatementCountingInspector.backgroundCount();
+        startNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    public void finishMeasuring() {
+        measuring = false;
+        endNanos = System.nanoTime();
+        backgroundStatementsAtEnd = StatementCountingInspector.backgroundCount();
+    }
+
+    public void recordStep(String step, long latencyNanos, boolean success) {
+        if (measuring) {
+            stepStats.computeIfAbsent(step, key -> new LatencyStats()).record(latencyNanos, success);
+        }
+    }
+
+    public void recordJourney(long latencyNanos, boolean success) {
+        if (measuring) {
+            journeyStats.record(latencyNanos, success);
+        }
+    }
+
+    public void recordDropped() {
+        if (measuring) {
+            droppedJourneys.increment();
+        }
+    }
+
+    public void recordStatements(String endpoint, long statementCount) {
+        if (measuring) {
+            statementStats.computeIfAbsent(endpoint, key -> new StatementStats()).record(statementCount);
+        }
+    }
+
+    public Map<String, Object> summary() {
+        double seconds = Math.max(endNanos - startNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("measuredSeconds", round(seconds));
+        summary.put("journeys", journeyStats.summary(seconds));
+        summary.put("droppedJourneys", droppedJourneys.sum());
+
+        Map<String, Object> steps = new LinkedHashMap<>();
+        stepStats.forEach((step, stats) -> steps.put(step, stats.summary(seconds)));
+        summary.put("steps", steps);
+
+        Map<String, Object> statements = new TreeMap<>();
+        statementStats.forEach((endpoint, stats) -> statements.put(endpoint, stats.summary()));
+        summary.put("statementsPerRequest", statements);
+        summary.put("backgroundStatements", backgroundStatementsAtEnd - backgroundStatementsAtStart);
+        return summary;
+    }
+
+    public void print() {
+        double seconds = Math.max(endNanos - startNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        System.out.println();
+        System.out.printf("=== 부하 테스트 결과 (측정 %.1f초) ===%n", seconds);
+        System.out.printf("%-16s %8s %7s %9s %9s %9s %9s %9s%n", "단계", "요청", "실패", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        stepStats.forEach((step, stats) -> stats.print(step, seconds));
+        journeyStats.print("journey", seconds);
+        System.out.printf("drop 된 시나리오 (동시 진행 한도 초과) : %d%n", droppedJourneys.sum());
+
+        System.out.println();
+        System.out.printf("%-52s %8s %10s %6s%n", "API", "요청", "SQL/요청", "max");
+        new TreeMap<>(statementStats).forEach((endpoint, stats) ->
+                System.out.printf("%-52s %8d %10.2f %6d%n", endpoint, stats.requests.sum(), stats.average(), stats.max));
+        System.out.printf("요청 밖(스케줄러)에서 실행된 SQL : %d%n", backgroundStatementsAtEnd - backgroundStatementsAtStart);
+    }
+
+    public Path write(Path reportDir, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve("loadtest-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), summary());
+        return reportFile;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static class LatencyStats {
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            latencies.add(latencyNanos);
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void clear() {
+            latencies.clear();
+            errors = 0;
+        }
+
+        synchronized long[] sorted() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        Map<String, Object> summary(double seconds) {
+            long[] sorted = sorted();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", sorted.length);
+            summary.put("errors", errors());
+            summary.put("throughputPerSecond", round(sorted.length / seconds));
+            summary.put("p50Millis", toMillis(percentile(sorted, 0.50)));
+            summary.put("p95Millis", toMillis(percentile(sorted, 0.95)));
+            summary.put("p99Millis", toMillis(percentile(sorted, 0.99)));
+            summary.put("maxMillis", toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+            return summary;
+        }
+
+        void print(String name, double seconds) {
+            long[] sorted = sorted();
+            System.out.printf("%-16s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, sorted.length, errors(), sorted.length / seconds,
+                    toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.95)), toMillis(percentile(sorted, 0.99)),
+                    toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+    }
+
+    private static class StatementStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private volatile long max;
+
+        void record(long statementCount) {
+            requests.increment();
+            statements.add(statementCount);
+            if (statementCount > max) {
+                synchronized (this) {
+                    max = Math.max(max, statementCount);
+                }
+            }
+        }
+
+        double average() {
+            long requestCount = requests.sum();
+            return requestCount == 0 ? 0 : statements.sum() / (double) requestCount;
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", requests.sum());
+            summary.put("averageStatements", round(average()));
+            summary.put("maxStatements", max);
+            return summary;
+        }
+    }
+}
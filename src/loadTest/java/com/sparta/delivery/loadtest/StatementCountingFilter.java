@@ -0,0 +1,42 @@
+package com.sparta.delivery.loadtest;
+
+import com.sparta.delivery.config.metrics.RequestStatementMetricsFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL statement 수를 "METHOD /url/pattern" 단위로 LoadTestReport 에 기록
+ *
+ * statement 수는 RequestStatementMetricsFilter 가 집계한 값을 사용하므로 그보다 먼저(바깥에서) 실행합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    private final LoadTestReport loadTestReport;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object statementCount = request.getAttribute(RequestStatementMetricsFilter.STATEMENT_COUNT_ATTRIBUTE);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String path = pattern != null ? pattern.toString() : request.getRequestURI();
+            if (statementCount != null) {
+                loadTestReport.recordStatements(request.getMethod() + " " + path, (Long) statementCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.delivery.config;
+
+import com.sparta.delivery.config.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // 요청별 SQL statement 수 집계 (RequestStatementMetricsFilter)
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+
+    // 요청 밖(스케줄러)에서 실행된 SQL statement 수
+    @Bean
+    public FunctionCounter backgroundStatementCounter(MeterRegistry meterRegistry) {
+        return FunctionCounter.builder("hibernate.statements.background", StatementCountingInspector.class,
+                        ignored -> StatementCountingInspector.backgroundCount())
+                .description("요청 밖(스케줄러)에서 실행된 SQL statement 수")
+                .register(meterRegistry);
+    }
+}
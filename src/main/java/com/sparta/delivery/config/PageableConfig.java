@@ -26,5 +26,15 @@ public class PageableConfig {
 
         return PageRequest.of(pageNumber, pageSize, Sort.by(direction, sortField));
     }
+
+    // 커서 기반 조회의 페이지 크기 (offset 조회와 동일한 기본/최대 크기 적용)
+    public int createCursorPageSize(Integer size) {
+        int pageSize = (size != null && size > 0) ? size : defaultPageSize;
+
+        if (pageSize > maxPageSize)
+            pageSize = defaultPageSize;
+
+        return pageSize;
+    }
 }
 
@@ -0,0 +1,82 @@
+package com.sparta.delivery.config.auth;
+
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 경로 접근 규칙 (HTTP 메서드 + 경로 패턴 -> 접근 수준)
+ *
+ * 경로 패턴과 권한 검사는 애플리케이션 시작 시 한 번만 생성됩니다.
+ */
+@Getter
+public class AccessRule {
+
+    public enum AccessLevel {
+        PUBLIC,             // 인증 없이 접근 가능
+        AUTHENTICATED,      // 인증된 사용자만 접근 가능
+        ROLE_RESTRICTED     // 특정 권한을 가진 사용자만 접근 가능
+    }
+
+    // null 이면 모든 메서드에 적용
+    private final HttpMethod method;
+
+    private final List<PathPattern> patterns;
+
+    private final AccessLevel accessLevel;
+
+    private final List<String> roles;
+
+    private final AuthorizationManager<RequestAuthorizationContext> authorizationManager;
+
+    private AccessRule(HttpMethod method, List<PathPattern> patterns, AccessLevel accessLevel, List<String> roles,
+                       AuthorizationManager<RequestAuthorizationContext> authorizationManager) {
+        this.method = method;
+        this.patterns = patterns;
+        this.accessLevel = accessLevel;
+        this.roles = roles;
+        this.authorizationManager = authorizationManager;
+    }
+
+    public static AccessRule permitAll(PathPatternParser parser, String... patterns) {
+        return new AccessRule(null, parse(parser, patterns), AccessLevel.PUBLIC, List.of(),
+                (authentication, context) -> new AuthorizationDecision(true));
+    }
+
+    public static AccessRule authenticated() {
+        return new AccessRule(null, List.of(), AccessLevel.AUTHENTICATED, List.of(),
+                AuthenticatedAuthorizationManager.authenticated());
+    }
+
+    public static AccessRule hasAnyRole(HttpMethod method, List<String> roles, PathPatternParser parser, String... patterns) {
+        return new AccessRule(method, parse(parser, patterns), AccessLevel.ROLE_RESTRICTED, roles,
+                AuthorityAuthorizationManager.hasAnyRole(roles.toArray(new String[0])));
+    }
+
+    public boolean matches(PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isPublic() {
+        return accessLevel == AccessLevel.PUBLIC;
+    }
+
+    private static List<PathPattern> parse(PathPatternParser parser, String... patterns) {
+        return Arrays.stream(patterns).map(parser::parse).toList();
+    }
+}
@@ -0,0 +1,167 @@
+package com.sparta.delivery.config.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 경로를 공용 / 인증 필요 / 권한 필요 로 분류하는 컴포넌트
+ *
+ * 1. 모든 경로 패턴은 시작 시 PathPatternParser 로 한 번만 컴파일
+ * 2. HTTP 메서드별로 적용 가능한 규칙만 미리 묶어 두고, 요청마다 한 번만 순회 (먼저 일치하는 규칙 적용)
+ * 3. 분류 결과는 request attribute 에 저장해 JwtAuthenticationFilter 와 SecurityConfig 가 같은 결과를 사용
+ */
+@Component
+public class RequestPathClassifier {
+
+    private static final String ACCESS_RULE_ATTRIBUTE = RequestPathClassifier.class.getName() + ".ACCESS_RULE";
+
+    private static final List<String> OWNER_MANAGER_MASTER = List.of("OWNER", "MANAGER", "MASTER");
+    private static final List<String> MANAGER_MASTER = List.of("MANAGER", "MASTER");
+    private static final List<String> CUSTOMER_MANAGER_MASTER = List.of("CUSTOMER", "MANAGER", "MASTER");
+    private static final List<String> MASTER = List.of("MASTER");
+
+    // 어떤 규칙에도 해당하지 않는 요청은 인증된 사용자만 접근
+    private static final AccessRule DEFAULT_RULE = AccessRule.authenticated();
+
+    // 메서드 이름 -> 해당 메서드에 적용되는 규칙 (선언 순서 유지)
+    private final Map<String, List<AccessRule>> rulesByMethod = new HashMap<>();
+
+    // 메서드가 지정된 규칙이 없는 메서드(OPTIONS 등)에 적용되는 규칙
+    private final List<AccessRule> methodIndependentRules = new ArrayList<>();
+
+    public RequestPathClassifier() {
+        PathPatternParser parser = new PathPatternParser();
+
+        List<AccessRule> rules = List.of(
+                // 공용 URL (인증 없이 접근 가능)
+                AccessRule.permitAll(parser,
+                        "/api/user/signup",
+                        "/api/user/signin",
+                        "/api/token/reissue",
+                        "/api/user/logout",
+                        "/swagger-ui/**",
+                        "/v3/api-docs/**",
+                        // 메트릭 수집 (management.server.port 로 분리되어 외부에 노출되지 않음)
+                        "/actuator/health",
+                        "/actuator/prometheus"),
+
+                // 특정 가게 주문 조회 및 가게 주문 상태 구독: OWNER, MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.GET, OWNER_MANAGER_MASTER, parser,
+                        "/api/order/getStoreOrder/{storeId}",
+                        "/api/order/stores/{storeId}/events"),
+
+                // 단일 주문 조회 및 사용자 정보 조회: MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.GET, MANAGER_MASTER, parser,
+                        "/api/order/{orderId}",
+                        "/api/user/{id}",
+                        "/api/user"),
+
+                // 리뷰 관련 (수정 및 삭제): CUSTOMER, MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.PATCH, CUSTOMER_MANAGER_MASTER, parser,
+                        "/api/review/deleteReview/{reviewId}",
+                        "/api/review/updateReview/{reviewId}"),
+
+                // 가게 등록: MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.POST, MANAGER_MASTER, parser,
+                        "/api/store"),
+
+                // 가게 삭제: MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.PATCH, MANAGER_MASTER, parser,
+                        "/api/store/{storeId}/delete"),
+
+                // 가게 수정: OWNER, MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.PATCH, OWNER_MANAGER_MASTER, parser,
+                        "/api/store/{storeId}"),
+
+                // 결제 내역 및 사용자 권한 변경: MASTER
+                AccessRule.hasAnyRole(HttpMethod.PATCH, MASTER, parser,
+                        "/api/payment/{payment_id}",
+                        "/api/user/{id}/role"),
+
+                // 기타 POST 요청 (제품, AI, 지역 등록): OWNER, MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.POST, OWNER_MANAGER_MASTER, parser,
+                        "/api/products/stores/{storeId}",
+                        "/api/ai",
+                        "/api/region"),
+
+                // 기타 PATCH 요청 (제품, 주문 상태 업데이트, 지역 수정): OWNER, MANAGER, MASTER
+                AccessRule.hasAnyRole(HttpMethod.PATCH, OWNER_MANAGER_MASTER, parser,
+                        "/api/products/{productId}",
+                        "/api/products/{productId}/delete",
+                        "/api/order/updateOrderStatus/{orderId}",
+                        "/api/region/{regionId}",
+                        "/api/region/{regionId}/delete")
+        );
+
+        for (HttpMethod method : HttpMethod.values()) {
+            List<AccessRule> methodRules = new ArrayList<>();
+            for (AccessRule rule : rules) {
+                if (rule.getMethod() == null || rule.getMethod().equals(method)) {
+                    methodRules.add(rule);
+                }
+            }
+            rulesByMethod.put(method.name(), List.copyOf(methodRules));
+        }
+        for (AccessRule rule : rules) {
+            if (rule.getMethod() == null) {
+                methodIndependentRules.add(rule);
+            }
+        }
+    }
+
+    /**
+     * 요청에 적용되는 접근 규칙을 찾는 메서드
+     *
+     * @param request HTTP 요청
+     * @return 먼저 일치하는 접근 규칙, 일치하는 규칙이 없으면 인증 필요 규칙
+     */
+    public AccessRule classify(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+
+        // forward / error dispatch 로 경로가 바뀐 경우에는 다시 분류
+        Object cached = request.getAttribute(ACCESS_RULE_ATTRIBUTE);
+        if (cached instanceof ClassifiedRequest classified && classified.requestUri().equals(requestUri)) {
+            return classified.accessRule();
+        }
+
+        PathContainer path = PathContainer.parsePath(requestUri.substring(request.getContextPath().length()));
+        List<AccessRule> rules = rulesByMethod.getOrDefault(request.getMethod(), methodIndependentRules);
+
+        AccessRule result = DEFAULT_RULE;
+        for (AccessRule rule : rules) {
+            if (rule.matches(path)) {
+                result = rule;
+                break;
+            }
+        }
+
+        request.setAttribute(ACCESS_RULE_ATTRIBUTE, new ClassifiedRequest(requestUri, result));
+        return result;
+    }
+
+    public boolean isPublic(HttpServletRequest request) {
+        return classify(request).isPublic();
+    }
+
+    /**
+     * SecurityConfig 에서 사용하는 인가 처리 (분류된 규칙의 권한 검사 위임)
+     */
+    public AuthorizationManager<RequestAuthorizationContext> authorizationManager() {
+        return (authentication, context) -> classify(context.getRequest())
+                .getAuthorizationManager()
+                .check(authentication, context);
+    }
+
+    private record ClassifiedRequest(String requestUri, AccessRule accessRule) {
+    }
+}
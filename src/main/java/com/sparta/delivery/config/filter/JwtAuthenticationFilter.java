@@ -1,27 +1,29 @@
 package com.sparta.delivery.config.filter;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.config.auth.RequestPathClassifier;
 import com.sparta.delivery.config.global.exception.custom.InvalidTokenException;
+import com.sparta.delivery.domain.token.dto.VerifiedJwt;
 import com.sparta.delivery.domain.token.service.JwtUtil;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 모든 Http 요청에서 JWT 토큰을 추철하고 사용자 인증을 처리하는 필터
@@ -32,14 +34,28 @@ import java.util.List;
  *
  *
  * 특정 ULR (회원가입, 로그인 , 스웨거)은 필터에서 제외 (추후 권한 설정시 수정할듯)
+ *
+ * 필터 자체 처리 시간(이후 filter chain 제외)은 security.jwt.filter timer (outcome 태그) 로 기록
  */
 
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String METRIC_NAME = "security.jwt.filter";
+
     private final JwtUtil jwtUtil;
 
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RequestPathClassifier requestPathClassifier;
+
+    // 인증 성공 / 실패(응답 반환) 처리 시간
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, RequestPathClassifier requestPathClassifier, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.requestPathClassifier = requestPathClassifier;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+    }
 
     // Header key 식별값
     public static final String AUTHORIZATION_HEADER = "Authorization";
@@ -48,30 +64,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String BEARER_PREFIX = "Bearer ";
 
 
-    // 검사에서 제외할 경로
-    private static final List<String> excludeUrls = List.of(
-            "/api/user/signup",
-            "/api/user/signin",
-            "/api/token/reissue",
-            "/api/user/logout",
-            "/swagger-ui/**",
-            "/v3/api-docs/**"
-    );
-
-    // 특정 URL이 해당하면 필터링을 저적용하지않도록 검사
+    // 공용 URL 은 필터를 적용하지 않음 (경로 분류는 RequestPathClassifier 에서 요청당 한 번만 수행)
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        return excludeUrls.stream().anyMatch(url -> pathMatcher.match(url, requestPath));
+        return requestPathClassifier.isPublic(request);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean authenticated = false;
+        try {
+            authenticated = authenticate(request, response);
+        } finally {
+            (authenticated ? authenticatedTimer : rejectedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
 
-        if (shouldNotFilter(request)) {
+        if (authenticated) {
             filterChain.doFilter(request, response);
-            return;
         }
+    }
+
+    // 인증 정보를 설정하면 true, 인증에 실패해 응답을 작성했으면 false
+    private boolean authenticate(HttpServletRequest request, HttpServletResponse response) throws IOException {
 
         String headerAuthorizationToken = request.getHeader(AUTHORIZATION_HEADER);
 
@@ -80,26 +95,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             PrintWriter writer = response.getWriter();
             writer.print("No authentication information found. Please log in.");
-            return;
+            return false;
         }
 
-        String accessToken = headerAuthorizationToken.split(" ")[1];
+        String accessToken = headerAuthorizationToken.substring(BEARER_PREFIX.length());
 
         try {
-            jwtUtil.isExpired(accessToken);
+            // 토큰 파싱, 서명/만료 검증은 한 번만 수행 (같은 토큰은 캐시된 결과 사용)
+            VerifiedJwt verifiedJwt = jwtUtil.verify(accessToken);
 
-            if (!jwtUtil.getCategory(accessToken).equals("access")){
+            if (!verifiedJwt.isAccessToken()){
                 throw new InvalidTokenException("Invalid token category. Expected 'access' token.");
             }
 
-            String username = jwtUtil.getUsername(accessToken);
-            String email = jwtUtil.getEmail(accessToken);
-            String role = jwtUtil.getRole(accessToken);
-
             User user = User.builder()
-                    .username(username)
-                    .email(email)
-                    .role(UserRoles.fromString(role))
+                    .username(verifiedJwt.getUsername())
+                    .email(verifiedJwt.getEmail())
+                    .role(UserRoles.fromString(verifiedJwt.getRole()))
                     .build();
 
             // 인증 사용자 정보 생성
@@ -117,24 +129,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             PrintWriter writer = response.getWriter();
             writer.print("Access token expired");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            return;
+            return false;
         } catch (MalformedJwtException e) {
             PrintWriter writer = response.getWriter();
             writer.print("Malformed JWT token");
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST); // 400 Bad Request
-            return;
+            return false;
         } catch (JwtException e) {
             PrintWriter writer = response.getWriter();
             writer.print("Invalid token claims");
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST); // 400 Bad Request
-            return;
+            return false;
         }   catch (Exception e) {
             PrintWriter writer = response.getWriter();
             writer.print("Error processing JWT token");
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR); // 500 Internal Server Error
-            return;
+            return false;
         }
 
-        filterChain.doFilter(request, response);
+        return true;
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("JWT 인증 필터 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
@@ -102,6 +102,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ExceptionResponse> IdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
+        int status = HttpServletResponse.SC_CONFLICT;
+        ExceptionResponse response = new ExceptionResponse("Idempotency Key Reused", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
     @ExceptionHandler(ExistCardException.class)
     public ResponseEntity<ExceptionResponse> ExistCardException(ExistCardException ex) {
         int status = HttpServletResponse.SC_CONFLICT;
@@ -215,6 +222,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    @ExceptionHandler(AiServiceBusyException.class)
+    public ResponseEntity<ExceptionResponse> AiServiceBusyException(AiServiceBusyException ex) {
+        int status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        ExceptionResponse response = new ExceptionResponse("AI_SERVICE_BUSY", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(AiTimeoutException.class)
+    public ResponseEntity<ExceptionResponse> AiTimeoutException(AiTimeoutException ex) {
+        int status = HttpServletResponse.SC_GATEWAY_TIMEOUT;
+        ExceptionResponse response = new ExceptionResponse("AI_TIMEOUT", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionResponse> exception(Exception ex) {
         int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
@@ -0,0 +1,7 @@
+package com.sparta.delivery.config.global.exception.custom;
+
+public class AiServiceBusyException extends RuntimeException {
+    public AiServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sparta.delivery.config.global.exception.custom;
+
+public class AiTimeoutException extends RuntimeException {
+    public AiTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sparta.delivery.config.global.exception.custom;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
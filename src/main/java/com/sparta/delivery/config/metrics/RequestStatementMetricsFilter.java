@@ -0,0 +1,54 @@
+package com.sparta.delivery.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL statement 수를 hibernate.statements.per.request (method, uri 태그) 로 기록
+ *
+ * security filter 에서 실행되는 조회(로그인 사용자 조회 등)도 포함하도록 security filter 보다 먼저 실행합니다.
+ * uri 는 url pattern(/api/order/{orderId}) 으로 기록하며, handler 가 없는 요청은 UNKNOWN 으로 묶어 태그 수를 제한합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "hibernate.statements.per.request";
+
+    // 집계한 statement 수를 다른 filter 에서 사용할 수 있도록 요청 속성으로 남김
+    public static final String STATEMENT_COUNT_ATTRIBUTE = RequestStatementMetricsFilter.class.getName() + ".STATEMENT_COUNT";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        StatementCountingInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statementCount = StatementCountingInspector.end();
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statementCount);
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("요청 1건당 실행된 SQL statement 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(statementCount);
+        }
+    }
+}
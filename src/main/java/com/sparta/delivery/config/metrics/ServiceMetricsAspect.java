@@ -0,0 +1,67 @@
+package com.sparta.delivery.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * order, payment, review, product, store 도메인 service 메서드 실행 시간을 service.method timer 로 기록
+ *
+ * 태그 : class, method, exception (정상 종료 시 none)
+ * 정상 종료 timer 는 메서드별로 캐시해 호출마다 meter 를 조회하지 않습니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "service.method";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    @Pointcut("execution(public * com.sparta.delivery.domain.order.service..*(..)) || " +
+            "execution(public * com.sparta.delivery.domain.payment.service..*(..)) || " +
+            "execution(public * com.sparta.delivery.domain.review.service..*(..)) || " +
+            "execution(public * com.sparta.delivery.domain.product.service..*(..)) || " +
+            "execution(public * com.sparta.delivery.domain.store.service..*(..))")
+    public void hotPathServiceMethods() {}
+
+    @Around("hotPathServiceMethods()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+
+        try {
+            Object returnObj = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, key -> timer(key, NO_EXCEPTION)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return returnObj;
+        } catch (Throwable e) {
+            timer(method, e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("service 메서드 실행 시간")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
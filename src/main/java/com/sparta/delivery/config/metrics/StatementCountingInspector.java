@@ -0,0 +1,43 @@
+package com.sparta.delivery.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate 가 실행할 SQL statement 수를 요청 단위로 집계
+ *
+ * RequestStatementMetricsFilter 가 요청 시작 시 begin(), 종료 시 end() 를 호출하며,
+ * 요청 밖(outbox dispatcher, 주문 이벤트 버스 등 스케줄러 스레드)에서 실행된 statement 는 background 로 집계합니다.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> requestCount = new ThreadLocal<>();
+    private static final LongAdder backgroundCount = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = requestCount.get();
+        if (count != null) {
+            count[0]++;
+        } else {
+            backgroundCount.increment();
+        }
+        return sql;
+    }
+
+    public static void begin() {
+        requestCount.set(new long[1]);
+    }
+
+    // 현재 요청에서 실행된 statement 수를 반환하고 집계 종료
+    public static long end() {
+        long[] count = requestCount.get();
+        requestCount.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    public static long backgroundCount() {
+        return backgroundCount.sum();
+    }
+}
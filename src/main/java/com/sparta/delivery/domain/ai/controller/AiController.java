@@ -9,6 +9,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @Tag(name ="AI API", description = "AI 상품 설명 문구 추천 관련 API")
 @RestController
@@ -20,8 +21,9 @@ public class AiController {
 
     @AiSwaggerDocs.RecommendText
     @PostMapping()
-    public ResponseEntity<AiResponseDto> recommendText(@Valid @RequestBody AiRequestDto requestDto) {
-        AiResponseDto aiResponseDto = aiService.recommendText(requestDto);
-        return ResponseEntity.ok(aiResponseDto);
+    public Mono<ResponseEntity<AiResponseDto>> recommendText(@Valid @RequestBody AiRequestDto requestDto) {
+        // Mono 를 반환하면 AI API 응답을 기다리는 동안 요청 스레드를 반환하고 비동기로 응답
+        return aiService.recommendText(requestDto)
+                .map(ResponseEntity::ok);
     }
 }
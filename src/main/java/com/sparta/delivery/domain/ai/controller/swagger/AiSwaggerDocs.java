@@ -16,7 +16,9 @@ public @interface AiSwaggerDocs {
     @Operation(summary = "AI 상품 설명 문구 추천", description = "AI 상품 설명 문구 추천을 요청합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "AI 텍스트 추천 성공"),
-            @ApiResponse(responseCode = "500", description = "서버 오류")
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+            @ApiResponse(responseCode = "503", description = "동시 요청 한도 초과"),
+            @ApiResponse(responseCode = "504", description = "AI API 응답 시간 초과")
     })
     @interface RecommendText {}
 
@@ -0,0 +1,94 @@
+package com.sparta.delivery.domain.ai.service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * AI 추천 문구 응답 캐시
+ *
+ * 1. 질문의 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환 후 제약 조건 문구와 합친 값을 key 로 사용
+ * 2. TTL 이 지난 항목은 조회 시점에 제거하고 miss 로 처리
+ * 3. 최대 크기를 넘으면 가장 오래 조회되지 않은 항목부터 제거 (LRU)
+ */
+public class AiResponseCache {
+
+    private final int maxSize;
+
+    private final long ttlMillis;
+
+    private final Map<String, Entry> cache;
+
+    /**
+     * @param maxSize 캐시에 보관할 최대 응답 수 (0 이하이면 캐시하지 않음)
+     * @param ttlMillis 응답 보관 시간 (밀리초)
+     */
+    public AiResponseCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AiResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 key 를 생성하는 메서드
+     *
+     * @param question 사용자 질문
+     * @param constraint 질문 뒤에 붙는 제약 조건 문구
+     * @return 정규화된 캐시 key
+     */
+    public static String key(String question, String constraint) {
+        String normalized = question == null ? "" : question.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized + constraint;
+    }
+
+    /**
+     * 캐시된 응답을 조회하는 메서드
+     *
+     * @param key 정규화된 캐시 key
+     * @return TTL 이 지나지 않은 응답, 없으면 null
+     */
+    public synchronized String get(String key) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.answer();
+    }
+
+    /**
+     * 응답을 캐시에 저장하는 메서드
+     *
+     * @param key 정규화된 캐시 key
+     * @param answer AI 추천 문구
+     */
+    public synchronized void put(String key, String answer) {
+        if (maxSize <= 0) {
+            return;
+        }
+        cache.put(key, new Entry(answer, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private record Entry(String answer, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
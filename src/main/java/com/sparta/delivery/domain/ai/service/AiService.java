@@ -1,50 +1,107 @@
 package com.sparta.delivery.domain.ai.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.sparta.delivery.config.global.exception.custom.AiServiceBusyException;
+import com.sparta.delivery.config.global.exception.custom.AiTimeoutException;
 import com.sparta.delivery.config.global.exception.custom.InvalidApiResponseException;
 import com.sparta.delivery.domain.ai.dto.AiRequestDto;
 import com.sparta.delivery.domain.ai.dto.AiResponseDto;
 import com.sparta.delivery.domain.ai.entity.AiInfo;
 import com.sparta.delivery.domain.ai.repository.AiRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * AI 상품 설명 문구 추천 서비스
+ *
+ * 1. 요청 스레드를 막지 않도록 Mono 를 그대로 반환 (컨트롤러에서 비동기 응답으로 처리)
+ * 2. 동시 호출 수를 제한하고(bulkhead), 초과 요청은 대기 없이 바로 거절
+ * 3. 재시도를 포함한 전체 호출 시간을 제한하고, 5xx 응답은 한 번만 재시도
+ * 4. 정규화된 질문 + 제약 조건 기준으로 응답을 캐시
+ * 5. 응답 이력 저장은 별도 스케줄러에서 처리해 응답 시간에 포함되지 않음 (캐시된 응답도 요청마다 이력 저장)
+ *
+ * 이력 저장 스레드에는 요청의 SecurityContext 가 없으므로, 요청 스레드에서 인증 정보를 복사해 넘겨
+ * createdBy/updatedBy 가 요청한 사용자로 기록되도록 합니다.
+ */
+@Slf4j
 @Service
 public class AiService {
 
     private final AiRepository aiRepository;
     private final WebClient webClient;
+    private final Semaphore bulkhead;
+    private final Duration timeout;
+    private final AiResponseCache responseCache;
 
     @Value("${ai.apikey}")
     private String API_KEY;
-    private static final String BASE_URL = "https://generativelanguage.googleapis.com";
+    private static final String GENERATE_CONTENT_PATH = "/v1beta/models/gemini-1.5-flash:generateContent";
     private static final String CONSTRAINT = " 상품명 포함 시켜, 속담 활용해, 트렌디하고 독특하게 해, 의미 설명은 하지마, 이모지 사용해, 답변을 최대한 간결하게 50자 이하로";
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
 
-    public AiService(AiRepository aiRepository, WebClient.Builder webClientBuilder) {
+    public AiService(AiRepository aiRepository,
+                     WebClient.Builder webClientBuilder,
+                     @Value("${ai.baseUrl:https://generativelanguage.googleapis.com}") String baseUrl,
+                     @Value("${ai.timeoutMillis:10000}") long timeoutMillis,
+                     @Value("${ai.maxConcurrentCalls:20}") int maxConcurrentCalls,
+                     @Value("${ai.cache.maxSize:1000}") int cacheMaxSize,
+                     @Value("${ai.cache.ttlSeconds:3600}") long cacheTtlSeconds) {
         this.aiRepository = aiRepository;
-        this.webClient = webClientBuilder.baseUrl(BASE_URL).build();
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.responseCache = new AiResponseCache(cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds).toMillis());
     }
 
-    public AiResponseDto recommendText(AiRequestDto aiRequestDto) {
-        String userQuestion = aiRequestDto.getQuestion();
-        String questionWithConstraints = userQuestion + CONSTRAINT;
+    public Mono<AiResponseDto> recommendText(AiRequestDto aiRequestDto) {
+        // 요청 스레드에서 호출되므로 여기서 인증 정보를 복사 (응답은 WebClient 스레드에서 처리됨)
+        SecurityContext securityContext = copyOfCurrentContext();
 
+        String cacheKey = AiResponseCache.key(aiRequestDto.getQuestion(), CONSTRAINT);
+        String cachedAnswer = responseCache.get(cacheKey);
+        if (cachedAnswer != null) {
+            saveAsync(aiRequestDto.toEntity(cachedAnswer), securityContext);
+            return Mono.just(new AiResponseDto(cachedAnswer));
+        }
+
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                return Mono.error(new AiServiceBusyException("AI 추천 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            }
+            return callApi(aiRequestDto.getQuestion() + CONSTRAINT)
+                    .doFinally(signal -> bulkhead.release());
+        }).doOnNext(aiResponseDto -> {
+            responseCache.put(cacheKey, aiResponseDto.getAnswer());
+            saveAsync(aiRequestDto.toEntity(aiResponseDto.getAnswer()), securityContext);
+        });
+    }
+
+    private Mono<AiResponseDto> callApi(String questionWithConstraints) {
         // AI API 요청 바디
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("contents", List.of(Map.of("parts", List.of(Map.of("text", questionWithConstraints)))));
 
-        CompletableFuture<AiResponseDto> completableFuture = webClient.post()
+        return webClient.post()
                 .uri(uriBuilder -> uriBuilder
-                        .path("/v1beta/models/gemini-1.5-flash:generateContent")
+                        .path(GENERATE_CONTENT_PATH)
                         .queryParam("key", API_KEY)
                         .build())
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -53,20 +110,27 @@ public class AiService {
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(JsonNode.class) // JSON 전체를 받아서 처리
-                .map(this::extractText)
-                .toFuture();
+                .retryWhen(Retry.backoff(1, RETRY_BACKOFF)
+                        .filter(e -> e instanceof WebClientResponseException ex && ex.getStatusCode().is5xxServerError())
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class,
+                        e -> new AiTimeoutException("AI API 응답 시간이 초과되었습니다."))
+                .map(this::extractText);
+    }
 
-        try {
-            AiResponseDto completedAiResponseDto = completableFuture.get();
-            AiInfo aiInfo = aiRequestDto.toEntity(completedAiResponseDto.getAnswer());
-            aiRepository.save(aiInfo);
-            return completedAiResponseDto;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("AI API 호출 비동기 작업을 기다리는 동안 스레드가 인터럽트로 인해 중단되었습니다.", e);
-        } catch (ExecutionException e) {
-            throw new RuntimeException("AI API 호출 비동기 작업 실행 중 알 수 없는 오류가 발생했습니다.", e);
-        }
+    // 응답 이력 저장은 요청 처리와 분리 (저장 실패가 추천 응답을 실패시키지 않음)
+    private void saveAsync(AiInfo aiInfo, SecurityContext securityContext) {
+        // 저장하는 동안만 요청한 사용자의 인증 정보를 설정하고 끝나면 원래대로 되돌림
+        Mono.fromRunnable(new DelegatingSecurityContextRunnable(() -> aiRepository.save(aiInfo), securityContext))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("AI 응답 이력 저장 실패", e));
+    }
+
+    private static SecurityContext copyOfCurrentContext() {
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        return securityContext;
     }
 
     private AiResponseDto extractText(JsonNode jsonNode) {
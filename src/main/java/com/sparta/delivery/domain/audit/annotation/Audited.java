@@ -0,0 +1,22 @@
+package com.sparta.delivery.domain.audit.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 감사 로그를 남길 service 메서드 표시
+ *
+ * 정상 종료는 sampleRate 비율로 기록하고, 예외로 종료된 호출은 항상 기록합니다.
+ * 메서드별 비율은 audit.sampling.{클래스명}.{메서드명} 설정으로 변경할 수 있습니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Audited {
+
+    // 정상 종료 호출의 기록 비율 (0.0 ~ 1.0)
+    double sampleRate() default 1.0;
+}
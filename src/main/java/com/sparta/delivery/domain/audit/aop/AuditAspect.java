@@ -0,0 +1,46 @@
+package com.sparta.delivery.domain.audit.aop;
+
+import com.sparta.delivery.domain.audit.annotation.Audited;
+import com.sparta.delivery.domain.audit.service.AuditRecorder;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * @Audited 메서드 호출을 AuditRecorder 에 전달
+ *
+ * 요청 스레드에서는 샘플링 여부 확인과 기록 객체 생성만 수행하고, 직렬화/저장은 기록 스레드에서 처리합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class AuditAspect {
+
+    private final AuditRecorder auditRecorder;
+
+    @Around("@annotation(audited)")
+    public Object audit(ProceedingJoinPoint joinPoint, Audited audited) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        boolean sampled = auditRecorder.isSampled(method, audited);
+        long start = System.nanoTime();
+
+        Object returnObj;
+        try {
+            returnObj = joinPoint.proceed();
+        } catch (Throwable e) {
+            // 실패한 호출은 샘플링과 관계없이 항상 기록
+            auditRecorder.record(method, joinPoint.getArgs(), e, System.nanoTime() - start);
+            throw e;
+        }
+
+        if (sampled) {
+            auditRecorder.record(method, joinPoint.getArgs(), null, System.nanoTime() - start);
+        }
+        return returnObj;
+    }
+}
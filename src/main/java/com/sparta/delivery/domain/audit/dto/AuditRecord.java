@@ -0,0 +1,14 @@
+package com.sparta.delivery.domain.audit.dto;
+
+import java.lang.reflect.Method;
+
+/**
+ * 요청 스레드에서 ring buffer 에 넣는 감사 기록
+ *
+ * 요청 스레드의 비용을 줄이기 위해 값 참조만 담고, 직렬화와 민감 정보 가림은 기록 스레드에서 수행합니다.
+ *
+ * @param exception 정상 종료 시 null
+ */
+public record AuditRecord(long occurredAtMillis, String username, Method method, Object[] args,
+                          Throwable exception, long durationNanos) {
+}
@@ -0,0 +1,51 @@
+package com.sparta.delivery.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 감사 로그 (audit.sink=table)
+ *
+ * 기록 스레드가 batch 로 저장하며, 보관 기간이 지나면 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "p_audit_log", indexes = {
+        @Index(name = "idx_audit_log_occurred_at", columnList = "occurredAt")
+})
+public class AuditLog {
+
+    public static final int ARGS_MAX_LENGTH = 2000;
+
+    // batch insert 가 가능하도록 IDENTITY 대신 UUID 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID auditLogId;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    // 인증되지 않은 요청(회원가입, 로그인)은 null
+    private String username;
+
+    // 클래스명.메서드명
+    @Column(nullable = false)
+    private String target;
+
+    // 민감 정보를 가린 파라미터 (JSON)
+    @Column(length = ARGS_MAX_LENGTH)
+    private String args;
+
+    // SUCCESS 또는 예외 클래스명
+    @Column(nullable = false)
+    private String outcome;
+
+    @Column(nullable = false)
+    private long durationMicros;
+}
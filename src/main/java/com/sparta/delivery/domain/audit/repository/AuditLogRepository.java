@@ -0,0 +1,20 @@
+package com.sparta.delivery.domain.audit.repository;
+
+import com.sparta.delivery.domain.audit.entity.AuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
+
+    List<AuditLog> findByTargetOrderByOccurredAtAsc(String target);
+
+    @Modifying
+    @Query("delete from AuditLog a where a.occurredAt < :before")
+    int deleteOccurredBefore(@Param("before") LocalDateTime before);
+}
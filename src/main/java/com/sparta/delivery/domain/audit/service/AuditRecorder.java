@@ -0,0 +1,183 @@
+package com.sparta.delivery.domain.audit.service;
+
+import com.sparta.delivery.domain.audit.annotation.Audited;
+import com.sparta.delivery.domain.audit.dto.AuditRecord;
+import com.sparta.delivery.domain.audit.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 기록을 ring buffer 에 모아 별도 스레드에서 batch 로 저장
+ *
+ * 1. 요청 스레드 : 샘플링 여부 확인 후 기록을 고정 크기 buffer(ArrayBlockingQueue) 에 넣기만 함 (가득 차면 버리고 dropped 로 집계)
+ * 2. 기록 스레드 : buffer 의 기록을 batchSize 씩 꺼내 민감 정보를 가린 뒤 AuditSink 로 저장
+ * 3. 종료 시 buffer 에 남은 기록을 모두 저장
+ *
+ * 저장이 느려지거나 실패해도 요청 처리에는 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+public class AuditRecorder {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    private final AuditSink auditSink;
+
+    private final AuditRedactor auditRedactor;
+
+    private final Environment environment;
+
+    private final BlockingQueue<AuditRecord> buffer;
+
+    private final int batchSize;
+
+    private final long flushMillis;
+
+    // 메서드별 샘플링 비율 (설정값이 없으면 @Audited sampleRate)
+    private final Map<Method, Double> sampleRates = new ConcurrentHashMap<>();
+
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditRecorder(AuditSink auditSink,
+                         AuditRedactor auditRedactor,
+                         Environment environment,
+                         MeterRegistry meterRegistry,
+                         @Value("${audit.bufferSize:8192}") int bufferSize,
+                         @Value("${audit.batchSize:200}") int batchSize,
+                         @Value("${audit.flushMillis:1000}") long flushMillis) {
+        this.auditSink = auditSink;
+        this.auditRedactor = auditRedactor;
+        this.environment = environment;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+
+        Gauge.builder("audit.buffer.size", buffer, BlockingQueue::size)
+                .description("저장 대기 중인 감사 기록 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.records.dropped")
+                .description("buffer 가 가득 차 버려진 감사 기록 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.records.written")
+                .description("저장된 감사 기록 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.records.failed")
+                .description("저장에 실패한 감사 기록 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(flushMillis * 2);
+        flush();
+    }
+
+    public boolean isSampled(Method method, Audited audited) {
+        double sampleRate = sampleRates.computeIfAbsent(method, key -> environment.getProperty(
+                "audit.sampling." + key.getDeclaringClass().getSimpleName() + "." + key.getName(),
+                Double.class, audited.sampleRate()));
+
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    public void record(Method method, Object[] args, Throwable exception, long durationNanos) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication == null || authentication instanceof AnonymousAuthenticationToken ? null : authentication.getName();
+
+        if (!buffer.offer(new AuditRecord(System.currentTimeMillis(), username, method, args, exception, durationNanos))) {
+            droppedCounter.increment();
+        }
+    }
+
+    // buffer 에 남은 기록을 모두 저장하고 저장한 기록 수를 반환
+    public int flush() {
+        int flushed = 0;
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flushed += batch.size();
+            writeBatch(batch);
+            batch.clear();
+        }
+        return flushed;
+    }
+
+    private void writeLoop() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditRecord first = buffer.poll(flushMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 기록 스레드와 종료 시 flush 가 동시에 저장하지 않도록 동기화 (FileAuditSink 는 thread-safe 하지 않음)
+    private synchronized void writeBatch(List<AuditRecord> batch) {
+        try {
+            auditSink.write(batch.stream().map(this::toAuditLog).toList());
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("감사 로그 저장 실패 - {}건 : {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private AuditLog toAuditLog(AuditRecord record) {
+        Method method = record.method();
+        return AuditLog.builder()
+                .occurredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.occurredAtMillis()), ZoneId.systemDefault()))
+                .username(record.username())
+                .target(method.getDeclaringClass().getSimpleName() + "." + method.getName())
+                .args(auditRedactor.redactArgs(method, record.args()))
+                .outcome(record.exception() == null ? SUCCESS : record.exception().getClass().getSimpleName())
+                .durationMicros(TimeUnit.NANOSECONDS.toMicros(record.durationNanos()))
+                .build();
+    }
+}
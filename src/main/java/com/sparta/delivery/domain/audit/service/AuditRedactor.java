@@ -0,0 +1,110 @@
+package com.sparta.delivery.domain.audit.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sparta.delivery.domain.audit.entity.AuditLog;
+import jakarta.persistence.Entity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 감사 로그 파라미터를 JSON 으로 변환하며 민감 정보를 가림
+ *
+ * 1. 파라미터 이름이나 필드 이름에 audit.redactFields 의 단어가 포함되면 값을 가림 (password, refreshToken 등)
+ * 2. 엔티티, 인증 사용자 정보는 지연 로딩/민감 정보 노출을 막기 위해 타입 이름만 기록
+ * 3. 결과가 AuditLog.ARGS_MAX_LENGTH 를 넘으면 잘라서 기록
+ */
+@Component
+public class AuditRedactor {
+
+    private static final String MASK = "****";
+
+    private final ObjectMapper objectMapper;
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final List<String> redactFields;
+
+    public AuditRedactor(ObjectMapper objectMapper,
+                         @Value("${audit.redactFields:password,token,secret,cardNumber}") List<String> redactFields) {
+        this.objectMapper = objectMapper;
+        this.redactFields = redactFields.stream()
+                .map(field -> field.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    public String redactArgs(Method method, Object[] args) {
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+
+        ObjectNode node = objectMapper.createObjectNode();
+        for (int i = 0; i < args.length; i++) {
+            String name = parameterNames != null ? parameterNames[i] : "arg" + i;
+            if (isSensitive(name)) {
+                node.put(name, MASK);
+            } else {
+                node.set(name, toNode(args[i]));
+            }
+        }
+
+        String json = node.toString();
+        return json.length() > AuditLog.ARGS_MAX_LENGTH ? json.substring(0, AuditLog.ARGS_MAX_LENGTH) : json;
+    }
+
+    private JsonNode toNode(Object arg) {
+        if (arg == null) {
+            return objectMapper.nullNode();
+        }
+
+        Class<?> type = ClassUtils.getUserClass(arg);
+        if (type.isAnnotationPresent(Entity.class) || arg instanceof UserDetails) {
+            return objectMapper.getNodeFactory().textNode(type.getSimpleName());
+        }
+
+        try {
+            JsonNode node = objectMapper.valueToTree(arg);
+            redact(node);
+            return node;
+        } catch (IllegalArgumentException e) {
+            // 직렬화할 수 없는 값은 타입 이름만 기록
+            return objectMapper.getNodeFactory().textNode(type.getSimpleName());
+        }
+    }
+
+    private void redact(JsonNode node) {
+        if (node instanceof ObjectNode objectNode) {
+            Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (isSensitive(field.getKey())) {
+                    field.setValue(objectMapper.getNodeFactory().textNode(MASK));
+                } else {
+                    redact(field.getValue());
+                }
+            }
+        } else if (node instanceof ArrayNode arrayNode) {
+            arrayNode.forEach(this::redact);
+        }
+    }
+
+    private boolean isSensitive(String name) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        for (String field : redactFields) {
+            if (lowerName.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.delivery.domain.audit.service;
+
+import com.sparta.delivery.domain.audit.entity.AuditLog;
+
+import java.util.List;
+
+/**
+ * 감사 로그 저장소 (audit.sink : table / file)
+ *
+ * AuditRecorder 의 기록 스레드에서만 호출됩니다.
+ */
+public interface AuditSink {
+
+    void write(List<AuditLog> auditLogs) throws Exception;
+}
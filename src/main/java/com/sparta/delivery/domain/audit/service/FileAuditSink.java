@@ -0,0 +1,53 @@
+package com.sparta.delivery.domain.audit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.domain.audit.entity.AuditLog;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 감사 로그를 파일에 JSON 한 줄씩 추가 (batch 마다 flush)
+ */
+@Component
+@ConditionalOnProperty(name = "audit.sink", havingValue = "file")
+public class FileAuditSink implements AuditSink {
+
+    private final ObjectMapper objectMapper;
+
+    private final BufferedWriter writer;
+
+    public FileAuditSink(ObjectMapper objectMapper,
+                         @Value("${audit.file.path:logs/audit.log}") String path) throws IOException {
+        this.objectMapper = objectMapper;
+
+        Path file = Path.of(path);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void write(List<AuditLog> auditLogs) throws IOException {
+        for (AuditLog auditLog : auditLogs) {
+            writer.write(objectMapper.writeValueAsString(auditLog));
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writer.close();
+    }
+}
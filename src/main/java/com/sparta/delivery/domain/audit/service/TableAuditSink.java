@@ -0,0 +1,47 @@
+package com.sparta.delivery.domain.audit.service;
+
+import com.sparta.delivery.domain.audit.entity.AuditLog;
+import com.sparta.delivery.domain.audit.repository.AuditLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그를 p_audit_log 테이블에 batch insert
+ */
+@Component
+@ConditionalOnProperty(name = "audit.sink", havingValue = "table", matchIfMissing = true)
+public class TableAuditSink implements AuditSink {
+
+    private final AuditLogRepository auditLogRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long retentionDays;
+
+    public TableAuditSink(AuditLogRepository auditLogRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${audit.table.retentionDays:90}") long retentionDays) {
+        this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public void write(List<AuditLog> auditLogs) {
+        transactionTemplate.executeWithoutResult(status -> auditLogRepository.saveAll(auditLogs));
+    }
+
+    @Scheduled(cron = "${audit.table.cleanupCron:0 0 5 * * *}")
+    public int deleteExpiredLogs() {
+        Integer deleted = transactionTemplate.execute(status -> auditLogRepository.deleteOccurredBefore(
+                LocalDateTime.now().minusDays(retentionDays)));
+        return deleted == null ? 0 : deleted;
+    }
+}
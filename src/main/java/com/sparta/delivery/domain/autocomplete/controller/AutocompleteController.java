@@ -0,0 +1,30 @@
+package com.sparta.delivery.domain.autocomplete.controller;
+
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteResDto;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteService;
+import com.sparta.delivery.domain.autocomplete.swagger.AutocompleteSwaggerDocs;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Autocomplete API", description = "검색어 자동완성 API")
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+@RestController
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @AutocompleteSwaggerDocs.Suggest
+    @GetMapping("")
+    public ResponseEntity<List<AutocompleteResDto>> suggest(@RequestParam String query,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(autocompleteService.suggest(query, limit));
+    }
+}
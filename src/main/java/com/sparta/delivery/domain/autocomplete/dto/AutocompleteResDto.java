@@ -0,0 +1,9 @@
+package com.sparta.delivery.domain.autocomplete.dto;
+
+import com.sparta.delivery.domain.autocomplete.enums.SuggestionType;
+
+/**
+ * 자동완성 후보 (색인에 보관된 객체를 그대로 응답하므로 불변)
+ */
+public record AutocompleteResDto(SuggestionType type, String text) {
+}
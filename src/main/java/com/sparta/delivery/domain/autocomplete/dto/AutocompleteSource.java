@@ -0,0 +1,19 @@
+package com.sparta.delivery.domain.autocomplete.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 자동완성 색인에 필요한 가게/상품/배달 지역 필드 (연관관계를 읽지 않도록 repository 에서 바로 조회)
+ */
+public record AutocompleteSource(UUID sourceId, String text, LocalDateTime deletedAt, boolean hidden) {
+
+    public AutocompleteSource(UUID sourceId, String text, LocalDateTime deletedAt) {
+        this(sourceId, text, deletedAt, false);
+    }
+
+    // 고객에게 노출되는 항목만 자동완성 후보로 사용
+    public boolean isVisible() {
+        return deletedAt == null && !hidden;
+    }
+}
@@ -0,0 +1,7 @@
+package com.sparta.delivery.domain.autocomplete.enums;
+
+public enum SuggestionType {
+    STORE, // 가게 이름
+    PRODUCT, // 상품 이름
+    LOCALITY // 배달 지역 (동)
+}
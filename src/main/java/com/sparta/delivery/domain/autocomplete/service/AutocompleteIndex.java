@@ -0,0 +1,140 @@
+package com.sparta.delivery.domain.autocomplete.service;
+
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteResDto;
+import com.sparta.delivery.domain.autocomplete.enums.SuggestionType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 가게 이름, 상품 이름, 배달 지역 접두어 검색 색인
+ *
+ * 1. 후보마다 자모 key, 초성 key 를 정렬된 map(ConcurrentSkipListMap) 에 보관하고 접두어 구간만 순회 (O(log n + limit))
+ * 2. 같은 종류, 같은 key 의 후보는 하나로 합치고 참조 수를 세어 마지막 참조가 사라질 때 제거 (여러 가게의 "콜라", 여러 가게가 배달하는 "역삼동")
+ * 3. 원본(가게/상품/지역 ID) 별로 색인한 후보를 기억해 이름이 바뀌거나 삭제되면 이전 후보의 참조를 해제
+ *
+ * 쓰기는 synchronized 로 직렬화하고 조회는 잠금 없이 수행합니다.
+ */
+public class AutocompleteIndex {
+
+    // key 구분자, 접두어 구간 끝 (모든 문자보다 작음/큼)
+    private static final char SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+
+    private final NavigableMap<String, AutocompleteResDto> byJamo = new ConcurrentSkipListMap<>();
+
+    private final NavigableMap<String, AutocompleteResDto> byChoseong = new ConcurrentSkipListMap<>();
+
+    // 후보 key -> 초성 map key, 참조 수
+    private final Map<String, Term> terms = new HashMap<>();
+
+    // 원본 ID -> 색인한 후보 key
+    private final Map<UUID, String> sources = new ConcurrentHashMap<>();
+
+    /**
+     * 원본의 후보를 색인하는 메서드 (이미 색인된 원본이면 이전 후보를 해제)
+     *
+     * @param sourceId 가게/상품/지역 ID
+     * @param type 후보 종류
+     * @param text 후보 문자열, null 이거나 공백이면 제거와 같음
+     */
+    public synchronized void put(UUID sourceId, SuggestionType type, String text) {
+        String jamo = HangulKeys.jamo(text);
+        if (jamo.isEmpty()) {
+            remove(sourceId);
+            return;
+        }
+
+        String termKey = jamo + SEPARATOR + type.ordinal();
+        String previous = sources.put(sourceId, termKey);
+        if (termKey.equals(previous)) {
+            return;
+        }
+        release(previous);
+
+        Term term = terms.get(termKey);
+        if (term != null) {
+            term.references++;
+            return;
+        }
+        AutocompleteResDto suggestion = new AutocompleteResDto(type, text.strip());
+        String choseongKey = HangulKeys.choseong(text) + SEPARATOR + termKey;
+        terms.put(termKey, new Term(choseongKey));
+        byJamo.put(termKey, suggestion);
+        byChoseong.put(choseongKey, suggestion);
+    }
+
+    public synchronized void remove(UUID sourceId) {
+        release(sources.remove(sourceId));
+    }
+
+    public synchronized void clear() {
+        byJamo.clear();
+        byChoseong.clear();
+        terms.clear();
+        sources.clear();
+    }
+
+    /**
+     * 접두어로 시작하는 후보를 조회하는 메서드 (자음으로만 이루어진 검색어는 초성으로 조회)
+     *
+     * @param query 입력 중인 검색어
+     * @param limit 최대 후보 수
+     * @return key 순서 (짧은 후보부터) 로 정렬된 후보
+     */
+    public List<AutocompleteResDto> suggest(String query, int limit) {
+        boolean choseong = HangulKeys.isChoseongQuery(query);
+        String prefix = choseong ? HangulKeys.choseong(query) : HangulKeys.jamo(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        NavigableMap<String, AutocompleteResDto> map = choseong ? byChoseong : byJamo;
+        List<AutocompleteResDto> suggestions = new ArrayList<>(limit);
+        for (AutocompleteResDto suggestion : map.subMap(prefix, true, prefix + RANGE_END, false).values()) {
+            suggestions.add(suggestion);
+            if (suggestions.size() >= limit) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return byJamo.size();
+    }
+
+    public int sourceSize() {
+        return sources.size();
+    }
+
+    private void release(String termKey) {
+        if (termKey == null) {
+            return;
+        }
+        Term term = terms.get(termKey);
+        if (term == null || --term.references > 0) {
+            return;
+        }
+        terms.remove(termKey);
+        byJamo.remove(termKey);
+        byChoseong.remove(term.choseongKey);
+    }
+
+    private static final class Term {
+
+        private final String choseongKey;
+
+        private int references = 1;
+
+        private Term(String choseongKey) {
+            this.choseongKey = choseongKey;
+        }
+    }
+}
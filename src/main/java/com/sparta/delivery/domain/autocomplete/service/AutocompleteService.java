@@ -0,0 +1,136 @@
+package com.sparta.delivery.domain.autocomplete.service;
+
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteResDto;
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource;
+import com.sparta.delivery.domain.autocomplete.enums.SuggestionType;
+import com.sparta.delivery.domain.common.index.IndexRefresher;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 가게 이름, 상품 이름, 배달 지역(동) 자동완성
+ *
+ * 1. 기동 시 가게/상품/배달 지역을 batchSize 씩 읽어 색인 (색인이 끝나기 전에는 빈 목록 반환)
+ * 2. 이 replica 에서 등록/수정/삭제한 가게, 상품, 배달 지역은 커밋 직후 다시 색인
+ * 3. 모든 replica 는 updatedAt 이 바뀐 가게/상품/배달 지역을 주기적으로 읽어 다시 색인 (다른 replica 의 변경은 최대 pollMillis 이후 반영)
+ *
+ * 고객에게 노출되는 항목(삭제되지 않은 가게, 지역 / 삭제, 숨김 처리되지 않은 상품)만 후보로 사용하며, 조회 시 DB 에 접근하지 않습니다.
+ */
+@Service
+public class AutocompleteService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 20;
+
+    private final StoreRepository storeRepository;
+
+    private final ProductRepository productRepository;
+
+    private final RegionRepository regionRepository;
+
+    private final AutocompleteIndex index = new AutocompleteIndex();
+
+    private final IndexRefresher refresher;
+
+    public AutocompleteService(StoreRepository storeRepository,
+                               ProductRepository productRepository,
+                               RegionRepository regionRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${autocomplete.enabled:true}") boolean enabled,
+                               @Value("${autocomplete.batchSize:5000}") int batchSize,
+                               @Value("${autocomplete.lookbackSeconds:10}") long lookbackSeconds) {
+        this.storeRepository = storeRepository;
+        this.productRepository = productRepository;
+        this.regionRepository = regionRepository;
+        this.refresher = new IndexRefresher("Autocomplete", enabled, batchSize, Duration.ofSeconds(lookbackSeconds));
+
+        Gauge.builder("autocomplete.index.size", index, AutocompleteIndex::size)
+                .description("색인된 자동완성 후보 수 (같은 이름은 하나로 집계)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 가게 이름, 상품 이름, 배달 지역을 조회하는 메서드
+     *
+     * @param query 입력 중인 검색어 (자음으로만 입력하면 초성 검색)
+     * @param limit 최대 후보 수 (1 ~ MAX_LIMIT 를 벗어나면 기본값)
+     * @return 짧은 후보부터 정렬된 후보
+     */
+    public List<AutocompleteResDto> suggest(String query, int limit) {
+        if (!refresher.isReady()) {
+            return List.of();
+        }
+        return index.suggest(query, limit < 1 || limit > MAX_LIMIT ? DEFAULT_LIMIT : limit);
+    }
+
+    /**
+     * 등록/수정/삭제한 가게를 커밋 직후 다시 색인하는 메서드 (변경하는 트랜잭션 안에서 호출, 상품/배달 지역도 동일)
+     */
+    public void index(Stores store) {
+        refresher.afterCommit(() -> put(SuggestionType.STORE, new AutocompleteSource(store.getStoreId(), store.getName(), store.getDeletedAt())));
+    }
+
+    public void index(Product product) {
+        refresher.afterCommit(() -> put(SuggestionType.PRODUCT,
+                new AutocompleteSource(product.getProductId(), product.getName(), product.getDeletedAt(), product.isHidden())));
+    }
+
+    public void index(Region region) {
+        refresher.afterCommit(() -> put(SuggestionType.LOCALITY, new AutocompleteSource(region.getRegionId(), region.getLocality(), region.getDeletedAt())));
+    }
+
+    /**
+     * 전체 가게, 상품, 배달 지역을 batchSize 씩 읽어 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // 색인하는 동안 바뀐 항목은 다음 pollChanges 에서 다시 색인
+        refresher.rebuild(() -> {
+            index.clear();
+            load(SuggestionType.STORE, storeRepository::findAutocompleteSources, "storeId");
+            load(SuggestionType.PRODUCT, productRepository::findAutocompleteSources, "productId");
+            load(SuggestionType.LOCALITY, regionRepository::findAutocompleteSources, "regionId");
+        }, () -> "sources: " + index.sourceSize() + ", suggestions: " + index.size());
+    }
+
+    /**
+     * 마지막 조회 이후 updatedAt 이 바뀐 가게, 상품, 배달 지역을 다시 색인 (다른 replica 의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${autocomplete.pollMillis:1000}")
+    public void pollChanges() {
+        refresher.poll(since -> {
+            storeRepository.findAutocompleteSourcesUpdatedSince(since).forEach(source -> put(SuggestionType.STORE, source));
+            productRepository.findAutocompleteSourcesUpdatedSince(since).forEach(source -> put(SuggestionType.PRODUCT, source));
+            regionRepository.findAutocompleteSourcesUpdatedSince(since).forEach(source -> put(SuggestionType.LOCALITY, source));
+        });
+    }
+
+    private void load(SuggestionType type, Function<Pageable, Slice<AutocompleteSource>> finder, String idProperty) {
+        refresher.load(finder, idProperty, sources -> sources.forEach(source -> put(type, source)));
+    }
+
+    private void put(SuggestionType type, AutocompleteSource source) {
+        if (source.isVisible()) {
+            index.put(source.sourceId(), type, source.text());
+        } else {
+            index.remove(source.sourceId());
+        }
+    }
+}
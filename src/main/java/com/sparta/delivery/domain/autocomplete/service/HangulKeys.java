@@ -0,0 +1,108 @@
+package com.sparta.delivery.domain.autocomplete.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성 색인 key 생성
+ *
+ * 1. jamo : 한글 음절을 자모로 분해 (겹모음, 겹받침도 입력 순서대로 분해)
+ *    입력 중인 "비ㅂ", "빕" 과 "비빔밥" 이 같은 접두어 ㅂㅣㅂ 을 가지므로 타이핑 도중에도 후보를 찾을 수 있음
+ * 2. choseong : 한글 음절을 초성으로 변환 ("비빔밥" -> "ㅂㅂㅂ")
+ *
+ * 공백은 제거하고 영문은 소문자로 비교합니다.
+ */
+public final class HangulKeys {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 낱자로 입력된 겹자모 분해
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+    private HangulKeys() {
+    }
+
+    public static String jamo(String text) {
+        String normalized = normalize(text);
+        StringBuilder key = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int index = c - SYLLABLE_BEGIN;
+                key.append(CHOSEONG[index / 588]).append(JUNGSEONG[index % 588 / 28]).append(JONGSEONG[index % 28]);
+            } else {
+                key.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return key.toString();
+    }
+
+    public static String choseong(String text) {
+        String normalized = normalize(text);
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                key.append(CHOSEONG[(c - SYLLABLE_BEGIN) / 588]);
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 자음으로만 이루어진 검색어인지 확인 ("ㅂㅂ" 은 초성 검색, "ㅂ" 한 글자는 초성/자모 검색 결과가 같음)
+     */
+    public static boolean isChoseongQuery(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < CONSONANT_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // NFC 로 음절을 조합 (NFKC 는 호환 자모 ㄱ(U+3131) 을 첫가끝 자모(U+1100) 로 바꾸므로 사용하지 않음)
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder stripped = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                stripped.append(c);
+            }
+        }
+        return stripped.toString();
+    }
+}
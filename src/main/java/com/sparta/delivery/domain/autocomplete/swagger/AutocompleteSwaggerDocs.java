@@ -0,0 +1,29 @@
+package com.sparta.delivery.domain.autocomplete.swagger;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.*;
+
+@Target({ElementType.METHOD}) // 메서드에만 적용할 수 있음
+@Retention(RetentionPolicy.RUNTIME) // 런타임까지 유지됨
+@Documented // javadoc 과 같은 문서에 포함되도록 지정
+public @interface AutocompleteSwaggerDocs {
+
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 가게 이름, 상품 이름, 배달 지역(동)을 조회합니다. 자음으로만 입력하면 초성으로 검색합니다.")
+    @Parameters({
+            @Parameter(name = "query", description = "입력 중인 검색어 (예: 비빔, 비ㅂ, ㅂㅂㅂ)", example = "비빔"),
+            @Parameter(name = "limit", description = "최대 후보 수 (1 ~ 20, 기본 10)", example = "10")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공 (후보가 없으면 빈 목록)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @interface Suggest {
+    }
+}
@@ -5,7 +5,7 @@ import com.sparta.delivery.domain.card.dto.RegistrationCardDto;
 import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +19,7 @@ import java.util.UUID;
 public class CardService {
 
     private final CardRepository cardRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     @Transactional
     public void registrationCard(String username, RegistrationCardDto registrationCardDto) {
 
@@ -92,7 +92,7 @@ public class CardService {
     }
 
     private User undeletedUser(String username){
-        return userRepository.findByUsernameAndDeletedAtIsNull(username).orElseThrow(() ->
+        return userLookupService.findUser(username).orElseThrow(() ->
                 new NullPointerException("유저가 존재하지 않습니다."));
     }
 
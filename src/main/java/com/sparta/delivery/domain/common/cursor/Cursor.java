@@ -0,0 +1,90 @@
+package com.sparta.delivery.domain.common.cursor;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 (createdAt, id) 커서
+ *
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩된 문자열로만 노출되며,
+ * 다음 페이지 조회 시 마지막으로 받은 row 의 (createdAt, id) 이후부터 조회합니다.
+ * count 쿼리와 OFFSET 스캔 없이 (createdAt, id) 인덱스 범위 조회만 수행합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+
+    private final UUID id;
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩하는 메서드
+     *
+     * @return URL-safe Base64 로 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 디코딩하는 메서드
+     *
+     * @param cursor 이전 응답의 nextCursor 값 (첫 페이지는 null)
+     * @return 디코딩된 Cursor, 첫 페이지 요청이면 null
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    UUID.fromString(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서 이후의 row 만 조회하는 조건을 생성하는 메서드
+     *
+     * @param createdAtPath 정렬 기준 생성일 컬럼
+     * @param idPath 동일 생성일일 때 순서를 정하는 PK 컬럼
+     * @param ascending 오름차순 여부
+     * @return (createdAt, id) 가 커서보다 뒤에 있는 row 조건
+     */
+    public BooleanExpression after(DateTimePath<LocalDateTime> createdAtPath, ComparablePath<UUID> idPath, boolean ascending) {
+        if (ascending) {
+            return createdAtPath.gt(createdAt).or(createdAtPath.eq(createdAt).and(idPath.gt(id)));
+        }
+        return createdAtPath.lt(createdAt).or(createdAtPath.eq(createdAt).and(idPath.lt(id)));
+    }
+
+    /**
+     * 커서 조건과 동일한 (createdAt, id) 정렬 조건을 생성하는 메서드
+     */
+    public static OrderSpecifier<?>[] orderBy(DateTimePath<LocalDateTime> createdAtPath, ComparablePath<UUID> idPath, boolean ascending) {
+        if (ascending) {
+            return new OrderSpecifier<?>[]{createdAtPath.asc(), idPath.asc()};
+        }
+        return new OrderSpecifier<?>[]{createdAtPath.desc(), idPath.desc()};
+    }
+}
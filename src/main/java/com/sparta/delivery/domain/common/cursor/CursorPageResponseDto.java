@@ -0,0 +1,44 @@
+package com.sparta.delivery.domain.common.cursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지네이션 응답
+ *
+ * 전체 개수(totalElements)는 제공하지 않으며, hasNext 와 nextCursor 로 다음 페이지 존재 여부를 알려줍니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    // 다음 페이지 요청 시 cursor 파라미터로 전달할 값 (마지막 페이지면 null)
+    private String nextCursor;
+
+    /**
+     * size + 1 개로 조회한 row 목록으로 응답을 생성하는 메서드
+     *
+     * @param rows size + 1 개까지 조회된 row 목록
+     * @param size 요청한 페이지 크기
+     * @param contentMapper row 를 응답 DTO 로 변환하는 함수
+     * @param cursorMapper row 에서 커서를 추출하는 함수
+     */
+    public static <R, T> CursorPageResponseDto<T> of(List<R> rows, int size, Function<R, T> contentMapper, Function<R, Cursor> cursorMapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<T> content = pageRows.stream().map(contentMapper).toList();
+        String nextCursor = hasNext ? cursorMapper.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+
+        return new CursorPageResponseDto<>(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,132 @@
+package com.sparta.delivery.domain.common.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DB 데이터로 만든 메모리 색인의 갱신 공통 로직 (상품 검색, 자동완성, 배달 지역 색인에서 사용)
+ *
+ * 1. rebuild : 전체 데이터를 batchSize 씩 Slice 로 읽어 색인, 끝나면 ready
+ * 2. afterCommit : 이 replica 에서 변경한 데이터는 커밋 직후 다시 색인 (롤백된 변경은 반영하지 않음)
+ * 3. poll : 마지막 조회 이후 updatedAt 이 바뀐 데이터를 다시 색인 (늦게 커밋된 변경을 놓치지 않도록 lookback 만큼 겹쳐서 조회)
+ *
+ * 색인 자료구조, 조회 쿼리, 주기 실행(@EventListener, @Scheduled) 은 색인을 사용하는 서비스에서 정합니다.
+ */
+@Slf4j
+public class IndexRefresher {
+
+    private final String name;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final Duration lookback;
+
+    private volatile boolean ready;
+
+    private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+
+    /**
+     * @param name 로그에 표시할 색인 이름
+     * @param enabled false 이면 색인을 만들지 않고 변경도 반영하지 않음 (ready 는 항상 false)
+     * @param batchSize rebuild 시 한 번에 조회할 행 수
+     * @param lookback 이전 조회 시각보다 앞당겨 조회할 시간
+     */
+    public IndexRefresher(String name, boolean enabled, int batchSize, Duration lookback) {
+        this.name = name;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lookback = lookback;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 색인이 한 번 이상 만들어졌는지 (false 이면 DB 에서 조회)
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인을 새로 만드는 메서드
+     *
+     * @param build 전체 데이터를 색인하는 작업 (load 로 batchSize 씩 조회)
+     * @param summary 완료 로그에 표시할 색인 크기
+     */
+    public void rebuild(Runnable build, Supplier<String> summary) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        // 색인하는 동안 바뀐 데이터는 다음 poll 에서 다시 색인
+        lastPolledAt = LocalDateTime.now();
+        build.run();
+
+        ready = true;
+        log.info("[{}] index built - {}, elapsed: {} ms", name, summary.get(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * idProperty 순서로 batchSize 씩 Slice 를 읽어 batch 단위로 넘기는 메서드 (rebuild 안에서 호출)
+     */
+    public <T> void load(Function<Pageable, Slice<T>> finder, String idProperty, Consumer<List<T>> batch) {
+        Pageable pageable = PageRequest.of(0, batchSize, Sort.by(idProperty));
+        Slice<T> slice;
+        do {
+            slice = finder.apply(pageable);
+            batch.accept(slice.getContent());
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+    }
+
+    /**
+     * 변경한 데이터를 커밋 직후 다시 색인하는 메서드 (변경하는 트랜잭션 안에서 호출)
+     */
+    public void afterCommit(Runnable task) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        // 롤백된 변경이 색인에 남지 않도록 커밋된 경우에만 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 마지막 조회 이후 바뀐 데이터를 다시 색인하는 메서드 (다른 replica 의 변경 반영, 다시 색인해도 결과는 같음)
+     *
+     * @param changes since 이후 updatedAt 이 바뀐 데이터를 조회해 색인하는 작업
+     */
+    public void poll(Consumer<LocalDateTime> changes) {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        changes.accept(lastPolledAt.minus(lookback));
+        lastPolledAt = now;
+    }
+}
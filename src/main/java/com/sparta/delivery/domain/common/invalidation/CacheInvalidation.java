@@ -0,0 +1,17 @@
+package com.sparta.delivery.domain.common.invalidation;
+
+import java.time.LocalDateTime;
+
+/**
+ * replica 간 캐시 무효화 전달용 로그 한 건 (캐시 key 하나)
+ *
+ * @param <K> 캐시 key 타입
+ */
+public interface CacheInvalidation<K> {
+
+    Long getInvalidationId();
+
+    K getKey();
+
+    LocalDateTime getInvalidatedAt();
+}
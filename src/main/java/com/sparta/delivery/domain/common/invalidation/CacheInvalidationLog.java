@@ -0,0 +1,153 @@
+package com.sparta.delivery.domain.common.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * DB 무효화 로그로 replica 간 캐시 무효화를 전달하는 공통 로직 (사용자 조회 캐시, 가게 카탈로그 캐시에서 사용)
+ *
+ * 1. 변경하는 트랜잭션에서 무효화 로그를 기록하고 이 replica 의 캐시에서 바로 제거, 트랜잭션이 끝나면 한 번 더 제거
+ * 2. 모든 replica 는 poll 로 since 이후의 로그를 읽어 제거 (제거는 여러 번 해도 결과가 같으므로 lookback 만큼 겹쳐서 조회)
+ * 3. 제거할 때마다 epoch 를 올려, DB 조회 중 무효화된 값을 캐시에 남기지 않도록 조회 전후 epoch 비교에 사용
+ *
+ * 주기 실행(@Scheduled), 트랜잭션 경계는 캐시를 사용하는 서비스에서 설정합니다.
+ *
+ * @param <K> 캐시 key 타입
+ * @param <E> 무효화 로그 엔티티 타입
+ */
+public class CacheInvalidationLog<K, E extends CacheInvalidation<K>> {
+
+    private final CacheInvalidationRepository<E> repository;
+
+    private final BiFunction<K, LocalDateTime, E> logFactory;
+
+    private final Consumer<K> evictor;
+
+    private final Duration lookback;
+
+    private final Duration retention;
+
+    // 무효화가 일어날 때마다 증가
+    private final AtomicLong epoch = new AtomicLong();
+
+    // lookback 구간 안에서 이미 처리한 무효화 로그 id 와 기록 시각
+    private final Map<Long, LocalDateTime> handled = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+
+    private final Counter localInvalidationCounter;
+    private final Counter remoteInvalidationCounter;
+
+    /**
+     * @param repository 무효화 로그 repository
+     * @param logFactory key, 기록 시각으로 무효화 로그 엔티티를 만드는 함수
+     * @param evictor 이 replica 의 캐시에서 key 를 제거하는 함수
+     * @param lookback 이전 조회 시각보다 겹쳐서 조회할 시간 (늦게 커밋된 로그를 놓치지 않도록)
+     * @param retention 무효화 로그 보관 시간
+     * @param meterRegistry 메트릭 등록
+     * @param metricName 제거 수 메트릭 이름 (source=local/remote 태그)
+     * @param subject 메트릭 설명에 쓰는 캐시 대상 (예: 사용자, 가게)
+     */
+    public CacheInvalidationLog(CacheInvalidationRepository<E> repository,
+                                BiFunction<K, LocalDateTime, E> logFactory,
+                                Consumer<K> evictor,
+                                Duration lookback,
+                                Duration retention,
+                                MeterRegistry meterRegistry,
+                                String metricName,
+                                String subject) {
+        this.repository = repository;
+        this.logFactory = logFactory;
+        this.evictor = evictor;
+        this.lookback = lookback;
+        this.retention = retention;
+
+        this.localInvalidationCounter = Counter.builder(metricName)
+                .tag("source", "local")
+                .description("이 replica 에서 변경되어 제거한 " + subject + " 수")
+                .register(meterRegistry);
+        this.remoteInvalidationCounter = Counter.builder(metricName)
+                .tag("source", "remote")
+                .description("다른 replica 의 무효화 로그를 읽어 제거한 " + subject + " 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 변경을 무효화 로그에 기록하고 이 replica 의 캐시에서 제거하는 메서드 (변경하는 트랜잭션 안에서 호출)
+     *
+     * @param keys 변경된 캐시 key 목록
+     */
+    public void record(Collection<K> keys) {
+        List<K> distinctKeys = keys.stream().distinct().toList();
+        if (distinctKeys.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (E invalidation : repository.saveAll(distinctKeys.stream().map(key -> logFactory.apply(key, now)).toList())) {
+            handled.put(invalidation.getInvalidationId(), invalidation.getInvalidatedAt());
+        }
+        evict(distinctKeys);
+        localInvalidationCounter.increment(distinctKeys.size());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // 커밋 전에 다른 요청이 이전 정보를 다시 캐시했을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 제거
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(distinctKeys);
+            }
+        });
+    }
+
+    /**
+     * 다른 replica 에서 커밋된 무효화 로그를 읽어 캐시에서 제거하는 메서드
+     */
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastPolledAt.minus(lookback);
+
+        for (E invalidation : repository.findByInvalidatedAtGreaterThanEqual(since)) {
+            if (handled.putIfAbsent(invalidation.getInvalidationId(), invalidation.getInvalidatedAt()) == null) {
+                evict(List.of(invalidation.getKey()));
+                remoteInvalidationCounter.increment();
+            }
+        }
+        handled.values().removeIf(invalidatedAt -> invalidatedAt.isBefore(since));
+        lastPolledAt = now;
+    }
+
+    // 보관 기간이 지난 무효화 로그 삭제 (트랜잭션 안에서 호출)
+    public int deleteExpired() {
+        return repository.deleteInvalidatedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // DB 조회 전에 읽어 두고, 조회 후 isInvalidatedSince 로 그 사이 무효화가 있었는지 확인
+    public long epoch() {
+        return epoch.get();
+    }
+
+    public boolean isInvalidatedSince(long epoch) {
+        return this.epoch.get() != epoch;
+    }
+
+    // 무효화 로그 없이 이 replica 의 캐시에서만 제거
+    public void evict(Collection<K> keys) {
+        epoch.incrementAndGet();
+        keys.forEach(evictor);
+    }
+}
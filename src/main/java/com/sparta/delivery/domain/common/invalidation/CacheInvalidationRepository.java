@@ -0,0 +1,21 @@
+package com.sparta.delivery.domain.common.invalidation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시 무효화 로그 repository 공통 메서드
+ *
+ * deleteInvalidatedBefore 는 엔티티 이름이 필요하므로 각 repository 에서 bulk delete 쿼리로 선언합니다.
+ */
+@NoRepositoryBean
+public interface CacheInvalidationRepository<E extends CacheInvalidation<?>> extends JpaRepository<E, Long> {
+
+    // since 이후 커밋된 무효화 로그 조회 (invalidatedAt 인덱스 범위 조회)
+    List<E> findByInvalidatedAtGreaterThanEqual(LocalDateTime since);
+
+    int deleteInvalidatedBefore(LocalDateTime before);
+}
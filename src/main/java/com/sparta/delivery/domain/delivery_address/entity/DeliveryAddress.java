@@ -32,6 +32,11 @@ public class DeliveryAddress extends Timestamped {
     @Column(name = "detail_address")
     private String detailAddress;
 
+    // 배송지 주소(deliveryAddressInfo) 로 조회한 좌표, 조회 테이블에 없는 주소면 null
+    private Double latitude;
+
+    private Double longitude;
+
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -1,10 +1,15 @@
 package com.sparta.delivery.domain.delivery_address.repository;
 
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
+import com.sparta.delivery.domain.geo.dto.GeocodeTarget;
 import com.sparta.delivery.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +23,16 @@ public interface DeliveryAddressRepository extends JpaRepository<DeliveryAddress
 
     // 제거 되지않은 배송지 반환
     Optional<DeliveryAddress> findByDeliveryAddressIdAndDeletedAtIsNull(UUID deliveryAddressId);
+
+    // 좌표가 없는 배송지 ID, 주소 조회 (좌표 backfill)
+    @Query("select new com.sparta.delivery.domain.geo.dto.GeocodeTarget(d.deliveryAddressId, d.deliveryAddressInfo) from DeliveryAddress d " +
+            "where d.latitude is null and d.deletedAt is null")
+    List<GeocodeTarget> findGeocodeTargets();
+
+    // 좌표가 아직 없는 배송지에만 좌표 저장
+    @Modifying
+    @Query("update DeliveryAddress d set d.latitude = :latitude, d.longitude = :longitude, d.updatedAt = local datetime " +
+            "where d.deliveryAddressId = :deliveryAddressId and d.latitude is null")
+    int updateLocationIfMissing(@Param("deliveryAddressId") UUID deliveryAddressId,
+                                @Param("latitude") double latitude, @Param("longitude") double longitude);
 }
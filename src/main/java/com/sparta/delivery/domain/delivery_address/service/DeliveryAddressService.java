@@ -11,8 +11,11 @@ import com.sparta.delivery.domain.delivery_address.dto.AddressSearchDto;
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.entity.QDeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+import com.sparta.delivery.domain.geo.service.LocalGeocoder;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +33,8 @@ public class DeliveryAddressService {
 
     private final DeliveryAddressRepository addressRepository; // 배송지를 관리하는 repository
     private final UserRepository userRepository; // User를 관리하는 repository
+    private final UserLookupService userLookupService; // username 으로 User 를 조회 (캐시)
+    private final LocalGeocoder localGeocoder; // 배송지 주소를 좌표로 변환 (배달 가능 가게 조회용)
 
     /**
      * 유저의 배송지를 추가하는 기능
@@ -41,7 +46,7 @@ public class DeliveryAddressService {
      *    - 동일한 배송지가 이미 존재할 경우 IllegalArgumentException을 발생시킵니다.
      * 3. 해당 user가 가지고있는 논리적 삭제되지 않은 배송지의 수가 3개 이상인지 검사
      *    - 배송지가 3개 이상일 경우 IllegalArgumentException을 발생시킵니다.
-     * 4. 새로운 배송지를 생성하고 유저와의 관계 설정
+     * 4. 새로운 배송지를 생성하고 유저와의 관계 설정 (배송지 주소로 조회한 좌표 포함)
      * 5. DB에 저장 후 생성된 배송지 정보를 반환
      *
      * @param addressReqDto 배송지 추가에 필요한 정보를 담고 있는 DTO (배송지 이름, 배송지 정보 등)
@@ -52,7 +57,7 @@ public class DeliveryAddressService {
      */
     public AddressResDto addAddress(AddressReqDto addressReqDto, PrincipalDetails principalDetails) {
 
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(principalDetails.getUsername())
+        User user = userLookupService.findUser(principalDetails.getUsername())
                 .orElseThrow(()-> new UserNotFoundException("Invalid username : " + principalDetails.getUsername()));
 
         // 동일한 user를 가지고있는 deliveryAddress 중에 중복된 명이 있으면 중복 반환
@@ -67,10 +72,14 @@ public class DeliveryAddressService {
             throw new IllegalArgumentException("배송지는 최대 3개 까지만 추가할 수 있습니다.");
         }
 
+        GeoPoint point = localGeocoder.geocode(addressReqDto.getDeliveryAddressInfo()).orElse(null);
+
         DeliveryAddress deliveryAddress = DeliveryAddress.builder()
                 .deliveryAddress(addressReqDto.getDeliveryAddress())
                 .deliveryAddressInfo(addressReqDto.getDeliveryAddressInfo())
                 .detailAddress(addressReqDto.getDetailAddress() != null ? addressReqDto.getDetailAddress() : "")
+                .latitude(point != null ? point.latitude() : null)
+                .longitude(point != null ? point.longitude() : null)
                 .user(user)
                 .build();
 
@@ -147,7 +156,7 @@ public class DeliveryAddressService {
      *    - 본인이 아니고, 관리자 권한도 없을 경우 ForbiddenException을 발생
      * 3. 사용자가 수정하려는 배송지의 정보가 본인 소유인지 확인
      *    - 본인이 아니면 접근이 거부
-     * 4. 수정된 배송지 정보를 저장
+     * 4. 수정된 배송지 정보를 저장 (배송지 주소로 좌표를 다시 조회)
      * 5. 수정된 배송지 정보를 AddressResDto 형태로 반환
      *
      * @param id 배송지 ID (수정할 배송지의 고유 ID)
@@ -159,7 +168,7 @@ public class DeliveryAddressService {
      */
     public AddressResDto updateDeliveryAddresses(UUID id, AddressReqDto addressReqDto, PrincipalDetails principalDetails) {
 
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(principalDetails.getUsername())
+        User user = userLookupService.findUser(principalDetails.getUsername())
                 .orElseThrow(()-> new UserNotFoundException("Invalid username : " + principalDetails.getUsername()));
 
         DeliveryAddress deliveryAddress = addressRepository.findByDeliveryAddressIdAndDeletedAtIsNull(id)
@@ -174,10 +183,14 @@ public class DeliveryAddressService {
             throw new ForbiddenException("Access denied.");
         }
 
+        GeoPoint point = localGeocoder.geocode(addressReqDto.getDeliveryAddressInfo()).orElse(null);
+
         DeliveryAddress updateDeliveryAddress = deliveryAddress.toBuilder()
                 .deliveryAddress(addressReqDto.getDeliveryAddress())
                 .deliveryAddressInfo(addressReqDto.getDeliveryAddressInfo())
                 .detailAddress(addressReqDto.getDetailAddress())
+                .latitude(point != null ? point.latitude() : null)
+                .longitude(point != null ? point.longitude() : null)
                 .build();
 
         return addressRepository.save(updateDeliveryAddress).toResponse();
@@ -0,0 +1,38 @@
+package com.sparta.delivery.domain.geo.dto;
+
+/**
+ * 위도, 경도 좌표 (WGS84)
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("유효하지 않은 좌표입니다. : " + latitude + ", " + longitude);
+        }
+    }
+
+    // 좌표 중 하나라도 없으면 null
+    public static GeoPoint ofNullable(Double latitude, Double longitude) {
+        return latitude == null || longitude == null ? null : new GeoPoint(latitude, longitude);
+    }
+
+    /**
+     * 다른 좌표까지의 거리 (equirectangular 근사, 배달 반경 수준인 10km 이하에서 오차 0.2% 미만)
+     *
+     * @return 거리 (미터)
+     */
+    public double distanceMeters(GeoPoint other) {
+        return distanceMeters(other, Math.cos(Math.toRadians(latitude)));
+    }
+
+    /**
+     * @param cosLatitude 이 좌표 위도의 cos (같은 좌표에서 여러 좌표까지 거리를 구할 때 한 번만 계산)
+     */
+    public double distanceMeters(GeoPoint other, double cosLatitude) {
+        double x = Math.toRadians(other.longitude - longitude) * cosLatitude;
+        double y = Math.toRadians(other.latitude - latitude);
+        return EARTH_RADIUS_METERS * Math.sqrt(x * x + y * y);
+    }
+}
@@ -0,0 +1,9 @@
+package com.sparta.delivery.domain.geo.dto;
+
+import java.util.UUID;
+
+/**
+ * 좌표를 채울 행의 ID, 주소 (좌표 저장 이전에 등록된 가게, 배송지 backfill)
+ */
+public record GeocodeTarget(UUID id, String address) {
+}
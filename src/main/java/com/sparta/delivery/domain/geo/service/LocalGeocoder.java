@@ -0,0 +1,122 @@
+package com.sparta.delivery.domain.geo.service;
+
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 주소 문자열을 좌표로 바꾸는 조회 테이블 기반 geocoder (외부 API 호출 없음)
+ *
+ * 1. 기동 시 classpath:geo/localities.csv 의 동 대표 좌표를 읽어 메모리에 보관
+ * 2. 공백, 숫자를 지운 주소에 포함된 동 이름을 찾고, 같은 이름의 동이 여러 개면 주소에 포함된 구의 동을 사용 ("역삼1동" -> "역삼동")
+ * 3. 동을 찾지 못하면 주소에 포함된 구의 동 좌표 평균을 사용
+ *
+ * 가게, 배송지 등록/수정 시에만 호출하므로 조회는 테이블 전체를 순회합니다.
+ */
+@Component
+public class LocalGeocoder {
+
+    private static final String TABLE = "geo/localities.csv";
+
+    // 주소 비교 시 무시하는 문자 (공백, 번지/행정동 번호)
+    private static final Pattern IGNORED = Pattern.compile("[\\s\\d.,\\-·]+");
+
+    private final List<Locality> localities;
+
+    private final Map<String, GeoPoint> cityCenters;
+
+    public LocalGeocoder() {
+        this(TABLE);
+    }
+
+    LocalGeocoder(String table) {
+        this.localities = load(table);
+        this.cityCenters = cityCenters(localities);
+    }
+
+    /**
+     * 주소에 포함된 동(없으면 구) 의 대표 좌표를 조회하는 메서드
+     *
+     * @param address 주소 ("서울특별시 강남구 역삼1동 123-4", "역삼동" 등)
+     * @return 대표 좌표, 조회 테이블에 없는 주소면 empty
+     */
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+        String key = normalize(address);
+
+        Optional<Locality> locality = localities.stream()
+                .filter(candidate -> key.contains(candidate.locality()))
+                .max(Comparator.<Locality>comparingInt(candidate -> key.contains(candidate.city()) ? 1 : 0)
+                        .thenComparingInt(candidate -> candidate.locality().length()));
+        if (locality.isPresent()) {
+            return Optional.of(locality.get().point());
+        }
+
+        return cityCenters.entrySet().stream()
+                .filter(city -> key.contains(city.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    public int size() {
+        return localities.size();
+    }
+
+    private static String normalize(String text) {
+        return IGNORED.matcher(Normalizer.normalize(text, Normalizer.Form.NFC)).replaceAll("");
+    }
+
+    private static List<Locality> load(String table) {
+        List<Locality> localities = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(table).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length != 5) {
+                    throw new IllegalStateException("geocoding 테이블 형식이 올바르지 않습니다. : " + line);
+                }
+                localities.add(new Locality(columns[1].strip(), normalize(columns[2]),
+                        new GeoPoint(Double.parseDouble(columns[3]), Double.parseDouble(columns[4]))));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("geocoding 테이블을 읽을 수 없습니다. : " + table, e);
+        }
+        return List.copyOf(localities);
+    }
+
+    private static Map<String, GeoPoint> cityCenters(List<Locality> localities) {
+        Map<String, List<GeoPoint>> pointsByCity = new LinkedHashMap<>();
+        for (Locality locality : localities) {
+            pointsByCity.computeIfAbsent(locality.city(), city -> new ArrayList<>()).add(locality.point());
+        }
+
+        Map<String, GeoPoint> centers = new LinkedHashMap<>();
+        pointsByCity.forEach((city, points) -> centers.put(city, new GeoPoint(
+                points.stream().mapToDouble(GeoPoint::latitude).average().orElseThrow(),
+                points.stream().mapToDouble(GeoPoint::longitude).average().orElseThrow())));
+        return centers;
+    }
+
+    private record Locality(String city, String locality, GeoPoint point) {
+    }
+}
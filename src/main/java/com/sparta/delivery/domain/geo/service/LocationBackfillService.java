@@ -0,0 +1,110 @@
+package com.sparta.delivery.domain.geo.service;
+
+import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+import com.sparta.delivery.domain.geo.dto.GeocodeTarget;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 좌표 저장 이전에 등록된 가게, 배송지의 좌표를 주소로 채우는 작업
+ *
+ * 1. 기동 시 좌표가 없는 가게, 배송지의 ID, 주소를 읽어 LocalGeocoder 로 좌표 조회 (같은 주소는 한 번만 조회)
+ * 2. batchSize 개씩 트랜잭션을 나눠 좌표가 아직 없는 행에만 저장 (여러 replica 가 동시에 실행해도 결과는 같음)
+ * 3. 배달 지역 색인(DeliveryAreaService) 보다 먼저 실행해 채운 가게가 기동 시 색인에 포함되도록 함
+ *
+ * 조회 테이블에 없는 주소는 그대로 두고, 다음 기동 또는 주소 수정 시 다시 조회합니다.
+ */
+@Slf4j
+@Service
+public class LocationBackfillService {
+
+    private final StoreRepository storeRepository;
+
+    private final DeliveryAddressRepository deliveryAddressRepository;
+
+    private final LocalGeocoder localGeocoder;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    public LocationBackfillService(StoreRepository storeRepository,
+                                   DeliveryAddressRepository deliveryAddressRepository,
+                                   LocalGeocoder localGeocoder,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${geo.backfill.enabled:true}") boolean enabled,
+                                   @Value("${geo.backfill.batchSize:500}") int batchSize) {
+        this.storeRepository = storeRepository;
+        this.deliveryAddressRepository = deliveryAddressRepository;
+        this.localGeocoder = localGeocoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            fill("stores", storeRepository.findGeocodeTargets(), storeRepository::updateLocationIfMissing);
+            fill("delivery addresses", deliveryAddressRepository.findGeocodeTargets(), deliveryAddressRepository::updateLocationIfMissing);
+        } catch (Exception e) {
+            // 좌표가 없는 행은 배달 가능 가게 조회에서 제외될 뿐이므로 기동은 계속함
+            log.warn("[LocationBackfill] failed", e);
+        }
+    }
+
+    private void fill(String name, List<GeocodeTarget> targets, LocationUpdater updater) {
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Map<String, Optional<GeoPoint>> geocoded = new HashMap<>();
+        int updated = 0;
+        for (int from = 0; from < targets.size(); from += batchSize) {
+            List<GeocodeTarget> batch = targets.subList(from, Math.min(from + batchSize, targets.size()));
+            Integer count = transactionTemplate.execute(status -> {
+                int batchUpdated = 0;
+                for (GeocodeTarget target : batch) {
+                    Optional<GeoPoint> point = geocoded.computeIfAbsent(target.address(), localGeocoder::geocode);
+                    if (point.isPresent()) {
+                        batchUpdated += updater.update(target.id(), point.get().latitude(), point.get().longitude());
+                    }
+                }
+                return batchUpdated;
+            });
+            updated += count != null ? count : 0;
+        }
+
+        log.info("[LocationBackfill] {} - missing: {}, updated: {}, elapsed: {} ms",
+                name, targets.size(), updated, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    @FunctionalInterface
+    private interface LocationUpdater {
+        int update(UUID id, double latitude, double longitude);
+    }
+}
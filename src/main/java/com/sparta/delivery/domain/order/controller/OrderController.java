@@ -4,6 +4,7 @@ import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.domain.order.dto.OrderRequestDto;
 import com.sparta.delivery.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.delivery.domain.order.event.OrderStatusEvent;
 import com.sparta.delivery.domain.order.service.OrderService;
 import com.sparta.delivery.domain.order.swagger.OrderSwaggerDocs;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,9 +15,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.Collections;
 import java.util.List;
@@ -57,6 +61,8 @@ public class OrderController {
                                               @RequestParam(name = "orderBy", required = false) String orderBy,
                                               @RequestParam(name = "storeIdList", required = false) List<UUID> storeIdList,
                                               @RequestParam(name = "deliveryAddressIdList", required = false) List<UUID> deliveryAddressIdList,
+                                              @RequestParam(name = "cursorMode", required = false, defaultValue = "false") boolean cursorMode,
+                                              @RequestParam(name = "cursor", required = false) String cursor,
                                               @AuthenticationPrincipal PrincipalDetails userDetails) {
         if (storeIdList == null)
             storeIdList = Collections.emptyList();
@@ -64,6 +70,13 @@ public class OrderController {
         if (deliveryAddressIdList == null)
             deliveryAddressIdList = Collections.emptyList();
 
+        //커서 모드 - page, sortBy 는 무시하고 (생성일, 주문 id) 순으로 조회
+        if (cursorMode) {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(orderService.getUserOrderListByCursor(userDetails.getUsername(), cursor, pageableConfig.createCursorPageSize(size),
+                            !"desc".equalsIgnoreCase(orderBy), storeIdList, deliveryAddressIdList));
+        }
+
         PageRequest pageable = pageableConfig.createPageRequest(page, size, sortBy, orderBy);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(orderService.getUserOrderList(userDetails.getUsername(), pageable, storeIdList, deliveryAddressIdList));
@@ -77,12 +90,33 @@ public class OrderController {
                                                @RequestParam(name = "size", required = false) Integer  size,
                                                @RequestParam(name = "sortBy", required = false) String sortBy,
                                                @RequestParam(name = "orderBy", required = false) String orderBy,
+                                               @RequestParam(name = "cursorMode", required = false, defaultValue = "false") boolean cursorMode,
+                                               @RequestParam(name = "cursor", required = false) String cursor,
                                                @AuthenticationPrincipal PrincipalDetails userDetails) {
+        //커서 모드 - page, sortBy 는 무시하고 (생성일, 주문 id) 순으로 조회
+        if (cursorMode) {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(orderService.getStoreOrderListByCursor(storeId, cursor, pageableConfig.createCursorPageSize(size),
+                            !"desc".equalsIgnoreCase(orderBy), userDetails.getUsername()));
+        }
+
         Pageable pageable = pageableConfig.createPageRequest(page, size, sortBy, orderBy);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(orderService.getStoreOrderList(storeId, pageable, userDetails.getUsername()));
     }
 
+    @Operation(summary = "주문 상태 변경 구독 (SSE)", description = "주문자, 가게 주인, 관리자가 주문 상태 변경을 실시간으로 받습니다. 첫 이벤트는 현재 상태입니다.")
+    @GetMapping(value = "/{orderId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<OrderStatusEvent>> subscribeOrderEvents(@PathVariable("orderId") UUID orderId, @AuthenticationPrincipal PrincipalDetails userDetails) {
+        return orderService.subscribeOrderEvents(orderId, userDetails.getUsername());
+    }
+
+    @Operation(summary = "가게 주문 상태 변경 구독 (SSE)", description = "가게 주인, 관리자가 가게의 모든 주문 상태 변경을 실시간으로 받습니다.")
+    @GetMapping(value = "/stores/{storeId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<OrderStatusEvent>> subscribeStoreOrderEvents(@PathVariable("storeId") UUID storeId, @AuthenticationPrincipal PrincipalDetails userDetails) {
+        return orderService.subscribeStoreOrderEvents(storeId, userDetails.getUsername());
+    }
+
     @OrderSwaggerDocs.deleteOrder
     @Operation(summary = "주문 삭제")
     @PatchMapping("/deleteOrder/{orderId}")
@@ -0,0 +1,23 @@
+package com.sparta.delivery.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 취소 outbox 이벤트 (상품 재고 복구용)
+ *
+ * 같은 상품을 여러 개 주문한 경우 productIds 에 개수만큼 포함됩니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderCancelEventDto {
+
+    private UUID orderId;
+
+    private List<UUID> productIds;
+}
@@ -27,7 +27,11 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_order")
+// 커서 기반 조회용 (가게/유저, 생성일, id) 복합 인덱스
+@Table(name = "p_order", indexes = {
+        @Index(name = "idx_order_store_created_at", columnList = "storeId, createdAt, orderId"),
+        @Index(name = "idx_order_user_created_at", columnList = "userId, createdAt, orderId")
+})
 public class Order extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
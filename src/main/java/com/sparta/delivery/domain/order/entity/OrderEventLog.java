@@ -0,0 +1,60 @@
+package com.sparta.delivery.domain.order.entity;
+
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.event.OrderStatusEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * replica 간 주문 상태 이벤트 전달용 로그
+ *
+ * 상태 변경과 같은 트랜잭션에서 추가되며, 각 replica 가 eventId 순서로 읽어 자신의 SSE 구독자에게 전달합니다.
+ * 전달이 끝난 로그는 보관 기간이 지나면 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "p_order_event_log", indexes = {
+        @Index(name = "idx_order_event_log_changed_at", columnList = "changedAt")
+})
+public class OrderEventLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private UUID orderId;
+
+    @Column(nullable = false)
+    private UUID storeId;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public static OrderEventLog from(OrderStatusEvent event) {
+        return OrderEventLog.builder()
+                .orderId(event.getOrderId())
+                .storeId(event.getStoreId())
+                .orderStatus(event.getOrderStatus())
+                .changedAt(event.getChangedAt())
+                .build();
+    }
+
+    public OrderStatusEvent toEvent() {
+        return new OrderStatusEvent(orderId, storeId, orderStatus, changedAt);
+    }
+}
@@ -0,0 +1,161 @@
+package com.sparta.delivery.domain.order.event;
+
+import com.sparta.delivery.domain.order.entity.OrderEventLog;
+import com.sparta.delivery.domain.order.repository.OrderEventLogRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 주문 상태 이벤트를 모든 replica 의 SSE 구독자에게 전달하는 bus
+ *
+ * 1. OrderService, PaymentService 가 발행한 이벤트를 같은 트랜잭션에서 p_order_event_log 에 추가 (롤백 시 함께 취소)
+ * 2. 이벤트를 발생시킨 replica 는 커밋 직후 바로 전달하고, 모든 replica 는 로그를 eventId 순서로 batch 조회해 전달
+ * 3. 한 번의 poll 에서 최대 batchSize x maxBatchesPerPoll 개만 읽고 나머지는 다음 poll 에서 처리 (DB, 구독자 보호)
+ *
+ * eventId 는 insert 시점에 발급되어 커밋 순서와 다를 수 있으므로, 비어 있는 eventId 는 gapTimeoutMillis 동안
+ * 커밋을 기다린 뒤 건너뜁니다. 이미 전달한 eventId 는 다시 전달하지 않습니다.
+ */
+@Slf4j
+@Component
+public class OrderEventBus {
+
+    private final OrderEventLogRepository orderEventLogRepository;
+
+    private final OrderEventChannel orderEventChannel;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerPoll;
+
+    private final long gapTimeoutNanos;
+
+    private final long retentionMinutes;
+
+    // cursor 이하의 eventId 는 모두 처리 완료
+    private long cursor;
+
+    // cursor 이후 이미 전달한 eventId
+    private final TreeSet<Long> delivered = new TreeSet<>();
+
+    // cursor 이후 아직 보이지 않는 eventId 와 처음 발견한 시각
+    private final Map<Long, Long> gaps = new HashMap<>();
+
+    public OrderEventBus(OrderEventLogRepository orderEventLogRepository,
+                         OrderEventChannel orderEventChannel,
+                         @Value("${order.event.bus.batchSize:500}") int batchSize,
+                         @Value("${order.event.bus.maxBatchesPerPoll:10}") int maxBatchesPerPoll,
+                         @Value("${order.event.bus.gapTimeoutMillis:2000}") long gapTimeoutMillis,
+                         @Value("${order.event.bus.retentionMinutes:60}") long retentionMinutes) {
+        this.orderEventLogRepository = orderEventLogRepository;
+        this.orderEventChannel = orderEventChannel;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.gapTimeoutNanos = gapTimeoutMillis * 1_000_000;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    // 기동 이전의 이벤트는 전달하지 않음 (구독 시 현재 상태를 먼저 전송하므로)
+    @PostConstruct
+    void initCursor() {
+        cursor = orderEventLogRepository.findMaxEventId();
+    }
+
+    /**
+     * 이벤트를 발행한 트랜잭션 안에서 로그를 추가하고, 커밋되면 이 replica 의 구독자에게 바로 전달
+     */
+    @EventListener
+    public void append(OrderStatusEvent event) {
+        OrderEventLog eventLog = orderEventLogRepository.save(OrderEventLog.from(event));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(eventLog);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(eventLog);
+            }
+        });
+    }
+
+    /**
+     * 다른 replica 에서 커밋된 이벤트를 batch 로 읽어 전달
+     */
+    @Scheduled(fixedDelayString = "${order.event.bus.pollMillis:200}")
+    public void poll() {
+        long from = currentCursor();
+        long highest = from;
+
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<OrderEventLog> eventLogs = orderEventLogRepository
+                    .findByEventIdGreaterThanOrderByEventIdAsc(from, Limit.of(batchSize));
+            for (OrderEventLog eventLog : eventLogs) {
+                deliver(eventLog);
+                from = eventLog.getEventId();
+            }
+            highest = Math.max(highest, from);
+            if (eventLogs.size() < batchSize) {
+                break;
+            }
+        }
+        advanceCursor(highest);
+    }
+
+    @Scheduled(cron = "${order.event.bus.cleanupCron:0 */10 * * * *}")
+    @Transactional
+    public int deleteExpiredEventLogs() {
+        return orderEventLogRepository.deleteChangedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+    }
+
+    private void deliver(OrderEventLog eventLog) {
+        if (markDelivered(eventLog.getEventId())) {
+            orderEventChannel.publish(eventLog.toEvent());
+        }
+    }
+
+    private synchronized long currentCursor() {
+        return cursor;
+    }
+
+    private synchronized boolean markDelivered(long eventId) {
+        return eventId > cursor && delivered.add(eventId);
+    }
+
+    // 연속으로 처리된 eventId 까지 cursor 를 이동 (커밋 대기 시간이 지난 빈 eventId 는 롤백된 것으로 보고 건너뜀)
+    private synchronized void advanceCursor(long highest) {
+        long now = System.nanoTime();
+        for (long eventId = cursor + 1; eventId <= highest; eventId++) {
+            if (!delivered.contains(eventId)) {
+                gaps.putIfAbsent(eventId, now);
+            }
+        }
+
+        while (true) {
+            long next = cursor + 1;
+            if (delivered.remove(next)) {
+                gaps.remove(next);
+            } else if (gaps.containsKey(next) && now - gaps.get(next) >= gapTimeoutNanos) {
+                gaps.remove(next);
+                log.debug("[OrderEventBus] skip eventId={} (not committed within gap timeout)", next);
+            } else {
+                break;
+            }
+            cursor = next;
+        }
+    }
+}
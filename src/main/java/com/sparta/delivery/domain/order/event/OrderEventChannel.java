@@ -0,0 +1,161 @@
+package com.sparta.delivery.domain.order.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 주문 상태 변경 이벤트를 SSE 구독자에게 전달하는 채널
+ *
+ * 1. 주문별, 가게별로 구독자가 있을 때만 sink 를 만들고, 마지막 구독자가 끊기면 제거
+ *    (주문 구독은 현재 상태를 읽기 전에 등록해 그 사이의 변경을 놓치지 않음)
+ * 2. 이벤트는 OrderEventBus 가 트랜잭션 커밋 이후에 전달 (다른 replica 에서 커밋된 이벤트 포함)
+ * 3. 연결마다 스레드를 점유하지 않음 (servlet 비동기 + reactor), heartbeat 타이머도 모든 연결이 공유
+ */
+@Component
+public class OrderEventChannel {
+
+    // 구독 등록 후 현재 상태를 읽는 동안, 구독자가 느린 동안 모아둘 주문 이벤트 수 (주문 하나의 상태 변경은 많지 않음)
+    private static final int BUFFER_SIZE = 32;
+
+    private final Map<UUID, Channel> orderChannels = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Channel> storeChannels = new ConcurrentHashMap<>();
+
+    private final Flux<ServerSentEvent<OrderStatusEvent>> heartbeat;
+
+    private final Duration streamTimeout;
+
+    public OrderEventChannel(@Value("${order.event.heartbeatSeconds:15}") long heartbeatSeconds,
+                             @Value("${order.event.streamTimeoutMinutes:30}") long streamTimeoutMinutes) {
+        // 프록시가 유휴 연결을 끊지 않도록 주기적으로 comment 전송
+        this.heartbeat = Flux.interval(Duration.ofSeconds(heartbeatSeconds))
+                .map(tick -> ServerSentEvent.<OrderStatusEvent>builder().comment("heartbeat").build())
+                .share();
+        this.streamTimeout = Duration.ofMinutes(streamTimeoutMinutes);
+    }
+
+    /**
+     * 주문 상태 변경 이벤트를 구독하는 메서드
+     *
+     * 현재 상태를 읽기 전에 채널에 먼저 등록하고, 그 사이에 전달된 이벤트는 buffer 에 모아 현재 상태 뒤에 전송합니다.
+     * 현재 상태보다 먼저 변경된 이벤트(changedAt 이 같거나 이전) 는 현재 상태에 이미 반영되어 있으므로 제외합니다.
+     * 등록은 반환된 스트림이 종료되거나 취소될 때 해제됩니다.
+     *
+     * @param orderId 주문 id
+     * @param currentState 구독 시점의 주문 상태를 읽는 함수 (첫 이벤트로 전송, 예외가 발생하면 등록을 취소하고 그대로 던짐)
+     * @return 해당 주문의 상태 변경 SSE 스트림
+     */
+    public Flux<ServerSentEvent<OrderStatusEvent>> subscribeOrder(UUID orderId, Supplier<OrderStatusEvent> currentState) {
+        Channel channel = register(orderChannels, orderId);
+        Sinks.Many<OrderStatusEvent> buffer = Sinks.many().replay().limit(BUFFER_SIZE);
+        Disposable forwarding = channel.sink.asFlux().subscribe(buffer::tryEmitNext);
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                forwarding.dispose();
+                unregister(orderChannels, orderId);
+            }
+        };
+
+        OrderStatusEvent current;
+        try {
+            current = currentState.get();
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+
+        Flux<OrderStatusEvent> changes = buffer.asFlux()
+                .filter(event -> isAfter(event, current));
+        return stream(Flux.just(current).concatWith(changes)
+                .doFinally(signal -> release.run()));
+    }
+
+    /**
+     * 가게의 모든 주문 상태 변경 이벤트를 구독하는 메서드
+     *
+     * @param storeId 가게 id
+     * @return 해당 가게 주문들의 상태 변경 SSE 스트림
+     */
+    public Flux<ServerSentEvent<OrderStatusEvent>> subscribeStore(UUID storeId) {
+        return stream(subscribe(storeChannels, storeId));
+    }
+
+    // 이 replica 에 연결된 해당 주문, 가게 구독자에게 전달
+    public void publish(OrderStatusEvent event) {
+        emit(orderChannels.get(event.getOrderId()), event);
+        emit(storeChannels.get(event.getStoreId()), event);
+    }
+
+    public int subscriberCount() {
+        int count = 0;
+        for (Channel channel : orderChannels.values()) {
+            count += channel.subscribers;
+        }
+        for (Channel channel : storeChannels.values()) {
+            count += channel.subscribers;
+        }
+        return count;
+    }
+
+    private Flux<OrderStatusEvent> subscribe(Map<UUID, Channel> channels, UUID key) {
+        return Flux.defer(() -> register(channels, key).sink.asFlux()
+                .doFinally(signal -> unregister(channels, key)));
+    }
+
+    // 구독자 수 증감과 채널 생성/제거를 같은 key 의 compute 안에서 처리해 제거 중인 채널에 구독하지 않도록 함
+    private Channel register(Map<UUID, Channel> channels, UUID key) {
+        return channels.compute(key, (k, existing) -> {
+            Channel target = existing == null ? new Channel() : existing;
+            target.subscribers++;
+            return target;
+        });
+    }
+
+    private void unregister(Map<UUID, Channel> channels, UUID key) {
+        channels.computeIfPresent(key, (k, existing) -> --existing.subscribers == 0 ? null : existing);
+    }
+
+    // 현재 상태 이후에 변경된 이벤트인지 (변경 시각을 모르면 전송)
+    private static boolean isAfter(OrderStatusEvent event, OrderStatusEvent current) {
+        return event.getChangedAt() == null || current.getChangedAt() == null
+                || event.getChangedAt().isAfter(current.getChangedAt());
+    }
+
+    private Flux<ServerSentEvent<OrderStatusEvent>> stream(Flux<OrderStatusEvent> events) {
+        Flux<ServerSentEvent<OrderStatusEvent>> data = events.map(event -> ServerSentEvent.<OrderStatusEvent>builder()
+                .id(event.getOrderId() + ":" + event.getOrderStatus())
+                .event("order-status")
+                .data(event)
+                .build());
+        // 연결 유지 시간이 지나면 종료 (클라이언트 EventSource 가 자동 재연결)
+        return Flux.merge(data, heartbeat)
+                .take(streamTimeout);
+    }
+
+    private void emit(Channel channel, OrderStatusEvent event) {
+        if (channel != null) {
+            channel.sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    private static class Channel {
+
+        // 느린 구독자가 다른 구독자를 막지 않도록 best effort 전달
+        private final Sinks.Many<OrderStatusEvent> sink = Sinks.many().multicast().directBestEffort();
+
+        // compute 안에서만 변경
+        private volatile int subscribers;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sparta.delivery.domain.order.event;
+
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * 주문 상태 변경 이벤트 (SSE 로 주문자, 가게 주인에게 전달)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatusEvent {
+
+    private UUID orderId;
+
+    private UUID storeId;
+
+    private OrderStatus orderStatus;
+
+    private LocalDateTime changedAt;
+
+    /**
+     * 주문의 현재 상태로 이벤트를 만드는 메서드
+     *
+     * 변경 시각은 주문 수정 일시(updatedAt) 이므로 상태 변경을 DB 에 반영(flush) 한 뒤 호출해야 합니다.
+     * 구독 시 DB 에서 읽은 현재 상태와 비교할 수 있도록 DB 에 저장되는 정밀도(마이크로초) 로 자릅니다.
+     */
+    public static OrderStatusEvent from(Order order) {
+        LocalDateTime changedAt = order.getUpdatedAt() != null ? order.getUpdatedAt() : LocalDateTime.now();
+        return new OrderStatusEvent(order.getOrderId(), order.getStores().getStoreId(), order.getOrderStatus(),
+                changedAt.truncatedTo(ChronoUnit.MICROS));
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.sparta.delivery.domain.order.entity.OrderEventLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderEventLogRepository extends JpaRepository<OrderEventLog, Long> {
+
+    // eventId 이후의 로그를 순서대로 limit 개까지 조회 (PK 범위 조회)
+    List<OrderEventLog> findByEventIdGreaterThanOrderByEventIdAsc(Long eventId, Limit limit);
+
+    @Query("select coalesce(max(e.eventId), 0) from OrderEventLog e")
+    long findMaxEventId();
+
+    @Modifying
+    @Query("delete from OrderEventLog e where e.changedAt < :before")
+    int deleteChangedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,19 +2,23 @@ package com.sparta.delivery.domain.order.repository;
 
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface OrderRepository extends JpaRepository<Order, UUID>, QuerydslPredicateExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, QuerydslPredicateExecutor<Order>, OrderRepositoryCustom {
     Optional<Order> findByOrderIdAndDeletedAtIsNull(UUID orderId);
     Page<Order> findAllByUserAndDeletedAtIsNull(User user, Pageable pageable);
     Page<Order> findAllByStoresAndDeletedAtIsNull(Stores store, Pageable pageable);
@@ -22,5 +26,12 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, QuerydslPre
 
     Page<Order> findByUserAndDeletedAtIsNullAndStoresInAndDeliveryAddressInOrderByCreatedAtAsc(User user, List<Stores> stores, List<DeliveryAddress> deliveryAddresses, Pageable pageable);
 
+    // 주문 상태가 from 인 경우에만 to 로 변경, 변경된 row 수 반환 (동시 요청 중 하나만 성공)
+    // 이후 조회에서 변경 전 주문 엔티티가 재사용되지 않도록 영속성 컨텍스트를 비움
+    // bulk update 는 auditing 이 적용되지 않으므로 상태 변경 이벤트 시각으로 쓰는 updatedAt 을 직접 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.orderStatus = :to, o.updatedAt = local datetime where o.orderId = :orderId and o.orderStatus = :from and o.deletedAt is null")
+    int updateOrderStatus(@Param("orderId") UUID orderId, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
+
 
 }
@@ -0,0 +1,20 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderListResponseWithReviewDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderRepositoryCustom {
+
+    Page<OrderListResponseWithReviewDto> findUserOrderListWithReview(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Pageable pageable);
+
+    CursorPageResponseDto<OrderListResponseWithReviewDto> findUserOrderListWithReviewByCursor(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Cursor cursor, int size, boolean ascending);
+
+    CursorPageResponseDto<OrderListResponseDto> findStoreOrderListByCursor(UUID storeId, Cursor cursor, int size, boolean ascending);
+}
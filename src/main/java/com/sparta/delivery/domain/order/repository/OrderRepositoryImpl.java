@@ -0,0 +1,192 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
+import com.sparta.delivery.domain.delivery_address.entity.QDeliveryAddress;
+import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderListResponseWithReviewDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.entity.QOrder;
+import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
+import com.sparta.delivery.domain.review.entity.QReview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    // 정렬 가능한 컬럼 (그 외 컬럼은 정렬 조건에서 제외)
+    private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "updatedAt", "orderTime", "orderStatus", "orderType");
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QOrder order = QOrder.order;
+    private final QReview review = QReview.review;
+    private final QDeliveryAddress deliveryAddress = QDeliveryAddress.deliveryAddress;
+
+    // 주문 + 리뷰를 한 번의 쿼리로 조회하고, 연관 엔티티는 FK 값만 가져옴
+    public Page<OrderListResponseWithReviewDto> findUserOrderListWithReview(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Pageable pageable) {
+        BooleanBuilder builder = userOrderCondition(userId, storeIdList, deliveryAddressIdList);
+
+        List<Tuple> rows = selectOrderWithReview()
+                .where(builder)
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        List<OrderListResponseWithReviewDto> content = new ArrayList<>();
+        for (Tuple row : rows) {
+            content.add(toResponseDto(row));
+        }
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(order.count())
+                .from(order)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // 커서 이후의 유저 주문 + 리뷰를 size + 1 개까지 조회 (count 쿼리 없음)
+    public CursorPageResponseDto<OrderListResponseWithReviewDto> findUserOrderListWithReviewByCursor(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Cursor cursor, int size, boolean ascending) {
+        BooleanBuilder builder = userOrderCondition(userId, storeIdList, deliveryAddressIdList);
+        if (cursor != null) {
+            builder.and(cursor.after(order.createdAt, order.orderId, ascending));
+        }
+
+        List<Tuple> rows = selectOrderWithReview()
+                .where(builder)
+                .orderBy(Cursor.orderBy(order.createdAt, order.orderId, ascending))
+                .limit(size + 1)
+                .fetch();
+
+        return CursorPageResponseDto.of(rows, size, this::toResponseDto, this::toCursor);
+    }
+
+    // 커서 이후의 가게 주문을 size + 1 개까지 조회 (count 쿼리 없음)
+    public CursorPageResponseDto<OrderListResponseDto> findStoreOrderListByCursor(UUID storeId, Cursor cursor, int size, boolean ascending) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.stores.storeId.eq(storeId));
+        builder.and(order.deletedAt.isNull());
+        if (cursor != null) {
+            builder.and(cursor.after(order.createdAt, order.orderId, ascending));
+        }
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(order.orderId, order.orderTime, order.orderType, order.orderStatus, order.requirements,
+                        order.stores.storeId, order.user.userId, deliveryAddress.deliveryAddressId, order.createdAt)
+                .from(order)
+                .leftJoin(order.deliveryAddress, deliveryAddress)
+                .where(builder)
+                .orderBy(Cursor.orderBy(order.createdAt, order.orderId, ascending))
+                .limit(size + 1)
+                .fetch();
+
+        return CursorPageResponseDto.of(rows, size, row -> new OrderListResponseDto(
+                row.get(order.orderId),
+                row.get(order.orderTime),
+                row.get(order.orderType),
+                row.get(order.orderStatus),
+                row.get(order.requirements),
+                row.get(order.stores.storeId),
+                row.get(order.user.userId),
+                row.get(deliveryAddress.deliveryAddressId)
+        ), this::toCursor);
+    }
+
+    private BooleanBuilder userOrderCondition(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.user.userId.eq(userId));
+        builder.and(order.deletedAt.isNull());
+
+        if (storeIdList != null && !storeIdList.isEmpty()) {
+            builder.and(order.stores.storeId.in(storeIdList));
+        }
+        if (deliveryAddressIdList != null && !deliveryAddressIdList.isEmpty()) {
+            builder.and(order.deliveryAddress.deliveryAddressId.in(deliveryAddressIdList));
+        }
+        return builder;
+    }
+
+    private JPAQuery<Tuple> selectOrderWithReview() {
+        return jpaQueryFactory
+                .select(order.orderId, order.orderTime, order.orderType, order.orderStatus, order.requirements,
+                        order.stores.storeId, order.user.userId, deliveryAddress.deliveryAddressId, order.createdAt,
+                        review.reviewId, review.comment, review.star, review.user.userId, review.stores.storeId)
+                .from(order)
+                .leftJoin(order.deliveryAddress, deliveryAddress)
+                .leftJoin(review).on(review.order.eq(order));
+    }
+
+    private Cursor toCursor(Tuple row) {
+        return new Cursor(row.get(order.createdAt), row.get(order.orderId));
+    }
+
+    private OrderListResponseWithReviewDto toResponseDto(Tuple row) {
+        UUID orderId = row.get(order.orderId);
+
+        // 리뷰가 없는 주문은 left join 결과가 null
+        ReviewResponseDto reviewDto = null;
+        if (row.get(review.reviewId) != null) {
+            reviewDto = new ReviewResponseDto(
+                    row.get(review.reviewId),
+                    row.get(review.comment),
+                    row.get(review.star),
+                    orderId,
+                    row.get(review.user.userId),
+                    row.get(review.stores.storeId)
+            );
+        }
+
+        return new OrderListResponseWithReviewDto(
+                orderId,
+                row.get(order.orderTime),
+                row.get(order.orderType),
+                row.get(order.orderStatus),
+                row.get(order.requirements),
+                row.get(order.stores.storeId),
+                row.get(order.user.userId),
+                row.get(deliveryAddress.deliveryAddressId),
+                reviewDto
+        );
+    }
+
+    // Pageable 의 정렬 조건 중 허용된 컬럼만 querydsl 정렬 조건으로 변환
+    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+        PathBuilder<Order> entityPath = new PathBuilder<>(order.getType(), order.getMetadata());
+
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (Sort.Order sortOrder : sort) {
+            if (!SORTABLE_FIELDS.contains(sortOrder.getProperty())) {
+                continue;
+            }
+
+            com.querydsl.core.types.Order direction = sortOrder.isAscending()
+                    ? com.querydsl.core.types.Order.ASC
+                    : com.querydsl.core.types.Order.DESC;
+
+            orderSpecifiers.add(new OrderSpecifier<>(
+                    direction,
+                    Expressions.comparablePath(Comparable.class, entityPath, sortOrder.getProperty())
+            ));
+        }
+        // 동일 값 정렬 시 페이지 간 순서가 바뀌지 않도록 PK 로 마무리
+        orderSpecifiers.add(order.orderId.asc());
+        return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
+    }
+}
@@ -1,56 +1,67 @@
 package com.sparta.delivery.domain.order.service;
 
-import com.querydsl.core.BooleanBuilder;
 import com.sparta.delivery.config.global.exception.custom.OrderNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
 import com.sparta.delivery.domain.order.dto.*;
 import com.sparta.delivery.domain.order.entity.Order;
-import com.sparta.delivery.domain.order.entity.QOrder;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.event.OrderEventChannel;
+import com.sparta.delivery.domain.order.event.OrderStatusEvent;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.service.OutboxService;
 import com.sparta.delivery.domain.product.entity.Product;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
 import com.sparta.delivery.domain.product.service.ProductService;
-import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
-import com.sparta.delivery.domain.review.entity.Review;
-import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
-import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.dto.UserIdentity;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
     private final OrderRepository orderRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final DeliveryAddressRepository deliveryAddressRepository;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
-    private final ReviewRepository reviewRepository;
 
     private final ProductService productService;
+    private final OutboxService outboxService;
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderEventChannel orderEventChannel;
+
+    @Transactional
     public Order createOrder(OrderRequestDto requestDto, String username) {
         try {
-            User user = getUser(username);
+            UserIdentity user = getUser(username);
             DeliveryAddress deliveryAddress = null;
             if(requestDto.getOrderType() == OrderType.DELIVERY) {
                 deliveryAddress = getDeliveryAddress(requestDto.getDeliveryAddressId());
@@ -59,15 +70,17 @@ public class OrderService {
             List<Product> productList = getProductList(requestDto.getProductId());
             List<OrderProduct> orderProductList = new ArrayList<>();
 
-            Order order = requestDto.toOrder(store, deliveryAddress, user);
+            Order order = requestDto.toOrder(store, deliveryAddress, userLookupService.getReference(user));
             for(Product product : productList) {
-                if(product.getStore().getStoreId() != store.getStoreId()) {
+                if(!product.getStore().getStoreId().equals(store.getStoreId())) {
                     throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
                 }
-                //주문 상품 수량 -1
-                productService.updateProductQuantity(product, -1);
                 orderProductList.add(new OrderProduct(order, product));
             }
+            //주문 상품 수량 일괄 차감 - 상품 수와 관계없이 조건부 update 로 처리
+            productService.decreaseProductQuantity(productList);
+
+            //주문, 주문 상품 insert 는 hibernate jdbc batch 로 묶여서 실행
             order.setOrderProductList(orderProductList);
             return orderRepository.save(order);
         }
@@ -85,45 +98,55 @@ public class OrderService {
 
     public Page<OrderListResponseWithReviewDto> getUserOrderList(String username, PageRequest pageable, List<UUID> storeIdList, List<UUID> deliveryAddressIdList) {
         try {
-            User user = getUser(username);
+            UserIdentity user = getUser(username);
 
-            List<Stores> storeList = new ArrayList<>();
+            //조건으로 넘어온 가게, 배달지 존재 여부 검증
             for(UUID storeId : storeIdList)
-                storeList.add(getStores(storeId));
+                getStores(storeId);
 
-            List<DeliveryAddress> deliveryAddressList = new ArrayList<>();
             for(UUID deliveryAddressId : deliveryAddressIdList)
-                deliveryAddressList.add(getDeliveryAddress(deliveryAddressId));
+                getDeliveryAddress(deliveryAddressId);
 
-            QOrder qOrder = QOrder.order;
+            //주문 목록과 리뷰를 한 번에 조회 (주문마다 리뷰를 따로 조회하지 않음)
+            Page<OrderListResponseWithReviewDto> userOrderList = orderRepository.findUserOrderListWithReview(
+                    user.getUserId(), storeIdList, deliveryAddressIdList, pageable);
 
-            BooleanBuilder builder = new BooleanBuilder();
-            builder.and(qOrder.user.eq(user));
-            builder.and(qOrder.deletedAt.isNull());
+            if(userOrderList.isEmpty()) {
+                if(storeIdList.isEmpty() && deliveryAddressIdList.isEmpty())
+                    throw new OrderNotFoundException("주문 내역이 없습니다.");
 
-            if(!storeList.isEmpty() && storeList != null) {
-                builder.and(qOrder.stores.in(storeList));
-            }
-            if(!deliveryAddressList.isEmpty() && deliveryAddressList != null) {
-                builder.and(qOrder.deliveryAddress.in(deliveryAddressList));
+                throw new OrderNotFoundException("조건에 해당하는 주문이 없습니다.");
             }
 
-            Page<Order> userOrderList = orderRepository.findAll(builder, pageable);
+            return userOrderList;
+        } catch (Exception e) {
+            throw e;
+        }
+    }
 
-            if(userOrderList.isEmpty()) {
-                if(storeList.isEmpty() && deliveryAddressList.isEmpty())
+    public CursorPageResponseDto<OrderListResponseWithReviewDto> getUserOrderListByCursor(String username, String cursor, int size, boolean ascending, List<UUID> storeIdList, List<UUID> deliveryAddressIdList) {
+        try {
+            UserIdentity user = getUser(username);
+
+            //조건으로 넘어온 가게, 배달지 존재 여부 검증
+            for(UUID storeId : storeIdList)
+                getStores(storeId);
+
+            for(UUID deliveryAddressId : deliveryAddressIdList)
+                getDeliveryAddress(deliveryAddressId);
+
+            //커서 이후의 주문만 조회 (전체 개수 count 없음)
+            CursorPageResponseDto<OrderListResponseWithReviewDto> userOrderList = orderRepository.findUserOrderListWithReviewByCursor(
+                    user.getUserId(), storeIdList, deliveryAddressIdList, Cursor.decode(cursor), size, ascending);
+
+            if(userOrderList.getContent().isEmpty()) {
+                if(storeIdList.isEmpty() && deliveryAddressIdList.isEmpty())
                     throw new OrderNotFoundException("주문 내역이 없습니다.");
 
                 throw new OrderNotFoundException("조건에 해당하는 주문이 없습니다.");
             }
 
-            //가게 고유값으로 호출하면 리뷰까지 같이.
-            return userOrderList.map(order -> {
-                Review review = reviewRepository.findByOrder(order).orElse(null);
-                ReviewResponseDto reviewDto = (review != null) ? review.toResponseDto() : null;
-
-                return order.toResponseListDto(reviewDto);
-            });
+            return userOrderList;
         } catch (Exception e) {
             throw e;
         }
@@ -131,7 +154,7 @@ public class OrderService {
 
     public Page<OrderListResponseDto> getStoreOrderList(UUID storeId, Pageable pageable, String username) {
         try {
-            User owner  = getUser(username);
+            UserIdentity owner = getUser(username);
             Stores store = getStores(storeId);
 
             if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
@@ -148,25 +171,47 @@ public class OrderService {
         }
     }
 
+    public CursorPageResponseDto<OrderListResponseDto> getStoreOrderListByCursor(UUID storeId, String cursor, int size, boolean ascending, String username) {
+        try {
+            UserIdentity owner = getUser(username);
+            Stores store = getStores(storeId);
+
+            if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
+                throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
+            }
+            CursorPageResponseDto<OrderListResponseDto> storeOrderList = orderRepository.findStoreOrderListByCursor(
+                    store.getStoreId(), Cursor.decode(cursor), size, ascending);
+
+            if(storeOrderList.getContent().isEmpty()) {
+                throw new OrderNotFoundException("해당 가게에 존재하는 주문건이 없습니다.");
+            }
+            return storeOrderList;
+        } catch (Exception e) {
+            throw e;
+        }
+    }
+
     @Transactional
     public Order deleteOrder(UUID orderId, String username) {
         try {
-            User user = getUser(username);
+            UserIdentity user = getUser(username);
             Order order = getUserOrder(orderId, user);
 
             //주문 시간으로부터 5분 이내일때만 취소 가능
             LocalDateTime now = LocalDateTime.now();
             if(Duration.between(order.getOrderTime(), now).toMinutes() <= Long.valueOf(5)) {
-                //주문 취소 상품 수량 + 1
-                for(OrderProduct product : order.getOrderProductList()) {
-                    productService.updateProductQuantity(product.getProduct(), 1);
-                }
+                //주문 취소 상품 재고 복구는 outbox 이벤트로 기록하고 요청 이후에 일괄 반영
+                outboxService.append(OutboxEventType.ORDER_CANCELLED, order.getOrderId(),
+                        new OrderCancelEventDto(order.getOrderId(), getOrderedProductList(order).stream().map(Product::getProductId).toList()));
 
                 order.setOrderStatus(OrderStatus.ORDER_CANCEL);
                 order.setDeletedAt(now);
                 order.setDeletedBy(username);
 
-                return orderRepository.save(order);
+                // 이벤트 변경 시각(updatedAt) 이 갱신되도록 flush 후 이벤트 생성
+                Order canceledOrder = orderRepository.saveAndFlush(order);
+                eventPublisher.publishEvent(OrderStatusEvent.from(canceledOrder));
+                return canceledOrder;
             }
             else {
                 throw new OrderModificationNotAllowedException("주문 취소 가능 시간이 지났습니다.");
@@ -179,7 +224,7 @@ public class OrderService {
     @Transactional
     public OrderResponseDto updateOrder(OrderRequestDto requestDto, UUID orderId, String username) {
         try {
-            User user = getUser(username);
+            UserIdentity user = getUser(username);
             DeliveryAddress deliveryAddress = null;
             if(requestDto.getOrderType() == OrderType.DELIVERY) {
                 deliveryAddress = getDeliveryAddress(requestDto.getDeliveryAddressId());
@@ -196,21 +241,18 @@ public class OrderService {
                 order.setRequirements(requestDto.getRequirements());
                 order.setDeliveryAddress(deliveryAddress);
 
-                //주문 취소 상품 수량 +1
-                for(OrderProduct product : order.getOrderProductList()) {
-                    productService.updateProductQuantity(product.getProduct(), 1);
-                }
+                //기존 주문 상품 재고 일괄 복구
+                productService.increaseProductQuantity(getOrderedProductList(order));
 
-                //주문 상품 수량 -1
                 List<OrderProduct> orderProductList = new ArrayList<>();
                 for(Product product : productList) {
-                    if(product.getStore().getStoreId() != store.getStoreId()) {
+                    if(!product.getStore().getStoreId().equals(store.getStoreId())) {
                         throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
                     }
-
-                    productService.updateProductQuantity(product, -1);
                     orderProductList.add(new OrderProduct(order, product));
                 }
+                //새 주문 상품 재고 일괄 차감
+                productService.decreaseProductQuantity(productList);
                 order.updateOrderProductList(orderProductList);
             }
             else {
@@ -228,7 +270,7 @@ public class OrderService {
     @Transactional
     public OrderResponseDto updateOrderStatus(UUID orderId, String username, OrderStatusRequestDto requestDto) {
         try {
-            User owner = getUser(username);
+            UserIdentity owner = getUser(username);
             Order order = getOrder(orderId);
             Stores store = getStores(order.getStores().getStoreId());
 
@@ -237,7 +279,9 @@ public class OrderService {
             }
 
             order.setOrderStatus(requestDto.getUpdateStatus());
-            orderRepository.save(order);
+            // 이벤트 변경 시각(updatedAt) 이 갱신되도록 flush 후 이벤트 생성
+            orderRepository.saveAndFlush(order);
+            eventPublisher.publishEvent(OrderStatusEvent.from(order));
 
             return order.toResponseDto();
 
@@ -246,8 +290,48 @@ public class OrderService {
         }
     }
 
-    private Order getUserOrder(UUID orderId, User user) {
-        return orderRepository.findByOrderIdAndUserAndDeletedAtIsNull(orderId, user)
+    /**
+     * 주문 상태 변경 이벤트 구독 (SSE)
+     *
+     * 주문자 본인, 해당 가게 주인, 관리자만 구독할 수 있으며 첫 이벤트로 현재 주문 상태를 전송합니다.
+     * 권한 검사가 끝나면 트랜잭션이 종료되어 연결이 유지되는 동안 DB 커넥션을 점유하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Flux<ServerSentEvent<OrderStatusEvent>> subscribeOrderEvents(UUID orderId, String username) {
+        UserIdentity user = getUser(username);
+
+        // 현재 상태를 읽기 전에 구독을 등록해 조회 이후의 상태 변경을 놓치지 않도록 함
+        return orderEventChannel.subscribeOrder(orderId, () -> {
+            Order order = getOrder(orderId);
+
+            boolean isOrderer = order.getUser().getUserId().equals(user.getUserId());
+            boolean isStoreOwner = order.getStores().getUser().getUserId().equals(user.getUserId());
+            boolean isManager = user.getRole() == UserRoles.ROLE_MANAGER || user.getRole() == UserRoles.ROLE_MASTER;
+            if (!isOrderer && !isStoreOwner && !isManager) {
+                throw new UserOrderNotFoundException("해당 유저에 존재하지 않거나 취소된 주문입니다.");
+            }
+            return OrderStatusEvent.from(order);
+        });
+    }
+
+    /**
+     * 가게 주문 상태 변경 이벤트 구독 (SSE)
+     *
+     * 가게 주문 조회와 같은 권한 검사 후 해당 가게의 모든 주문 상태 변경을 전송합니다.
+     */
+    @Transactional(readOnly = true)
+    public Flux<ServerSentEvent<OrderStatusEvent>> subscribeStoreOrderEvents(UUID storeId, String username) {
+        UserIdentity owner = getUser(username);
+        Stores store = getStores(storeId);
+
+        if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
+            throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
+        }
+        return orderEventChannel.subscribeStore(store.getStoreId());
+    }
+
+    private Order getUserOrder(UUID orderId, UserIdentity user) {
+        return orderRepository.findByOrderIdAndUserAndDeletedAtIsNull(orderId, userLookupService.getReference(user))
                 .orElseThrow(() -> new UserOrderNotFoundException("해당 유저에 존재하지 않거나 취소된 주문입니다."));
     }
 
@@ -256,8 +340,16 @@ public class OrderService {
                 .orElseThrow(() -> new UserOrderNotFoundException("존재하지 않는 주문입니다."));
     }
 
-    private User getUser(String username) {
-        return userRepository.findByUsernameAndDeletedAtIsNull(username)
+    private List<Product> getOrderedProductList(Order order) {
+        List<Product> productList = new ArrayList<>();
+        for(OrderProduct orderProduct : order.getOrderProductList()) {
+            productList.add(orderProduct.getProduct());
+        }
+        return productList;
+    }
+
+    private UserIdentity getUser(String username) {
+        return userLookupService.findIdentity(username)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
     }
 
@@ -277,9 +369,17 @@ public class OrderService {
             throw new ProductSelectionRequiredException ("1개 이상의 상품을 선택해야합니다.");
         }
         else {
+            //상품 ID 목록을 IN 쿼리 한 번으로 조회
+            Map<UUID, Product> productMap = productRepository.findAllByProductIdInAndDeletedAtIsNullAndHiddenFalse(productIdList)
+                    .stream()
+                    .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+            //요청 순서(중복 포함)대로 상품 목록 구성
             for (UUID productId : productIdList) {
-                Product product = productRepository.findByProductIdAndDeletedAtIsNullAndHiddenFalse(productId)
-                        .orElseThrow(() -> new ProductNotFoundException("존재하지 않거나 품절된 상품입니다."));
+                Product product = productMap.get(productId);
+                if(product == null) {
+                    throw new ProductNotFoundException("존재하지 않거나 품절된 상품입니다.");
+                }
 
                 productList.add(product);
             }
@@ -0,0 +1,103 @@
+package com.sparta.delivery.domain.outbox.entity;
+
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 요청 트랜잭션에서 기록하고 OutboxDispatcher 가 나중에 처리하는 후속 작업
+ *
+ * 도메인 변경과 같은 트랜잭션에서 저장되므로, 변경이 커밋된 경우에만 후속 작업이 실행됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+// 처리 대기 이벤트 조회용 (상태, 처리 가능 시각) 인덱스
+@Table(name = "p_outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, nextAttemptAt, eventId")
+})
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long eventId;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OutboxEventType eventType;
+
+    // 이벤트가 발생한 도메인 id (주문 id, 리뷰 id)
+    @Column(nullable = false)
+    private UUID aggregateId;
+
+    // 후속 작업에 필요한 값 (JSON)
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime processedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static OutboxEvent create(OutboxEventType eventType, UUID aggregateId, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public void complete() {
+        this.status = OutboxStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 처리 실패를 기록하는 메서드
+     *
+     * @param error 실패 원인
+     * @param maxAttempts 최대 시도 횟수 (초과 시 FAILED 로 변경하고 더 이상 처리하지 않음)
+     * @param retryDelaySeconds 첫 재시도 대기 시간 (재시도마다 2배씩 증가)
+     */
+    public void fail(String error, int maxAttempts, long retryDelaySeconds) {
+        this.attempts++;
+        this.lastError = (error != null && error.length() > MAX_ERROR_LENGTH) ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(retryDelaySeconds << Math.min(attempts - 1, 10));
+    }
+}
@@ -0,0 +1,5 @@
+package com.sparta.delivery.domain.outbox.enums;
+
+public enum OutboxEventType {
+    ORDER_CANCELLED, REVIEW_WRITTEN, REVIEW_UPDATED, REVIEW_DELETED
+}
@@ -0,0 +1,5 @@
+package com.sparta.delivery.domain.outbox.enums;
+
+public enum OutboxStatus {
+    PENDING, DONE, FAILED
+}
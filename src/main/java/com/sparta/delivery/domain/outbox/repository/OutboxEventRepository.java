@@ -0,0 +1,33 @@
+package com.sparta.delivery.domain.outbox.repository;
+
+import com.sparta.delivery.domain.outbox.entity.OutboxEvent;
+import com.sparta.delivery.domain.outbox.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리할 이벤트를 오래된 순으로 잠금 (다른 replica 가 잠근 이벤트는 건너뜀 - lock timeout -2 : SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEvent> findByStatusAndNextAttemptAtLessThanEqualOrderByEventIdAsc(OutboxStatus status, LocalDateTime now, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    Optional<OutboxEvent> findByEventIdAndStatus(Long eventId, OutboxStatus status);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :status and e.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,163 @@
+package com.sparta.delivery.domain.outbox.service;
+
+import com.sparta.delivery.domain.outbox.entity.OutboxEvent;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.enums.OutboxStatus;
+import com.sparta.delivery.domain.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * outbox 이벤트를 batch 로 처리하는 dispatcher
+ *
+ * 1. 처리할 이벤트를 SKIP LOCKED 로 잠가 여러 replica 가 같은 이벤트를 중복 처리하지 않음
+ * 2. 같은 handler 의 이벤트를 한 번에 넘기고, 후속 작업과 처리 완료 표시를 같은 트랜잭션으로 커밋
+ * 3. batch 처리가 실패하면 이벤트를 하나씩 다시 처리해 실패한 이벤트만 재시도 (재시도 간격은 2배씩 증가)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final Map<OutboxEventType, OutboxEventHandler> handlers = new EnumMap<>(OutboxEventType.class);
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerPoll;
+
+    private final int maxAttempts;
+
+    private final long retryDelaySeconds;
+
+    private final long retentionHours;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxEventHandler> handlerList,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${outbox.dispatcher.batchSize:200}") int batchSize,
+                            @Value("${outbox.dispatcher.maxBatchesPerPoll:10}") int maxBatchesPerPoll,
+                            @Value("${outbox.dispatcher.maxAttempts:10}") int maxAttempts,
+                            @Value("${outbox.dispatcher.retryDelaySeconds:5}") long retryDelaySeconds,
+                            @Value("${outbox.dispatcher.retentionHours:24}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.retentionHours = retentionHours;
+
+        for (OutboxEventHandler handler : handlerList) {
+            for (OutboxEventType eventType : handler.getEventTypes()) {
+                if (handlers.putIfAbsent(eventType, handler) != null) {
+                    throw new IllegalStateException(eventType + " 이벤트 handler 가 중복 등록되었습니다.");
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatcher.pollMillis:500}")
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            if (dispatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 처리 대기 중인 이벤트를 batchSize 개까지 처리하는 메서드
+     *
+     * @return 처리를 시도한 이벤트 수
+     */
+    public int dispatch() {
+        List<Long> claimedIds = new ArrayList<>();
+        try {
+            Integer count = transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByEventIdAsc(
+                        OutboxStatus.PENDING, LocalDateTime.now(), Limit.of(batchSize));
+                events.forEach(event -> claimedIds.add(event.getEventId()));
+
+                for (Map.Entry<OutboxEventHandler, List<OutboxEvent>> entry : groupByHandler(events).entrySet()) {
+                    entry.getKey().handle(entry.getValue());
+                }
+                events.forEach(OutboxEvent::complete);
+                return events.size();
+            });
+            return count == null ? 0 : count;
+        } catch (RuntimeException e) {
+            log.warn("[Outbox] batch failed, retry one by one - events: {}, cause: {}", claimedIds.size(), e.getMessage());
+        }
+
+        for (Long eventId : claimedIds) {
+            dispatchOne(eventId);
+        }
+        return claimedIds.size();
+    }
+
+    @Scheduled(cron = "${outbox.dispatcher.cleanupCron:0 30 * * * *}")
+    public int deleteProcessedEvents() {
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(
+                OutboxStatus.DONE, LocalDateTime.now().minusHours(retentionHours)));
+        return deleted == null ? 0 : deleted;
+    }
+
+    private void dispatchOne(Long eventId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository
+                    .findByEventIdAndStatus(eventId, OutboxStatus.PENDING)
+                    .ifPresent(event -> {
+                        handlerOf(event).handle(List.of(event));
+                        event.complete();
+                    }));
+        } catch (RuntimeException e) {
+            recordFailure(eventId, e);
+        }
+    }
+
+    private void recordFailure(Long eventId, RuntimeException cause) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository
+                .findByEventIdAndStatus(eventId, OutboxStatus.PENDING)
+                .ifPresent(event -> {
+                    event.fail(cause.toString(), maxAttempts, retryDelaySeconds);
+                    if (event.getStatus() == OutboxStatus.FAILED) {
+                        log.error("[Outbox] eventId={} type={} aggregateId={} failed {} times, giving up",
+                                eventId, event.getEventType(), event.getAggregateId(), event.getAttempts(), cause);
+                    } else {
+                        log.warn("[Outbox] eventId={} type={} failed (attempt {}), retry at {} - {}",
+                                eventId, event.getEventType(), event.getAttempts(), event.getNextAttemptAt(), cause.getMessage());
+                    }
+                }));
+    }
+
+    private Map<OutboxEventHandler, List<OutboxEvent>> groupByHandler(List<OutboxEvent> events) {
+        Map<OutboxEventHandler, List<OutboxEvent>> eventsByHandler = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            eventsByHandler.computeIfAbsent(handlerOf(event), handler -> new ArrayList<>()).add(event);
+        }
+        return eventsByHandler;
+    }
+
+    private OutboxEventHandler handlerOf(OutboxEvent event) {
+        OutboxEventHandler handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            throw new IllegalStateException(event.getEventType() + " 이벤트 handler 가 없습니다.");
+        }
+        return handler;
+    }
+}
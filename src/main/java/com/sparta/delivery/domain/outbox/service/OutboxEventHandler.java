@@ -0,0 +1,20 @@
+package com.sparta.delivery.domain.outbox.service;
+
+import com.sparta.delivery.domain.outbox.entity.OutboxEvent;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * outbox 이벤트의 후속 작업을 처리하는 handler
+ *
+ * OutboxDispatcher 가 같은 handler 의 이벤트를 한 번에 넘기므로, 같은 row 에 대한 증감은 합쳐서 반영할 수 있습니다.
+ * 처리 중 예외가 발생하면 이벤트를 하나씩 다시 처리하므로, 한 번에 처리할 때와 결과가 같아야 합니다.
+ */
+public interface OutboxEventHandler {
+
+    Set<OutboxEventType> getEventTypes();
+
+    void handle(List<OutboxEvent> events);
+}
@@ -0,0 +1,49 @@
+package com.sparta.delivery.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.domain.outbox.entity.OutboxEvent;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 도메인 변경과 같은 트랜잭션에 후속 작업을 기록하는 메서드
+     *
+     * @param eventType 이벤트 종류
+     * @param aggregateId 이벤트가 발생한 도메인 id
+     * @param payload 후속 작업에 필요한 값 (JSON 으로 저장)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, UUID aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.create(eventType, aggregateId, writePayload(payload)));
+    }
+
+    public <T> T readPayload(OutboxEvent event, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(event.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트를 읽을 수 없습니다. eventId=" + event.getEventId(), e);
+        }
+    }
+
+    private String writePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트를 저장할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.sparta.delivery.domain.payment.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
@@ -9,10 +11,14 @@ import com.sparta.delivery.domain.payment.service.PaymentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -24,11 +30,19 @@ public class PaymentController {
 
     private final PaymentService paymentService;
 
-    @Operation(summary = "결제")
+    private final PageableConfig pageableConfig;
+
+    private final ObjectMapper objectMapper;
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    @Operation(summary = "결제", description = "Idempotency-Key 헤더를 함께 보내면 같은 키의 재요청은 최초 결제 결과를 반환합니다.")
     @PostMapping
-    public ResponseEntity<?> requestPayment(@RequestBody RegisterPaymentDto registerPaymentDto, @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        paymentService.isRegisterPayment(registerPaymentDto, principalDetails.getUsername());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<?> requestPayment(@RequestBody RegisterPaymentDto registerPaymentDto,
+                                            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                            @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        // 같은 Idempotency-Key 로 재시도하면 새로 결제하지 않고 최초 결제 결과를 그대로 반환
+        return ResponseEntity.ok().body(paymentService.isRegisterPayment(registerPaymentDto, principalDetails.getUsername(), idempotencyKey));
     }
 
     @Operation(summary = "결제 내역 조회")
@@ -43,6 +57,21 @@ public class PaymentController {
         return ResponseEntity.ok().body(paymentService.getPayments(principalDetails.getUsername()));
     }
 
+    @Operation(summary = "전체 결제 내역 내보내기", description = "전체 결제 내역을 한 줄에 한 건씩 JSON 으로 스트리밍합니다. (application/x-ndjson)")
+    @GetMapping(value = "/payments/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPayments(@AuthenticationPrincipal PrincipalDetails principalDetails) {
+        String username = principalDetails.getUsername();
+        StreamingResponseBody body = outputStream -> paymentService.exportPayments(username, paymentDto -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(paymentDto));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "결제 내역 검색")
     @GetMapping("/search")
     public ResponseEntity<?> searchPayments(
@@ -52,10 +81,21 @@ public class PaymentController {
             @RequestParam(required = false) OrderType orderType,
             @RequestParam(required = false) LocalDateTime paymentTime,
             @RequestParam(required = false) String cardCompany,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String orderBy,
+            @RequestParam(defaultValue = "false") boolean cursorMode,
+            @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal PrincipalDetails principalDetails
     ) {
         SearchDto searchDto = new SearchDto(minAmount, maxAmount, orderStatus, orderType, paymentTime, cardCompany);
-        return ResponseEntity.ok().body(paymentService.searchPayments(searchDto, principalDetails.getUsername()));
+        // 커서 모드 - 최신 결제순으로 size 만큼 조회
+        if (cursorMode) {
+            return ResponseEntity.ok().body(paymentService.searchPaymentsByCursor(searchDto, principalDetails.getUsername(), cursor, pageableConfig.createCursorPageSize(size)));
+        }
+        // 정렬은 createdAt, amount 만 허용 (그 외 컬럼은 repository 에서 무시)
+        return ResponseEntity.ok().body(paymentService.searchPayments(searchDto, principalDetails.getUsername(), pageableConfig.createPageRequest(page, size, sortBy, orderBy)));
     }
 
     @Operation(summary = "결제 내역 삭제")
@@ -17,7 +17,12 @@ import java.util.UUID;
 @Getter
 @Builder
 @Setter
-@Table(name = "p_payment")
+// 커서 기반 조회 및 결제 내역 검색용 인덱스는 db/payment-search-index.sql 의 부분 커버링 인덱스만 사용
+// (@Index 로 선언하면 ddl-auto 가 PostgreSQL 에도 같은 컬럼의 인덱스를 중복 생성하므로 선언하지 않음)
+@Table(name = "p_payment", uniqueConstraints = {
+        // 같은 사용자의 같은 멱등성 키로는 결제가 한 건만 생성되도록 DB 에서 보장
+        @UniqueConstraint(name = "uk_payment_user_idempotency_key", columnNames = {"user_id", "idempotencyKey"})
+})
 public class Payment extends Timestamped {
 
     @Id
@@ -40,6 +45,10 @@ public class Payment extends Timestamped {
 
     private LocalDateTime paymentTime;
 
+    // 결제 요청 재시도 시 중복 결제를 막기 위한 키 (Idempotency-Key 헤더)
+    @Column(length = 100)
+    private String idempotencyKey;
+
     public void prePersist() {
         this.paymentTime = LocalDateTime.now();
     }
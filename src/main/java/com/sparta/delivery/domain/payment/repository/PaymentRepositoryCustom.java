@@ -1,8 +1,21 @@
 package com.sparta.delivery.domain.payment.repository;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
-import com.sparta.delivery.domain.payment.entity.Payment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface PaymentRepositoryCustom {
-    List<Payment> searchPayments(SearchDto searchDto, String username);
+    Page<PaymentDto> searchPayments(SearchDto searchDto, UUID userId, Pageable pageable);
+
+    List<PaymentDto> findPaymentHistory(UUID userId);
+
+    Stream<PaymentDto> streamPaymentHistory(UUID userId, int fetchSize);
+
+    CursorPageResponseDto<PaymentDto> searchPaymentsByCursor(SearchDto searchDto, UUID userId, Cursor cursor, int size);
 }
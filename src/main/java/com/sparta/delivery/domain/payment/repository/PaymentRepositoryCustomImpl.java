@@ -1,29 +1,160 @@
 package com.sparta.delivery.domain.payment.repository;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
 import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.entity.QPayment;
 import com.sparta.delivery.domain.order.entity.QOrder;
 import com.sparta.delivery.domain.card.entity.QCard;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 @Repository
 @RequiredArgsConstructor
 public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
+
+    // 정렬 가능한 컬럼 (그 외 컬럼은 정렬 조건에서 제외)
+    private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "amount");
+
     private final JPAQueryFactory queryFactory;
 
+    private final QPayment payment = QPayment.payment;
+    private final QOrder order = QOrder.order;
+    private final QCard card = QCard.card;
+
+    // 검색 조건, 정렬, offset/limit 을 DB 에서 처리하고 PaymentDto 로 바로 조회 (Card/Order 엔티티 로딩 없음)
     @Override
-    public List<Payment> searchPayments(SearchDto searchDto, String username) {
-        QPayment payment = QPayment.payment;
-        QOrder order = QOrder.order;
-        QCard card = QCard.card;
+    public Page<PaymentDto> searchPayments(SearchDto searchDto, UUID userId, Pageable pageable) {
+        BooleanBuilder builder = searchCondition(searchDto, userId);
+
+        JPAQuery<PaymentDto> query = queryFactory
+                .select(paymentDto())
+                .from(payment)
+                .leftJoin(payment.order, order);
+        if (hasCardCondition(searchDto)) {
+            query.leftJoin(payment.card, card);
+        }
+
+        List<PaymentDto> content = query
+                .where(builder)
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // count 쿼리는 조건에 필요한 테이블만 join
+        JPAQuery<Long> countQuery = queryFactory
+                .select(payment.count())
+                .from(payment);
+        if (hasOrderCondition(searchDto)) {
+            countQuery.leftJoin(payment.order, order);
+        }
+        if (hasCardCondition(searchDto)) {
+            countQuery.leftJoin(payment.card, card);
+        }
+        countQuery.where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // 결제 + 주문을 한 번의 join 으로 조회해 PaymentDto 로 바로 매핑 (결제 건별 추가 쿼리 없음)
+    @Override
+    public List<PaymentDto> findPaymentHistory(UUID userId) {
+        return paymentHistoryQuery(userId).fetch();
+    }
+
+    // 전체 결제 내역 내보내기용 - 결과를 한 번에 메모리에 올리지 않고 fetchSize 단위로 읽음 (트랜잭션 안에서 사용)
+    @Override
+    public Stream<PaymentDto> streamPaymentHistory(UUID userId, int fetchSize) {
+        return paymentHistoryQuery(userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private JPAQuery<PaymentDto> paymentHistoryQuery(UUID userId) {
+        return queryFactory
+                .select(paymentDto())
+                .from(payment)
+                .join(payment.order, order)
+                .where(payment.user.userId.eq(userId),
+                        payment.deletedAt.isNull())
+                .orderBy(Cursor.orderBy(payment.createdAt, payment.paymentId, false));
+    }
+
+    // 커서 이후의 결제 내역을 최신순으로 size + 1 개까지 조회 (count 쿼리 없음)
+    @Override
+    public CursorPageResponseDto<PaymentDto> searchPaymentsByCursor(SearchDto searchDto, UUID userId, Cursor cursor, int size) {
+        BooleanBuilder builder = searchCondition(searchDto, userId);
+        if (cursor != null) {
+            builder.and(cursor.after(payment.createdAt, payment.paymentId, false));
+        }
 
+        JPAQuery<Tuple> query = queryFactory
+                .select(payment.paymentId, payment.amount, payment.createdAt,
+                        order.orderId, order.orderTime, order.orderType, order.orderStatus, order.requirements)
+                .from(payment)
+                .leftJoin(payment.order, order);
+        if (hasCardCondition(searchDto)) {
+            query.leftJoin(payment.card, card);
+        }
+
+        List<Tuple> rows = query
+                .where(builder)
+                .orderBy(Cursor.orderBy(payment.createdAt, payment.paymentId, false))
+                .limit(size + 1)
+                .fetch();
+
+        return CursorPageResponseDto.of(rows, size, row -> PaymentDto.builder()
+                .paymentId(row.get(payment.paymentId))
+                .amount(row.get(payment.amount))
+                .orderId(row.get(order.orderId))
+                .orderTime(row.get(order.orderTime))
+                .orderType(row.get(order.orderType))
+                .orderStatus(row.get(order.orderStatus))
+                .requirements(row.get(order.requirements))
+                .build(), row -> new Cursor(row.get(payment.createdAt), row.get(payment.paymentId)));
+    }
+
+    private ConstructorExpression<PaymentDto> paymentDto() {
+        return Projections.constructor(PaymentDto.class,
+                payment.paymentId, payment.amount,
+                order.orderId, order.orderTime, order.orderType, order.orderStatus, order.requirements);
+    }
+
+    // user_id 로 바로 조건을 걸어 p_user join 없이 (user_id, ...) 인덱스를 사용
+    private BooleanBuilder searchCondition(SearchDto searchDto, UUID userId) {
         BooleanBuilder builder = new BooleanBuilder();
 
-        builder.and(payment.user.username.eq(username));
+        builder.and(payment.user.userId.eq(userId));
+
+        // 삭제된 결제 내역 제외
+        builder.and(payment.deletedAt.isNull());
+
+        if (searchDto == null) {
+            return builder;
+        }
 
         // 최소 금액 설정
         if (searchDto.getMinAmount() != null) {
@@ -37,12 +168,12 @@ public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
 
         // 주문 상태 설정
         if (searchDto.getOrderStatus() != null) {
-            builder.and(payment.order.orderStatus.eq(searchDto.getOrderStatus()));
+            builder.and(order.orderStatus.eq(searchDto.getOrderStatus()));
         }
 
         // 주문 타입 설정
         if (searchDto.getOrderType() != null) {
-            builder.and(payment.order.orderType.eq(searchDto.getOrderType()));
+            builder.and(order.orderType.eq(searchDto.getOrderType()));
         }
 
         // 결제 시간 설정
@@ -51,15 +182,43 @@ public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
         }
 
         // 카드사 설정
-        if (searchDto.getCardCompany() != null && !searchDto.getCardCompany().isEmpty()) {
-            builder.and(payment.card.cardCompany.eq(searchDto.getCardCompany()));
+        if (hasCardCondition(searchDto)) {
+            builder.and(card.cardCompany.eq(searchDto.getCardCompany()));
         }
 
-        return queryFactory
-                .selectFrom(payment)
-                .leftJoin(payment.order, order).fetchJoin()
-                .leftJoin(payment.card, card).fetchJoin()
-                .where(builder)
-                .fetch();
+        return builder;
+    }
+
+    private boolean hasOrderCondition(SearchDto searchDto) {
+        return searchDto != null && (searchDto.getOrderStatus() != null || searchDto.getOrderType() != null);
+    }
+
+    private boolean hasCardCondition(SearchDto searchDto) {
+        return searchDto != null && searchDto.getCardCompany() != null && !searchDto.getCardCompany().isEmpty();
+    }
+
+    // Pageable 의 정렬 조건 중 허용된 컬럼만 querydsl 정렬 조건으로 변환
+    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+        PathBuilder<Payment> entityPath = new PathBuilder<>(payment.getType(), payment.getMetadata());
+
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        Order lastDirection = Order.DESC;
+        for (Sort.Order sortOrder : sort) {
+            if (!SORTABLE_FIELDS.contains(sortOrder.getProperty())) {
+                continue;
+            }
+            lastDirection = sortOrder.isAscending() ? Order.ASC : Order.DESC;
+
+            orderSpecifiers.add(new OrderSpecifier<>(
+                    lastDirection,
+                    Expressions.comparablePath(Comparable.class, entityPath, sortOrder.getProperty())
+            ));
+        }
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(payment.createdAt.desc());
+        }
+        // 동일 값 정렬 시 페이지 간 순서가 바뀌지 않도록 PK 로 마무리 (인덱스 방향과 맞춤)
+        orderSpecifiers.add(new OrderSpecifier<>(lastDirection, payment.paymentId));
+        return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
     }
 }
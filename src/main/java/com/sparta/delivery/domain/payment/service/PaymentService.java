@@ -1,10 +1,14 @@
 package com.sparta.delivery.domain.payment.service;
 
+import com.sparta.delivery.config.global.exception.custom.IdempotencyKeyReusedException;
 import com.sparta.delivery.config.global.exception.custom.PaymentAlreadyCompletedException;
 import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
 import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.event.OrderStatusEvent;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
@@ -12,15 +16,20 @@ import com.sparta.delivery.domain.payment.dto.SearchDto;
 import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.repository.PaymentRepository;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,29 +37,58 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final CardRepository cardRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final OrderRepository orderRepository;
-
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 100;
+
+    /**
+     * 결제 등록 메서드
+     *
+     * 1. 멱등성 키로 이미 처리된 요청이면 추가 작업 없이 기존 결제 결과 반환
+     * 2. 주문 상태를 PAYMENT_WAIT 인 경우에만 PAYMENT_COMPLETE 로 변경 (조건부 update, 동시 요청 중 하나만 성공)
+     * 3. 상태 변경에 실패하면 같은 키로 먼저 처리된 결제를 반환하고, 없으면 이미 결제된 주문으로 처리
+     *
+     * @param registerPaymentDto 결제 요청 정보
+     * @param username 사용자 이름
+     * @param idempotencyKey 클라이언트가 재시도 시 동일하게 보내는 키 (없으면 중복 요청 판별 없이 처리)
+     * @return 결제 결과
+     */
     @Transactional
-    public void isRegisterPayment(RegisterPaymentDto registerPaymentDto, String username) {
-        Card card = getCard(registerPaymentDto.getCardId(), username);
-        Order order = getOrder(registerPaymentDto.getOrderId());
-        User user = undeletedUser(username);
+    public PaymentDto isRegisterPayment(RegisterPaymentDto registerPaymentDto, String username, String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new IllegalArgumentException("멱등성 키는 " + IDEMPOTENCY_KEY_MAX_LENGTH + "자 이내로 입력 가능합니다.");
+        }
 
-        if(!order.getOrderStatus().equals(OrderStatus.PAYMENT_WAIT)){
-            throw new PaymentAlreadyCompletedException("이미 결제된 주문입니다.");
+        Optional<PaymentDto> processedPayment = findProcessedPayment(idempotencyKey, username, registerPaymentDto);
+        if (processedPayment.isPresent()) {
+            return processedPayment.get();
         }
-        order.setOrderStatus(OrderStatus.PAYMENT_COMPLETE);
-        try {
-            paymentRepository.save(Payment.builder()
-                    .user(user)
-                    .card(card)
-                    .order(order)
-                    .amount(registerPaymentDto.getAmount())
-                    .build());
-        } catch (Exception ignored) {
 
+        int updated = orderRepository.updateOrderStatus(registerPaymentDto.getOrderId(), OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE);
+        // 상태 변경 후 조회하므로 변경된 주문 상태가 반영됨
+        Order order = getOrder(registerPaymentDto.getOrderId());
+        if (updated == 0) {
+            // 같은 키의 요청이 먼저 커밋된 경우 (row lock 대기 후 조건 불일치) 그 결과를 반환
+            return findProcessedPayment(idempotencyKey, username, registerPaymentDto)
+                    .orElseThrow(() -> new PaymentAlreadyCompletedException("이미 결제된 주문입니다."));
         }
+
+        Card card = getCard(registerPaymentDto.getCardId(), username);
+        User user = undeletedUser(username);
+
+        Payment payment = paymentRepository.save(Payment.builder()
+                .user(user)
+                .card(card)
+                .order(order)
+                .amount(registerPaymentDto.getAmount())
+                .idempotencyKey(idempotencyKey)
+                .build());
+        eventPublisher.publishEvent(OrderStatusEvent.from(order));
+        return toPaymentDto(payment);
     }
 
     public PaymentDto getPayment(UUID paymentId,String username) {
@@ -73,28 +111,33 @@ public class PaymentService {
 
     public List<PaymentDto> getPayments(String username) {
         User user = undeletedUser(username);
-        List<PaymentDto> paymentDtos = new ArrayList<>();
+        return paymentRepository.findPaymentHistory(user.getUserId());
+    }
 
-        List<Payment> payments = paymentRepository.findByUser_UsernameAndDeletedAtIsNull(username);
-        for (Payment payment : payments) {
-            paymentDtos.add(getPayment(payment.getPaymentId(),username));
+    /**
+     * 전체 결제 내역을 한 건씩 전달하는 메서드 (내보내기용)
+     *
+     * 결과 전체를 리스트로 만들지 않고 DB 커서로 읽으므로, 스트림을 소비하는 동안 트랜잭션을 유지합니다.
+     *
+     * @param username 사용자 이름
+     * @param consumer 결제 내역을 한 건씩 처리할 함수
+     */
+    @Transactional(readOnly = true)
+    public void exportPayments(String username, Consumer<PaymentDto> consumer) {
+        User user = undeletedUser(username);
+        try (Stream<PaymentDto> payments = paymentRepository.streamPaymentHistory(user.getUserId(), EXPORT_FETCH_SIZE)) {
+            payments.forEach(consumer);
         }
+    }
 
-        return paymentDtos;
+    public Page<PaymentDto> searchPayments(SearchDto searchDto, String username, Pageable pageable) {
+        User user = undeletedUser(username);
+        return paymentRepository.searchPayments(searchDto, user.getUserId(), pageable);
     }
 
-    public List<PaymentDto> searchPayments(SearchDto searchDto, String username) {
+    public CursorPageResponseDto<PaymentDto> searchPaymentsByCursor(SearchDto searchDto, String username, String cursor, int size) {
         User user = undeletedUser(username);
-        List<Payment> payments = paymentRepository.searchPayments(searchDto, username);
-        return payments.stream().map(payment -> PaymentDto.builder()
-                .paymentId(payment.getPaymentId())
-                .amount(payment.getAmount())
-                .orderId(payment.getOrder().getOrderId())
-                .orderTime(payment.getOrder().getOrderTime())
-                .orderType(payment.getOrder().getOrderType())
-                .orderStatus(payment.getOrder().getOrderStatus())
-                .requirements(payment.getOrder().getRequirements())
-                .build()).toList();
+        return paymentRepository.searchPaymentsByCursor(searchDto, user.getUserId(), Cursor.decode(cursor), size);
     }
 
 
@@ -111,8 +154,35 @@ public class PaymentService {
         }
     }
 
+    // 같은 키로 처리된 결제 조회, 같은 키로 다른 주문을 결제하려는 경우는 재시도가 아니므로 거절
+    private Optional<PaymentDto> findProcessedPayment(String idempotencyKey, String username, RegisterPaymentDto registerPaymentDto) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        return paymentRepository.findByIdempotencyKeyAndUser_Username(idempotencyKey, username)
+                .map(payment -> {
+                    if (!payment.getOrder().getOrderId().equals(registerPaymentDto.getOrderId())) {
+                        throw new IdempotencyKeyReusedException("이미 다른 결제 요청에 사용된 멱등성 키입니다.");
+                    }
+                    return toPaymentDto(payment);
+                });
+    }
+
+    private PaymentDto toPaymentDto(Payment payment) {
+        Order order = payment.getOrder();
+        return PaymentDto.builder()
+                .paymentId(payment.getPaymentId())
+                .amount(payment.getAmount())
+                .orderId(order.getOrderId())
+                .orderTime(order.getOrderTime())
+                .orderType(order.getOrderType())
+                .orderStatus(order.getOrderStatus())
+                .requirements(order.getRequirements())
+                .build();
+    }
+
     private User undeletedUser(String username){
-        return userRepository.findByUsernameAndDeletedAtIsNull(username).orElseThrow(() ->
+        return userLookupService.findUser(username).orElseThrow(() ->
                 new NullPointerException("유저가 존재하지 않습니다."));
     }
 
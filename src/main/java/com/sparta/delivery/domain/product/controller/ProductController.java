@@ -69,7 +69,7 @@ public class ProductController {
 
     @ProductSwaggerDocs.SearchProduct
     @GetMapping("search/{productName}")
-    public ResponseEntity<Page<ProductResponseDto>> searchProduct(@PathVariable String productName, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "createdAt") String sortBy, @RequestParam(defaultValue = "desc") String order, @AuthenticationPrincipal PrincipalDetails userDetails) {
+    public ResponseEntity<Page<ProductResponseDto>> searchProduct(@PathVariable String productName, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "relevance") String sortBy, @RequestParam(defaultValue = "desc") String order, @AuthenticationPrincipal PrincipalDetails userDetails) {
         Page<ProductResponseDto> searchProducts = productService.searchProducts(productName, page, size, sortBy, order, userDetails);
         return ResponseEntity.ok(searchProducts);
     }
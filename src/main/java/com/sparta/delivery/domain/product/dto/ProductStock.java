@@ -0,0 +1,9 @@
+package com.sparta.delivery.domain.product.dto;
+
+import java.util.UUID;
+
+/**
+ * 상품 재고 (주문마다 바뀌므로 가게 카탈로그 캐시에 두지 않고 응답할 페이지의 상품만 조회)
+ */
+public record ProductStock(UUID productId, int quantity) {
+}
@@ -15,7 +15,10 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_product")
+// 검색, 자동완성 색인 갱신용 (변경된 상품 조회) 인덱스
+@Table(name = "p_product", indexes = {
+        @Index(name = "idx_product_updated_at", columnList = "updatedAt")
+})
 public class Product extends Timestamped {
 
     @Id
@@ -1,10 +1,19 @@
 package com.sparta.delivery.domain.product.repository;
 
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource;
+import com.sparta.delivery.domain.product.dto.ProductStock;
 import com.sparta.delivery.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +23,9 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 
     Optional<Product> findByProductIdAndDeletedAtIsNullAndHiddenFalse(UUID productId);
 
+    // 주문 상품 일괄 조회 (IN 쿼리 1회)
+    List<Product> findAllByProductIdInAndDeletedAtIsNullAndHiddenFalse(Collection<UUID> productIds);
+
     Optional<Product> findByProductIdAndDeletedAtIsNull(UUID productId);
 
     Page<Product> findAllByNameContaining(String productName, Pageable pageable);
@@ -24,7 +36,38 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 
     Page<Product> findByDeletedAtIsNullAndHiddenFalse(Pageable pageable);
 
+    // 검색 색인 생성용 전체 상품 조회 (count 쿼리 없이 batch 단위로 조회)
+    Slice<Product> findAllBy(Pageable pageable);
+
+    // 검색 색인 갱신용 변경된 상품 조회
+    List<Product> findAllByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    // 자동완성 색인 생성용 상품 이름 조회
+    @Query("select new com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource(p.productId, p.name, p.deletedAt, p.hidden) from Product p")
+    Slice<AutocompleteSource> findAutocompleteSources(Pageable pageable);
+
+    // 자동완성 색인 갱신용 변경된 상품 이름 조회
+    @Query("select new com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource(p.productId, p.name, p.deletedAt, p.hidden) from Product p where p.updatedAt >= :since")
+    List<AutocompleteSource> findAutocompleteSourcesUpdatedSince(@Param("since") LocalDateTime since);
+
     Page<Product> findAllByStore_StoreId(UUID storeId, Pageable pageable);
 
     Page<Product> findAllByStore_StoreIdAndDeletedAtIsNullAndHiddenFalse(UUID storeId, Pageable pageable);
+
+    // 카탈로그 캐시 적재용 가게별 노출 상품 일괄 조회
+    List<Product> findAllByStore_StoreIdInAndDeletedAtIsNullAndHiddenFalse(Collection<UUID> storeIds);
+
+    // 카탈로그 캐시로 응답하는 페이지의 상품 재고 조회 (재고는 캐시하지 않음)
+    @Query("select new com.sparta.delivery.domain.product.dto.ProductStock(p.productId, p.quantity) from Product p where p.productId in :productIds")
+    List<ProductStock> findStocksByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    // 재고가 count 이상 남아있는 상품만 count 만큼 차감, 차감된 row 수 반환
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity - :count where p.productId in :productIds and p.quantity >= :count")
+    int decreaseQuantity(@Param("productIds") Collection<UUID> productIds, @Param("count") int count);
+
+    // 주문 취소/변경 시 재고 복구, 복구된 row 수 반환
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity + :count where p.productId in :productIds")
+    int increaseQuantity(@Param("productIds") Collection<UUID> productIds, @Param("count") int count);
 }
@@ -0,0 +1,236 @@
+package com.sparta.delivery.domain.product.service;
+
+import com.sparta.delivery.domain.product.entity.Product;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 이름, 설명에 대한 메모리 역색인 (n-gram)
+ *
+ * 1. 문자/숫자가 아닌 문자로 단어를 나누고, 단어마다 글자 1개(unigram), 2개(bigram) 를 색인 (한글은 형태소 분석 없이 음절 단위로 부분 일치)
+ * 2. 검색어 단어의 bigram(한 글자 단어는 unigram) 이 모두 포함된 상품을 문서 수가 가장 적은 term 부터 교집합으로 찾고,
+ *    검색어 단어가 이름 또는 설명에 그대로 포함된 상품만 남김 (기존 LIKE '%검색어%' 와 같은 결과)
+ * 3. 드문 term 일수록, 이름에서 찾았을수록, 이름에서 검색어가 차지하는 비율이 클수록 점수가 높음
+ *
+ * 쓰기는 synchronized 로 직렬화하고 읽기는 잠금 없이 수행하므로, 수정 중인 상품은 잠시 검색되지 않을 수 있습니다.
+ */
+public class ProductSearchIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final double NAME_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double PREFIX_BONUS = 1.0;
+
+    private final Map<UUID, Document> documents = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 상품을 색인하는 메서드 (이미 색인된 상품이면 이전 term 을 지우고 다시 색인)
+     */
+    public synchronized void put(Document document) {
+        removeTerms(documents.put(document.productId(), document));
+        for (String term : indexTerms(document)) {
+            postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(document.productId());
+        }
+    }
+
+    public synchronized void remove(UUID productId) {
+        removeTerms(documents.remove(productId));
+    }
+
+    public synchronized void clear() {
+        documents.clear();
+        postings.clear();
+    }
+
+    /**
+     * 검색어의 모든 단어가 이름 또는 설명에 포함된 상품을 찾는 메서드
+     *
+     * @param query 검색어
+     * @param filter 조회 권한에 따른 노출 조건
+     * @return 점수가 매겨진 상품 (정렬되지 않음), 검색어에 단어가 없으면 빈 목록
+     */
+    public List<Hit> search(String query, Predicate<Document> filter) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        List<Set<UUID>> postingLists = queryTerms(words).stream()
+                .map(term -> postings.getOrDefault(term, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        List<Hit> hits = new ArrayList<>();
+        for (UUID productId : postingLists.get(0)) {
+            if (!containsAll(postingLists, productId)) {
+                continue;
+            }
+            Document document = documents.get(productId);
+            if (document == null || !filter.test(document) || !matchesAll(document, words)) {
+                continue;
+            }
+            hits.add(new Hit(document, score(document, words)));
+        }
+        return hits;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // 소문자, NFKC 정규화 후 문자/숫자 단어로 분리 (전각 문자, 분리된 자모 입력도 같은 단어로 처리)
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = normalize(text);
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(normalized)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> indexTerms(Document document) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(document.name())) {
+            addGrams(word, terms, true);
+        }
+        for (String word : words(document.description())) {
+            addGrams(word, terms, true);
+        }
+        return terms;
+    }
+
+    // 한 글자 단어만 unigram 으로, 나머지는 bigram 으로 조회 (unigram 은 문서 수가 많아 교집합 후보를 줄이지 못함)
+    private static Set<String> queryTerms(List<String> words) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words) {
+            addGrams(word, terms, word.codePointCount(0, word.length()) == 1);
+        }
+        return terms;
+    }
+
+    private static void addGrams(String word, Set<String> terms, boolean unigrams) {
+        int[] codePoints = word.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            if (unigrams) {
+                terms.add(new String(codePoints, i, 1));
+            }
+            if (i + 1 < codePoints.length) {
+                terms.add(new String(codePoints, i, 2));
+            }
+        }
+    }
+
+    private static boolean containsAll(List<Set<UUID>> postingLists, UUID productId) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(productId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // n-gram 이 모두 있어도 서로 떨어져 있을 수 있으므로 단어가 그대로 포함되어 있는지 확인
+    private static boolean matchesAll(Document document, List<String> words) {
+        for (String word : words) {
+            if (!document.searchName().contains(word) && !document.searchDescription().contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double score(Document document, List<String> words) {
+        double score = 0;
+        for (String word : words) {
+            double idf = idf(word);
+            if (document.searchName().contains(word)) {
+                double coverage = (double) word.length() / Math.max(document.searchName().length(), 1);
+                score += NAME_WEIGHT * idf * (1 + coverage);
+            } else {
+                score += DESCRIPTION_WEIGHT * idf;
+            }
+        }
+        if (document.searchName().startsWith(words.get(0))) {
+            score += PREFIX_BONUS;
+        }
+        return score;
+    }
+
+    private double idf(String word) {
+        double idf = 0;
+        for (String term : queryTerms(List.of(word))) {
+            int documentFrequency = postings.getOrDefault(term, Set.of()).size();
+            idf += Math.log(1 + (double) documents.size() / (1 + documentFrequency));
+        }
+        return idf;
+    }
+
+    private void removeTerms(Document document) {
+        if (document == null) {
+            return;
+        }
+        for (String term : indexTerms(document)) {
+            Set<UUID> productIds = postings.get(term);
+            if (productIds != null) {
+                productIds.remove(document.productId());
+                if (productIds.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인된 상품 (검색, 정렬, 노출 조건에 필요한 필드만 보관)
+     */
+    public record Document(UUID productId,
+                           String name,
+                           String description,
+                           int price,
+                           boolean hidden,
+                           boolean deleted,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt,
+                           String searchName,
+                           String searchDescription) {
+
+        public static Document from(Product product) {
+            return of(product.getProductId(), product.getName(), product.getDescription(), product.getPrice(),
+                    product.isHidden(), product.getDeletedAt() != null, product.getCreatedAt(), product.getUpdatedAt());
+        }
+
+        public static Document of(UUID productId, String name, String description, int price, boolean hidden, boolean deleted,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+            return new Document(productId, name, description, price, hidden, deleted, createdAt, updatedAt,
+                    name == null ? "" : normalize(name),
+                    description == null ? "" : normalize(description));
+        }
+    }
+
+    public record Hit(Document document, double score) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.sparta.delivery.domain.product.service;
+
+import com.sparta.delivery.domain.common.index.IndexRefresher;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductSearchIndex.Document;
+import com.sparta.delivery.domain.product.service.ProductSearchIndex.Hit;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 (메모리 역색인, LIKE '%검색어%' 전체 스캔 대체)
+ *
+ * 1. 기동 시 전체 상품을 batchSize 씩 읽어 색인하고, 색인이 끝나기 전의 검색은 DB 에서 처리
+ * 2. 이 replica 에서 등록/수정/삭제한 상품은 커밋 직후 다시 색인
+ * 3. 모든 replica 는 updatedAt 이 바뀐 상품을 주기적으로 읽어 다시 색인 (다른 replica 의 변경은 최대 pollMillis 이후 반영)
+ * 4. 색인에서 찾은 페이지의 상품만 PK IN 조회로 읽어 응답 (재고 등 색인하지 않는 필드는 항상 DB 값)
+ * 5. 변경을 놓친 상품이 남지 않도록 rebuildCron 마다 새 색인을 만들어 교체 (만드는 동안에는 이전 색인으로 검색)
+ *
+ * 삭제는 soft delete 이므로 삭제된 상품도 색인에 남겨두고 조회 권한에 따라 걸러냅니다.
+ * 색인이 아직 반영되지 않은 삭제/숨김 상품이 노출되지 않도록 DB 에서 읽은 상품도 조회 권한으로 한 번 더 걸러냅니다.
+ */
+@Service
+public class ProductSearchService {
+
+    public static final String RELEVANCE = "relevance";
+
+    // 색인에서 정렬할 수 있는 필드 (그 외 필드는 DB 에서 정렬)
+    private static final Map<String, Comparator<Document>> INDEX_SORTS = Map.of(
+            "createdAt", Comparator.comparing(Document::createdAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "updatedAt", Comparator.comparing(Document::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "name", Comparator.comparing(Document::name),
+            "price", Comparator.comparingInt(Document::price));
+
+    private final ProductRepository productRepository;
+
+    private volatile ProductSearchIndex index = new ProductSearchIndex();
+
+    private final IndexRefresher refresher;
+
+    private final Counter indexSearchCounter;
+    private final Counter databaseSearchCounter;
+
+    public ProductSearchService(ProductRepository productRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${product.search.enabled:true}") boolean enabled,
+                                @Value("${product.search.batchSize:1000}") int batchSize,
+                                @Value("${product.search.lookbackSeconds:10}") long lookbackSeconds) {
+        this.productRepository = productRepository;
+        this.refresher = new IndexRefresher("ProductSearch", enabled, batchSize, Duration.ofSeconds(lookbackSeconds));
+
+        this.indexSearchCounter = Counter.builder("product.search.requests")
+                .tag("source", "index")
+                .description("색인에서 처리한 상품 검색 수")
+                .register(meterRegistry);
+        this.databaseSearchCounter = Counter.builder("product.search.requests")
+                .tag("source", "database")
+                .description("색인 준비 전이거나 색인에서 정렬할 수 없어 DB 에서 처리한 상품 검색 수")
+                .register(meterRegistry);
+        Gauge.builder("product.search.index.size", this, ProductSearchService::size)
+                .description("색인된 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 색인으로 처리할 수 있는 검색인지 확인하는 메서드 (false 이면 DB 에서 검색)
+     */
+    public boolean canSearch(String sortBy) {
+        boolean searchable = refresher.isReady() && (RELEVANCE.equals(sortBy) || INDEX_SORTS.containsKey(sortBy));
+        (searchable ? indexSearchCounter : databaseSearchCounter).increment();
+        return searchable;
+    }
+
+    /**
+     * 검색어의 모든 단어가 이름 또는 설명에 포함된 상품을 조회하는 메서드
+     *
+     * @param query 검색어
+     * @param role 조회 권한 (마스터, 매니저 : 전체 / 가게 주인 : 삭제되지 않은 상품 / 고객 : 삭제, 숨김 처리되지 않은 상품)
+     * @param sortBy relevance 또는 색인에서 정렬할 수 있는 필드
+     * @param direction 정렬 방향 (relevance 는 항상 점수가 높은 순)
+     * @param pageable 페이지 번호, 크기
+     * @return 정렬된 상품 페이지
+     */
+    public Page<Product> search(String query, UserRoles role, String sortBy, Sort.Direction direction, Pageable pageable) {
+        Comparator<Hit> comparator = RELEVANCE.equals(sortBy)
+                ? Comparator.comparingDouble(Hit::score).reversed()
+                : Comparator.comparing(Hit::document, direction == Sort.Direction.ASC ? INDEX_SORTS.get(sortBy) : INDEX_SORTS.get(sortBy).reversed());
+
+        List<Hit> hits = index.search(query, visibleTo(role)).stream()
+                .sorted(comparator.thenComparing(hit -> hit.document().productId()))
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<UUID> productIds = hits.subList(from, to).stream().map(hit -> hit.document().productId()).toList();
+
+        Map<UUID, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        List<Product> content = productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull) // 색인 이후 DB 에서 지워진 상품 제외
+                .filter(product -> isVisible(role, product.getDeletedAt() != null, product.isHidden())) // 색인에 아직 반영되지 않은 삭제/숨김 상품 제외
+                .toList();
+
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * 등록/수정/삭제한 상품을 커밋 직후 다시 색인하는 메서드 (변경하는 트랜잭션 안에서 호출)
+     *
+     * @param product 변경된 상품
+     */
+    public void index(Product product) {
+        refresher.afterCommit(() -> index.put(Document.from(product)));
+    }
+
+    /**
+     * 전체 상품을 batchSize 씩 읽어 새 색인을 만들고 교체 (기동 시, rebuildCron 마다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${product.search.rebuildCron:0 30 4 * * *}")
+    public void rebuild() {
+        // 색인하는 동안 바뀐 상품은 교체 후 다음 pollChanges 에서 다시 색인
+        refresher.rebuild(() -> {
+            ProductSearchIndex rebuilt = new ProductSearchIndex();
+            refresher.load(productRepository::findAllBy, "productId",
+                    products -> products.forEach(product -> rebuilt.put(Document.from(product))));
+            index = rebuilt;
+        }, () -> "products: " + index.size());
+    }
+
+    /**
+     * 마지막 조회 이후 updatedAt 이 바뀐 상품을 다시 색인 (다른 replica 의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${product.search.pollMillis:1000}")
+    public void pollChanges() {
+        refresher.poll(since -> productRepository.findAllByUpdatedAtGreaterThanEqual(since)
+                .forEach(product -> index.put(Document.from(product))));
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private static Predicate<Document> visibleTo(UserRoles role) {
+        return document -> isVisible(role, document.deleted(), document.hidden());
+    }
+
+    private static boolean isVisible(UserRoles role, boolean deleted, boolean hidden) {
+        if (role == UserRoles.ROLE_MASTER || role == UserRoles.ROLE_MANAGER) {
+            return true;
+        }
+        if (role == UserRoles.ROLE_OWNER) {
+            return !deleted;
+        }
+        return !deleted && !hidden;
+    }
+}
@@ -2,23 +2,33 @@ package com.sparta.delivery.domain.product.service;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteService;
 import com.sparta.delivery.domain.product.dto.ProductRequestDto;
 import com.sparta.delivery.domain.product.dto.ProductResponseDto;
+import com.sparta.delivery.domain.product.dto.ProductStock;
 import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
 import com.sparta.delivery.domain.product.entity.Product;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot.ProductEntry;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreCatalogService;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +36,19 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
+    private final StoreCatalogService storeCatalogService;
+    private final ProductSearchService productSearchService;
+    private final AutocompleteService autocompleteService;
     private static final List<Integer> ALLOWED_PAGE_SIZES = List.of(10, 30, 50);
     private static final int DEFAULT_PAGE_SIZE = 10;
 
+    // 가게 카탈로그 캐시의 상품 목록을 정렬할 수 있는 필드 (그 외 필드는 DB 에서 정렬)
+    private static final Map<String, Comparator<ProductEntry>> CATALOG_PRODUCT_SORTS = Map.of(
+            "createdAt", Comparator.comparing(ProductEntry::createdAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "updatedAt", Comparator.comparing(ProductEntry::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "name", Comparator.comparing(ProductEntry::name),
+            "price", Comparator.comparingInt(ProductEntry::price));
+
     public ProductResponseDto addProductToStore(UUID storeId, ProductRequestDto productRequestDto, String username) {
         if (productRepository.existsByNameAndStore_StoreIdAndDeletedAtIsNull(productRequestDto.getName(), storeId)) {
             throw new DuplicateProductException("이미 동일한 이름의 상품이 존재합니다.");
@@ -39,6 +59,9 @@ public class ProductService {
 
         try {
             Product savedProduct = productRepository.save(product);
+            storeCatalogService.invalidate(storeId);
+            productSearchService.index(savedProduct);
+            autocompleteService.index(savedProduct);
             return ProductResponseDto.from(savedProduct);
         } catch (Exception e) {
             throw new RuntimeException("상품 등록 중 알 수 없는 오류가 발생했습니다.", e);
@@ -77,10 +100,6 @@ public class ProductService {
     }
 
     public Page<ProductResponseDto> getStoreProducts(UUID storeId, int page, int size, String sortBy, String order, PrincipalDetails userDetails) {
-        if (!storeRepository.existsByStoreIdAndDeletedAtIsNull(storeId)) {
-            throw new StoreNotFoundException("해당 스토어를 찾을 수 없습니다.");
-        }
-
         if (!ALLOWED_PAGE_SIZES.contains(size)) {   // 허용된 페이지 사이즈가 아닌 경우, 기본 페이지 사이즈로 설정
             size = DEFAULT_PAGE_SIZE;
         }
@@ -89,8 +108,20 @@ public class ProductService {
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
+        // 마스터, 매니저가 아니면 가게 카탈로그 캐시의 노출 상품을 정렬, 페이징 (카탈로그가 있으면 가게가 존재함)
+        boolean isAdmin = userDetails.getRole().equals(UserRoles.ROLE_MASTER) || userDetails.getRole().equals(UserRoles.ROLE_MANAGER);
+        Comparator<ProductEntry> comparator = CATALOG_PRODUCT_SORTS.get(sortBy);
+        if (!isAdmin && comparator != null) {
+            StoreSnapshot store = storeCatalogService.findStore(storeId)
+                    .orElseThrow(() -> new StoreNotFoundException("해당 스토어를 찾을 수 없습니다."));
+            return toProductPage(store.products(), direction == Sort.Direction.ASC ? comparator : comparator.reversed(), pageable);
+        }
 
-        if (userDetails.getRole().equals(UserRoles.ROLE_MASTER) || userDetails.getRole().equals(UserRoles.ROLE_MANAGER)) {
+        if (!storeRepository.existsByStoreIdAndDeletedAtIsNull(storeId)) {
+            throw new StoreNotFoundException("해당 스토어를 찾을 수 없습니다.");
+        }
+
+        if (isAdmin) {
             return productRepository.findAllByStore_StoreId(storeId, pageable).map(ProductResponseDto::from);
         }
 
@@ -108,6 +139,9 @@ public class ProductService {
         }
 
         product.update(productUpdateRequestDto);
+        storeCatalogService.invalidate(product.getStore().getStoreId());
+        productSearchService.index(product);
+        autocompleteService.index(product);
 
         return ProductResponseDto.from(product);
     }
@@ -127,6 +161,9 @@ public class ProductService {
         }
 
         product.softDelete(userDetails.getUsername());
+        storeCatalogService.invalidate(product.getStore().getStoreId());
+        productSearchService.index(product);
+        autocompleteService.index(product);
 
         return ProductResponseDto.from(product);
     }
@@ -147,7 +184,16 @@ public class ProductService {
         }
 
         Sort.Direction direction = order.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
+
+        // 이름, 설명 검색 색인에서 찾아 관련도 또는 요청한 필드로 정렬
+        if (productSearchService.canSearch(sortBy)) {
+            return productSearchService.search(productName, userDetails.getRole(), sortBy, direction, PageRequest.of(page, size))
+                    .map(ProductResponseDto::from);
+        }
+
+        // 색인이 준비되기 전에는 DB 에서 이름으로 검색 (관련도 정렬은 최신순으로 대체)
+        String sortField = ProductSearchService.RELEVANCE.equals(sortBy) ? "createdAt" : sortBy;
+        Sort sort = Sort.by(direction, sortField);
         Pageable pageable = PageRequest.of(page, size, sort);
 
         if (userDetails.getRole().equals(UserRoles.ROLE_MASTER) || userDetails.getRole().equals(UserRoles.ROLE_MANAGER)) {
@@ -161,12 +207,87 @@ public class ProductService {
         return productRepository.findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(productName, pageable).map(ProductResponseDto::from);
     }
 
-    public void updateProductQuantity(Product product, int count) {
-        if(product.getQuantity() == 0 && count == -1)
-            throw new ProductQuantityNotAllowedException("주문하신 상품이 품절되었습니다.");
-        else {
-            product.setQuantity(product.getQuantity() + count);
-            productRepository.save(product);
+    /**
+     * 주문 상품들의 재고를 일괄 차감(예약)하는 메서드
+     *
+     * 상품별 주문 개수를 집계한 뒤 같은 개수끼리 묶어 조건부 update 한 번으로 차감합니다.
+     * 재고 확인과 차감이 하나의 update 문에서 이루어지므로 동시 주문에서도 재고가 음수가 되지 않습니다.
+     * 장바구니 상품이 모두 1개씩이면 상품 수와 관계없이 update 문은 1회만 실행됩니다.
+     * 재고는 가게 카탈로그 캐시에 두지 않으므로 캐시를 무효화하지 않습니다.
+     *
+     * @param productList 주문 상품 목록 (같은 상품이 여러 번 담길 수 있음)
+     * @throws ProductQuantityNotAllowedException 재고가 부족한 상품이 하나라도 있는 경우
+     */
+    @Transactional
+    public void decreaseProductQuantity(List<Product> productList) {
+        for (Map.Entry<Long, List<UUID>> entry : groupProductIdsByCount(toProductIds(productList)).entrySet()) {
+            int updated = productRepository.decreaseQuantity(entry.getValue(), entry.getKey().intValue());
+            if (updated != entry.getValue().size()) {
+                throw new ProductQuantityNotAllowedException("주문하신 상품이 품절되었습니다.");
+            }
+        }
+    }
+
+    /**
+     * 주문 상품들의 재고를 일괄 복구(예약 해제)하는 메서드
+     *
+     * 주문 변경 시 기존 주문 상품의 재고를 되돌립니다. (주문 취소는 outbox 이벤트로 복구)
+     *
+     * @param productList 재고를 복구할 주문 상품 목록 (같은 상품이 여러 번 담길 수 있음)
+     */
+    @Transactional
+    public void increaseProductQuantity(List<Product> productList) {
+        increaseQuantity(toProductIds(productList));
+    }
+
+    /**
+     * 상품 ID 목록으로 재고를 일괄 복구하는 메서드
+     *
+     * 주문 취소 outbox 이벤트를 처리할 때 여러 주문의 상품을 합쳐서 복구합니다.
+     *
+     * @param productIds 재고를 복구할 상품 ID 목록 (같은 상품이 여러 번 담길 수 있음)
+     */
+    @Transactional
+    public void increaseProductQuantityById(List<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        increaseQuantity(productIds);
+    }
+
+    private void increaseQuantity(List<UUID> productIds) {
+        for (Map.Entry<Long, List<UUID>> entry : groupProductIdsByCount(productIds).entrySet()) {
+            productRepository.increaseQuantity(entry.getValue(), entry.getKey().intValue());
         }
     }
+
+    // 카탈로그 캐시의 상품 목록을 정렬한 뒤 요청한 페이지만 응답 DTO 로 변환 (재고는 페이지 상품만 PK IN 조회)
+    private Page<ProductResponseDto> toProductPage(List<ProductEntry> products, Comparator<ProductEntry> comparator, Pageable pageable) {
+        List<ProductEntry> sorted = products.stream().sorted(comparator).toList();
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        List<ProductEntry> content = sorted.subList(from, to);
+
+        Map<UUID, Integer> quantities = content.isEmpty() ? Map.of() : productRepository
+                .findStocksByProductIdIn(content.stream().map(ProductEntry::productId).toList()).stream()
+                .collect(Collectors.toMap(ProductStock::productId, ProductStock::quantity));
+
+        return new PageImpl<>(content.stream()
+                .map(product -> product.toResponseDto(quantities.getOrDefault(product.productId(), 0)))
+                .toList(), pageable, sorted.size());
+    }
+
+    // 상품별 개수를 집계한 뒤 개수가 같은 상품 ID끼리 묶음
+    private Map<Long, List<UUID>> groupProductIdsByCount(List<UUID> productIds) {
+        Map<UUID, Long> countByProductId = productIds.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        return countByProductId.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+    }
+
+    private List<UUID> toProductIds(List<Product> productList) {
+        return productList.stream().map(Product::getProductId).toList();
+    }
 }
@@ -0,0 +1,40 @@
+package com.sparta.delivery.domain.product.service;
+
+import com.sparta.delivery.domain.order.dto.OrderCancelEventDto;
+import com.sparta.delivery.domain.outbox.entity.OutboxEvent;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.service.OutboxEventHandler;
+import com.sparta.delivery.domain.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 취소 이벤트의 상품 재고를 복구하는 outbox handler
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductStockEventHandler implements OutboxEventHandler {
+
+    private final ProductService productService;
+    private final OutboxService outboxService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.ORDER_CANCELLED);
+    }
+
+    // 여러 주문의 상품을 합쳐 상품별 개수가 같은 것끼리 한 번에 복구
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        List<UUID> productIds = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            productIds.addAll(outboxService.readPayload(event, OrderCancelEventDto.class).getProductIds());
+        }
+        productService.increaseProductQuantityById(productIds);
+    }
+}
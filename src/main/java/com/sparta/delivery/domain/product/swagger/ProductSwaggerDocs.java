@@ -96,8 +96,11 @@ public @interface ProductSwaggerDocs {
 
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "상품 검색", description = "키워드를 통해 상품을 검색합니다.")
-    @Parameter(name = "productName", description = "검색할 상품명")
+    @Operation(summary = "상품 검색", description = "키워드를 통해 상품 이름과 설명을 검색합니다. 검색어의 모든 단어가 포함된 상품을 관련도 순으로 반환합니다.")
+    @Parameters({
+            @Parameter(name = "productName", description = "검색할 키워드 (공백으로 구분한 단어가 모두 이름 또는 설명에 포함된 상품)"),
+            @Parameter(name = "sortBy", description = "정렬 기준 : relevance(기본, 관련도 순), createdAt, updatedAt, name, price", example = "relevance")
+    })
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검색 성공"),
             @ApiResponse(responseCode = "404", description = "상품이 존재하지 않음"),
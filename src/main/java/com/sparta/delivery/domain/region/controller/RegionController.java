@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -60,7 +61,7 @@ public class RegionController {
     }
 
     @GetMapping("/search")//운영 지역 검색
-    public ResponseEntity<List<RegionResDto>> regionSearch
+    public ResponseEntity<Page<RegionResDto>> regionSearch
             (@RequestParam String keyword, @RequestParam(defaultValue = "createdAt") String sortBy,
              @RequestParam(defaultValue = "desc") String order, @PageableDefault(page = 0, size = 10) Pageable pageable) {
 
@@ -13,7 +13,11 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "p_region")
+// locality 일치 검색용 인덱스 (contains 검색용 trigram 인덱스는 db/region-locality-index.sql), 자동완성 색인 갱신용 인덱스
+@Table(name = "p_region", indexes = {
+        @Index(name = "idx_region_locality", columnList = "locality"),
+        @Index(name = "idx_region_updated_at", columnList = "updatedAt")
+})
 public class Region extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
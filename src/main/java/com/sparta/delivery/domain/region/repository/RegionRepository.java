@@ -1,11 +1,16 @@
 package com.sparta.delivery.domain.region.repository;
 
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource;
 import com.sparta.delivery.domain.region.entity.Region;
 import com.sparta.delivery.domain.store.entity.Stores;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,13 +21,19 @@ public interface RegionRepository extends JpaRepository<Region, UUID>, RegionRep
 
     boolean existsByLocalityAndStores_StoreIdAndDeletedAtIsNull(String locality, UUID storeId);
 
-    List<Region> findByLocalityContainingAndDeletedAtIsNull(String locality);
-
     Optional<Region> findByRegionIdAndDeletedAtIsNull(UUID id);// 가게 단건검색
 
     Page<Region> findAllByDeletedAtIsNull(Pageable pageable);
 
     Page<Region> findAllByStores_StoreIdAndDeletedAtIsNull(UUID storeId, Pageable pageable);
 
+    // 자동완성 색인 생성용 배달 지역(동) 조회 (가게를 함께 읽지 않도록 필요한 필드만 조회)
+    @Query("select new com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource(r.regionId, r.locality, r.deletedAt) from Region r")
+    Slice<AutocompleteSource> findAutocompleteSources(Pageable pageable);
+
+    // 자동완성 색인 갱신용 변경된 배달 지역 조회
+    @Query("select new com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource(r.regionId, r.locality, r.deletedAt) from Region r where r.updatedAt >= :since")
+    List<AutocompleteSource> findAutocompleteSourcesUpdatedSince(@Param("since") LocalDateTime since);
+
 
 }
@@ -1,11 +1,11 @@
 package com.sparta.delivery.domain.region.repository;
 
-import com.sparta.delivery.domain.region.entity.Region;
-
-import java.util.List;
+import com.sparta.delivery.domain.region.dto.RegionResDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface RegionRepositoryCustom {
 
-    List<Region> findByLocalityContainingAndDeletedAtIsNull(String locality, String sortBy, String order);
+    Page<RegionResDto> searchRegion(String locality, Pageable pageable);
 
 }
@@ -1,50 +1,81 @@
 package com.sparta.delivery.domain.region.repository;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.region.dto.RegionResDto;
 import com.sparta.delivery.domain.region.entity.QRegion;
 import com.sparta.delivery.domain.region.entity.Region;
-import com.sparta.delivery.domain.store.entity.QStores;
-import com.sparta.delivery.domain.store.entity.Stores;
-import com.sparta.delivery.domain.store.enums.Category;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class RegionRepositoryImpl implements RegionRepositoryCustom{
 
+    // 정렬 가능한 컬럼 (그 외 컬럼은 정렬 조건에서 제외)
+    private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "updatedAt", "province", "city", "locality");
+
     private final JPAQueryFactory jpaQueryFactory;
     private final QRegion region = QRegion.region;
 
-    public List<Region> findByLocalityContainingAndDeletedAtIsNull(String name, String sortBy, String order) {
-        JPAQuery<Region> query = jpaQueryFactory.selectFrom(region)
-                .where(
-                        region.locality.contains(name),
-                        region.deletedAt.isNull()
-                );
-        // 정렬 컬럼과 방향이 유효하다면 동적으로 정렬 적용
-        if (sortBy != null && !sortBy.isBlank()) {
-            // 정렬 방향 지정 (기본은 DESC)
-            Order sortOrder = "asc".equalsIgnoreCase(order) ? Order.ASC : Order.DESC;//querydsl Order, entityX
-
-            // PathBuilder를 이용하여 동적으로 컬럼을 지정
-            PathBuilder<Region> entityPath = new PathBuilder<>(Region.class, "region");
-
-            // Expressions.path()로 동적 정렬에 사용할 Expression 생성
-            query.orderBy(
-                    new OrderSpecifier<>(
-                            sortOrder,
-                            Expressions.comparablePath(Comparable.class, entityPath, sortBy)
-                    )
-            );
+    // locality contains 검색은 p_region.locality trigram 인덱스를 사용 (db/region-locality-index.sql)
+    // 가게는 join 하지 않고 FK 값만 가져옴
+    public Page<RegionResDto> searchRegion(String locality, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(region.deletedAt.isNull());
+
+        if (locality != null && !locality.isBlank()) {
+            builder.and(region.locality.contains(locality.trim()));
         }
 
-        // 결과 조회
-        return query.fetch();
+        List<RegionResDto> content = jpaQueryFactory
+                .select(Projections.constructor(RegionResDto.class,
+                        region.stores.storeId, region.province, region.city, region.locality))
+                .from(region)
+                .where(builder)
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(region.count())
+                .from(region)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // Pageable 의 정렬 조건 중 허용된 컬럼만 querydsl 정렬 조건으로 변환
+    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+        PathBuilder<Region> entityPath = new PathBuilder<>(region.getType(), region.getMetadata());
+
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (Sort.Order sortOrder : sort) {
+            if (!SORTABLE_FIELDS.contains(sortOrder.getProperty())) {
+                continue;
+            }
+            Order direction = sortOrder.isAscending() ? Order.ASC : Order.DESC;//querydsl Order, entityX
+
+            orderSpecifiers.add(new OrderSpecifier<>(
+                    direction,
+                    Expressions.comparablePath(Comparable.class, entityPath, sortOrder.getProperty())
+            ));
+        }
+        // 동일 값 정렬 시 페이지 간 순서가 바뀌지 않도록 PK 로 마무리
+        orderSpecifiers.add(region.regionId.asc());
+        return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
     }
 }
@@ -0,0 +1,45 @@
+package com.sparta.delivery.domain.region.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영 지역 검색 인덱스 확인
+ *
+ * db/region-locality-index.sql 은 continue-on-error 로 실행되므로 pg_trgm 확장을 만들 권한이 없으면
+ * trigram 인덱스 없이 기동되고 locality contains 검색이 seq scan 으로 바뀝니다.
+ * 기동 시 인덱스가 있는지 확인하고 없으면 경고를 남깁니다. (PostgreSQL 에서만 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionSearchIndexCheck {
+
+    private static final String INDEX_NAME = "idx_region_locality_trgm";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        try {
+            String database = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equals(database)) {
+                return;
+            }
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_indexes WHERE tablename = 'p_region' AND indexname = ?", Integer.class, INDEX_NAME);
+            if (count == null || count == 0) {
+                log.warn("운영 지역 검색 인덱스({}) 가 없습니다. pg_trgm 확장을 설치한 뒤 db/region-locality-index.sql 을 실행해야 합니다. "
+                        + "(CREATE EXTENSION pg_trgm 은 superuser 또는 CREATE 권한이 필요합니다)", INDEX_NAME);
+            }
+        } catch (Exception e) {
+            log.warn("운영 지역 검색 인덱스 확인 실패", e);
+        }
+    }
+}
@@ -5,12 +5,14 @@ import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
 import com.sparta.delivery.config.global.exception.custom.RegionNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.UnauthorizedException;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteService;
 import com.sparta.delivery.domain.region.dto.RegionReqDto;
 import com.sparta.delivery.domain.region.dto.RegionResDto;
 import com.sparta.delivery.domain.region.entity.Region;
 import com.sparta.delivery.domain.region.repository.RegionRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreCatalogService;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -21,12 +23,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @Getter
@@ -37,6 +39,8 @@ public class RegionService {
 
     private final RegionRepository regionRepository;
     private final StoreRepository storeRepository;
+    private final StoreCatalogService storeCatalogService;
+    private final AutocompleteService autocompleteService;
 
     @Transactional
     public RegionResDto regionCreate(RegionReqDto regionReqDto, PrincipalDetails userDetails) { //운영 지역 생성
@@ -52,7 +56,11 @@ public class RegionService {
         Stores store = storeRepository.findByStoreIdAndDeletedAtIsNull(regionReqDto.getStoreId()).orElseThrow(()
                 -> new StoreNotFoundException("존재하지 않는 가게입니다"));
         region.setStores(store);
-        return entityToResDto(regionRepository.save(region));
+        Region savedRegion = regionRepository.save(region);
+        storeCatalogService.invalidate(store.getStoreId());
+        autocompleteService.index(savedRegion);
+        RegionResDto regionResDto = entityToResDto(savedRegion);
+        return regionResDto;
     }
 
     public Page<RegionResDto> getRegionList(Pageable pageable, UUID id) { //특정 가게 운영 지역 리스트 조회
@@ -76,26 +84,22 @@ public class RegionService {
 
     }
 
-    public List<RegionResDto> searchRegion(String keyword, Pageable pageable, String sortBy, String order) { //운영 지역 검색(동 기준으로만검색됨)
-        List<Region> regionList = regionRepository.findByLocalityContainingAndDeletedAtIsNull(keyword, sortBy, order);
+    public Page<RegionResDto> searchRegion(String keyword, Pageable pageable, String sortBy, String order) { //운영 지역 검색(동 기준으로만검색됨)
         List<Integer> Size_List = List.of(10, 20, 30);
-        if (regionList.isEmpty()) {
-            throw new RegionNotFoundException("지역이 한개도 등록되어있지 않습니다.");
-        }
-        if (!Size_List.contains((pageable.getPageSize()))) {
-            pageable = PageRequest.of(pageable.getPageNumber(), 10, pageable.getSort());
-        }
+        int pageSize = Size_List.contains(pageable.getPageSize()) ? pageable.getPageSize() : 10;
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), regionList.size());
+        // 정렬 방향 지정 (기본은 DESC), 정렬 컬럼 검증은 repository 에서 화이트리스트로 처리
+        Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = (sortBy == null || sortBy.isBlank()) ? Sort.unsorted() : Sort.by(direction, sortBy);
 
-        if (regionList.isEmpty() || start >= regionList.size()) {
+        Page<RegionResDto> regionList = regionRepository.searchRegion(keyword, PageRequest.of(pageable.getPageNumber(), pageSize, sort));
+        if (regionList.getTotalElements() == 0) {
+            throw new RegionNotFoundException("지역이 한개도 등록되어있지 않습니다.");
+        }
+        if (regionList.getContent().isEmpty()) {
             throw new RegionNotFoundException("지역 검색 결과가 존재하지 않습니다.");
         }
-        return regionList.subList(start, end)
-                .stream()
-                .map(RegionResDto::new)
-                .collect(Collectors.toList());
+        return regionList;
     }
 
     @Transactional
@@ -105,6 +109,8 @@ public class RegionService {
         region.setProvince("도시");
         region.setCity("서울");
         region.setLocality(regionReqDto.getLocality());
+        invalidateStoreCatalog(region);
+        autocompleteService.index(region);
         return entityToResDto(region);
     }
 
@@ -113,7 +119,8 @@ public class RegionService {
         Region region = regionRepository.findByRegionIdAndDeletedAtIsNull(id).orElseThrow(() -> new RegionNotFoundException("존재하지 않는 지역입니다."));
         region.setDeletedBy(userDetails.getUsername());
         region.setDeletedAt(LocalDateTime.now());
-
+        invalidateStoreCatalog(region);
+        autocompleteService.index(region);
     }
 
     public Region reqDtoToEntity(RegionReqDto regionReqDto) {
@@ -130,6 +137,13 @@ public class RegionService {
 
     }
 
+    // 가게 단일/목록 조회 응답에 배달 지역이 포함되므로 지역이 바뀐 가게의 카탈로그 캐시를 무효화
+    private void invalidateStoreCatalog(Region region) {
+        if (region.getStores() != null) {
+            storeCatalogService.invalidate(region.getStores().getStoreId());
+        }
+    }
+
     void checkoutIfOwner(PrincipalDetails userDetails) {
         if (userDetails.getRole() != UserRoles.ROLE_OWNER) {
             throw new ForbiddenException("(가계주인)허가된 사용자가 아닙니다.");
@@ -59,11 +59,20 @@ public class ReviewController {
                                                   @RequestParam(name = "size", required = false) Integer  size,
                                                   @RequestParam(name = "sortBy", required = false) String sortBy,
                                                   @RequestParam(name = "orderBy", required = false) String orderBy,
+                                                  @RequestParam(name = "cursorMode", required = false, defaultValue = "false") boolean cursorMode,
+                                                  @RequestParam(name = "cursor", required = false) String cursor,
                                                   @PathVariable("storeId") UUID storeId) {
         //별점 안줄 시 전체 리뷰 리스트 return
         if (starList == null)
             starList = Collections.emptyList();
 
+        //커서 모드 - page, sortBy 는 무시하고 (생성일, 리뷰 id) 순으로 조회
+        if (cursorMode) {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(reviewService.getStoreReviewSearchByCursor(storeId, starList, cursor, pageableConfig.createCursorPageSize(size),
+                            !"desc".equalsIgnoreCase(orderBy)));
+        }
+
         PageRequest pageable = pageableConfig.createPageRequest(page, size, sortBy, orderBy);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(reviewService.getStoreReviewSearch(storeId, starList, pageable));
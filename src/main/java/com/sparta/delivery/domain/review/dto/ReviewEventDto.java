@@ -0,0 +1,24 @@
+package com.sparta.delivery.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 등록/수정/삭제 outbox 이벤트 (가게 별점 집계 반영용)
+ *
+ * 등록은 oldStar 가 null, 삭제는 newStar 가 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewEventDto {
+
+    private UUID storeId;
+
+    private Integer oldStar;
+
+    private Integer newStar;
+}
@@ -17,7 +17,10 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_review")
+// 커서 기반 조회용 (가게, 생성일, id) 복합 인덱스
+@Table(name = "p_review", indexes = {
+        @Index(name = "idx_review_store_created_at", columnList = "storeId, createdAt, reviewId")
+})
 public class Review extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ReviewRepository extends JpaRepository<Review, UUID>, QuerydslPredicateExecutor<Review> {
+public interface ReviewRepository extends JpaRepository<Review, UUID>, QuerydslPredicateExecutor<Review>, ReviewRepositoryCustom {
     Optional<Review> findByReviewIdAndUserAndDeletedAtIsNull(UUID reviewId, User user);
 
     Page<Review> findAllByUserAndDeletedAtIsNull(User user, Pageable pageable);
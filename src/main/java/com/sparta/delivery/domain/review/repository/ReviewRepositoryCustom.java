@@ -0,0 +1,16 @@
+package com.sparta.delivery.domain.review.repository;
+
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
+import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
+import com.sparta.delivery.domain.store.dto.StoreRatingDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReviewRepositoryCustom {
+
+    CursorPageResponseDto<ReviewResponseDto> findStoreReviewByCursor(UUID storeId, List<Integer> starList, Cursor cursor, int size, boolean ascending);
+
+    List<StoreRatingDto> aggregateRatingsByStore();
+}
@@ -0,0 +1,90 @@
+package com.sparta.delivery.domain.review.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
+import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
+import com.sparta.delivery.domain.review.entity.QReview;
+import com.sparta.delivery.domain.store.dto.StoreRatingDto;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QReview review = QReview.review;
+
+    // 커서 이후의 가게 리뷰를 size + 1 개까지 조회 (count 쿼리 없음), 연관 엔티티는 FK 값만 가져옴
+    public CursorPageResponseDto<ReviewResponseDto> findStoreReviewByCursor(UUID storeId, List<Integer> starList, Cursor cursor, int size, boolean ascending) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(review.stores.storeId.eq(storeId));
+        builder.and(review.deletedAt.isNull());
+
+        if (starList != null && !starList.isEmpty()) {
+            builder.and(review.star.in(starList));
+        }
+        if (cursor != null) {
+            builder.and(cursor.after(review.createdAt, review.reviewId, ascending));
+        }
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(review.reviewId, review.comment, review.star, review.order.orderId,
+                        review.user.userId, review.stores.storeId, review.createdAt)
+                .from(review)
+                .where(builder)
+                .orderBy(Cursor.orderBy(review.createdAt, review.reviewId, ascending))
+                .limit(size + 1)
+                .fetch();
+
+        return CursorPageResponseDto.of(rows, size, row -> new ReviewResponseDto(
+                row.get(review.reviewId),
+                row.get(review.comment),
+                row.get(review.star),
+                row.get(review.order.orderId),
+                row.get(review.user.userId),
+                row.get(review.stores.storeId)
+        ), row -> new Cursor(row.get(review.createdAt), row.get(review.reviewId)));
+    }
+
+    // 삭제되지 않은 리뷰로 가게별 별점 집계를 다시 계산 (가게, 별점 단위 group by)
+    public List<StoreRatingDto> aggregateRatingsByStore() {
+        List<Tuple> rows = jpaQueryFactory
+                .select(review.stores.storeId, review.star, review.count())
+                .from(review)
+                .where(review.deletedAt.isNull())
+                .groupBy(review.stores.storeId, review.star)
+                .fetch();
+
+        Map<UUID, int[]> starCountsByStore = new HashMap<>();
+        for (Tuple row : rows) {
+            int star = row.get(review.star);
+            if (star < 1 || star > 5) {
+                continue;
+            }
+            int[] starCounts = starCountsByStore.computeIfAbsent(row.get(review.stores.storeId), storeId -> new int[5]);
+            starCounts[star - 1] = row.get(review.count()).intValue();
+        }
+
+        List<StoreRatingDto> ratings = new ArrayList<>();
+        for (Map.Entry<UUID, int[]> entry : starCountsByStore.entrySet()) {
+            int[] starCounts = entry.getValue();
+            int starSum = 0;
+            int reviewSum = 0;
+            for (int i = 0; i < starCounts.length; i++) {
+                starSum += (i + 1) * starCounts[i];
+                reviewSum += starCounts[i];
+            }
+            ratings.add(new StoreRatingDto(entry.getKey(), starSum, reviewSum,
+                    List.of(starCounts[0], starCounts[1], starCounts[2], starCounts[3], starCounts[4])));
+        }
+        return ratings;
+    }
+}
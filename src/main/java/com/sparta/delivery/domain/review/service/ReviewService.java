@@ -2,9 +2,14 @@ package com.sparta.delivery.domain.review.service;
 
 import com.querydsl.core.BooleanBuilder;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.common.cursor.Cursor;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
 import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.service.OutboxService;
+import com.sparta.delivery.domain.review.dto.ReviewEventDto;
 import com.sparta.delivery.domain.review.dto.ReviewRequestDto;
 import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
 import com.sparta.delivery.domain.review.dto.ReviewUpdateRequestDto;
@@ -13,15 +18,15 @@ import com.sparta.delivery.domain.review.entity.Review;
 import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
-import com.sparta.delivery.domain.store.service.StoreService;
-import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.dto.UserIdentity;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,19 +37,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final OrderRepository orderRepository;
     private final StoreRepository storeRepository;
 
-    private final StoreService storeService;
-
-    private final int REVIEW_PLUS = 1;
-    private final int REVIEW_MINUS = -1;
-    private final int REVIEW_UPDATE = 0;
+    private final OutboxService outboxService;
 
+    @Transactional
     public Review createReview(ReviewRequestDto requestDto, String username) {
         try {
-            User user = getUser(username);
+            UserIdentity user = getUser(username);
             Order order = getOrder(requestDto.getOrderId(), user);
             Stores stores = getStores(order.getStores().getStoreId());
 
@@ -57,9 +59,12 @@ public class ReviewService {
                 throw new ReviewNotAllowedException("주문이 모두 완료되었을 경우 리뷰 작성이 가능합니다.");
             }
 
-            Review review = requestDto.toReview(order, user, stores);
-            storeService.updateStoreReview(order.getStores().getStoreId(), review.getStar(), REVIEW_PLUS);
-            return reviewRepository.save(review);
+            Review review = reviewRepository.save(requestDto.toReview(order, userLookupService.getReference(user), stores));
+
+            //가게 별점 집계는 outbox 이벤트로 기록하고 요청 이후에 반영 (요청 중 가게 row lock 없음)
+            outboxService.append(OutboxEventType.REVIEW_WRITTEN, review.getReviewId(),
+                    new ReviewEventDto(stores.getStoreId(), null, review.getStar()));
+            return review;
 
         } catch (Exception e) {
             throw e;
@@ -68,8 +73,8 @@ public class ReviewService {
 
     public Page<ReviewResponseDto> getUserReview(String username, Pageable pageable) {
         try {
-            User user = getUser(username);
-            Page<Review> reviewList = reviewRepository.findAllByUserAndDeletedAtIsNull(user, pageable);
+            UserIdentity user = getUser(username);
+            Page<Review> reviewList = reviewRepository.findAllByUserAndDeletedAtIsNull(userLookupService.getReference(user), pageable);
 
             if(reviewList.isEmpty()) {
                 throw new ReviewNotFoundException("로그인한 사용자가 작성한 리뷰가 존재하지 않습니다.");
@@ -109,9 +114,31 @@ public class ReviewService {
         }
     }
 
+    public CursorPageResponseDto<ReviewResponseDto> getStoreReviewSearchByCursor(UUID storeId, List<Integer> starList, String cursor, int size, boolean ascending) {
+        try {
+            Stores store = getStores(storeId);
+
+            //커서 이후의 리뷰만 조회 (전체 개수 count 없음)
+            CursorPageResponseDto<ReviewResponseDto> reviewList = reviewRepository.findStoreReviewByCursor(
+                    store.getStoreId(), starList, Cursor.decode(cursor), size, ascending);
+
+            if(reviewList.getContent().isEmpty()) {
+                if(starList.isEmpty())
+                    throw new ReviewNotFoundException("해당 가게에 작성된 리뷰가 존재하지 않습니다.");
+
+                throw new ReviewNotFoundException("해당 가게에 조건에 맞는 리뷰가 존재하지 않습니다.");
+            }
+
+            return reviewList;
+        } catch (Exception e) {
+            throw e;
+        }
+    }
+
+    @Transactional
     public Review deleteReview(UUID reviewId, String username) {
         try {
-            User user = getUser(username);
+            UserIdentity user = getUser(username);
             Review review;
             //유저의 권한이 고객이면 본인의 리뷰만 가져오도록
             if(user.getRole() == UserRoles.ROLE_CUSTOMER)
@@ -122,19 +149,21 @@ public class ReviewService {
             review.setDeletedAt(LocalDateTime.now());
             review.setDeletedBy(username);
 
-            int deleteStar = review.getStar() * -1;
-            storeService.updateStoreReview(review.getStores().getStoreId(), deleteStar, REVIEW_MINUS);
+            Review deletedReview = reviewRepository.save(review);
+            outboxService.append(OutboxEventType.REVIEW_DELETED, review.getReviewId(),
+                    new ReviewEventDto(review.getStores().getStoreId(), review.getStar(), null));
 
-            return reviewRepository.save(review);
+            return deletedReview;
 
         } catch (Exception e) {
             throw e;
         }
     }
 
+    @Transactional
     public ReviewResponseDto updateReview(UUID reviewId, ReviewUpdateRequestDto requestDto, String username) {
         try {
-            User user = getUser(username);
+            UserIdentity user = getUser(username);
             Review review;
             //유저의 권한이 고객이면 본인의 리뷰만 가져오도록
             if(user.getRole() == UserRoles.ROLE_CUSTOMER)
@@ -142,32 +171,35 @@ public class ReviewService {
             else
                 review = getSingleReview(reviewId);
 
-            //새 별점 - 기존 별점
-            int updateStar = requestDto.getStar() - review.getStar();
+            int oldStar = review.getStar();
 
             review.setComment(requestDto.getComment());
             review.setStar(requestDto.getStar());
 
-            storeService.updateStoreReview(review.getStores().getStoreId(), updateStar, REVIEW_UPDATE);
-            return reviewRepository.save(review).toResponseDto();
+            ReviewResponseDto responseDto = reviewRepository.save(review).toResponseDto();
+            if (oldStar != requestDto.getStar()) {
+                outboxService.append(OutboxEventType.REVIEW_UPDATED, review.getReviewId(),
+                        new ReviewEventDto(review.getStores().getStoreId(), oldStar, requestDto.getStar()));
+            }
+            return responseDto;
 
         } catch (Exception e) {
             throw e;
         }
     }
 
-    private User getUser(String username) {
-        return userRepository.findByUsernameAndDeletedAtIsNull(username)
+    private UserIdentity getUser(String username) {
+        return userLookupService.findIdentity(username)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않거나 탈퇴한 유저입니다."));
     }
 
-    private Order getOrder(UUID orderId, User user) {
-        return orderRepository.findByOrderIdAndUserAndDeletedAtIsNull(orderId, user)
+    private Order getOrder(UUID orderId, UserIdentity user) {
+        return orderRepository.findByOrderIdAndUserAndDeletedAtIsNull(orderId, userLookupService.getReference(user))
                 .orElseThrow(() -> new UserOrderNotFoundException("존재하지 않거나 현재 로그인한 사용자의 주문이 아닙니다."));
     }
 
-    private Review getUserReview(UUID reviewId, User user) {
-        return reviewRepository.findByReviewIdAndUserAndDeletedAtIsNull(reviewId, user)
+    private Review getUserReview(UUID reviewId, UserIdentity user) {
+        return reviewRepository.findByReviewIdAndUserAndDeletedAtIsNull(reviewId, userLookupService.getReference(user))
                 .orElseThrow(() -> new ReviewNotFoundException("존재하지 않거나 현재 로그인한 사용자의 리뷰가 아닙니다."));
     }
 
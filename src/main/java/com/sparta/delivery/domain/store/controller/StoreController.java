@@ -52,6 +52,15 @@ public class StoreController {
                 .body(storeService.getStoreList(pageable));
     }
 
+    @StoreSwaggerDocs.Deliverable
+    @GetMapping("/deliverable")
+    public ResponseEntity<?> // 배송지로 배달 가능한 가게 조회 (가까운 순서)
+    deliverableStores(@RequestParam UUID deliveryAddressId, @AuthenticationPrincipal PrincipalDetails userDetails,
+                      @PageableDefault(page = 0, size = 10) Pageable pageable) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(storeService.getDeliverableStores(deliveryAddressId, userDetails, pageable));
+    }
+
     @StoreSwaggerDocs.StoreOne
     @GetMapping("/{storeId}")
     public ResponseEntity<?> storeOne(@PathVariable UUID storeId) {
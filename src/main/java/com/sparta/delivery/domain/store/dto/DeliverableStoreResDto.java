@@ -0,0 +1,40 @@
+package com.sparta.delivery.domain.store.dto;
+
+import com.sparta.delivery.domain.store.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class DeliverableStoreResDto {
+
+    private UUID storeId;
+
+    private String name;
+
+    private String address;
+
+    private Category category;
+
+    private double averageStar;
+
+    private int reviewSum;
+
+    private int distanceMeters; // 배송지까지 직선 거리 (미터)
+
+    public static DeliverableStoreResDto of(StoreSnapshot store, double distanceMeters) {
+        return DeliverableStoreResDto.builder()
+                .storeId(store.storeId())
+                .name(store.name())
+                .address(store.address())
+                .category(store.category())
+                .averageStar(store.averageStar())
+                .reviewSum(store.reviewSum())
+                .distanceMeters((int) Math.round(distanceMeters))
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.delivery.domain.store.dto;
+
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+import com.sparta.delivery.domain.store.entity.Stores;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배달 지역 색인에 필요한 가게 필드 (연관관계를 읽지 않도록 repository 에서 바로 조회)
+ */
+public record DeliveryArea(UUID storeId,
+                           Double latitude,
+                           Double longitude,
+                           Integer deliveryRadius,
+                           boolean status,
+                           LocalDateTime deletedAt) {
+
+    public static DeliveryArea from(Stores store) {
+        return new DeliveryArea(store.getStoreId(), store.getLatitude(), store.getLongitude(),
+                store.getDeliveryRadius(), store.isStatus(), store.getDeletedAt());
+    }
+
+    // 영업 중이고 삭제되지 않았으며 위치를 아는 가게만 배달 가능 가게로 조회
+    public boolean isDeliverable() {
+        return status && deletedAt == null && latitude != null && longitude != null;
+    }
+
+    public GeoPoint center() {
+        return GeoPoint.ofNullable(latitude, longitude);
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.delivery.domain.store.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가게 별점 집계 (별점 합계, 리뷰 수, 1~5점 별 리뷰 수)
+ */
+@Getter
+@AllArgsConstructor
+public class StoreRatingDto {
+
+    private UUID storeId;
+
+    private int starSum;
+
+    private int reviewSum;
+
+    // index 0 = 1점, index 4 = 5점
+    private List<Integer> starDistribution;
+
+    public double getAverageStar() {
+        return reviewSum > 0 ? (double) starSum / reviewSum : 0;
+    }
+}
@@ -31,6 +31,11 @@ public class StoreRegionResDto {
 
     int reviewsum;
 
+    private double averageStar;
+
+    // 1점부터 5점까지 별점별 리뷰 수
+    private List<Integer> starDistribution;
+
 
     public StoreRegionResDto(Stores store) {
         this.name = store.getName();
@@ -40,6 +45,8 @@ public class StoreRegionResDto {
                 collect(Collectors.toList()) : new ArrayList<>();
         this.starsum=store.getStarSum();
         this.reviewsum=store.getReviewSum();
+        this.averageStar = store.getAverageStar();
+        this.starDistribution = store.getStarDistribution();
         this.category = store.getCategory();
     }
 
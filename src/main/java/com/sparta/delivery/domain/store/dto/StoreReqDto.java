@@ -1,6 +1,10 @@
 package com.sparta.delivery.domain.store.dto;
 
 import com.sparta.delivery.domain.store.enums.Category;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -22,4 +26,21 @@ public class StoreReqDto {
     @NotBlank(message = "주소를 넣어주셔야합니다!")
     private String address;
 
+    // 가게 위치 (선택), 없으면 주소로 조회
+    @DecimalMin(value = "-90", message = "위도는 -90 이상이어야 합니다.")
+    @DecimalMax(value = "90", message = "위도는 90 이하여야 합니다.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "경도는 -180 이상이어야 합니다.")
+    @DecimalMax(value = "180", message = "경도는 180 이하여야 합니다.")
+    private Double longitude;
+
+    // 배달 반경 (미터, 선택), 없으면 기본 반경
+    @Min(value = 100, message = "배달 반경은 100m 이상이어야 합니다.")
+    @Max(value = 10000, message = "배달 반경은 10km 이하여야 합니다.")
+    private Integer deliveryRadius;
+
+    public StoreReqDto(String name, Category category, String address) {
+        this(name, category, address, null, null, null);
+    }
 }
@@ -0,0 +1,109 @@
+package com.sparta.delivery.domain.store.dto;
+
+import com.sparta.delivery.domain.product.dto.ProductResponseDto;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.region.dto.RegionListDto;
+import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가게 카탈로그 캐시에 보관하는 가게 정보 (가게 + 배달 지역 + 고객에게 보이는 상품, 상품 재고는 제외)
+ *
+ * 엔티티와 분리된 불변 객체이므로 여러 요청이 공유해도 안전하며, 응답할 때마다 새 DTO 로 변환합니다.
+ */
+public record StoreSnapshot(UUID storeId,
+                            String name,
+                            String address,
+                            boolean status,
+                            Category category,
+                            int starSum,
+                            int reviewSum,
+                            double averageStar,
+                            List<Integer> starDistribution,
+                            List<RegionEntry> regions,
+                            List<ProductEntry> products) {
+
+    /**
+     * @param store 배달 지역 목록을 읽을 수 있는 가게 엔티티 (영속성 컨텍스트 안에서 호출)
+     * @param products 삭제, 숨김 처리되지 않은 가게 상품
+     */
+    public static StoreSnapshot of(Stores store, List<Product> products) {
+        List<RegionEntry> regions = store.getRegionList() == null ? List.of()
+                : store.getRegionList().stream().map(RegionEntry::from).toList();
+
+        return new StoreSnapshot(
+                store.getStoreId(),
+                store.getName(),
+                store.getAddress(),
+                store.isStatus(),
+                store.getCategory(),
+                store.getStarSum(),
+                store.getReviewSum(),
+                store.getAverageStar(),
+                List.copyOf(store.getStarDistribution()),
+                regions,
+                products.stream().map(ProductEntry::from).toList());
+    }
+
+    public StoreRegionResDto toStoreRegionResDto() {
+        return StoreRegionResDto.builder()
+                .name(name)
+                .address(address)
+                .status(status)
+                .regionList(regions.stream().map(RegionEntry::toRegionListDto).toList())
+                .category(category)
+                .starsum(starSum)
+                .reviewsum(reviewSum)
+                .averageStar(averageStar)
+                .starDistribution(starDistribution)
+                .build();
+    }
+
+    public record RegionEntry(UUID storeId, String province, String city, String locality) {
+
+        static RegionEntry from(Region region) {
+            return new RegionEntry(region.getStores() != null ? region.getStores().getStoreId() : null,
+                    region.getProvince(), region.getCity(), region.getLocality());
+        }
+
+        RegionListDto toRegionListDto() {
+            return new RegionListDto(storeId, province, city, locality);
+        }
+    }
+
+    public record ProductEntry(UUID productId,
+                               UUID storeId,
+                               String name,
+                               String description,
+                               int price,
+                               boolean hidden,
+                               LocalDateTime createdAt,
+                               LocalDateTime updatedAt) {
+
+        static ProductEntry from(Product product) {
+            return new ProductEntry(product.getProductId(), product.getStore().getStoreId(), product.getName(),
+                    product.getDescription(), product.getPrice(), product.isHidden(),
+                    product.getCreatedAt(), product.getUpdatedAt());
+        }
+
+        /**
+         * @param quantity 재고 (주문마다 바뀌므로 캐시하지 않고 응답할 때 DB 에서 조회한 값)
+         */
+        public ProductResponseDto toResponseDto(int quantity) {
+            return ProductResponseDto.builder()
+                    .productId(productId)
+                    .name(name)
+                    .description(description)
+                    .price(price)
+                    .quantity(quantity)
+                    .hidden(hidden)
+                    .storeId(storeId)
+                    .build();
+        }
+    }
+}
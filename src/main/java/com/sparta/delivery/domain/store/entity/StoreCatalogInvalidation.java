@@ -0,0 +1,51 @@
+package com.sparta.delivery.domain.store.entity;
+
+import com.sparta.delivery.domain.common.invalidation.CacheInvalidation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * replica 간 가게 카탈로그 캐시 무효화 전달용 로그
+ *
+ * 가게/상품/배달 지역/별점 집계 변경과 같은 트랜잭션에서 추가되며, 각 replica 가 주기적으로 읽어 자신의 캐시에서 제거합니다.
+ * 보관 기간이 지나면 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "p_store_catalog_invalidation", indexes = {
+        @Index(name = "idx_store_catalog_invalidation_invalidated_at", columnList = "invalidatedAt")
+})
+public class StoreCatalogInvalidation implements CacheInvalidation<UUID> {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long invalidationId;
+
+    @Column(nullable = false)
+    private UUID storeId;
+
+    @Column(nullable = false)
+    private LocalDateTime invalidatedAt;
+
+    public static StoreCatalogInvalidation of(UUID storeId, LocalDateTime invalidatedAt) {
+        return StoreCatalogInvalidation.builder()
+                .storeId(storeId)
+                .invalidatedAt(invalidatedAt)
+                .build();
+    }
+
+    @Override
+    public UUID getKey() {
+        return storeId;
+    }
+}
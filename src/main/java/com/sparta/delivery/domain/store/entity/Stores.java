@@ -8,6 +8,7 @@ import com.sparta.delivery.domain.store.enums.Category;
 import com.sparta.delivery.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +20,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "p_stores")
+// 카테고리별 가게 검색 정렬(기본 생성일)용 인덱스, 자동완성/배달 지역 색인 갱신용 인덱스, 배달 가능 가게 DB 조회(색인 미사용 시)용 인덱스
+@Table(name = "p_stores", indexes = {
+        @Index(name = "idx_stores_category_created_at", columnList = "category, createdAt"),
+        @Index(name = "idx_stores_updated_at", columnList = "updatedAt"),
+        @Index(name = "idx_stores_latitude_longitude", columnList = "latitude, longitude")
+})
 public class Stores extends Timestamped {
 
     @Id
@@ -35,6 +41,14 @@ public class Stores extends Timestamped {
     @Column(nullable = false)
     private boolean status;
 
+    // 가게 위치 (등록 시 입력한 좌표, 없으면 주소로 조회한 좌표), 좌표가 없는 가게는 배달 가능 가게 조회에서 제외
+    private Double latitude;
+
+    private Double longitude;
+
+    // 배달 반경 (미터), 없으면 store.delivery.defaultRadiusMeters 적용
+    private Integer deliveryRadius;
+
     @OneToMany(mappedBy = "stores")
     private List<Region> regionList = new ArrayList<>();
 
@@ -52,8 +66,32 @@ public class Stores extends Timestamped {
 
     private int reviewSum;
 
+    // 별점(1~5점)별 리뷰 수, 리뷰 등록/수정/삭제 시 StoreRatingService 에서 증감
+    @ColumnDefault("0")
+    private int star1Count;
+
+    @ColumnDefault("0")
+    private int star2Count;
+
+    @ColumnDefault("0")
+    private int star3Count;
+
+    @ColumnDefault("0")
+    private int star4Count;
+
+    @ColumnDefault("0")
+    private int star5Count;
+
     @Enumerated(EnumType.STRING)
     private Category category;
 
+    // 평균 별점 (리뷰가 없으면 0)
+    public double getAverageStar() {
+        return reviewSum > 0 ? (double) starSum / reviewSum : 0;
+    }
 
+    // 1점부터 5점까지 별점별 리뷰 수
+    public List<Integer> getStarDistribution() {
+        return List.of(star1Count, star2Count, star3Count, star4Count, star5Count);
+    }
 }
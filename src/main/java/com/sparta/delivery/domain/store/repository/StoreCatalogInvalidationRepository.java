@@ -0,0 +1,17 @@
+package com.sparta.delivery.domain.store.repository;
+
+import com.sparta.delivery.domain.common.invalidation.CacheInvalidationRepository;
+import com.sparta.delivery.domain.store.entity.StoreCatalogInvalidation;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface StoreCatalogInvalidationRepository extends CacheInvalidationRepository<StoreCatalogInvalidation> {
+
+    @Override
+    @Modifying
+    @Query("delete from StoreCatalogInvalidation i where i.invalidatedAt < :before")
+    int deleteInvalidatedBefore(@Param("before") LocalDateTime before);
+}
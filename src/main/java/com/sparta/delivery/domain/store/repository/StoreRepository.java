@@ -1,21 +1,32 @@
 package com.sparta.delivery.domain.store.repository;
 
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource;
+import com.sparta.delivery.domain.geo.dto.GeocodeTarget;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.enums.OutboxStatus;
+import com.sparta.delivery.domain.store.dto.DeliveryArea;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
 
 import javax.swing.plaf.synth.Region;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface StoreRepository extends JpaRepository<Stores, UUID>, StoreRepositoryCustom {
 
-    List<Stores> findByCategoryAndDeletedAtIsNull(Category category, String sortBy, String order);
-
     boolean existsByStoreIdAndDeletedAtIsNull(UUID storeId);
 
     List<Stores> findByCategory(Category category);
@@ -26,4 +37,77 @@ public interface StoreRepository extends JpaRepository<Stores, UUID>, StoreRepos
 
     Page<Stores> findAll(Pageable pageable);
 
+    // 삭제되지 않은 가게 ID 페이지 조회 (가게 정보는 카탈로그 캐시에서 채움)
+    @Query("select s.storeId from Stores s where s.deletedAt is null")
+    Page<UUID> findStoreIdsByDeletedAtIsNull(Pageable pageable);
+
+    // 카탈로그 캐시 적재용 가게 일괄 조회 (배달 지역, 가게 주인을 함께 조회)
+    @Query("select distinct s from Stores s left join fetch s.regionList left join fetch s.user " +
+            "where s.storeId in :storeIds and s.deletedAt is null")
+    List<Stores> findAllWithRegionsByStoreIdIn(@Param("storeIds") Collection<UUID> storeIds);
+
+    // 자동완성 색인 생성용 가게 이름 조회
+    @Query("select new com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource(s.storeId, s.name, s.deletedAt) from Stores s")
+    Slice<AutocompleteSource> findAutocompleteSources(Pageable pageable);
+
+    // 자동완성 색인 갱신용 변경된 가게 이름 조회
+    @Query("select new com.sparta.delivery.domain.autocomplete.dto.AutocompleteSource(s.storeId, s.name, s.deletedAt) from Stores s where s.updatedAt >= :since")
+    List<AutocompleteSource> findAutocompleteSourcesUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 배달 지역 색인 생성용 가게 위치, 배달 반경 조회
+    @Query("select new com.sparta.delivery.domain.store.dto.DeliveryArea(s.storeId, s.latitude, s.longitude, s.deliveryRadius, s.status, s.deletedAt) from Stores s")
+    Slice<DeliveryArea> findDeliveryAreas(Pageable pageable);
+
+    // 배달 지역 색인 갱신용 변경된 가게 위치, 배달 반경 조회
+    @Query("select new com.sparta.delivery.domain.store.dto.DeliveryArea(s.storeId, s.latitude, s.longitude, s.deliveryRadius, s.status, s.deletedAt) from Stores s where s.updatedAt >= :since")
+    List<DeliveryArea> findDeliveryAreasUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 좌표가 없는 가게 ID, 주소 조회 (좌표 backfill)
+    @Query("select new com.sparta.delivery.domain.geo.dto.GeocodeTarget(s.storeId, s.address) from Stores s where s.latitude is null and s.deletedAt is null")
+    List<GeocodeTarget> findGeocodeTargets();
+
+    // 좌표가 아직 없는 가게에만 좌표 저장 (다른 replica 의 배달 지역 색인이 updatedAt 으로 반영하도록 함께 갱신)
+    @Modifying
+    @Query("update Stores s set s.latitude = :latitude, s.longitude = :longitude, s.updatedAt = local datetime " +
+            "where s.storeId = :storeId and s.latitude is null")
+    int updateLocationIfMissing(@Param("storeId") UUID storeId, @Param("latitude") double latitude, @Param("longitude") double longitude);
+
+    // 좌표 범위 안에 있는 영업 중인 가게 위치, 배달 반경 조회 (배달 지역 색인을 사용하지 않을 때)
+    @Query("select new com.sparta.delivery.domain.store.dto.DeliveryArea(s.storeId, s.latitude, s.longitude, s.deliveryRadius, s.status, s.deletedAt) from Stores s " +
+            "where s.latitude between :minLatitude and :maxLatitude and s.longitude between :minLongitude and :maxLongitude " +
+            "and s.status = true and s.deletedAt is null")
+    List<DeliveryArea> findDeliveryAreasWithin(@Param("minLatitude") double minLatitude, @Param("maxLatitude") double maxLatitude,
+                                               @Param("minLongitude") double minLongitude, @Param("maxLongitude") double maxLongitude);
+
+    // 별점 합계, 리뷰 수, 별점별 리뷰 수를 읽지 않고 증감분만 DB 에서 반영
+    @Modifying
+    @Query("update Stores s set s.starSum = s.starSum + :starDelta, s.reviewSum = s.reviewSum + :countDelta, " +
+            "s.star1Count = s.star1Count + :star1Delta, s.star2Count = s.star2Count + :star2Delta, " +
+            "s.star3Count = s.star3Count + :star3Delta, s.star4Count = s.star4Count + :star4Delta, " +
+            "s.star5Count = s.star5Count + :star5Delta where s.storeId = :storeId")
+    int addRatingDelta(@Param("storeId") UUID storeId, @Param("starDelta") int starDelta, @Param("countDelta") int countDelta,
+                       @Param("star1Delta") int star1Delta, @Param("star2Delta") int star2Delta, @Param("star3Delta") int star3Delta,
+                       @Param("star4Delta") int star4Delta, @Param("star5Delta") int star5Delta);
+
+    // 별점 집계 보정 전 가게 row 잠금 (보정이 끝날 때까지 이 가게의 리뷰 이벤트 증감이 반영되지 않음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s.storeId from Stores s where s.storeId = :storeId")
+    Optional<UUID> lockRating(@Param("storeId") UUID storeId);
+
+    // 리뷰 테이블 기준으로 집계값을 한 문장에서 다시 계산해 덮어쓰기 (정합성 보정용)
+    // 처리 대기 중인 리뷰 이벤트가 있는 가게는 이벤트 처리 시 증감이 한 번 더 반영되므로 덮어쓰지 않음
+    @Modifying
+    @Query("update Stores s set " +
+            "s.starSum = cast(coalesce((select sum(r.star) from Review r where r.stores = s and r.deletedAt is null and r.star between 1 and 5), 0) as Integer), " +
+            "s.reviewSum = cast((select count(r) from Review r where r.stores = s and r.deletedAt is null and r.star between 1 and 5) as Integer), " +
+            "s.star1Count = cast((select count(r) from Review r where r.stores = s and r.deletedAt is null and r.star = 1) as Integer), " +
+            "s.star2Count = cast((select count(r) from Review r where r.stores = s and r.deletedAt is null and r.star = 2) as Integer), " +
+            "s.star3Count = cast((select count(r) from Review r where r.stores = s and r.deletedAt is null and r.star = 3) as Integer), " +
+            "s.star4Count = cast((select count(r) from Review r where r.stores = s and r.deletedAt is null and r.star = 4) as Integer), " +
+            "s.star5Count = cast((select count(r) from Review r where r.stores = s and r.deletedAt is null and r.star = 5) as Integer) " +
+            "where s.storeId = :storeId and not exists (select e.eventId from OutboxEvent e, Review pending " +
+            "where e.aggregateId = pending.reviewId and pending.stores = s and e.status = :status and e.eventType in :eventTypes)")
+    int recalculateRating(@Param("storeId") UUID storeId, @Param("status") OutboxStatus status,
+                          @Param("eventTypes") Collection<OutboxEventType> eventTypes);
+
 }
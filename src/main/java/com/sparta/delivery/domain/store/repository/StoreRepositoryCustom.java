@@ -1,13 +1,16 @@
 package com.sparta.delivery.domain.store.repository;
 
-import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.dto.StoreRatingDto;
+import com.sparta.delivery.domain.store.dto.StoreResDto;
 import com.sparta.delivery.domain.store.enums.Category;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface StoreRepositoryCustom {
 
-    List<Stores> findByNameContainingAndCategoryAndDeletedAtIsNull(String name, Category category, String sortBy, String order);
+    Page<StoreResDto> searchStore(String keyword, Category category, Pageable pageable);
 
-    List<Stores> findByCategoryAndDeletedAtIsNull(Category category, String sortBy, String order);
+    List<StoreRatingDto> findAllRatings();
 }
@@ -1,77 +1,116 @@
 package com.sparta.delivery.domain.store.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.store.dto.StoreRatingDto;
+import com.sparta.delivery.domain.store.dto.StoreResDto;
 import com.sparta.delivery.domain.store.entity.QStores;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
+    // 정렬 가능한 컬럼 (그 외 컬럼은 정렬 조건에서 제외)
+    private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "updatedAt", "name", "starSum", "reviewSum");
+
     private final JPAQueryFactory jpaQueryFactory;
     private final QStores stores = QStores.stores;
 
-    public List<Stores> findByNameContainingAndCategoryAndDeletedAtIsNull(String name, Category category, String sortBy, String order) {
-        JPAQuery<Stores> query = jpaQueryFactory.selectFrom(stores)
-                .where(
-                        stores.name.contains(name),
-                        stores.category.eq(category),
-                        stores.deletedAt.isNull()
-                );
-        // 정렬 컬럼과 방향이 유효하다면 동적으로 정렬 적용
-        if (sortBy != null && !sortBy.isBlank()) {
-            // 정렬 방향 지정 (기본은 DESC)
-            Order sortOrder = "asc".equalsIgnoreCase(order) ? Order.ASC : Order.DESC;//querydsl Order, entityX
-
-            // PathBuilder를 이용하여 동적으로 컬럼을 지정
-            PathBuilder<Stores> entityPath = new PathBuilder<>(Stores.class, "stores");
-
-            // Expressions.path()로 동적 정렬에 사용할 Expression 생성
-            query.orderBy(
-                    new OrderSpecifier<>(
-                            sortOrder,
-                            Expressions.comparablePath(Comparable.class, entityPath, sortBy)
-                    )
-            );
+    // 검색 조건, 정렬, offset/limit 을 모두 DB 에서 처리하고 필요한 컬럼만 조회
+    public Page<StoreResDto> searchStore(String keyword, Category category, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(stores.category.eq(category));
+        builder.and(stores.deletedAt.isNull());
+
+        if (keyword != null && !keyword.isBlank()) {
+            builder.and(stores.name.contains(keyword.trim()));
         }
 
-        // 결과 조회
-        return query.fetch();
-    }
+        List<Tuple> rows = jpaQueryFactory
+                .select(stores.storeId, stores.name, stores.address, stores.status, stores.category)
+                .from(stores)
+                .where(builder)
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
+        List<StoreResDto> content = new ArrayList<>();
+        for (Tuple row : rows) {
+            content.add(StoreResDto.builder()
+                    .storeId(row.get(stores.storeId))
+                    .name(row.get(stores.name))
+                    .address(row.get(stores.address))
+                    .status(Boolean.TRUE.equals(row.get(stores.status)))
+                    .category(row.get(stores.category))
+                    // builder 는 필드 초기값을 쓰지 않으므로 엔티티 생성자와 같이 빈 목록으로 응답
+                    .regionList(new ArrayList<>())
+                    .build());
+        }
 
-    public List<Stores> findByCategoryAndDeletedAtIsNull(Category category, String sortBy, String order) {
-        JPAQuery<Stores> query = jpaQueryFactory.selectFrom(stores)
-                .where(
-                        stores.category.eq(category),
-                        stores.deletedAt.isNull()
-                );
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(stores.count())
+                .from(stores)
+                .where(builder);
 
-        if (sortBy != null && !sortBy.isBlank()) {
-            // 정렬 방향 지정 (기본은 DESC)
-            Order sortOrder = "asc".equalsIgnoreCase(order) ? Order.ASC : Order.DESC;//querydsl Order, entityX
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
 
-            // PathBuilder를 이용하여 동적으로 컬럼을 지정
-            PathBuilder<Stores> entityPath = new PathBuilder<>(Stores.class, "stores");
+    // 전체 가게의 별점 집계값만 조회 (연관 엔티티 로딩 없음)
+    public List<StoreRatingDto> findAllRatings() {
+        List<Tuple> rows = jpaQueryFactory
+                .select(stores.storeId, stores.starSum, stores.reviewSum,
+                        stores.star1Count, stores.star2Count, stores.star3Count, stores.star4Count, stores.star5Count)
+                .from(stores)
+                .fetch();
 
-            // Expressions.path()로 동적 정렬에 사용할 Expression 생성
-            query.orderBy(
-                    new OrderSpecifier<>(
-                            sortOrder,
-                            Expressions.comparablePath(Comparable.class, entityPath, sortBy)
-                    )
-            );
+        List<StoreRatingDto> ratings = new ArrayList<>();
+        for (Tuple row : rows) {
+            ratings.add(new StoreRatingDto(
+                    row.get(stores.storeId),
+                    row.get(stores.starSum),
+                    row.get(stores.reviewSum),
+                    List.of(row.get(stores.star1Count), row.get(stores.star2Count), row.get(stores.star3Count),
+                            row.get(stores.star4Count), row.get(stores.star5Count))
+            ));
         }
-
-        // 결과 조회
-        return query.fetch();
+        return ratings;
     }
 
+    // Pageable 의 정렬 조건 중 허용된 컬럼만 querydsl 정렬 조건으로 변환
+    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+        PathBuilder<Stores> entityPath = new PathBuilder<>(stores.getType(), stores.getMetadata());
+
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (Sort.Order sortOrder : sort) {
+            if (!SORTABLE_FIELDS.contains(sortOrder.getProperty())) {
+                continue;
+            }
+            Order direction = sortOrder.isAscending() ? Order.ASC : Order.DESC;//querydsl Order, entityX
+
+            orderSpecifiers.add(new OrderSpecifier<>(
+                    direction,
+                    Expressions.comparablePath(Comparable.class, entityPath, sortOrder.getProperty())
+            ));
+        }
+        // 동일 값 정렬 시 페이지 간 순서가 바뀌지 않도록 PK 로 마무리
+        orderSpecifiers.add(stores.storeId.asc());
+        return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
+    }
 }
@@ -0,0 +1,213 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * 가게 배달 반경에 대한 메모리 격자 색인
+ *
+ * 1. 위도/경도를 CELL_DEGREES 크기의 격자로 나누고, 가게의 배달 반경(원) 을 감싸는 모든 칸에 가게를 미리 등록
+ * 2. 조회 시 배송지가 속한 한 칸의 가게만 꺼내 실제 거리가 배달 반경 안인 가게를 거리 순으로 정렬 (칸 하나만 읽으므로 전체 가게 수와 무관)
+ * 3. 칸마다 가게 배열을 통째로 바꾸는 copy-on-write 로 갱신 (기동 시에는 putAll 로 칸마다 한 번에 추가)
+ *
+ * 쓰기는 synchronized 로 직렬화하고 조회는 잠금 없이 수행하므로, 위치/반경을 바꾸는 중인 가게는 잠시 조회되지 않을 수 있습니다.
+ */
+public class DeliveryAreaIndex {
+
+    // 격자 한 칸 크기 (위도 0.01도 ≈ 1.1km, 서울 위도에서 경도 0.01도 ≈ 0.88km)
+    static final double CELL_DEGREES = 0.01;
+
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    // 거리가 같으면 가게 ID 순서로 정렬 (페이지 사이에 순서가 바뀌지 않도록)
+    public static final Comparator<Hit> BY_DISTANCE =
+            Comparator.comparingDouble(Hit::distanceMeters).thenComparing(Hit::storeId);
+
+    private final Map<Long, Area[]> cells = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Area> areas = new ConcurrentHashMap<>();
+
+    /**
+     * 가게의 배달 지역을 색인하는 메서드 (이미 색인된 가게면 이전 칸에서 제거 후 다시 색인)
+     *
+     * @param storeId 가게 ID
+     * @param center 가게 위치
+     * @param radiusMeters 배달 반경 (미터)
+     */
+    public void put(UUID storeId, GeoPoint center, int radiusMeters) {
+        putAll(List.of(new Area(storeId, center, radiusMeters)));
+    }
+
+    /**
+     * 여러 가게를 한 번에 색인하는 메서드 (칸마다 배열을 한 번만 바꾸므로 기동 시 전체 색인에 사용)
+     */
+    public synchronized void putAll(Collection<Area> added) {
+        // 같은 가게가 여러 번 있으면 마지막 값만 색인
+        Map<UUID, Area> latest = new LinkedHashMap<>();
+        added.forEach(area -> latest.put(area.storeId(), area));
+
+        Map<Long, List<Area>> addedByCell = new HashMap<>();
+        for (Area area : latest.values()) {
+            Area previous = areas.put(area.storeId(), area);
+            if (area.equals(previous)) {
+                continue;
+            }
+            if (previous != null) {
+                forEachCell(previous, key -> removeFromCell(key, previous.storeId()));
+            }
+            forEachCell(area, key -> addedByCell.computeIfAbsent(key, cell -> new ArrayList<>()).add(area));
+        }
+        addedByCell.forEach((key, areasInCell) -> cells.merge(key, areasInCell.toArray(Area[]::new), DeliveryAreaIndex::concat));
+    }
+
+    public synchronized void remove(UUID storeId) {
+        Area previous = areas.remove(storeId);
+        if (previous != null) {
+            forEachCell(previous, key -> removeFromCell(key, storeId));
+        }
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        areas.clear();
+    }
+
+    /**
+     * 배송지가 배달 반경 안에 있는 가게를 조회하는 메서드
+     *
+     * 전체를 정렬하지 않고 offset + limit 개의 가까운 가게만 heap 으로 골라 정렬합니다.
+     *
+     * @param point 배송지 좌표
+     * @param offset 건너뛸 가게 수
+     * @param limit 최대 가게 수
+     * @return 가까운 순서로 정렬된 offset 이후 limit 개의 가게 ID, 거리 / 배달 가능한 전체 가게 수
+     */
+    public SearchResult search(GeoPoint point, int offset, int limit) {
+        Area[] candidates = cells.get(cellKey(point.latitude(), point.longitude()));
+        if (candidates == null || limit <= 0) {
+            return new SearchResult(List.of(), candidates == null ? 0 : count(candidates, point));
+        }
+
+        int capacity = offset + limit;
+        double cosLatitude = Math.cos(Math.toRadians(point.latitude()));
+        // 가장 먼 가게가 root 인 heap (더 가까운 가게가 나오면 교체)
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(Math.min(capacity, candidates.length) + 1, BY_DISTANCE.reversed());
+        int total = 0;
+        for (Area area : candidates) {
+            double distance = point.distanceMeters(area.center(), cosLatitude);
+            if (distance > area.radiusMeters()) {
+                continue;
+            }
+            total++;
+            if (nearest.size() < capacity) {
+                nearest.add(new Hit(area.storeId(), distance));
+            } else if (distance < nearest.peek().distanceMeters()) {
+                nearest.poll();
+                nearest.add(new Hit(area.storeId(), distance));
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(nearest);
+        hits.sort(BY_DISTANCE);
+        return new SearchResult(offset >= hits.size() ? List.of() : hits.subList(offset, hits.size()), total);
+    }
+
+    // 배송지가 배달 반경 안에 있는 가게 전체를 가까운 순서로 조회
+    public List<Hit> search(GeoPoint point) {
+        return search(point, 0, Integer.MAX_VALUE - 1).hits();
+    }
+
+    public int size() {
+        return areas.size();
+    }
+
+    public int cellSize() {
+        return cells.size();
+    }
+
+    // 배달 반경(원) 을 감싸는 사각형에 걸친 모든 칸 (경도 폭은 적도에서 먼 쪽 위도 기준으로 넓게 잡음)
+    private static void forEachCell(Area area, LongConsumer action) {
+        double latitude = area.center().latitude();
+        double longitude = area.center().longitude();
+        double latitudeDelta = area.radiusMeters() / METERS_PER_DEGREE;
+        double farthestLatitude = Math.min(89.9, Math.abs(latitude) + latitudeDelta);
+        double longitudeDelta = area.radiusMeters() / (METERS_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude)));
+
+        long minRow = row(latitude - latitudeDelta);
+        long maxRow = row(latitude + latitudeDelta);
+        long minColumn = column(longitude - longitudeDelta);
+        long maxColumn = column(longitude + longitudeDelta);
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                action.accept(row << 32 | column);
+            }
+        }
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return row(latitude) << 32 | column(longitude);
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static long column(double longitude) {
+        return (long) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static int count(Area[] candidates, GeoPoint point) {
+        double cosLatitude = Math.cos(Math.toRadians(point.latitude()));
+        int count = 0;
+        for (Area area : candidates) {
+            if (point.distanceMeters(area.center(), cosLatitude) <= area.radiusMeters()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void removeFromCell(long key, UUID storeId) {
+        cells.computeIfPresent(key, (cell, areasInCell) -> {
+            for (int i = 0; i < areasInCell.length; i++) {
+                if (areasInCell[i].storeId().equals(storeId)) {
+                    if (areasInCell.length == 1) {
+                        return null;
+                    }
+                    Area[] remaining = new Area[areasInCell.length - 1];
+                    System.arraycopy(areasInCell, 0, remaining, 0, i);
+                    System.arraycopy(areasInCell, i + 1, remaining, i, remaining.length - i);
+                    return remaining;
+                }
+            }
+            return areasInCell;
+        });
+    }
+
+    private static Area[] concat(Area[] current, Area[] added) {
+        Area[] merged = Arrays.copyOf(current, current.length + added.length);
+        System.arraycopy(added, 0, merged, current.length, added.length);
+        return merged;
+    }
+
+    public record Area(UUID storeId, GeoPoint center, int radiusMeters) {
+    }
+
+    public record Hit(UUID storeId, double distanceMeters) {
+    }
+
+    public record SearchResult(List<Hit> hits, int total) {
+    }
+}
@@ -0,0 +1,247 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.config.global.exception.custom.DeliveryAddressNotFoundException;
+import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
+import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.common.index.IndexRefresher;
+import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
+import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+import com.sparta.delivery.domain.geo.service.LocalGeocoder;
+import com.sparta.delivery.domain.store.dto.DeliverableStoreResDto;
+import com.sparta.delivery.domain.store.dto.DeliveryArea;
+import com.sparta.delivery.domain.store.dto.StoreReqDto;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 배송지로 배달 가능한 영업 중인 가게 조회 (홈 화면)
+ *
+ * 1. 가게, 배송지 좌표는 등록/수정 시 입력한 좌표 또는 LocalGeocoder 로 주소에서 조회한 좌표를 저장
+ * 2. 기동 시 가게 위치, 배달 반경을 batchSize 씩 읽어 격자 색인(DeliveryAreaIndex) 을 만들고, 조회는 배송지 좌표 조회 후 메모리에서 처리
+ * 3. 이 replica 에서 등록/수정/삭제한 가게는 커밋 직후, 다른 replica 의 변경은 updatedAt 을 주기적으로 조회해 다시 색인
+ * 4. 색인이 만들어지기 전이거나 사용하지 않으면 좌표 범위로 DB 에서 조회 (결과는 같음)
+ *
+ * 가게 정보는 가게 카탈로그 캐시(StoreCatalogService) 에서 채웁니다.
+ */
+@Service
+public class DeliveryAreaService {
+
+    // 배달 반경 최댓값 (StoreReqDto 검증과 같은 값), DB 조회 시 좌표 범위를 이만큼 넓혀서 조회
+    public static final int MAX_RADIUS_METERS = 10_000;
+
+    private static final List<Integer> PAGE_SIZES = List.of(10, 20, 30);
+
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final StoreRepository storeRepository;
+
+    private final DeliveryAddressRepository deliveryAddressRepository;
+
+    private final StoreCatalogService storeCatalogService;
+
+    private final LocalGeocoder localGeocoder;
+
+    private final DeliveryAreaIndex index = new DeliveryAreaIndex();
+
+    private final IndexRefresher refresher;
+
+    private final int defaultRadiusMeters;
+
+    private final Counter indexCounter;
+
+    private final Counter databaseCounter;
+
+    public DeliveryAreaService(StoreRepository storeRepository,
+                               DeliveryAddressRepository deliveryAddressRepository,
+                               StoreCatalogService storeCatalogService,
+                               LocalGeocoder localGeocoder,
+                               MeterRegistry meterRegistry,
+                               @Value("${store.delivery.enabled:true}") boolean enabled,
+                               @Value("${store.delivery.defaultRadiusMeters:3000}") int defaultRadiusMeters,
+                               @Value("${store.delivery.batchSize:5000}") int batchSize,
+                               @Value("${store.delivery.lookbackSeconds:10}") long lookbackSeconds) {
+        this.storeRepository = storeRepository;
+        this.deliveryAddressRepository = deliveryAddressRepository;
+        this.storeCatalogService = storeCatalogService;
+        this.localGeocoder = localGeocoder;
+        this.refresher = new IndexRefresher("DeliveryArea", enabled, batchSize, Duration.ofSeconds(lookbackSeconds));
+        this.defaultRadiusMeters = Math.min(defaultRadiusMeters, MAX_RADIUS_METERS);
+
+        this.indexCounter = Counter.builder("store.delivery.requests")
+                .tag("source", "index")
+                .description("배달 가능 가게 조회 수 (메모리 색인)")
+                .register(meterRegistry);
+        this.databaseCounter = Counter.builder("store.delivery.requests")
+                .tag("source", "db")
+                .description("배달 가능 가게 조회 수 (색인 미사용, DB 좌표 범위 조회)")
+                .register(meterRegistry);
+        Gauge.builder("store.delivery.index.size", index, DeliveryAreaIndex::size)
+                .description("배달 지역 색인에 등록된 가게 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배송지로 배달 가능한 영업 중인 가게를 가까운 순서로 조회하는 메서드
+     *
+     * @param deliveryAddressId 배송지 ID
+     * @param principalDetails 현재 인증된 사용자 정보 (배송지 주인 또는 MASTER 만 조회 가능)
+     * @param pageable 페이지 정보 (페이지 크기는 10, 20, 30 중 하나, 아니면 10)
+     * @return 가까운 순서로 정렬된 가게 페이지
+     * @throws DeliveryAddressNotFoundException 배송지가 없거나 삭제된 경우
+     * @throws ForbiddenException 다른 사용자의 배송지인 경우
+     * @throws IllegalArgumentException 배송지 주소로 좌표를 찾지 못한 경우
+     * @throws StoreNotFoundException 배달 가능한 가게가 없는 경우
+     */
+    public Page<DeliverableStoreResDto> findDeliverableStores(UUID deliveryAddressId, PrincipalDetails principalDetails, Pageable pageable) {
+        DeliveryAddress deliveryAddress = deliveryAddressRepository.findByDeliveryAddressIdAndDeletedAtIsNull(deliveryAddressId)
+                .orElseThrow(() -> new DeliveryAddressNotFoundException("DeliveryAddress Not Found By Id : " + deliveryAddressId));
+
+        if (!deliveryAddress.getUser().getUsername().equals(principalDetails.getUsername()) &&
+                !principalDetails.getRole().name().equals("ROLE_MASTER")) {
+            throw new ForbiddenException("Access denied.");
+        }
+
+        GeoPoint point = GeoPoint.ofNullable(deliveryAddress.getLatitude(), deliveryAddress.getLongitude());
+        if (point == null) {
+            throw new IllegalArgumentException("배송지 위치를 확인할 수 없습니다. 배송지 주소에 동 이름을 포함해 다시 등록해주세요.");
+        }
+
+        int pageSize = PAGE_SIZES.contains(pageable.getPageSize()) ? pageable.getPageSize() : 10;
+        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageSize);
+        DeliveryAreaIndex.SearchResult result = search(point, (int) Math.min(pageRequest.getOffset(), Integer.MAX_VALUE - pageSize), pageSize);
+        if (result.total() == 0) {
+            throw new StoreNotFoundException("배달 가능한 가게가 존재하지 않습니다.");
+        }
+        List<DeliveryAreaIndex.Hit> pageHits = result.hits();
+
+        Map<UUID, StoreSnapshot> snapshots = storeCatalogService.findStores(pageHits.stream().map(DeliveryAreaIndex.Hit::storeId).toList());
+        List<DeliverableStoreResDto> stores = pageHits.stream()
+                .map(hit -> {
+                    StoreSnapshot snapshot = snapshots.get(hit.storeId());
+                    // 색인 이후 삭제되거나 영업을 멈춘 가게 제외
+                    return snapshot == null || !snapshot.status() ? null : DeliverableStoreResDto.of(snapshot, hit.distanceMeters());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(stores, pageRequest, result.total());
+    }
+
+    /**
+     * 가게 위치, 배달 반경을 정하는 메서드 (가게 등록/수정 시 주소를 바꾸기 전에 호출)
+     *
+     * 좌표를 입력하면 그대로 사용하고, 입력하지 않으면 처음 등록하거나 주소가 바뀐 경우에만 주소로 조회합니다.
+     *
+     * @throws IllegalArgumentException 위도, 경도 중 하나만 입력한 경우
+     */
+    public void locate(Stores store, StoreReqDto storeReqDto) {
+        if ((storeReqDto.getLatitude() == null) != (storeReqDto.getLongitude() == null)) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다.");
+        }
+
+        if (storeReqDto.getLatitude() != null) {
+            store.setLatitude(storeReqDto.getLatitude());
+            store.setLongitude(storeReqDto.getLongitude());
+        } else if (store.getLatitude() == null || !Objects.equals(store.getAddress(), storeReqDto.getAddress())) {
+            GeoPoint point = localGeocoder.geocode(storeReqDto.getAddress()).orElse(null);
+            store.setLatitude(point != null ? point.latitude() : null);
+            store.setLongitude(point != null ? point.longitude() : null);
+        }
+
+        if (storeReqDto.getDeliveryRadius() != null) {
+            store.setDeliveryRadius(storeReqDto.getDeliveryRadius());
+        } else if (store.getDeliveryRadius() == null) {
+            store.setDeliveryRadius(defaultRadiusMeters);
+        }
+    }
+
+    /**
+     * 등록/수정/삭제한 가게를 커밋 직후 다시 색인하는 메서드 (변경하는 트랜잭션 안에서 호출)
+     */
+    public void index(Stores store) {
+        DeliveryArea area = DeliveryArea.from(store);
+        refresher.afterCommit(() -> put(area));
+    }
+
+    /**
+     * 전체 가게 위치, 배달 반경을 batchSize 씩 읽어 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // 색인하는 동안 바뀐 가게는 다음 pollChanges 에서 다시 색인
+        refresher.rebuild(() -> {
+            index.clear();
+            refresher.load(storeRepository::findDeliveryAreas, "storeId",
+                    areas -> index.putAll(areas.stream().filter(DeliveryArea::isDeliverable).map(this::toIndexArea).toList()));
+        }, () -> "stores: " + index.size() + ", cells: " + index.cellSize());
+    }
+
+    /**
+     * 마지막 조회 이후 updatedAt 이 바뀐 가게를 다시 색인 (다른 replica 의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${store.delivery.pollMillis:1000}")
+    public void pollChanges() {
+        refresher.poll(since -> storeRepository.findDeliveryAreasUpdatedSince(since).forEach(this::put));
+    }
+
+    private DeliveryAreaIndex.SearchResult search(GeoPoint point, int offset, int limit) {
+        if (refresher.isReady()) {
+            indexCounter.increment();
+            return index.search(point, offset, limit);
+        }
+
+        databaseCounter.increment();
+        // 가게마다 배달 반경이 다르므로 최대 반경만큼 넓힌 좌표 범위의 가게를 읽고 거리로 거름
+        double latitudeDelta = MAX_RADIUS_METERS / METERS_PER_DEGREE;
+        double longitudeDelta = MAX_RADIUS_METERS / (METERS_PER_DEGREE * Math.cos(Math.toRadians(Math.min(89.9, Math.abs(point.latitude()) + latitudeDelta))));
+        List<DeliveryAreaIndex.Hit> hits = storeRepository.findDeliveryAreasWithin(point.latitude() - latitudeDelta, point.latitude() + latitudeDelta,
+                        point.longitude() - longitudeDelta, point.longitude() + longitudeDelta).stream()
+                .filter(DeliveryArea::isDeliverable)
+                .map(area -> new DeliveryAreaHit(area, point.distanceMeters(area.center())))
+                .filter(candidate -> candidate.distanceMeters() <= radius(candidate.area()))
+                .map(candidate -> new DeliveryAreaIndex.Hit(candidate.area().storeId(), candidate.distanceMeters()))
+                .sorted(DeliveryAreaIndex.BY_DISTANCE)
+                .toList();
+        return new DeliveryAreaIndex.SearchResult(hits.subList(Math.min(offset, hits.size()), Math.min(offset + limit, hits.size())), hits.size());
+    }
+
+    private void put(DeliveryArea area) {
+        if (area.isDeliverable()) {
+            index.putAll(List.of(toIndexArea(area)));
+        } else {
+            index.remove(area.storeId());
+        }
+    }
+
+    private DeliveryAreaIndex.Area toIndexArea(DeliveryArea area) {
+        return new DeliveryAreaIndex.Area(area.storeId(), area.center(), radius(area));
+    }
+
+    private int radius(DeliveryArea area) {
+        return area.deliveryRadius() != null ? Math.min(area.deliveryRadius(), MAX_RADIUS_METERS) : defaultRadiusMeters;
+    }
+
+    private record DeliveryAreaHit(DeliveryArea area, double distanceMeters) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * storeId 별 가게 카탈로그(StoreSnapshot) 캐시
+ *
+ * 1. TTL 이 지난 항목은 조회 시점에 제거하고 miss 로 처리
+ * 2. 최대 가게 수를 넘으면 만료된 항목부터 제거하고, 그래도 가득 차 있으면 임의의 항목을 제거
+ * 3. 상품 수가 maxProductsPerStore 를 넘는 가게는 보관하지 않음 (가게 하나가 메모리를 과하게 차지하지 않도록)
+ */
+public class StoreCatalogCache {
+
+    private final int maxStores;
+
+    private final int maxProductsPerStore;
+
+    private final long ttlMillis;
+
+    private final Map<UUID, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxStores 캐시에 보관할 최대 가게 수 (0 이하이면 캐시하지 않음)
+     * @param maxProductsPerStore 캐시에 보관할 가게의 최대 상품 수
+     * @param ttlMillis 가게 정보 보관 시간 (밀리초)
+     */
+    public StoreCatalogCache(int maxStores, int maxProductsPerStore, long ttlMillis) {
+        this.maxStores = maxStores;
+        this.maxProductsPerStore = maxProductsPerStore;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public boolean isEnabled() {
+        return maxStores > 0;
+    }
+
+    /**
+     * 캐시된 가게 정보를 조회하는 메서드
+     *
+     * @param storeId 가게 ID
+     * @return TTL 이 지나지 않은 가게 정보, 없으면 null
+     */
+    public StoreSnapshot get(UUID storeId) {
+        if (maxStores <= 0) {
+            return null;
+        }
+
+        Entry entry = cache.get(storeId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            cache.remove(storeId, entry);
+            return null;
+        }
+        return entry.snapshot();
+    }
+
+    /**
+     * 가게 정보를 캐시에 저장하는 메서드
+     *
+     * @param snapshot DB 에서 조회한 가게 정보
+     */
+    public void put(StoreSnapshot snapshot) {
+        if (maxStores <= 0 || snapshot.products().size() > maxProductsPerStore) {
+            return;
+        }
+
+        if (cache.size() >= maxStores) {
+            evictOverflow();
+        }
+        cache.put(snapshot.storeId(), new Entry(snapshot, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void evict(UUID storeId) {
+        cache.remove(storeId);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private synchronized void evictOverflow() {
+        cache.values().removeIf(Entry::isExpired);
+
+        Iterator<UUID> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxStores && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(StoreSnapshot snapshot, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.domain.common.invalidation.CacheInvalidationLog;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
+import com.sparta.delivery.domain.store.entity.StoreCatalogInvalidation;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreCatalogInvalidationRepository;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 카탈로그 (가게 정보, 배달 지역, 고객에게 보이는 상품) read-through 캐시
+ *
+ * 1. 캐시에 없는 가게는 가게 + 배달 지역 + 가게 주인 fetch join 1회, 상품 IN 조회 1회로 여러 가게를 한 번에 적재
+ * 2. 가게/상품/배달 지역/별점 집계가 바뀌면 같은 트랜잭션에서 p_store_catalog_invalidation 에 기록하고, 트랜잭션이 끝나면 이 replica 의 캐시에서 제거
+ * 3. 모든 replica 는 무효화 로그를 주기적으로 읽어 자신의 캐시에서 제거 (제거는 여러 번 해도 결과가 같으므로 lookback 만큼 겹쳐서 조회)
+ * 4. 기동 시 리뷰가 많은 가게부터 warmupStores 개를 미리 적재
+ *
+ * 다른 replica 의 변경은 최대 pollMillis, 로그를 놓친 경우에도 최대 ttlSeconds 이후에는 반영됩니다.
+ * 주문마다 바뀌는 상품 재고는 캐시하지 않고 응답할 때 조회합니다.
+ */
+@Slf4j
+@Service
+public class StoreCatalogService {
+
+    private final StoreRepository storeRepository;
+
+    private final ProductRepository productRepository;
+
+    private final StoreCatalogCache cache;
+
+    // 무효화 로그 기록, 다른 replica 의 무효화 로그 조회 (DB 조회 중 무효화된 가게 정보를 캐시에 남기지 않기 위한 epoch 포함)
+    private final CacheInvalidationLog<UUID, StoreCatalogInvalidation> invalidationLog;
+
+    private final int warmupStores;
+
+    private final int warmupBatchSize;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public StoreCatalogService(StoreRepository storeRepository,
+                               ProductRepository productRepository,
+                               StoreCatalogInvalidationRepository storeCatalogInvalidationRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${store.catalog.maxStores:5000}") int maxStores,
+                               @Value("${store.catalog.maxProductsPerStore:200}") int maxProductsPerStore,
+                               @Value("${store.catalog.ttlSeconds:600}") long ttlSeconds,
+                               @Value("${store.catalog.invalidation.lookbackSeconds:10}") long lookbackSeconds,
+                               @Value("${store.catalog.invalidation.retentionMinutes:60}") long retentionMinutes,
+                               @Value("${store.catalog.warmup.stores:500}") int warmupStores,
+                               @Value("${store.catalog.warmup.batchSize:100}") int warmupBatchSize) {
+        this.storeRepository = storeRepository;
+        this.productRepository = productRepository;
+        this.cache = new StoreCatalogCache(maxStores, maxProductsPerStore, Duration.ofSeconds(ttlSeconds).toMillis());
+        this.invalidationLog = new CacheInvalidationLog<>(storeCatalogInvalidationRepository, StoreCatalogInvalidation::of,
+                cache::evict, Duration.ofSeconds(lookbackSeconds), Duration.ofMinutes(retentionMinutes),
+                meterRegistry, "store.catalog.invalidations", "가게");
+        this.warmupStores = warmupStores;
+        this.warmupBatchSize = warmupBatchSize;
+
+        this.hitCounter = Counter.builder("store.catalog.requests")
+                .tag("result", "hit")
+                .description("캐시에서 찾은 가게 카탈로그 조회 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("store.catalog.requests")
+                .tag("result", "miss")
+                .description("DB 에서 적재한 가게 카탈로그 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("store.catalog.size", cache, StoreCatalogCache::size)
+                .description("캐시된 가게 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 삭제되지 않은 가게의 카탈로그를 조회하는 메서드
+     *
+     * @param storeId 가게 ID
+     * @return 가게 카탈로그, 존재하지 않거나 삭제된 가게이면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<StoreSnapshot> findStore(UUID storeId) {
+        return Optional.ofNullable(findStores(List.of(storeId)).get(storeId));
+    }
+
+    /**
+     * 삭제되지 않은 가게들의 카탈로그를 조회하는 메서드 (캐시에 없는 가게만 한 번에 적재)
+     *
+     * @param storeIds 가게 ID 목록
+     * @return storeId 별 가게 카탈로그 (존재하지 않거나 삭제된 가게는 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, StoreSnapshot> findStores(Collection<UUID> storeIds) {
+        Map<UUID, StoreSnapshot> snapshots = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID storeId : storeIds) {
+            StoreSnapshot cached = cache.get(storeId);
+            if (cached != null) {
+                snapshots.put(storeId, cached);
+            } else {
+                missing.add(storeId);
+            }
+        }
+
+        hitCounter.increment(snapshots.size());
+        if (!missing.isEmpty()) {
+            missCounter.increment(missing.size());
+            snapshots.putAll(load(missing));
+        }
+        return snapshots;
+    }
+
+    /**
+     * 가게 카탈로그가 변경되었음을 기록하는 메서드 (변경하는 트랜잭션 안에서 호출, 캐시를 사용하지 않으면 아무것도 하지 않음)
+     *
+     * @param storeIds 변경된 가게 ID 목록
+     */
+    public void invalidate(Collection<UUID> storeIds) {
+        // 캐시를 사용하지 않으면 무효화 로그도 남기지 않음
+        if (!cache.isEnabled()) {
+            return;
+        }
+
+        invalidationLog.record(storeIds);
+    }
+
+    public void invalidate(UUID storeId) {
+        invalidate(List.of(storeId));
+    }
+
+    /**
+     * 다른 replica 에서 커밋된 무효화 로그를 읽어 캐시에서 제거
+     */
+    @Scheduled(fixedDelayString = "${store.catalog.invalidation.pollMillis:1000}")
+    public void pollInvalidations() {
+        if (!cache.isEnabled()) {
+            return;
+        }
+        invalidationLog.poll();
+    }
+
+    @Scheduled(cron = "${store.catalog.invalidation.cleanupCron:0 */10 * * * *}")
+    @Transactional
+    public int deleteExpiredInvalidations() {
+        return invalidationLog.deleteExpired();
+    }
+
+    /**
+     * 리뷰가 많은 가게부터 warmupStores 개의 카탈로그를 batchSize 씩 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!cache.isEnabled() || warmupStores <= 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<UUID> storeIds = storeRepository.findStoreIdsByDeletedAtIsNull(
+                PageRequest.of(0, warmupStores, Sort.by(Sort.Direction.DESC, "reviewSum"))).getContent();
+
+        for (int from = 0; from < storeIds.size(); from += warmupBatchSize) {
+            load(storeIds.subList(from, Math.min(from + warmupBatchSize, storeIds.size())));
+        }
+        log.info("[StoreCatalog] warm-up finished - stores: {}, elapsed: {} ms",
+                cache.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private Map<UUID, StoreSnapshot> load(Collection<UUID> storeIds) {
+        long epoch = invalidationLog.epoch();
+
+        Map<UUID, List<Product>> productsByStore = productRepository
+                .findAllByStore_StoreIdInAndDeletedAtIsNullAndHiddenFalse(storeIds).stream()
+                .collect(Collectors.groupingBy(product -> product.getStore().getStoreId()));
+
+        Map<UUID, StoreSnapshot> loaded = new HashMap<>();
+        for (Stores store : storeRepository.findAllWithRegionsByStoreIdIn(storeIds)) {
+            StoreSnapshot snapshot = StoreSnapshot.of(store, productsByStore.getOrDefault(store.getStoreId(), List.of()));
+            loaded.put(store.getStoreId(), snapshot);
+            cache.put(snapshot);
+        }
+
+        // 조회하는 동안 무효화가 있었다면 이전 정보일 수 있으므로 다시 제거
+        if (invalidationLog.isInvalidatedSince(epoch)) {
+            invalidationLog.evict(loaded.keySet());
+        }
+        return loaded;
+    }
+}
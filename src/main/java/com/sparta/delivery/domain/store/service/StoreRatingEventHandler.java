@@ -0,0 +1,35 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.domain.outbox.entity.OutboxEvent;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.service.OutboxEventHandler;
+import com.sparta.delivery.domain.outbox.service.OutboxService;
+import com.sparta.delivery.domain.review.dto.ReviewEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 리뷰 등록/수정/삭제 이벤트를 가게 별점 집계에 반영하는 outbox handler
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreRatingEventHandler implements OutboxEventHandler {
+
+    private final StoreRatingService storeRatingService;
+    private final OutboxService outboxService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return StoreRatingService.REVIEW_EVENT_TYPES;
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        storeRatingService.applyReviewEvents(events.stream()
+                .map(event -> outboxService.readPayload(event, ReviewEventDto.class))
+                .toList());
+    }
+}
@@ -0,0 +1,188 @@
+package com.sparta.delivery.domain.store.service;
+
+import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.outbox.enums.OutboxEventType;
+import com.sparta.delivery.domain.outbox.enums.OutboxStatus;
+import com.sparta.delivery.domain.review.dto.ReviewEventDto;
+import com.sparta.delivery.domain.review.repository.ReviewRepository;
+import com.sparta.delivery.domain.store.dto.StoreRatingDto;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 별점 집계 (별점 합계, 리뷰 수, 1~5점 별 리뷰 수) 관리
+ *
+ * 1. 리뷰 등록/수정/삭제 outbox 이벤트를 가게별로 합쳐 가게 row 를 읽지 않고 증감분만 update 쿼리 한 번으로 반영
+ * 2. 정합성 보정 작업이 리뷰 테이블 기준으로 집계를 다시 계산해 차이(drift)가 있는 가게를 보고하고 덮어씀
+ */
+@Slf4j
+@Service
+public class StoreRatingService {
+
+    private static final List<Integer> EMPTY_DISTRIBUTION = List.of(0, 0, 0, 0, 0);
+
+    static final Set<OutboxEventType> REVIEW_EVENT_TYPES =
+            Set.of(OutboxEventType.REVIEW_WRITTEN, OutboxEventType.REVIEW_UPDATED, OutboxEventType.REVIEW_DELETED);
+
+    private final StoreRepository storeRepository;
+    private final ReviewRepository reviewRepository;
+    private final StoreCatalogService storeCatalogService;
+    private final TransactionTemplate transactionTemplate;
+
+    public StoreRatingService(StoreRepository storeRepository,
+                              ReviewRepository reviewRepository,
+                              StoreCatalogService storeCatalogService,
+                              PlatformTransactionManager transactionManager) {
+        this.storeRepository = storeRepository;
+        this.reviewRepository = reviewRepository;
+        this.storeCatalogService = storeCatalogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 리뷰 등록/수정/삭제 이벤트를 가게별로 합쳐 가게마다 update 한 번으로 반영하는 메서드
+     *
+     * 같은 가게에 리뷰가 몰려도 가게 row 는 batch 당 한 번만 잠기고, 카탈로그 캐시도 batch 당 한 번만 무효화됩니다.
+     *
+     * @param events 리뷰 이벤트 목록 (등록은 oldStar, 삭제는 newStar 가 null)
+     */
+    @Transactional
+    public void applyReviewEvents(List<ReviewEventDto> events) {
+        Map<UUID, RatingDelta> deltaByStore = new LinkedHashMap<>();
+        for (ReviewEventDto event : events) {
+            RatingDelta delta = deltaByStore.computeIfAbsent(event.getStoreId(), storeId -> new RatingDelta());
+            if (event.getOldStar() != null) {
+                delta.remove(event.getOldStar());
+            }
+            if (event.getNewStar() != null) {
+                delta.add(event.getNewStar());
+            }
+        }
+
+        for (Map.Entry<UUID, RatingDelta> entry : deltaByStore.entrySet()) {
+            RatingDelta delta = entry.getValue();
+            if (!delta.isEmpty()) {
+                applyDelta(entry.getKey(), delta.starSum, delta.count, delta.starCounts);
+            }
+        }
+        storeCatalogService.invalidate(deltaByStore.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList());
+    }
+
+    /**
+     * 리뷰 테이블 기준으로 가게 별점 집계를 다시 계산해 보정하는 메서드
+     *
+     * 집계 증감은 리뷰 저장 이후 outbox 로 반영되므로, 리뷰를 직접 수정하거나 이벤트 처리를 포기(FAILED)한 경우 차이가 생길 수 있습니다.
+     * 잠금 없이 읽은 집계로 차이가 있는 가게만 고른 뒤, 가게마다 트랜잭션 하나에서 다음 순서로 보정합니다.
+     *
+     * 1. 가게 row 를 잠가 보정이 끝날 때까지 이 가게의 리뷰 이벤트 증감이 반영되지 않도록 함
+     * 2. 잠금 이후 update 한 문장에서 리뷰 테이블로 집계를 다시 계산 (잠금 전에 커밋된 증감, 리뷰는 모두 보임)
+     * 3. 같은 문장에서 이 가게에 처리 대기 중인 리뷰 이벤트가 보이면 덮어쓰지 않고 다음 실행으로 넘김
+     *
+     * 리뷰와 outbox 이벤트는 같은 트랜잭션에서 커밋되므로, 재계산에 포함된 리뷰의 증감이 나중에 한 번 더 반영되거나
+     * 재계산 이전에 반영된 증감이 덮어써져 사라지지 않습니다. 모든 replica 에서 실행되어도 결과는 동일합니다.
+     *
+     * @return 집계값이 달라 보정한 가게 수
+     */
+    @Scheduled(cron = "${store.rating.reconcileCron:0 0 4 * * *}")
+    public int reconcileRatings() {
+        Map<UUID, StoreRatingDto> expectedRatings = reviewRepository.aggregateRatingsByStore().stream()
+                .collect(Collectors.toMap(StoreRatingDto::getStoreId, Function.identity()));
+
+        int driftCount = 0;
+        int skippedCount = 0;
+        for (StoreRatingDto actual : storeRepository.findAllRatings()) {
+            StoreRatingDto expected = expectedRatings.getOrDefault(actual.getStoreId(),
+                    new StoreRatingDto(actual.getStoreId(), 0, 0, EMPTY_DISTRIBUTION));
+
+            if (isSameRating(expected, actual)) {
+                continue;
+            }
+
+            if (!recalculate(actual.getStoreId())) {
+                log.info("[StoreRating] reconcile skipped storeId={} - pending review events", actual.getStoreId());
+                skippedCount++;
+                continue;
+            }
+
+            log.warn("[StoreRating] drift storeId={} starSum {} -> {}, reviewSum {} -> {}, distribution {} -> {}",
+                    actual.getStoreId(), actual.getStarSum(), expected.getStarSum(),
+                    actual.getReviewSum(), expected.getReviewSum(),
+                    actual.getStarDistribution(), expected.getStarDistribution());
+            storeCatalogService.invalidate(actual.getStoreId());
+            driftCount++;
+        }
+
+        log.info("[StoreRating] reconcile finished - corrected stores: {}, skipped stores: {}", driftCount, skippedCount);
+        return driftCount;
+    }
+
+    // 가게 row 를 잠근 뒤 리뷰 테이블 기준으로 다시 계산 (처리 대기 중인 리뷰 이벤트가 있거나 가게가 없으면 false)
+    private boolean recalculate(UUID storeId) {
+        Boolean recalculated = transactionTemplate.execute(status -> storeRepository.lockRating(storeId).isPresent()
+                && storeRepository.recalculateRating(storeId, OutboxStatus.PENDING, REVIEW_EVENT_TYPES) > 0);
+        return Boolean.TRUE.equals(recalculated);
+    }
+
+    private void applyDelta(UUID storeId, int starSumDelta, int countDelta, int[] starDelta) {
+        int updated = storeRepository.addRatingDelta(storeId, starSumDelta, countDelta,
+                starDelta[0], starDelta[1], starDelta[2], starDelta[3], starDelta[4]);
+
+        if (updated == 0) {
+            throw new StoreNotFoundException("존재하지 않는 가게입니다.");
+        }
+    }
+
+    private static int starIndex(int star) {
+        if (star < 1 || star > 5) {
+            throw new IllegalArgumentException("별점은 1점부터 5점까지 가능합니다.");
+        }
+        return star - 1;
+    }
+
+    private boolean isSameRating(StoreRatingDto expected, StoreRatingDto actual) {
+        return expected.getStarSum() == actual.getStarSum()
+                && expected.getReviewSum() == actual.getReviewSum()
+                && expected.getStarDistribution().equals(actual.getStarDistribution());
+    }
+
+    // 가게 하나의 별점 합계, 리뷰 수, 1~5점 별 리뷰 수 증감분
+    private static class RatingDelta {
+
+        private int starSum;
+        private int count;
+        private final int[] starCounts = new int[5];
+
+        private void add(int star) {
+            starCounts[starIndex(star)]++;
+            starSum += star;
+            count++;
+        }
+
+        private void remove(int star) {
+            starCounts[starIndex(star)]--;
+            starSum -= star;
+            count--;
+        }
+
+        private boolean isEmpty() {
+            return starSum == 0 && count == 0 && Arrays.stream(starCounts).allMatch(starCount -> starCount == 0);
+        }
+    }
+}
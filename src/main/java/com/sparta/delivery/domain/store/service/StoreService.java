@@ -4,90 +4,110 @@ import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.UserNotFoundException;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteService;
 import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.store.dto.DeliverableStoreResDto;
 import com.sparta.delivery.domain.store.dto.StoreRegionResDto;
 import com.sparta.delivery.domain.store.dto.StoreReqDto;
 import com.sparta.delivery.domain.store.dto.StoreResDto;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StoreService {
 
     private final StoreRepository storeRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final StoreCatalogService storeCatalogService;
+    private final AutocompleteService autocompleteService;
+    private final DeliveryAreaService deliveryAreaService;
 
     @Transactional
     public StoreResDto storeCreate(StoreReqDto storereqdto, PrincipalDetails userDetails) {//가게 저장
         Stores store = reqDtoToEntity(storereqdto);
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(userDetails.getUsername()).orElseThrow(() -> new UserNotFoundException("해당 유저가 존재하지 않습니다"));
+        User user = userLookupService.findUser(userDetails.getUsername()).orElseThrow(() -> new UserNotFoundException("해당 유저가 존재하지 않습니다"));
         store.setUser(user);
-        return entityToResDto(storeRepository.save(store));
+        deliveryAreaService.locate(store, storereqdto);
+        Stores savedStore = storeRepository.save(store);
+        autocompleteService.index(savedStore);
+        deliveryAreaService.index(savedStore);
+        return entityToResDto(savedStore);
+    }
+
+    public Page<DeliverableStoreResDto> getDeliverableStores(UUID deliveryAddressId, PrincipalDetails userDetails, Pageable pageable) { //배달 가능 가게 조회
+        return deliveryAreaService.findDeliverableStores(deliveryAddressId, userDetails, pageable);
     }
 
     public Page<StoreRegionResDto> getStoreList(Pageable pageable) { //가게 리스트 조회
-        Page<Stores> storeList = storeRepository.findAllByDeletedAtIsNull(pageable);
-        if (storeList.isEmpty()) {
+        // 페이지에 해당하는 가게 ID 만 조회하고 가게 정보, 배달 지역은 카탈로그 캐시에서 채움
+        Page<UUID> storeIdList = storeRepository.findStoreIdsByDeletedAtIsNull(pageable);
+        if (storeIdList.isEmpty()) {
             throw new StoreNotFoundException("가게가 한개도 등록되어있지 않습니다.");
         }
 
-        return storeList.map(StoreRegionResDto::new);
-    }
+        Map<UUID, StoreSnapshot> snapshots = storeCatalogService.findStores(storeIdList.getContent());
+        List<StoreRegionResDto> storeList = storeIdList.getContent().stream()
+                .map(snapshots::get)
+                .filter(Objects::nonNull) // ID 조회 이후 삭제된 가게 제외
+                .map(StoreSnapshot::toStoreRegionResDto)
+                .toList();
 
-    public StoreRegionResDto getStoreOne(UUID id) {//가게 단일 조회
-        return new StoreRegionResDto(storeRepository.findByStoreIdAndDeletedAtIsNull(id).orElseThrow(() -> new StoreNotFoundException("해당 가게가 존재하지 않습니다")));
+        return new PageImpl<>(storeList, storeIdList.getPageable(), storeIdList.getTotalElements());
     }
 
-    public Stores updateStoreReview(UUID id, int star, int cnt) { //별점, 개수여부(+1 or -1)
-        Stores store = storeRepository.findById(id).orElseThrow(() -> new StoreNotFoundException("가게를 등록할 수 없습니다."));
-        store.setStarSum(store.getStarSum() + star);
-        store.setReviewSum(store.getReviewSum() + cnt);
-        return storeRepository.save(store);//
+    public StoreRegionResDto getStoreOne(UUID id) {//가게 단일 조회
+        return storeCatalogService.findStore(id)
+                .map(StoreSnapshot::toStoreRegionResDto)
+                .orElseThrow(() -> new StoreNotFoundException("해당 가게가 존재하지 않습니다"));
     }
 
-    public List<StoreResDto> searchStore(String keyword, Pageable pageable, String categorys, String sortBy, String order) {//가게 검색
+    public Page<StoreResDto> searchStore(String keyword, Pageable pageable, String categorys, String sortBy, String order) {//가게 검색
         Category category = Category.valueOf(categorys);
-        List<Stores> storeList = (keyword == null || keyword.trim().isEmpty()) ?
-                storeRepository.findByCategoryAndDeletedAtIsNull(category, sortBy, order) : storeRepository.findByNameContainingAndCategoryAndDeletedAtIsNull(keyword, category, sortBy, order);
         List<Integer> Size_List = List.of(10, 20, 30);
-        if (!Size_List.contains((pageable.getPageSize()))) {
-            pageable = PageRequest.of(pageable.getPageNumber(), 10, pageable.getSort());
-        }
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), storeList.size());
+        int pageSize = Size_List.contains(pageable.getPageSize()) ? pageable.getPageSize() : 10;
 
-        if (storeList.isEmpty() || start >= storeList.size()) {
+        // 정렬 방향 지정 (기본은 DESC), 정렬 컬럼 검증은 repository 에서 화이트리스트로 처리
+        Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = (sortBy == null || sortBy.isBlank()) ? Sort.unsorted() : Sort.by(direction, sortBy);
+
+        Page<StoreResDto> storeList = storeRepository.searchStore(keyword, category, PageRequest.of(pageable.getPageNumber(), pageSize, sort));
+        if (storeList.isEmpty()) {
             throw new StoreNotFoundException("가게 검색 결과가 존재하지 않습니다.");
         }
-        return storeList.subList(start, end)
-                .stream()
-                .map(StoreResDto::new)
-                .collect(Collectors.toList());
+        return storeList;
     }
 
     @Transactional
     public StoreResDto updateStore(StoreReqDto storereqdto, UUID id, PrincipalDetails userDetails) { //가게 업데이트
         Stores store = storeRepository.findByStoreIdAndDeletedAtIsNull(id).orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
 
+        deliveryAreaService.locate(store, storereqdto); // 주소가 바뀌었는지 비교하므로 주소 변경 전에 호출
         store.setAddress(storereqdto.getAddress());
         store.setCategory(storereqdto.getCategory());
         store.setName(storereqdto.getName());
+        storeCatalogService.invalidate(id);
+        autocompleteService.index(store);
+        deliveryAreaService.index(store);
 
         return entityToResDto(store);
     }
@@ -101,8 +121,12 @@ public class StoreService {
             for (Region region : store.getRegionList()) {
                 region.setDeletedBy(userDetails.getUsername());
                 region.setDeletedAt(LocalDateTime.now());
+                autocompleteService.index(region);
             }
         }
+        storeCatalogService.invalidate(id);
+        autocompleteService.index(store);
+        deliveryAreaService.index(store);
     }
 
     public StoreResDto entityToResDto(Stores stores) {
@@ -37,6 +37,20 @@ public @interface StoreSwaggerDocs {
     @interface StoreList {
     }
 
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "배달 가능 가게 조회", description = "배송지로 배달 가능한 영업 중인 가게를 가까운 순서로 조회합니다.")
+    @Parameter(name = "deliveryAddressId", description = "배송지의 UUID", required = true, example = "af2a560c-1512-4912-97ce-02f9afce72aa")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "배송지 위치를 확인할 수 없음"),
+            @ApiResponse(responseCode = "403", description = "다른 사용자의 배송지"),
+            @ApiResponse(responseCode = "404", description = "배송지가 존재하지 않거나 배달 가능한 가게가 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @interface Deliverable {
+    }
+
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "가게 단일 조회", description = "특정 가게의 정보를 조회합니다.")
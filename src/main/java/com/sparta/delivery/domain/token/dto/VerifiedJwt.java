@@ -0,0 +1,51 @@
+package com.sparta.delivery.domain.token.dto;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 JWT 의 payload
+ *
+ * 한 번의 파싱으로 필터에서 필요한 값을 모두 꺼내 담으며, 생성 이후에는 변경되지 않습니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedJwt {
+
+    private final String category;
+
+    private final String username;
+
+    private final String email;
+
+    private final String role;
+
+    // 만료 시각 (epoch millis), exp 가 없는 토큰은 0
+    private final long expiresAt;
+
+    /**
+     * 검증된 Claims 로 VerifiedJwt 를 생성하는 메서드
+     *
+     * @param claims 서명 검증이 끝난 Claims
+     * @return VerifiedJwt 객체
+     */
+    public static VerifiedJwt from(Claims claims) {
+        return new VerifiedJwt(
+                claims.get("category", String.class),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : 0L
+        );
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(category);
+    }
+
+    public boolean isExpired() {
+        return expiresAt <= System.currentTimeMillis();
+    }
+}
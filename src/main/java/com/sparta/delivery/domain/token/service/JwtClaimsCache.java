@@ -0,0 +1,92 @@
+package com.sparta.delivery.domain.token.service;
+
+import com.sparta.delivery.domain.token.dto.VerifiedJwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 토큰을 보관하는 캐시
+ *
+ * 1. 토큰 원문이 아닌 SHA-256 해시를 key 로 사용
+ * 2. 만료된 토큰은 조회 시점에 제거하고 miss 로 처리 (다시 파싱하면 ExpiredJwtException 발생)
+ * 3. 최대 크기를 넘으면 만료된 항목부터 제거하고, 그래도 가득 차 있으면 임의의 항목을 제거
+ */
+public class JwtClaimsCache {
+
+    private final int maxSize;
+
+    private final Map<String, VerifiedJwt> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize 캐시에 보관할 최대 토큰 수 (0 이하이면 캐시하지 않음)
+     */
+    public JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 검증 결과를 조회하는 메서드
+     *
+     * @param token JWT 토큰
+     * @return 만료되지 않은 검증 결과, 없으면 null
+     */
+    public VerifiedJwt get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        String key = hash(token);
+        VerifiedJwt verifiedJwt = cache.get(key);
+        if (verifiedJwt != null && verifiedJwt.isExpired()) {
+            cache.remove(key, verifiedJwt);
+            return null;
+        }
+        return verifiedJwt;
+    }
+
+    /**
+     * 검증 결과를 캐시에 저장하는 메서드
+     *
+     * @param token JWT 토큰
+     * @param verifiedJwt 서명 검증이 끝난 토큰 정보
+     */
+    public void put(String token, VerifiedJwt verifiedJwt) {
+        if (maxSize <= 0 || verifiedJwt.isExpired()) {
+            return;
+        }
+
+        if (cache.size() >= maxSize) {
+            evict();
+        }
+        cache.put(hash(token), verifiedJwt);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private synchronized void evict() {
+        cache.values().removeIf(VerifiedJwt::isExpired);
+
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.sparta.delivery.domain.token.service;
 
+import com.sparta.delivery.domain.token.dto.VerifiedJwt;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,18 +18,48 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
 
+    // 파서는 thread-safe 하므로 한 번만 생성해서 재사용
+    private final JwtParser jwtParser;
+
+    private final JwtClaimsCache claimsCache;
+
     /**
      * JwtUtil 생성자
      *
      * @param secretKey Jwt 시크릿 키를 받아 SecretKey 객체를 생성합니다.
+     * @param claimsCacheSize 검증된 토큰을 캐시할 최대 개수 (0 이하이면 캐시하지 않음)
      * @throws IllegalArgumentException 제공된 키가 유효하지 않으면 예외가 발생할 수 있습니다.
      */
-    public JwtUtil(@Value("${spring.jwt.secret}") String secretKey) {
+    public JwtUtil(@Value("${spring.jwt.secret}") String secretKey,
+                   @Value("${spring.jwt.claimsCacheSize:10000}") int claimsCacheSize) {
         this.secretKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
-
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .build();
+        this.claimsCache = new JwtClaimsCache(claimsCacheSize);
     }
 
+    /**
+     * JWT 토큰을 한 번만 파싱해 검증된 토큰 정보를 반환하는 메서드
+     *
+     * 같은 토큰으로 다시 요청하면 캐시된 결과를 반환하므로 서명 검증을 다시 하지 않습니다.
+     *
+     * @param token JWT 토큰
+     * @return 서명 검증이 끝난 토큰 정보
+     * @throws io.jsonwebtoken.ExpiredJwtException 토큰이 만료된 경우
+     * @throws io.jsonwebtoken.JwtException 토큰 형식이나 서명이 잘못된 경우
+     */
+    public VerifiedJwt verify(String token) {
+        VerifiedJwt cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedJwt verifiedJwt = VerifiedJwt.from(parseClaims(token));
+        claimsCache.put(token, verifiedJwt);
+        return verifiedJwt;
+    }
 
     /**
      * JWT 토큰에서 username을 추출하는 메서드
@@ -119,9 +151,7 @@ public class JwtUtil {
      * @return 파싱된 Claims 객체
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
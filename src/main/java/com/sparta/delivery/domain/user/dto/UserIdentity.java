@@ -0,0 +1,28 @@
+package com.sparta.delivery.domain.user.dto;
+
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 서비스에서 요청 사용자를 식별할 때 필요한 정보 (비밀번호 등 민감 정보는 포함하지 않음)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserIdentity {
+
+    private final UUID userId;
+
+    private final String username;
+
+    private final UserRoles role;
+
+    public static UserIdentity from(User user) {
+        return new UserIdentity(user.getUserId(), user.getUsername(), user.getRole());
+    }
+}
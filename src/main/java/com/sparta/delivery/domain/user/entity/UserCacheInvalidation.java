@@ -0,0 +1,54 @@
+package com.sparta.delivery.domain.user.entity;
+
+import com.sparta.delivery.domain.common.invalidation.CacheInvalidation;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * replica 간 사용자 캐시 무효화 전달용 로그
+ *
+ * 사용자 정보 수정/권한 변경/삭제와 같은 트랜잭션에서 추가되며, 각 replica 가 주기적으로 읽어 자신의 캐시에서 제거합니다.
+ * 보관 기간이 지나면 삭제됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "p_user_cache_invalidation", indexes = {
+        @Index(name = "idx_user_cache_invalidation_invalidated_at", columnList = "invalidatedAt")
+})
+public class UserCacheInvalidation implements CacheInvalidation<String> {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long invalidationId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private LocalDateTime invalidatedAt;
+
+    public static UserCacheInvalidation of(String username) {
+        return of(username, LocalDateTime.now());
+    }
+
+    public static UserCacheInvalidation of(String username, LocalDateTime invalidatedAt) {
+        return UserCacheInvalidation.builder()
+                .username(username)
+                .invalidatedAt(invalidatedAt)
+                .build();
+    }
+
+    @Override
+    public String getKey() {
+        return username;
+    }
+}
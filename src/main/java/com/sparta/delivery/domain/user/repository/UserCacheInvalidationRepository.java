@@ -0,0 +1,17 @@
+package com.sparta.delivery.domain.user.repository;
+
+import com.sparta.delivery.domain.common.invalidation.CacheInvalidationRepository;
+import com.sparta.delivery.domain.user.entity.UserCacheInvalidation;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface UserCacheInvalidationRepository extends CacheInvalidationRepository<UserCacheInvalidation> {
+
+    @Override
+    @Modifying
+    @Query("delete from UserCacheInvalidation i where i.invalidatedAt < :before")
+    int deleteInvalidatedBefore(@Param("before") LocalDateTime before);
+}
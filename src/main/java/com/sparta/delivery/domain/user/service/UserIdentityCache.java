@@ -0,0 +1,99 @@
+package com.sparta.delivery.domain.user.service;
+
+import com.sparta.delivery.domain.user.dto.UserIdentity;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * username 으로 조회한 사용자 식별 정보 캐시
+ *
+ * 1. TTL 이 지난 항목은 조회 시점에 제거하고 miss 로 처리
+ * 2. 최대 크기를 넘으면 만료된 항목부터 제거하고, 그래도 가득 차 있으면 임의의 항목을 제거
+ * 3. 사용자 정보가 바뀌면 evict 로 즉시 제거 (다음 조회 시 DB 에서 다시 읽음)
+ */
+public class UserIdentityCache {
+
+    private final int maxSize;
+
+    private final long ttlMillis;
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize 캐시에 보관할 최대 사용자 수 (0 이하이면 캐시하지 않음)
+     * @param ttlMillis 사용자 정보 보관 시간 (밀리초)
+     */
+    public UserIdentityCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 캐시된 사용자 정보를 조회하는 메서드
+     *
+     * @param username 사용자 username
+     * @return TTL 이 지나지 않은 사용자 정보, 없으면 null
+     */
+    public UserIdentity get(String username) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        Entry entry = cache.get(username);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            cache.remove(username, entry);
+            return null;
+        }
+        return entry.identity();
+    }
+
+    /**
+     * 사용자 정보를 캐시에 저장하는 메서드
+     *
+     * @param identity DB 에서 조회한 사용자 정보
+     */
+    public void put(UserIdentity identity) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        if (cache.size() >= maxSize) {
+            evictOverflow();
+        }
+        cache.put(identity.getUsername(), new Entry(identity, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void evict(String username) {
+        cache.remove(username);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private synchronized void evictOverflow() {
+        cache.values().removeIf(Entry::isExpired);
+
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(UserIdentity identity, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
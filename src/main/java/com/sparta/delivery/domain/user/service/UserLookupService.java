@@ -0,0 +1,145 @@
+package com.sparta.delivery.domain.user.service;
+
+import com.sparta.delivery.domain.common.invalidation.CacheInvalidationLog;
+import com.sparta.delivery.domain.user.dto.UserIdentity;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.entity.UserCacheInvalidation;
+import com.sparta.delivery.domain.user.repository.UserCacheInvalidationRepository;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 서비스 공통 username -> 사용자 조회 (read-through 캐시)
+ *
+ * 1. 식별 정보(userId, username, role)만 캐시하고, 연관관계/조회 조건에 필요한 User 는 getReferenceById 로 만들어 추가 조회 없이 사용
+ * 2. 사용자 정보 수정/권한 변경/삭제 시 같은 트랜잭션에서 p_user_cache_invalidation 에 기록하고, 트랜잭션이 끝나면 이 replica 의 캐시에서 제거
+ * 3. 모든 replica 는 무효화 로그를 주기적으로 읽어 자신의 캐시에서 제거 (제거는 여러 번 해도 결과가 같으므로 lookback 만큼 겹쳐서 조회)
+ *
+ * 다른 replica 의 변경은 최대 pollMillis, 로그를 놓친 경우에도 최대 ttlSeconds 이후에는 반영됩니다.
+ * 로그인은 비밀번호 검증이 필요하므로 캐시를 사용하지 않습니다.
+ */
+@Service
+public class UserLookupService {
+
+    private final UserRepository userRepository;
+
+    private final UserIdentityCache cache;
+
+    // 무효화 로그 기록, 다른 replica 의 무효화 로그 조회 (DB 조회 중 무효화된 사용자 정보를 캐시에 남기지 않기 위한 epoch 포함)
+    private final CacheInvalidationLog<String, UserCacheInvalidation> invalidationLog;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserLookupService(UserRepository userRepository,
+                             UserCacheInvalidationRepository userCacheInvalidationRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${user.cache.maxSize:10000}") int maxSize,
+                             @Value("${user.cache.ttlSeconds:300}") long ttlSeconds,
+                             @Value("${user.cache.invalidation.lookbackSeconds:10}") long lookbackSeconds,
+                             @Value("${user.cache.invalidation.retentionMinutes:60}") long retentionMinutes) {
+        this.userRepository = userRepository;
+        this.cache = new UserIdentityCache(maxSize, Duration.ofSeconds(ttlSeconds).toMillis());
+        this.invalidationLog = new CacheInvalidationLog<>(userCacheInvalidationRepository, UserCacheInvalidation::of,
+                cache::evict, Duration.ofSeconds(lookbackSeconds), Duration.ofMinutes(retentionMinutes),
+                meterRegistry, "user.cache.invalidations", "사용자");
+
+        // 적중률 = hit / (hit + miss), 요청당 절약한 조회 수 = hit 증가량 / http.server.requests 증가량
+        this.hitCounter = Counter.builder("user.cache.requests")
+                .tag("result", "hit")
+                .description("캐시에서 찾아 DB 조회를 생략한 사용자 조회 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("user.cache.requests")
+                .tag("result", "miss")
+                .description("DB 에서 조회한 사용자 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("user.cache.size", cache, UserIdentityCache::size)
+                .description("캐시된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 삭제되지 않은 사용자의 식별 정보를 조회하는 메서드
+     *
+     * @param username 사용자 username
+     * @return 사용자 식별 정보, 존재하지 않거나 삭제된 사용자이면 empty
+     */
+    public Optional<UserIdentity> findIdentity(String username) {
+        UserIdentity cached = cache.get(username);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+        missCounter.increment();
+
+        long epoch = invalidationLog.epoch();
+        Optional<UserIdentity> identity = userRepository.findByUsernameAndDeletedAtIsNull(username)
+                .map(UserIdentity::from);
+
+        identity.ifPresent(loaded -> {
+            cache.put(loaded);
+            // 조회하는 동안 무효화가 있었다면 이전 정보일 수 있으므로 다시 제거
+            if (invalidationLog.isInvalidatedSince(epoch)) {
+                cache.evict(username);
+            }
+        });
+        return identity;
+    }
+
+    /**
+     * 삭제되지 않은 사용자를 조회하는 메서드
+     *
+     * 반환되는 User 는 프록시이므로 userId 외의 필드에 접근하면 DB 조회가 발생합니다.
+     * 권한 검사에는 findIdentity 의 role 을 사용하세요.
+     *
+     * @param username 사용자 username
+     * @return 연관관계 설정, 조회 조건에 사용할 User, 존재하지 않거나 삭제된 사용자이면 empty
+     */
+    public Optional<User> findUser(String username) {
+        return findIdentity(username).map(this::getReference);
+    }
+
+    public User getReference(UserIdentity identity) {
+        return userRepository.getReferenceById(identity.getUserId());
+    }
+
+    /**
+     * 사용자 정보가 변경되었음을 기록하는 메서드 (사용자 정보를 변경하는 트랜잭션 안에서 호출)
+     *
+     * @param username 변경된 사용자 username
+     */
+    public void invalidate(String username) {
+        invalidationLog.record(List.of(username));
+    }
+
+    /**
+     * 다른 replica 에서 커밋된 무효화 로그를 읽어 캐시에서 제거
+     */
+    @Scheduled(fixedDelayString = "${user.cache.invalidation.pollMillis:1000}")
+    public void pollInvalidations() {
+        if (!cache.isEnabled()) {
+            return;
+        }
+        invalidationLog.poll();
+    }
+
+    @Scheduled(cron = "${user.cache.invalidation.cleanupCron:0 */10 * * * *}")
+    @Transactional
+    public int deleteExpiredInvalidations() {
+        return invalidationLog.deleteExpired();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
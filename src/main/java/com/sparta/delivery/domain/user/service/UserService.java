@@ -5,6 +5,7 @@ import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
 import com.sparta.delivery.config.global.exception.custom.InvalidRefreshTokenException;
 import com.sparta.delivery.config.global.exception.custom.UserNotFoundException;
+import com.sparta.delivery.domain.audit.annotation.Audited;
 import com.sparta.delivery.domain.token.service.JwtServiceImpl;
 import com.sparta.delivery.domain.token.service.RefreshTokenServiceImpl;
 import com.sparta.delivery.domain.user.dto.*;
@@ -32,6 +33,7 @@ public class UserService {
     private final PasswordEncoder  passwordEncoder;
     private final JwtServiceImpl jwtService;
     private final RefreshTokenServiceImpl refreshTokenService;
+    private final UserLookupService userLookupService;
 
 
     /**
@@ -47,6 +49,7 @@ public class UserService {
      * @return 등록된 회원 정보를 담은 UserResDto 객체
      * @throws IllegalArgumentException 이미 존재하는 username인 경우 예외 발생
      */
+    @Audited
     public UserResDto signup(SignupReqDto signupReqDto) {
 
         if (userRepository.existsByUsername(signupReqDto.getUsername())){
@@ -79,6 +82,8 @@ public class UserService {
      * @return 발급된 JWT 액세스 토큰 및 리프레시 토큰을 담은 AuthTokenData 객체
      * @throws IllegalArgumentException 존재하지않는 username이거나, 비밀번호가 일치하지 않을 경우 예외 발생
      */
+    // 로그인은 요청이 많아 성공 건은 10%만 기록 (실패는 항상 기록)
+    @Audited(sampleRate = 0.1)
     public AuthTokenData authenticateUser(LoginRequestDto loginRequestDto) {
 
         User user = userRepository.findByUsernameAndDeletedAtIsNull(loginRequestDto.getUsername())
@@ -112,6 +117,7 @@ public class UserService {
      * @param refreshToken 쿠키에서 념겨받은 refreshToken
      * @throws InvalidRefreshTokenException refreshToken 이 아니거나 DB에 존재하지 않는 토큰인 경우 예외 발생
      */
+    @Audited
     public void removeRefreshToken(String refreshToken) {
 
         if (jwtService.isTokenExpired(refreshToken)){
@@ -193,7 +199,8 @@ public class UserService {
      * 3. 현재 비밀번호(currentPassword)가 저장된 비밀번호와 일치하는지 확인
      *    - 일치하지 않으면 ForbiddenException을 발생
      * 4. 새로운 비밀번호를 암호화하여 저장하고, 이메일과 닉네임을 업데이트합니다.
-     * 5. 수정된 사용자 정보를 UserResDto 형태로 변환하여 반환
+     * 5. 모든 replica 의 사용자 조회 캐시에서 해당 사용자를 제거
+     * 6. 수정된 사용자 정보를 UserResDto 형태로 변환하여 반환
      *
      * @param id 수정할 사용자의 ID
      * @param principalDetails 현재 인증된 사용자 정보 (로그인한 사용자)
@@ -202,6 +209,7 @@ public class UserService {
      * @throws UserNotFoundException 해당 ID의 사용자가 존재하지 않거나 삭제된 경우 발생
      * @throws ForbiddenException 본인이 아니거나 관리자 권한이 없을 경우 발생
      */
+    @Audited
     public UserResDto updateUser(UUID id, PrincipalDetails principalDetails, UserUpdateReqDto userUpdateReqDto) {
         User user = userRepository.findByUserIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new UserNotFoundException("User Not Found By Id : " + id));
@@ -220,6 +228,8 @@ public class UserService {
                 .nickname(userUpdateReqDto.getNickname())
                 .build();
 
+        userLookupService.invalidate(user.getUsername());
+
         return userRepository.save(updateUser).toResponseDto();
     }
 
@@ -231,7 +241,7 @@ public class UserService {
      *    - 권리자 권한이 없을 경우 ForbiddenException을 발생
      * 2. 해당 ID의 사용자가 존재하며 논리적으로 삭제되지 않았는지 확인
      *    - 존재하지 않을 경우 UserNotFoundException을 발생
-     * 4. 새로운 권한을 업데이트합니다.
+     * 4. 새로운 권한을 업데이트하고, 모든 replica 의 사용자 조회 캐시에서 해당 사용자를 제거합니다.
      * 5. 수정된 사용자 정보를 UserResDto 형태로 변환하여 반환합니다.
      *
      * @param id 수정할 사용자의 ID
@@ -240,6 +250,7 @@ public class UserService {
      * @return 수정된 사용자 정보를 포함하는 UserResDto 객체
      * @throws ForbiddenException 관리자 권한이 없을 경우 발생
      */
+    @Audited
     public UserResDto updateRole(UUID id, PrincipalDetails principalDetails, UserRoleUpdateReqDto userRoleUpdateReqDto) {
         if (!principalDetails.getRole().name().equals("ROLE_MASTER")){
             throw new ForbiddenException("Access denied.");
@@ -252,6 +263,8 @@ public class UserService {
                 .role(userRoleUpdateReqDto.getRole())
                 .build();
 
+        userLookupService.invalidate(user.getUsername());
+
         return userRepository.save(updateUser).toResponseDto();
     }
 
@@ -263,13 +276,14 @@ public class UserService {
      *    - 존재하지 않을 경우 UserNotFoundException을 발생
      * 2. 현재 로그인한 사용자가 본인인지 또는 매니저(ROLE_MANAGER)이거나 최고 관리자(ROLE_MASTER)인지 검증
      *    - 본인이 아니고, 관리자 권한도 없을 경우 ForbiddenException을 발생
-     * 3. 논리적 삭제 정보를 업데이트합니다.
+     * 3. 논리적 삭제 정보를 업데이트하고, 모든 replica 의 사용자 조회 캐시에서 해당 사용자를 제거합니다.
      *
      * @param id 수정할 사용자의 ID
      * @param principalDetails 현재 인증된 사용자 정보 (로그인한 사용자)
      * @throws UserNotFoundException 해당 ID의 사용자가 존재하지 않거나 삭제된 경우 발생
      * @throws ForbiddenException 관리자 권한이 없을 경우 발생
      */
+    @Audited
     public void deleteUser(UUID id, PrincipalDetails principalDetails) {
         User user = userRepository.findByUserIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new UserNotFoundException("User Not Found By Id : " + id));
@@ -284,6 +298,7 @@ public class UserService {
         user.setDeletedBy(principalDetails.getUsername());
 
         userRepository.save(user);
+        userLookupService.invalidate(user.getUsername());
     }
 
     /**
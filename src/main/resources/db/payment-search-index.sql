@@ -0,0 +1,18 @@
+-- 결제 내역 검색용 부분 커버링 인덱스 (삭제되지 않은 결제만 포함)
+-- 검색 조건(금액 범위, 결제 시간)과 join 에 필요한 컬럼을 INCLUDE 해 p_payment 는 index only scan 으로 처리
+-- Hibernate ddl-auto 로 테이블이 생성된 뒤 실행 (spring.jpa.defer-datasource-initialization)
+--
+-- 결제 검색 인덱스는 이 파일의 부분 커버링 인덱스 한 벌만 유지
+-- Payment 엔티티에는 @Index 를 선언하지 않음 (ddl-auto 가 같은 선두 컬럼의 일반 인덱스를 만들어 쓰기 비용만 늘어남)
+-- H2 테스트/부하 테스트 프로필은 이 스크립트를 실행하지 않으므로 결제 검색 인덱스 없이 동작
+-- 이전 버전에서 @Index 로 만들어진 중복 인덱스는 제거
+DROP INDEX IF EXISTS idx_payment_user_created_at;
+DROP INDEX IF EXISTS idx_payment_user_amount;
+
+-- 사용자 전체 / 금액 범위 / 결제 시간 조건 + 최신순 정렬 (offset, 커서 조회 공통)
+CREATE INDEX IF NOT EXISTS idx_payment_search_created_at ON p_payment (user_id, created_at DESC, payment_id DESC)
+    INCLUDE (amount, order_id, card_id) WHERE deleted_at IS NULL;
+
+-- 좁은 금액 범위 조건 및 금액순 정렬
+CREATE INDEX IF NOT EXISTS idx_payment_search_amount ON p_payment (user_id, amount, created_at DESC)
+    INCLUDE (payment_id, order_id, card_id) WHERE deleted_at IS NULL;
@@ -0,0 +1,6 @@
+-- 운영 지역 locality contains('%키워드%') 검색이 seq scan 하지 않도록 trigram GIN 인덱스 생성
+-- Hibernate ddl-auto 로 테이블이 생성된 뒤 실행 (spring.jpa.defer-datasource-initialization)
+-- pg_trgm 확장 생성 권한이 없으면 실패하므로 운영 DB 에는 미리 설치 (README DB 사전 준비, 기동 시 RegionSearchIndexCheck 가 인덱스 누락을 경고)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_region_locality_trgm ON p_region USING gin (locality gin_trgm_ops);
@@ -9,6 +9,7 @@ import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.outbox.service.OutboxDispatcher;
 import com.sparta.delivery.domain.review.dto.ReviewRequestDto;
 import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
 import com.sparta.delivery.domain.review.dto.ReviewUpdateRequestDto;
@@ -17,10 +18,13 @@ import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.review.service.ReviewService;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreRatingService;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import com.sparta.delivery.domain.user.repository.UserRepository;
 import io.jsonwebtoken.lang.Collections;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -62,6 +66,15 @@ public class ReviewServiceTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private StoreRatingService storeRatingService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private User customer;
     private User owner;
     private Stores store1;
@@ -381,4 +394,97 @@ public class ReviewServiceTest {
         });
         assertEquals("존재하지 않거나 현재 로그인한 사용자의 리뷰가 아닙니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("리뷰 등록/수정/삭제 시 가게 별점 집계 증감 - outbox 이벤트 처리 후 반영")
+    void testStoreRatingUpdatedByReview() {
+        ReviewRequestDto reviewRequestDto = new ReviewRequestDto("test review 3", 2, order3.getOrderId());
+        Review review = reviewService.createReview(reviewRequestDto, "customer");
+
+        // 이벤트 처리 전에는 집계가 바뀌지 않음
+        Stores result = reloadStore(store1.getStoreId());
+        assertEquals(0, result.getReviewSum());
+
+        outboxDispatcher.dispatch();
+        result = reloadStore(store1.getStoreId());
+        assertEquals(2, result.getStarSum());
+        assertEquals(1, result.getReviewSum());
+        assertEquals(List.of(0, 1, 0, 0, 0), result.getStarDistribution());
+
+        reviewService.updateReview(review.getReviewId(), new ReviewUpdateRequestDto("update review", 5), "customer");
+        outboxDispatcher.dispatch();
+
+        result = reloadStore(store1.getStoreId());
+        assertEquals(5, result.getStarSum());
+        assertEquals(1, result.getReviewSum());
+        assertEquals(List.of(0, 0, 0, 0, 1), result.getStarDistribution());
+
+        reviewService.deleteReview(review.getReviewId(), "customer");
+        outboxDispatcher.dispatch();
+
+        result = reloadStore(store1.getStoreId());
+        assertEquals(0, result.getStarSum());
+        assertEquals(0, result.getReviewSum());
+        assertEquals(List.of(0, 0, 0, 0, 0), result.getStarDistribution());
+    }
+
+    @Test
+    @DisplayName("리뷰 등록 후 수정, 삭제까지 한 번에 처리해도 가게 별점 집계는 같음")
+    void testStoreRatingEventsAppliedInBatch() {
+        ReviewRequestDto reviewRequestDto = new ReviewRequestDto("test review 3", 2, order3.getOrderId());
+        Review review = reviewService.createReview(reviewRequestDto, "customer");
+        reviewService.updateReview(review.getReviewId(), new ReviewUpdateRequestDto("update review", 5), "customer");
+
+        outboxDispatcher.dispatch();
+
+        Stores result = reloadStore(store1.getStoreId());
+        assertEquals(5, result.getStarSum());
+        assertEquals(1, result.getReviewSum());
+        assertEquals(List.of(0, 0, 0, 0, 1), result.getStarDistribution());
+    }
+
+    @Test
+    @DisplayName("가게 별점 집계 보정 - 리뷰 테이블 기준으로 다시 계산")
+    void testReconcileStoreRating() {
+        // setUp 에서 저장한 리뷰 2건(4점)은 집계에 반영되지 않은 상태
+        int driftCount = storeRatingService.reconcileRatings();
+
+        Stores result = reloadStore(store1.getStoreId());
+        assertTrue(driftCount >= 1);
+        assertEquals(8, result.getStarSum());
+        assertEquals(2, result.getReviewSum());
+        assertEquals(4.0, result.getAverageStar());
+        assertEquals(List.of(0, 0, 0, 2, 0), result.getStarDistribution());
+
+        // 보정 이후에는 차이가 없음
+        assertEquals(0, storeRatingService.reconcileRatings());
+    }
+
+    @Test
+    @DisplayName("가게 별점 집계 보정 - 처리 대기 중인 리뷰 이벤트가 있는 가게는 보정하지 않음")
+    void testReconcileSkipsStoreWithPendingReviewEvents() {
+        // 리뷰 등록 이벤트가 처리되기 전에 보정하면 이벤트 처리 시 같은 리뷰가 한 번 더 반영되므로 건너뜀
+        reviewService.createReview(new ReviewRequestDto("test review 3", 2, order3.getOrderId()), "customer");
+        storeRatingService.reconcileRatings();
+
+        Stores result = reloadStore(store1.getStoreId());
+        assertEquals(0, result.getStarSum());
+        assertEquals(0, result.getReviewSum());
+
+        // 이벤트 처리 후에는 setUp 에서 저장한 리뷰 2건까지 포함해 보정
+        outboxDispatcher.dispatch();
+        assertTrue(storeRatingService.reconcileRatings() >= 1);
+
+        result = reloadStore(store1.getStoreId());
+        assertEquals(10, result.getStarSum());
+        assertEquals(3, result.getReviewSum());
+        assertEquals(List.of(0, 1, 0, 2, 0), result.getStarDistribution());
+    }
+
+    // 집계는 update 쿼리로 반영되므로 영속성 컨텍스트를 비우고 다시 조회
+    private Stores reloadStore(UUID storeId) {
+        entityManager.flush();
+        entityManager.clear();
+        return storeRepository.findById(storeId).orElseThrow();
+    }
 }
@@ -1,20 +1,47 @@
 package com.sparta.delivery.aiTest.integration;
 
+import com.sparta.delivery.domain.ai.entity.AiInfo;
+import com.sparta.delivery.domain.ai.repository.AiRepository;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import com.sparta.delivery.util.JwtTestUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+/**
+ * Gemini API 대신 로컬 stub 서버를 띄워 AI 추천 API 를 검증
+ *
+ * stub 서버는 호출 횟수를 기록하고, 응답 지연 시간을 테스트마다 조절할 수 있습니다.
+ */
+@ActiveProfiles("test")
 @SpringBootTest
 @AutoConfigureMockMvc
 public class AiTest {
@@ -25,25 +52,136 @@ public class AiTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private AiRepository aiRepository;
+
     private static final String BASE_URL = "/api/ai";
 
     private static final String REQUEST_TEXT = "하와이안 피자 상품명 추천";
 
+    private static final String STUB_ANSWER = "하와이안 피자 🍍 금강산도 식후경!";
+
+    private static final long TIMEOUT_MILLIS = 500;
+
+    private static final AtomicInteger stubCallCount = new AtomicInteger();
+
+    private static volatile long stubDelayMillis = 0;
+
+    private static final HttpServer stubServer = startStubServer();
+
+    @DynamicPropertySource
+    static void aiProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.baseUrl", () -> "http://localhost:" + stubServer.getAddress().getPort());
+        registry.add("ai.timeoutMillis", () -> TIMEOUT_MILLIS);
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        stubCallCount.set(0);
+        stubDelayMillis = 0;
+    }
+
     @Test
     @DisplayName("AI 상품 설명 문구 추천 통합 테스트")
     public void recommendText() throws Exception {
         // Given: JWT Access Token 생성
         String jwtAccessToken = jwtTestUtil.createJwt("TestUser", UserRoles.ROLE_MASTER);
+        long savedCount = aiRepository.count();
 
         // When: API 호출
-        ResultActions resultActions = mockMvc.perform(post(BASE_URL)
-                .header("Authorization", "Bearer " + jwtAccessToken)
-                .accept(MediaType.APPLICATION_JSON)
-                .contentType(MediaType.APPLICATION_JSON)
-                .content("{\"question\": \"" + REQUEST_TEXT + "\"}"))
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(request(jwtAccessToken, REQUEST_TEXT)))
                 .andDo(print());
 
-        // Then: HTTP Status 200 OK
-        resultActions.andExpect(status().isOk());
+        // Then: HTTP Status 200 OK, stub 응답 문구 반환, 이력은 비동기로 저장
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.answer").value(STUB_ANSWER));
+        assertEquals(savedCount + 1, awaitCount(savedCount + 1));
+    }
+
+    @Test
+    @DisplayName("AI 상품 설명 문구 추천 - 공백, 대소문자만 다른 질문은 캐시된 응답 반환, 이력은 요청마다 요청한 사용자로 저장")
+    public void recommendTextCached() throws Exception {
+        String jwtAccessToken = jwtTestUtil.createJwt("TestUser", UserRoles.ROLE_MASTER);
+        long savedCount = aiRepository.count();
+
+        mockMvc.perform(asyncDispatch(request(jwtAccessToken, "Pepperoni 피자 문구")))
+                .andExpect(status().isOk());
+        mockMvc.perform(asyncDispatch(request(jwtAccessToken, "  pepperoni   피자 문구 ")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.answer").value(STUB_ANSWER));
+
+        assertEquals(1, stubCallCount.get());
+
+        // 캐시된 응답도 이력을 남기고, 별도 스레드에서 저장해도 작성자는 요청한 사용자
+        assertEquals(savedCount + 2, awaitCount(savedCount + 2));
+        List<AiInfo> histories = aiRepository.findAll().stream()
+                .filter(aiInfo -> List.of("Pepperoni 피자 문구", "  pepperoni   피자 문구 ").contains(aiInfo.getQuestion()))
+                .toList();
+        assertEquals(2, histories.size());
+        assertTrue(histories.stream().allMatch(aiInfo -> "TestUser".equals(aiInfo.getCreatedBy())
+                && "TestUser".equals(aiInfo.getUpdatedBy())));
+    }
+
+    @Test
+    @DisplayName("AI 상품 설명 문구 추천 - 응답 시간 초과 시 504 반환")
+    public void recommendTextTimeout() throws Exception {
+        String jwtAccessToken = jwtTestUtil.createJwt("TestUser", UserRoles.ROLE_MASTER);
+        stubDelayMillis = TIMEOUT_MILLIS * 4;
+
+        mockMvc.perform(asyncDispatch(request(jwtAccessToken, "느린 응답 피자 문구")))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    private MvcResult request(String jwtAccessToken, String question) throws Exception {
+        return mockMvc.perform(post(BASE_URL)
+                        .header("Authorization", "Bearer " + jwtAccessToken)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"question\": \"" + question + "\"}"))
+                .andReturn();
+    }
+
+    // 이력 저장은 요청과 분리되어 있으므로 저장될 때까지 잠시 대기
+    private long awaitCount(long expected) throws InterruptedException {
+        long count = aiRepository.count();
+        for (int i = 0; i < 50 && count < expected; i++) {
+            Thread.sleep(100);
+            count = aiRepository.count();
+        }
+        return count;
+    }
+
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v1beta/models/", exchange -> {
+                stubCallCount.incrementAndGet();
+                try {
+                    Thread.sleep(stubDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                byte[] body = ("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + STUB_ANSWER + "\"}]}}]}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                exchange.sendResponseHeaders(HttpStatus.OK.value(), body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                } catch (IOException e) {
+                    // 시간 초과로 클라이언트가 먼저 연결을 끊은 경우
+                }
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("AI stub 서버를 시작할 수 없습니다.", e);
+        }
     }
 }
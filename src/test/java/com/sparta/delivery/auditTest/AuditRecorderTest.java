@@ -0,0 +1,89 @@
+package com.sparta.delivery.auditTest;
+
+import com.sparta.delivery.domain.audit.entity.AuditLog;
+import com.sparta.delivery.domain.audit.repository.AuditLogRepository;
+import com.sparta.delivery.domain.audit.service.AuditRecorder;
+import com.sparta.delivery.domain.user.dto.LoginRequestDto;
+import com.sparta.delivery.domain.user.dto.SignupReqDto;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class AuditRecorderTest {
+
+    private static final String PASSWORD = "auditPassword1!";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuditRecorder auditRecorder;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    private final String username = "audit" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsernameAndDeletedAtIsNull(username).ifPresent(userRepository::delete);
+        auditLogRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("회원가입 감사 로그 - 비밀번호는 가리고 기록")
+    void testRecordSignupWithRedaction() throws InterruptedException {
+        userService.signup(new SignupReqDto(username, PASSWORD, username + "@example.com", "auditNick"));
+
+        AuditLog auditLog = awaitLog("UserService.signup", log -> log.getArgs().contains(username));
+
+        assertEquals("SUCCESS", auditLog.getOutcome());
+        assertFalse(auditLog.getArgs().contains(PASSWORD));
+        assertTrue(auditLog.getArgs().contains("****"));
+    }
+
+    @Test
+    @DisplayName("로그인 실패 감사 로그 - 샘플링과 관계없이 항상 기록")
+    void testAlwaysRecordFailure() throws InterruptedException {
+        userService.signup(new SignupReqDto(username, PASSWORD, username + "@example.com", "auditNick"));
+
+        assertThrows(RuntimeException.class, () -> userService.authenticateUser(new LoginRequestDto(username, "wrongPassword")));
+
+        AuditLog auditLog = awaitLog("UserService.authenticateUser", log -> log.getArgs().contains(username));
+
+        assertNotEquals("SUCCESS", auditLog.getOutcome());
+        assertFalse(auditLog.getArgs().contains("wrongPassword"));
+    }
+
+    // 감사 로그는 별도 스레드에서 저장되므로 buffer 를 비우며 저장될 때까지 대기
+    private AuditLog awaitLog(String target, Predicate<AuditLog> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            auditRecorder.flush();
+            List<AuditLog> auditLogs = auditLogRepository.findByTargetOrderByOccurredAtAsc(target);
+            for (AuditLog auditLog : auditLogs) {
+                if (condition.test(auditLog)) {
+                    return auditLog;
+                }
+            }
+            Thread.sleep(100);
+        }
+        return fail("감사 로그가 저장되지 않았습니다. : " + target);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.delivery.autocompleteTest;
+
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteResDto;
+import com.sparta.delivery.domain.autocomplete.enums.SuggestionType;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteIndex;
+import com.sparta.delivery.domain.autocomplete.service.HangulKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutocompleteIndexTest {
+
+    private AutocompleteIndex index;
+
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID bibimbapId = UUID.randomUUID();
+    private final UUID otherBibimbapId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index = new AutocompleteIndex();
+        index.put(storeId, SuggestionType.STORE, "비빔밥천국");
+        index.put(bibimbapId, SuggestionType.PRODUCT, "비빔밥");
+        index.put(otherBibimbapId, SuggestionType.PRODUCT, "비빔밥");
+        index.put(UUID.randomUUID(), SuggestionType.PRODUCT, "비빔냉면");
+        index.put(UUID.randomUUID(), SuggestionType.PRODUCT, "닭갈비");
+        index.put(UUID.randomUUID(), SuggestionType.PRODUCT, "Coffee 빈");
+        index.put(UUID.randomUUID(), SuggestionType.LOCALITY, "역삼동");
+        index.put(UUID.randomUUID(), SuggestionType.LOCALITY, "역삼동");
+    }
+
+    @Test
+    @DisplayName("자동완성 - 접두어로 시작하는 후보를 짧은 순서로 조회, 같은 이름의 상품은 하나로 조회")
+    void testPrefix() {
+        assertEquals(List.of(
+                new AutocompleteResDto(SuggestionType.PRODUCT, "비빔냉면"),
+                new AutocompleteResDto(SuggestionType.PRODUCT, "비빔밥"),
+                new AutocompleteResDto(SuggestionType.STORE, "비빔밥천국")), index.suggest("비빔", 10));
+        assertEquals(2, index.suggest("비빔", 2).size());
+    }
+
+    @Test
+    @DisplayName("자동완성 - 입력 중인 음절(받침, 겹받침)도 접두어로 조회")
+    void testTypingInProgress() {
+        assertEquals(texts("비비"), texts("비ㅂ"));
+        assertEquals(texts("비비"), texts("빕"));
+        assertEquals(List.of("닭갈비"), texts("달"));
+        assertEquals(List.of("닭갈비"), texts("닭ㄱ"));
+    }
+
+    @Test
+    @DisplayName("자동완성 - 자음으로만 입력하면 초성으로 조회")
+    void testChoseong() {
+        assertEquals(List.of("비빔밥", "비빔밥천국"), texts("ㅂㅂㅂ"));
+        assertEquals(List.of("역삼동"), texts("ㅇㅅ"));
+        assertTrue(HangulKeys.isChoseongQuery("ㅂ ㅂ"));
+        assertFalse(HangulKeys.isChoseongQuery("비ㅂ"));
+    }
+
+    @Test
+    @DisplayName("자동완성 - 대소문자, 공백 구분 없이 조회")
+    void testCaseAndWhitespace() {
+        assertEquals(List.of("Coffee 빈"), texts("COF"));
+        assertEquals(List.of("Coffee 빈"), texts("coffee빈"));
+        assertTrue(texts("  ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("자동완성 - 같은 이름을 가진 원본이 모두 제거되거나 이름이 바뀌면 후보에서 제거")
+    void testReferenceCountAndRename() {
+        index.remove(bibimbapId);
+        assertTrue(texts("비빔밥").contains("비빔밥"));
+
+        index.remove(otherBibimbapId);
+        assertFalse(texts("비빔밥").contains("비빔밥"));
+
+        index.put(storeId, SuggestionType.STORE, "국밥천국");
+        assertTrue(texts("비빔밥").isEmpty());
+        assertEquals(List.of("국밥천국"), texts("국밥"));
+    }
+
+    private List<String> texts(String query) {
+        return index.suggest(query, 10).stream().map(AutocompleteResDto::text).toList();
+    }
+}
@@ -6,7 +6,7 @@ import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
 import com.sparta.delivery.domain.card.service.CardService;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +31,7 @@ public class CardServiceTest {
     private CardRepository cardRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserLookupService userLookupService;
 
     private User testUser;
     private UUID cardId;
@@ -60,7 +60,7 @@ public class CardServiceTest {
     @DisplayName("카드 등록 성공")
     void testRegisterCardSuccess(){
         RegistrationCardDto registrationCardDto = new RegistrationCardDto("국민","카드이름","1234");
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(cardRepository.save(any(Card.class))).thenReturn(testCard);
 
         assertDoesNotThrow(() -> cardService.registrationCard("testuser", registrationCardDto));
@@ -71,7 +71,7 @@ public class CardServiceTest {
     @DisplayName("카드 등록 실패 : 카드 정보 누락")
     void testRegisterCardFailIllegal(){
         RegistrationCardDto registrationCardDto = new RegistrationCardDto("국민","카드이름",null);
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> cardService.registrationCard("testuser", registrationCardDto));
         assertEquals("필수 입력 값입니다.",exception.getMessage());
@@ -81,7 +81,7 @@ public class CardServiceTest {
     @DisplayName("카드 등록 실패 : 이미 등록된 카드")
     void testRegisterCardFailAlreadyExists() {
         RegistrationCardDto dto = new RegistrationCardDto("국민", "국민카드", "1234");
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(cardRepository.findByUser_UsernameAndDeletedAtIsNull("testuser"))
                 .thenReturn(List.of(testCard));
 
@@ -92,7 +92,7 @@ public class CardServiceTest {
     @Test
     @DisplayName("카드 단일 조회 성공")
     void testGetCardSuccess(){
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId, "testuser"))
                 .thenReturn(Optional.of(testCard));
         RegistrationCardDto registrationCardDto = cardService.getCard("testuser",cardId);
@@ -106,7 +106,7 @@ public class CardServiceTest {
     @Test
     @DisplayName("카드 단일 조회 실패 : 존재하지 않는 카드")
     void testGetCardFailNotFound(){
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId,"testuser"))
                 .thenReturn(Optional.empty());
         NullPointerException exception = assertThrows(NullPointerException.class, () -> cardService.getCard("testuser", cardId));
@@ -116,7 +116,7 @@ public class CardServiceTest {
     @Test
     @DisplayName("카드 리스트 조회")
     void testGetCardsSuccess(){
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(cardRepository.findByUser_UsernameAndDeletedAtIsNull("testuser"))
                 .thenReturn(List.of(testCard));
         List<RegistrationCardDto> list = cardService.getCards("testuser");
@@ -127,7 +127,7 @@ public class CardServiceTest {
     @Test
     @DisplayName("카드 정보 업데이트")
     void testUpdateCardSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull(testUser.getUsername())).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser(testUser.getUsername())).thenReturn(Optional.of(testUser));
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId, "testuser"))
                 .thenReturn(Optional.of(testCard));
 
@@ -144,7 +144,7 @@ public class CardServiceTest {
     @Test
     @DisplayName("카드 삭제 성공")
     void testDeleteCardSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId, "testuser"))
                 .thenReturn(Optional.of(testCard));
 
@@ -155,7 +155,7 @@ public class CardServiceTest {
     @Test
     @DisplayName("카드 삭제 실패 : 존재하지 않는 카드")
     void testDeleteCardFail_NotFound() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId, "testuser"))
                 .thenReturn(Optional.empty());
 
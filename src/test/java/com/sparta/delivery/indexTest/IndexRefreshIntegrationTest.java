@@ -0,0 +1,212 @@
+package com.sparta.delivery.indexTest;
+
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.autocomplete.dto.AutocompleteResDto;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteService;
+import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
+import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductSearchService;
+import com.sparta.delivery.domain.store.dto.DeliverableStoreResDto;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.DeliveryAreaService;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 테스트 설정에서 꺼 둔 메모리 색인을 켜고, 색인 갱신(rebuild, 커밋 직후 반영, 변경 조회) 을 DB 와 함께 검증
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "store.delivery.enabled=true",
+        "product.search.enabled=true",
+        "autocomplete.enabled=true",
+        // 테스트에서 직접 pollChanges 호출
+        "store.delivery.pollMillis=3600000",
+        "product.search.pollMillis=3600000",
+        "autocomplete.pollMillis=3600000"
+})
+public class IndexRefreshIntegrationTest {
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private DeliveryAreaService deliveryAreaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DeliveryAddressRepository deliveryAddressRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private final List<Product> products = new ArrayList<>();
+
+    private User owner;
+    private Stores store;
+    private DeliveryAddress address;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email("index" + suffix + "@example.com")
+                .password("encodedPassword")
+                .username("index" + suffix)
+                .nickname("index" + suffix)
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        // 다른 테스트의 가게와 겹치지 않도록 남해 좌표 사용
+        store = storeRepository.save(Stores.builder()
+                .name("색인가게" + suffix)
+                .address("남해")
+                .latitude(34.0010)
+                .longitude(125.0000)
+                .deliveryRadius(3000)
+                .status(true)
+                .category(Category.한식)
+                .user(owner)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (address != null) {
+            deliveryAddressRepository.deleteById(address.getDeliveryAddressId());
+        }
+        productRepository.deleteAll(products);
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - rebuild 는 DB 의 전체 가게, 상품을 batchSize 씩 읽어 색인하고 이후 조회는 색인에서 처리")
+    void testRebuild() {
+        Product product = saveProduct("비빔밥" + suffix);
+
+        productSearchService.rebuild();
+        autocompleteService.rebuild();
+        deliveryAreaService.rebuild();
+
+        assertTrue(productSearchService.canSearch(ProductSearchService.RELEVANCE));
+        assertEquals(List.of(product.getProductId()), searchProductIds("비빔밥" + suffix));
+        assertTrue(suggestions("색인가게" + suffix).contains("색인가게" + suffix));
+
+        double indexRequests = meterRegistry.get("store.delivery.requests").tag("source", "index").counter().count();
+        address = deliveryAddressRepository.save(DeliveryAddress.builder()
+                .deliveryAddress("집")
+                .deliveryAddressInfo("남해")
+                .detailAddress("")
+                .latitude(34.0000)
+                .longitude(125.0000)
+                .user(owner)
+                .build());
+        List<UUID> storeIds = deliveryAreaService.findDeliverableStores(address.getDeliveryAddressId(), new PrincipalDetails(owner), PageRequest.of(0, 10))
+                .getContent().stream().map(DeliverableStoreResDto::getStoreId).toList();
+
+        assertEquals(List.of(store.getStoreId()), storeIds);
+        assertEquals(indexRequests + 1, meterRegistry.get("store.delivery.requests").tag("source", "index").counter().count());
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 이 replica 의 변경은 커밋 직후 반영하고 롤백된 변경은 반영하지 않음")
+    void testAfterCommit() {
+        productSearchService.rebuild();
+        autocompleteService.rebuild();
+        Product product = saveProduct("냉면" + suffix);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            index(product);
+            status.setRollbackOnly();
+        });
+        assertTrue(searchProductIds("냉면" + suffix).isEmpty());
+        assertFalse(suggestions("냉면" + suffix).contains("냉면" + suffix));
+
+        transactionTemplate.executeWithoutResult(status -> index(product));
+        assertEquals(List.of(product.getProductId()), searchProductIds("냉면" + suffix));
+        assertTrue(suggestions("냉면" + suffix).contains("냉면" + suffix));
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 다른 replica 의 변경은 updatedAt 이 바뀐 행을 주기적으로 조회해 반영")
+    void testPollChanges() {
+        productSearchService.rebuild();
+        autocompleteService.rebuild();
+
+        // 다른 replica 에서 등록된 상품 (이 replica 의 색인에는 반영되지 않음)
+        Product product = saveProduct("떡볶이" + suffix);
+        assertTrue(searchProductIds("떡볶이" + suffix).isEmpty());
+
+        productSearchService.pollChanges();
+        autocompleteService.pollChanges();
+
+        assertEquals(List.of(product.getProductId()), searchProductIds("떡볶이" + suffix));
+        assertTrue(suggestions("떡볶이" + suffix).contains("떡볶이" + suffix));
+    }
+
+    private void index(Product product) {
+        productSearchService.index(product);
+        autocompleteService.index(product);
+    }
+
+    private Product saveProduct(String name) {
+        Product product = productRepository.save(Product.builder()
+                .store(store)
+                .name(name)
+                .description("")
+                .price(9000)
+                .quantity(10)
+                .hidden(false)
+                .build());
+        products.add(product);
+        return product;
+    }
+
+    private List<UUID> searchProductIds(String query) {
+        return productSearchService.search(query, UserRoles.ROLE_CUSTOMER, ProductSearchService.RELEVANCE, Sort.Direction.DESC, PageRequest.of(0, 10))
+                .getContent().stream().map(Product::getProductId).toList();
+    }
+
+    private List<String> suggestions(String query) {
+        return autocompleteService.suggest(query, 10).stream().map(AutocompleteResDto::text).toList();
+    }
+}
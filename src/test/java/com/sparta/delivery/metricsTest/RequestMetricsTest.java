@@ -0,0 +1,78 @@
+package com.sparta.delivery.metricsTest;
+
+import com.sparta.delivery.config.filter.JwtAuthenticationFilter;
+import com.sparta.delivery.config.metrics.RequestStatementMetricsFilter;
+import com.sparta.delivery.config.metrics.ServiceMetricsAspect;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.util.JwtTestUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class RequestMetricsTest {
+
+    @Autowired
+    private JwtTestUtil jwtTestUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("API 요청 시 요청당 SQL 수, service 메서드 실행 시간, JWT 필터 처리 시간 기록")
+    void testRecordRequestMetrics() throws Exception {
+        long jwtCountBefore = jwtTimerCount("authenticated");
+
+        mockMvc.perform(get("/api/products")
+                        .header(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + jwtTestUtil.createJwt("metricsUser", UserRoles.ROLE_MASTER)))
+                .andExpect(status().isOk());
+
+        // url pattern 단위로 기록
+        DistributionSummary statements = meterRegistry.find(RequestStatementMetricsFilter.METRIC_NAME)
+                .tags("method", "GET", "uri", "/api/products")
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.totalAmount() >= 1);
+
+        Timer serviceTimer = meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+                .tags("class", "ProductService", "method", "getAllProducts", "exception", "none")
+                .timer();
+        assertNotNull(serviceTimer);
+        assertTrue(serviceTimer.count() >= 1);
+
+        assertEquals(jwtCountBefore + 1, jwtTimerCount("authenticated"));
+    }
+
+    @Test
+    @DisplayName("토큰 없는 요청은 JWT 필터 rejected 로 기록")
+    void testRecordRejectedJwtFilter() throws Exception {
+        long rejectedBefore = jwtTimerCount("rejected");
+
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isUnauthorized());
+
+        assertEquals(rejectedBefore + 1, jwtTimerCount("rejected"));
+    }
+
+    private long jwtTimerCount(String outcome) {
+        Timer timer = meterRegistry.find(JwtAuthenticationFilter.METRIC_NAME).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
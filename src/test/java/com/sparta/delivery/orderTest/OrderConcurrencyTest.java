@@ -0,0 +1,164 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.config.global.exception.custom.ProductQuantityNotAllowedException;
+import com.sparta.delivery.domain.order.dto.OrderRequestDto;
+import com.sparta.delivery.domain.order.entity.QOrder;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단일 상품에 대한 동시 주문 시 재고 초과 판매가 발생하지 않는지 검증
+ *
+ * 각 주문이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 을 사용하지 않고, 테스트 후 직접 데이터를 정리합니다.
+ * 주문 500건을 32개 스레드로 실행하므로 ./gradlew test 에서 제외되며 sseLoadTest 로 실행합니다.
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest
+public class OrderConcurrencyTest {
+
+    private static final int STOCK = 100;
+    private static final int ORDER_COUNT = 500;
+    private static final int THREAD_COUNT = 32;
+    private static final String USERNAME = "concurrencyCustomer";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    private User customer;
+    private User owner;
+    private Stores store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.save(User.builder()
+                .email("concurrencyCustomer@example.com")
+                .password("encodedPassword")
+                .username(USERNAME)
+                .nickname(USERNAME)
+                .role(UserRoles.ROLE_CUSTOMER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        owner = userRepository.save(User.builder()
+                .email("concurrencyOwner@example.com")
+                .password("encodedPassword")
+                .username("concurrencyOwner")
+                .nickname("concurrencyOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("concurrencyStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("lastLunchSet")
+                .description("yummy~")
+                .price(11000)
+                .quantity(STOCK)
+                .hidden(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll(orderRepository.findAll(QOrder.order.stores.storeId.eq(store.getStoreId())));
+        productRepository.deleteById(product.getProductId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(customer.getUserId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("동시 주문 - 재고 수량만큼만 주문 성공")
+    void testConcurrentOrdersDoNotOversell() throws InterruptedException {
+        OrderRequestDto requestDto = new OrderRequestDto(
+                null,
+                store.getStoreId(),
+                List.of(product.getProductId()),
+                OrderType.PACKAGING,
+                "concurrency order"
+        );
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ORDER_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    orderService.createOrder(requestDto, USERNAME);
+                    successCount.incrementAndGet();
+                } catch (ProductQuantityNotAllowedException e) {
+                    soldOutCount.incrementAndGet();
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        Product result = productRepository.findById(product.getProductId()).orElseThrow();
+
+        assertTrue(errors.isEmpty(), () -> "unexpected errors: " + errors);
+        assertEquals(STOCK, successCount.get());
+        assertEquals(ORDER_COUNT - STOCK, soldOutCount.get());
+        assertEquals(0, result.getQuantity());
+    }
+}
@@ -0,0 +1,195 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.order.dto.OrderRequestDto;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 주문 생성 1건당 실행되는 SQL statement 수와 latency(p50, p99)를 장바구니 크기(1, 10, 50)별로 측정
+ *
+ * statement 수 검증은 장바구니 크기별 몇 건만 생성해 기본 테스트에서 실행하고,
+ * latency 측정(@Tag("load")) 은 ./gradlew test 에서 제외되며 sseLoadTest 로 실행해 결과를 표준 출력으로 남깁니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class OrderCreateBenchmarkTest {
+
+    private static final int STATEMENT_COUNT_ITERATIONS = 3;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURE_ITERATIONS = 200;
+    private static final int MAX_CART_SIZE = 50;
+    private static final String USERNAME = "benchCustomer";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Stores store;
+    private List<UUID> productIdList;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email("benchCustomer@example.com")
+                .password("encodedPassword")
+                .username(USERNAME)
+                .nickname(USERNAME)
+                .role(UserRoles.ROLE_CUSTOMER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        User owner = userRepository.save(User.builder()
+                .email("benchOwner@example.com")
+                .password("encodedPassword")
+                .username("benchOwner")
+                .nickname("benchOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("benchStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        productIdList = new ArrayList<>();
+        for (int i = 0; i < MAX_CART_SIZE; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .store(store)
+                    .name("benchProduct" + i)
+                    .description("yummy~")
+                    .price(11000)
+                    .quantity(1_000_000)
+                    .hidden(false)
+                    .build());
+            productIdList.add(product.getProductId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 장바구니 크기와 관계없이 statement 수 일정")
+    void testStatementCountIndependentOfCartSize() {
+        long statementsForOne = countStatements(1);
+        long statementsForTen = countStatements(10);
+        long statementsForFifty = countStatements(50);
+
+        assertEquals(statementsForOne, statementsForTen);
+        assertEquals(statementsForOne, statementsForFifty);
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("주문 생성 - 장바구니 크기별 latency(p50, p99) 측정")
+    void benchmarkCreateOrder() {
+        measure(1);
+        measure(10);
+        measure(50);
+    }
+
+    // 주문 생성 1건당 최대 statement 수
+    private long countStatements(int cartSize) {
+        OrderRequestDto requestDto = requestDto(cartSize);
+
+        long statements = 0;
+        for (int i = 0; i < STATEMENT_COUNT_ITERATIONS; i++) {
+            statistics.clear();
+            createOrderAndFlush(requestDto);
+            statements = Math.max(statements, statistics.getPrepareStatementCount());
+        }
+        return statements;
+    }
+
+    private void measure(int cartSize) {
+        OrderRequestDto requestDto = requestDto(cartSize);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            createOrderAndFlush(requestDto);
+        }
+
+        long[] latencies = new long[MEASURE_ITERATIONS];
+        long statements = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            statistics.clear();
+            long start = System.nanoTime();
+            createOrderAndFlush(requestDto);
+            latencies[i] = System.nanoTime() - start;
+            statements = Math.max(statements, statistics.getPrepareStatementCount());
+        }
+
+        Arrays.sort(latencies);
+        double p50 = latencies[MEASURE_ITERATIONS / 2] / 1_000_000.0;
+        double p99 = latencies[(int) Math.ceil(MEASURE_ITERATIONS * 0.99) - 1] / 1_000_000.0;
+        System.out.printf("[createOrder] cart=%d statements/order=%d p50=%.3fms p99=%.3fms%n",
+                cartSize, statements, p50, p99);
+    }
+
+    private OrderRequestDto requestDto(int cartSize) {
+        return new OrderRequestDto(
+                null,
+                store.getStoreId(),
+                productIdList.subList(0, cartSize),
+                OrderType.PACKAGING,
+                "benchmark order"
+        );
+    }
+
+    // insert 까지 실제로 실행되도록 flush 후 1차 캐시를 비움
+    private void createOrderAndFlush(OrderRequestDto requestDto) {
+        orderService.createOrder(requestDto, USERNAME);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,215 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.DeliveryApplication;
+import com.sparta.delivery.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.event.OrderEventChannel;
+import com.sparta.delivery.domain.order.event.OrderStatusEvent;
+import com.sparta.delivery.domain.order.repository.OrderEventLogRepository;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 DB 를 사용하는 두 replica(애플리케이션 컨텍스트) 사이의 주문 상태 이벤트 전달 검증
+ *
+ * 테스트 컨텍스트가 replica 1, 직접 띄운 컨텍스트가 replica 2 입니다.
+ * replica 2 는 테이블을 다시 만들지 않도록 ddl-auto=none 으로 기동합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class OrderEventBusTest {
+
+    private static final String CUSTOMER = "busCustomer";
+    private static final String OWNER = "busOwner";
+
+    private static ConfigurableApplicationContext otherReplica;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderEventLogRepository orderEventLogRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventChannel orderEventChannel;
+
+    private User customer;
+    private User owner;
+    private Stores store;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 컨텍스트가 테이블을 만든 뒤에 기동
+        if (otherReplica == null) {
+            otherReplica = new SpringApplicationBuilder(DeliveryApplication.class)
+                    .profiles("test")
+                    .run("--server.port=0", "--spring.jpa.hibernate.ddl-auto=none");
+        }
+
+        customer = userRepository.save(User.builder()
+                .email("busCustomer@example.com")
+                .password("encodedPassword")
+                .username(CUSTOMER)
+                .nickname(CUSTOMER)
+                .role(UserRoles.ROLE_CUSTOMER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        owner = userRepository.save(User.builder()
+                .email("busOwner@example.com")
+                .password("encodedPassword")
+                .username(OWNER)
+                .nickname(OWNER)
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("busStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        order = orderRepository.save(Order.builder()
+                .orderTime(LocalDateTime.now())
+                .orderType(OrderType.PACKAGING)
+                .orderStatus(OrderStatus.PAYMENT_COMPLETE)
+                .stores(store)
+                .user(customer)
+                .orderProductList(new ArrayList<>())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEventLogRepository.deleteAll();
+        orderRepository.deleteById(order.getOrderId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(customer.getUserId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @AfterAll
+    static void stopOtherReplica() {
+        if (otherReplica != null) {
+            otherReplica.close();
+        }
+    }
+
+    @Test
+    @DisplayName("주문 상태 이벤트 - 다른 replica 의 구독자에게 한 번씩 전달")
+    void testDeliverToOtherReplica() throws InterruptedException {
+        OrderEventChannel otherChannel = otherReplica.getBean(OrderEventChannel.class);
+
+        Queue<OrderStatusEvent> localEvents = new ConcurrentLinkedQueue<>();
+        Queue<OrderStatusEvent> otherOrderEvents = new ConcurrentLinkedQueue<>();
+        Queue<OrderStatusEvent> otherStoreEvents = new ConcurrentLinkedQueue<>();
+
+        OrderStatusEvent current = OrderStatusEvent.from(order);
+        Disposable local = orderEventChannel.subscribeOrder(order.getOrderId(), () -> current)
+                .subscribe(event -> collect(event, localEvents));
+        Disposable otherOrder = otherChannel.subscribeOrder(order.getOrderId(), () -> current)
+                .subscribe(event -> collect(event, otherOrderEvents));
+        Disposable otherStore = otherChannel.subscribeStore(store.getStoreId())
+                .subscribe(event -> collect(event, otherStoreEvents));
+
+        try {
+            orderService.updateOrderStatus(order.getOrderId(), OWNER, new OrderStatusRequestDto(OrderStatus.ORDER_IN));
+            orderService.updateOrderStatus(order.getOrderId(), OWNER, new OrderStatusRequestDto(OrderStatus.DELIVERING));
+
+            awaitSize(otherOrderEvents, 2);
+            awaitSize(otherStoreEvents, 2);
+            // 중복 전달이 없는지 확인하기 위해 poll 주기 이상 대기
+            Thread.sleep(1000);
+
+            assertEquals(2, localEvents.size());
+            assertEquals(2, otherOrderEvents.size());
+            assertEquals(2, otherStoreEvents.size());
+            assertEquals(OrderStatus.ORDER_IN, otherOrderEvents.peek().getOrderStatus());
+            assertEquals(OrderStatus.DELIVERING, otherStoreEvents.stream().skip(1).findFirst().orElseThrow().getOrderStatus());
+        } finally {
+            local.dispose();
+            otherOrder.dispose();
+            otherStore.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("주문 상태 이벤트 - 현재 상태를 읽는 동안 변경된 상태도 전달하고, 현재 상태에 반영된 이벤트는 제외")
+    void testSubscribeWhileReadingCurrentState() {
+        OrderStatusEvent current = OrderStatusEvent.from(order);
+        OrderStatusEvent reflected = new OrderStatusEvent(order.getOrderId(), store.getStoreId(),
+                OrderStatus.PAYMENT_COMPLETE, current.getChangedAt());
+        OrderStatusEvent changed = new OrderStatusEvent(order.getOrderId(), store.getStoreId(),
+                OrderStatus.ORDER_IN, current.getChangedAt().plusSeconds(1));
+
+        List<OrderStatusEvent> events = orderEventChannel.subscribeOrder(order.getOrderId(), () -> {
+                    // 구독 등록 이후, 현재 상태 조회가 끝나기 전에 전달된 이벤트
+                    orderEventChannel.publish(reflected);
+                    orderEventChannel.publish(changed);
+                    return current;
+                })
+                .filter(event -> event.data() != null)
+                .map(ServerSentEvent::data)
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(events);
+        assertEquals(List.of(OrderStatus.PAYMENT_COMPLETE, OrderStatus.ORDER_IN),
+                events.stream().map(OrderStatusEvent::getOrderStatus).toList());
+        assertEquals(0, orderEventChannel.subscriberCount());
+    }
+
+    // 구독 시 받는 현재 상태 이벤트는 제외
+    private void collect(ServerSentEvent<OrderStatusEvent> event, Queue<OrderStatusEvent> events) {
+        if (event.data() != null && event.data().getOrderStatus() != OrderStatus.PAYMENT_COMPLETE) {
+            events.add(event.data());
+        }
+    }
+
+    private void awaitSize(Queue<OrderStatusEvent> events, int size) throws InterruptedException {
+        for (int i = 0; i < 100 && events.size() < size; i++) {
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.event.OrderEventChannel;
+import com.sparta.delivery.domain.order.event.OrderStatusEvent;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.util.JwtTestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 상태 SSE 스트림 부하 테스트
+ *
+ * 1. 연결 수(-Porder.event.loadTest.connections, 기본 1,000)만큼 주문 구독 연결을 열고 가게 구독 연결 1개를 추가
+ * 2. 가게 주인이 주문 상태를 변경하면 모든 구독자가 이벤트를 받는지, 전달 지연(p50/p99)을 측정
+ * 3. 연결 수가 늘어도 서버 스레드 수가 연결 수만큼 늘지 않는지 확인
+ *
+ * 실제 연결과 커밋이 필요하므로 RANDOM_PORT 로 기동하고 @Transactional 을 사용하지 않습니다.
+ * 오래 걸리므로 ./gradlew test 에서는 제외하고 ./gradlew sseLoadTest 로 실행합니다.
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class OrderEventStreamLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("order.event.loadTest.connections", 1000);
+    private static final String CUSTOMER = "sseCustomer";
+    private static final String OWNER = "sseOwner";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTestUtil jwtTestUtil;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventChannel orderEventChannel;
+
+    private User customer;
+    private User owner;
+    private Stores store;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.save(User.builder()
+                .email("sseCustomer@example.com")
+                .password("encodedPassword")
+                .username(CUSTOMER)
+                .nickname(CUSTOMER)
+                .role(UserRoles.ROLE_CUSTOMER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        owner = userRepository.save(User.builder()
+                .email("sseOwner@example.com")
+                .password("encodedPassword")
+                .username(OWNER)
+                .nickname(OWNER)
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("sseStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        order = orderRepository.save(Order.builder()
+                .orderTime(LocalDateTime.now())
+                .orderType(OrderType.PACKAGING)
+                .orderStatus(OrderStatus.PAYMENT_COMPLETE)
+                .stores(store)
+                .user(customer)
+                .orderProductList(new ArrayList<>())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteById(order.getOrderId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(customer.getUserId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("주문 상태 SSE - 모든 구독자에게 상태 변경 전달, 스레드 수는 연결 수와 무관")
+    void testBroadcastToIdleConnections() throws InterruptedException {
+        ConnectionProvider provider = ConnectionProvider.builder("order-event-load-test")
+                .maxConnections(CONNECTIONS + 1)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = webClientBuilder
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                .build();
+
+        String customerToken = jwtTestUtil.createJwt(CUSTOMER, UserRoles.ROLE_CUSTOMER);
+        String ownerToken = jwtTestUtil.createJwt(OWNER, UserRoles.ROLE_OWNER);
+
+        CountDownLatch received = new CountDownLatch(CONNECTIONS + 1);
+        Queue<Long> receivedAt = new ConcurrentLinkedQueue<>();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Disposable> subscriptions = new ArrayList<>();
+
+        int threadsBefore = Thread.activeCount();
+        try {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                subscriptions.add(subscribe(webClient, "/api/order/" + order.getOrderId() + "/events",
+                        customerToken, received, receivedAt, errors));
+            }
+            subscriptions.add(subscribe(webClient, "/api/order/stores/" + store.getStoreId() + "/events",
+                    ownerToken, received, receivedAt, errors));
+
+            // 모든 연결이 채널에 등록될 때까지 대기
+            long deadline = System.currentTimeMillis() + 60_000;
+            while (orderEventChannel.subscriberCount() < CONNECTIONS + 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            assertTrue(errors.isEmpty(), () -> "unexpected errors: " + errors);
+            assertEquals(CONNECTIONS + 1, orderEventChannel.subscriberCount());
+            int threadsConnected = Thread.activeCount();
+
+            long publishedAt = System.nanoTime();
+            orderService.updateOrderStatus(order.getOrderId(), OWNER, new OrderStatusRequestDto(OrderStatus.ORDER_IN));
+
+            assertTrue(received.await(30, TimeUnit.SECONDS), () -> "not delivered: " + received.getCount());
+            assertTrue(errors.isEmpty(), () -> "unexpected errors: " + errors);
+
+            long[] latencies = receivedAt.stream().mapToLong(at -> at - publishedAt).sorted().toArray();
+            System.out.printf("SSE connections=%d, threads before=%d, connected=%d, delivery p50=%.2fms p99=%.2fms max=%.2fms%n",
+                    CONNECTIONS + 1, threadsBefore, threadsConnected,
+                    percentile(latencies, 50), percentile(latencies, 99), percentile(latencies, 100));
+
+            // 연결마다 스레드를 점유한다면 연결 수 이상으로 늘어남 (tomcat 최대 200 + reactor 이벤트 루프)
+            assertTrue(threadsConnected - threadsBefore < CONNECTIONS / 2,
+                    () -> "threads grew with connections: " + threadsBefore + " -> " + threadsConnected);
+        } finally {
+            subscriptions.forEach(Disposable::dispose);
+            provider.dispose();
+        }
+    }
+
+    private Disposable subscribe(WebClient webClient, String uri, String token,
+                                 CountDownLatch received, Queue<Long> receivedAt, Queue<Throwable> errors) {
+        return webClient.get()
+                .uri(uri)
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<OrderStatusEvent>>() {})
+                .filter(event -> event.data() != null && event.data().getOrderStatus() == OrderStatus.ORDER_IN)
+                .subscribe(event -> {
+                    receivedAt.add(System.nanoTime());
+                    received.countDown();
+                }, errors::add);
+    }
+
+    private double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = Math.max(0, (int) Math.ceil(sortedNanos.length * percentile / 100.0) - 1);
+        return sortedNanos[Math.min(index, sortedNanos.length - 1)] / 1_000_000.0;
+    }
+}
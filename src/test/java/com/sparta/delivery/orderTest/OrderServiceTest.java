@@ -3,6 +3,7 @@ package com.sparta.delivery.orderTest;
 import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.*;
+import com.sparta.delivery.domain.common.cursor.CursorPageResponseDto;
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
 import com.sparta.delivery.domain.order.dto.*;
@@ -13,6 +14,7 @@ import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.order.service.OrderService;
 import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
 import com.sparta.delivery.domain.orderProduct.repository.OrderProductRepository;
+import com.sparta.delivery.domain.outbox.service.OutboxDispatcher;
 import com.sparta.delivery.domain.product.entity.Product;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
@@ -20,6 +22,8 @@ import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import com.sparta.delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,7 +37,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -68,6 +74,12 @@ public class OrderServiceTest {
     @Autowired
     private OrderProductRepository orderProductRepository;
 
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private User customer;
     private User owner;
     private User dummyOwner;
@@ -435,6 +447,41 @@ public class OrderServiceTest {
 
     }
 
+    @Test
+    @DisplayName("가게 주문 커서 조회 성공 - 모든 페이지를 중복 없이 순회")
+    void testSearchStoreOrderByCursorSuccess() {
+        PrincipalDetails principalDetails = mock(PrincipalDetails.class);
+        when(principalDetails.getUsername()).thenReturn("owner");
+        when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_OWNER);
+
+        long totalElements = orderService.getStoreOrderList(store1.getStoreId(),
+                pageableConfig.createPageRequest(null, null, null, null), principalDetails.getUsername()).getTotalElements();
+
+        Set<UUID> orderIdSet = new HashSet<>();
+        String cursor = null;
+        CursorPageResponseDto<OrderListResponseDto> resultList;
+        do {
+            resultList = orderService.getStoreOrderListByCursor(store1.getStoreId(), cursor, 5, false, principalDetails.getUsername());
+            assertTrue(resultList.getContent().size() <= 5);
+            for (OrderListResponseDto orderDto : resultList.getContent()) {
+                assertTrue(orderIdSet.add(orderDto.getOrderId()));
+            }
+            cursor = resultList.getNextCursor();
+        } while (resultList.isHasNext());
+
+        assertNull(resultList.getNextCursor());
+        assertEquals(totalElements, orderIdSet.size());
+    }
+
+    @Test
+    @DisplayName("가게 주문 커서 조회 실패 - 잘못된 커서")
+    void testSearchStoreOrderByCursorFailWhenInvalidCursor() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, ()-> {
+            orderService.getStoreOrderListByCursor(store1.getStoreId(), "invalid-cursor", 5, false, "owner");
+        });
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("가게 주문 조회 실패 - 가게의 오너가 아님")
     void testSearchUserOrderFailWhenNotStoreOwner() {
@@ -581,6 +628,18 @@ public class OrderServiceTest {
         assertEquals(principalDetails.getUsername(), resultOrder.getDeletedBy());
     }
 
+    @Test
+    @DisplayName("주문 취소 - 상품 재고는 outbox 이벤트 처리 후 복구")
+    void testDeleteOrderRestoresStockByOutbox() {
+        int orderedCount = order.getOrderProductList().size();
+
+        orderService.deleteOrder(order.getOrderId(), "customer");
+        assertEquals(20, reloadProduct(product1.getProductId()).getQuantity());
+
+        outboxDispatcher.dispatch();
+        assertEquals(20 + orderedCount, reloadProduct(product1.getProductId()).getQuantity());
+    }
+
 //    @Test
 //    @DisplayName("주문 삭제 실패 - 주문 시간으로부터 5분 이상일 때")
 //    @org.junit.jupiter.api.Order(17)
@@ -597,4 +656,10 @@ public class OrderServiceTest {
 //
 //    }
 
+    // 재고는 update 쿼리로 반영되므로 영속성 컨텍스트를 비우고 다시 조회
+    private Product reloadProduct(UUID productId) {
+        entityManager.flush();
+        entityManager.clear();
+        return productRepository.findById(productId).orElseThrow();
+    }
 }
@@ -10,7 +10,9 @@ import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
 import com.sparta.delivery.domain.orderProduct.repository.OrderProductRepository;
+import com.sparta.delivery.config.global.exception.custom.PaymentAlreadyCompletedException;
 import com.sparta.delivery.domain.payment.dto.PaymentDto;
+import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
 import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.repository.PaymentRepository;
@@ -27,11 +29,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -176,6 +181,22 @@ public class PaymentServiceIntegrationTest {
     }
 
 
+    @Test
+    @DisplayName("결제 중복 요청 : 같은 멱등성 키로 재요청 시 결제 한 건만 생성")
+    void testIsRegisterPaymentIdempotent() {
+        paymentRepository.delete(testPayment);
+        RegisterPaymentDto registerPaymentDto = new RegisterPaymentDto(cardId, 10000, orderId);
+
+        PaymentDto first = paymentService.isRegisterPayment(registerPaymentDto, testUser.getUsername(), "retry-key");
+        PaymentDto retry = paymentService.isRegisterPayment(registerPaymentDto, testUser.getUsername(), "retry-key");
+
+        assertEquals(first.getPaymentId(), retry.getPaymentId());
+        assertEquals(OrderStatus.PAYMENT_COMPLETE, retry.getOrderStatus());
+        assertEquals(1, paymentService.getPayments(testUser.getUsername()).size());
+        assertThrows(PaymentAlreadyCompletedException.class,
+                () -> paymentService.isRegisterPayment(registerPaymentDto, testUser.getUsername(), "other-key"));
+    }
+
     @Test
     @DisplayName("결제 내역 조회 성공")
     void testGetPaymentSuccess() {
@@ -192,12 +213,33 @@ public class PaymentServiceIntegrationTest {
         assertEquals("결제 내역이 존재하지 않습니다.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("전체 결제 내역 조회 성공 : 삭제된 결제 제외")
+    void testGetPaymentsSuccess() {
+        List<PaymentDto> result = paymentService.getPayments(testUser.getUsername());
+        assertEquals(1, result.size());
+        assertEquals(paymentId, result.get(0).getPaymentId());
+        assertEquals(orderId, result.get(0).getOrderId());
+        assertEquals(OrderStatus.PAYMENT_WAIT, result.get(0).getOrderStatus());
+
+        paymentService.deletePayment(paymentId, testUser.getUsername());
+        assertTrue(paymentService.getPayments(testUser.getUsername()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("전체 결제 내역 내보내기 성공")
+    void testExportPaymentsSuccess() {
+        List<PaymentDto> exported = new ArrayList<>();
+        paymentService.exportPayments(testUser.getUsername(), exported::add);
+        assertEquals(paymentService.getPayments(testUser.getUsername()), exported);
+    }
+
     @Test
     @DisplayName("결제 내역 검색 성공")
     void testSearchPaymentsSuccess() {
         SearchDto searchDto = new SearchDto();
-        List<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername());
-        int size = searchResult.size();
+        Page<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername(), PageRequest.of(0, 10));
+        int size = searchResult.getContent().size();
         assertEquals(1, size);
     }
 
@@ -205,11 +247,24 @@ public class PaymentServiceIntegrationTest {
     @DisplayName("최소 금액이 30,000인 결제 내역 검색 성공")
     void testConditionSearchPaymentsSuccess() {
         SearchDto searchDto = new SearchDto(30000, null, null, null, null, null);
-        List<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername());
-        int size = searchResult.size();
+        Page<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername(), PageRequest.of(0, 10));
+        int size = searchResult.getContent().size();
         assertEquals(0, size);
     }
 
+    @Test
+    @DisplayName("결제 내역 검색 성공 : 삭제된 결제 제외")
+    void testSearchPaymentsExcludeDeleted() {
+        SearchDto searchDto = new SearchDto(null, null, OrderStatus.PAYMENT_WAIT, null, null, "국민");
+        Page<PaymentDto> searchResult = paymentService.searchPayments(searchDto, testUser.getUsername(), PageRequest.of(0, 10));
+        assertEquals(1, searchResult.getTotalElements());
+        assertEquals(orderId, searchResult.getContent().get(0).getOrderId());
+
+        paymentService.deletePayment(paymentId, testUser.getUsername());
+        searchResult = paymentService.searchPayments(searchDto, testUser.getUsername(), PageRequest.of(0, 10));
+        assertEquals(0, searchResult.getTotalElements());
+    }
+
     @Test
     @DisplayName("결제 내역 삭제 성공")
     void testDeletePaymentSuccess() {
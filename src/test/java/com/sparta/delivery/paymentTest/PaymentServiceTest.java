@@ -1,10 +1,12 @@
 package com.sparta.delivery.paymentTest;
 
+import com.sparta.delivery.config.global.exception.custom.IdempotencyKeyReusedException;
 import com.sparta.delivery.config.global.exception.custom.PaymentAlreadyCompletedException;
 import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
 import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.event.OrderStatusEvent;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
@@ -12,14 +14,20 @@ import com.sparta.delivery.domain.payment.dto.SearchDto;
 import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.repository.PaymentRepository;
 import com.sparta.delivery.domain.payment.service.PaymentService;
+import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,11 +49,14 @@ public class PaymentServiceTest {
     private CardRepository cardRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserLookupService userLookupService;
 
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User testUser;
     private UUID cardId;
 
@@ -75,6 +86,7 @@ public class PaymentServiceTest {
                 .orderId(orderId)
                 .orderStatus(OrderStatus.PAYMENT_WAIT)
                 .user(testUser)
+                .stores(Stores.builder().storeId(UUID.randomUUID()).build())
                 .build();
         paymentId = UUID.randomUUID();
         testPayment = Payment.builder()
@@ -93,9 +105,11 @@ public class PaymentServiceTest {
 
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId,"testuser")).thenReturn(Optional.of(testCard));
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
+        when(orderRepository.updateOrderStatus(orderId, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE)).thenReturn(1);
         when(paymentRepository.save(any(Payment.class))).thenReturn(testPayment);
-        assertDoesNotThrow(() -> paymentService.isRegisterPayment(registerPaymentDto, "testuser"));
+        assertDoesNotThrow(() -> paymentService.isRegisterPayment(registerPaymentDto, "testuser", null));
+        verify(eventPublisher).publishEvent(any(OrderStatusEvent.class));
     }
 
 
@@ -107,18 +121,44 @@ public class PaymentServiceTest {
 
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId,"testuser")).thenReturn(Optional.of(testCard));
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
 
         PaymentAlreadyCompletedException exception = assertThrows(PaymentAlreadyCompletedException.class,
-                () -> paymentService.isRegisterPayment(registerPaymentDto, "testuser"));
+                () -> paymentService.isRegisterPayment(registerPaymentDto, "testuser", null));
 
         assertEquals("이미 결제된 주문입니다.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("결제 중복 요청 : 같은 멱등성 키는 기존 결제 결과 반환")
+    void testIsRegisterPaymentReplay() {
+        RegisterPaymentDto registerPaymentDto = new RegisterPaymentDto(cardId, 10000,orderId);
+
+        when(paymentRepository.findByIdempotencyKeyAndUser_Username("retry-key", "testuser")).thenReturn(Optional.of(testPayment));
+
+        PaymentDto result = paymentService.isRegisterPayment(registerPaymentDto, "testuser", "retry-key");
+
+        assertEquals(paymentId, result.getPaymentId());
+        verify(orderRepository, never()).updateOrderStatus(any(), any(), any());
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verifyNoInteractions(cardRepository);
+    }
+
+    @Test
+    @DisplayName("결제 실패 : 다른 주문에 사용된 멱등성 키")
+    void testIsRegisterPaymentFailKeyReused() {
+        RegisterPaymentDto registerPaymentDto = new RegisterPaymentDto(cardId, 10000, UUID.randomUUID());
+
+        when(paymentRepository.findByIdempotencyKeyAndUser_Username("retry-key", "testuser")).thenReturn(Optional.of(testPayment));
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> paymentService.isRegisterPayment(registerPaymentDto, "testuser", "retry-key"));
+    }
+
     @Test
     @DisplayName("결제 내역 조회 성공")
     void testGetPaymentSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
 
@@ -131,7 +171,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 조회 실패 : 결제 내역 없음")
     void testGetPaymentFailNotFound() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.empty());
 
         NullPointerException exception = assertThrows(NullPointerException.class,
@@ -143,10 +183,13 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("전체 결제 내역 조회")
     void testGetPaymentsSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.findByUser_UsernameAndDeletedAtIsNull("testuser")).thenReturn(List.of(testPayment));
-        when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
-        when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
+        when(paymentRepository.findPaymentHistory(testUser.getUserId())).thenReturn(List.of(PaymentDto.builder()
+                .paymentId(paymentId)
+                .amount(testPayment.getAmount())
+                .orderId(orderId)
+                .orderStatus(testOrder.getOrderStatus())
+                .build()));
 
         List<PaymentDto> result = paymentService.getPayments("testuser");
 
@@ -156,13 +199,25 @@ public class PaymentServiceTest {
         assertEquals(testPayment.getPaymentId(), result.get(0).getPaymentId());
     }
 
+    @Test
+    @DisplayName("전체 결제 내역 조회 - 결제 건별 추가 조회 없음")
+    void testGetPaymentsWithoutPerPaymentQuery() {
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
+        when(paymentRepository.findPaymentHistory(testUser.getUserId())).thenReturn(List.of(new PaymentDto(), new PaymentDto()));
+
+        List<PaymentDto> result = paymentService.getPayments("testuser");
+
+        assertEquals(2, result.size());
+        verify(userLookupService, times(1)).findByUsernameAndDeletedAtIsNull("testuser");
+        verify(paymentRepository, never()).findByPaymentIdAndDeletedAtIsNullAndUser_Username(any(), any());
+        verifyNoInteractions(orderRepository);
+    }
+
     @Test
     @DisplayName("전체 결제 내역 조회 실패 : 결제 내역 없음")
     void testGetPaymentsFailNoPayments() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.findByUser_UsernameAndDeletedAtIsNull("testuser")).thenReturn(List.of());
-        when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
-        when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
+        when(paymentRepository.findPaymentHistory(testUser.getUserId())).thenReturn(List.of());
 
         List<PaymentDto> result = paymentService.getPayments("testuser");
 
@@ -174,26 +229,28 @@ public class PaymentServiceTest {
     @DisplayName("결제 내역 검색 성공")
     void testSearchPaymentsSuccess() {
         SearchDto searchDto = new SearchDto();
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.searchPayments(searchDto, "testuser")).thenReturn(List.of(testPayment));
-        when(paymentRepository.searchPayments(null, "testuser")).thenReturn(List.of(testPayment));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<PaymentDto> paymentPage = new PageImpl<>(List.of(PaymentDto.builder().paymentId(paymentId).build()), pageable, 1);
+        when(paymentRepository.searchPayments(searchDto, testUser.getUserId(), pageable)).thenReturn(paymentPage);
+        when(paymentRepository.searchPayments(null, testUser.getUserId(), pageable)).thenReturn(paymentPage);
 
-        List<PaymentDto> searchResult = paymentService.searchPayments(searchDto, "testuser");
-        List<PaymentDto> searchNullResult = paymentService.searchPayments(null, "testuser");
+        Page<PaymentDto> searchResult = paymentService.searchPayments(searchDto, "testuser", pageable);
+        Page<PaymentDto> searchNullResult = paymentService.searchPayments(null, "testuser", pageable);
 
         assertNotNull(searchResult);
         assertFalse(searchResult.isEmpty());
-        assertEquals(testPayment.getPaymentId(), searchResult.get(0).getPaymentId());
+        assertEquals(testPayment.getPaymentId(), searchResult.getContent().get(0).getPaymentId());
 
         assertNotNull(searchNullResult);
         assertFalse(searchNullResult.isEmpty());
-        assertEquals(testPayment.getPaymentId(), searchNullResult.get(0).getPaymentId());
+        assertEquals(testPayment.getPaymentId(), searchNullResult.getContent().get(0).getPaymentId());
     }
 
     @Test
     @DisplayName("결제 내역 삭제 성공")
     void testDeletePaymentSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         assertDoesNotThrow(() -> paymentService.deletePayment(paymentId, "testuser"));
     }
@@ -201,7 +258,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 삭제 실패 : 결제 정보 없음")
     void testDeletePaymentFailNotFound() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser("testuser")).thenReturn(Optional.of(testUser));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.empty());
 
         NullPointerException exception = assertThrows(NullPointerException.class,
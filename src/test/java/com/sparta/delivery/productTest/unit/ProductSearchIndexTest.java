@@ -0,0 +1,109 @@
+package com.sparta.delivery.productTest.unit;
+
+import com.sparta.delivery.domain.product.service.ProductSearchIndex;
+import com.sparta.delivery.domain.product.service.ProductSearchIndex.Document;
+import com.sparta.delivery.domain.product.service.ProductSearchIndex.Hit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    private final UUID bibimbap = UUID.randomUUID();
+    private final UUID dolsot = UUID.randomUUID();
+    private final UUID naengmyeon = UUID.randomUUID();
+    private final UUID hiddenChicken = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.put(document(bibimbap, "비빔밥", "고추장 나물 비빔", false, false));
+        index.put(document(dolsot, "돌솥 비빔밥 세트", "돌솥에 담은 비빔밥과 된장찌개", false, false));
+        index.put(document(naengmyeon, "비빔냉면", "새콤달콤 양념", false, false));
+        index.put(document(hiddenChicken, "양념치킨", "비빔밥과 잘 어울리는 치킨", true, false));
+    }
+
+    @Test
+    @DisplayName("상품 검색 색인 - 한글 부분 일치, 이름에서 검색어가 차지하는 비율이 큰 상품이 먼저 조회")
+    void testPartialMatchAndRanking() {
+        List<UUID> result = ranked("비빔밥");
+
+        assertEquals(List.of(bibimbap, dolsot, hiddenChicken), result);
+    }
+
+    @Test
+    @DisplayName("상품 검색 색인 - 설명 검색, 모든 단어가 포함된 상품만 조회")
+    void testDescriptionAndAllWords() {
+        assertEquals(List.of(naengmyeon), ranked("새콤 냉면"));
+        assertEquals(List.of(dolsot), ranked("된장찌개"));
+        assertTrue(ranked("비빔 피자").isEmpty());
+    }
+
+    @Test
+    @DisplayName("상품 검색 색인 - n-gram 이 모두 있어도 단어가 그대로 포함되지 않으면 제외")
+    void testSubstringVerification() {
+        UUID set = UUID.randomUUID();
+        index.put(document(set, "가나 나가", "", false, false));
+
+        // "가나가" 의 bigram "가나", "나가" 는 모두 있지만 이어져 있지 않음
+        assertTrue(ranked("가나가").isEmpty());
+        assertEquals(List.of(set), ranked("나가"));
+    }
+
+    @Test
+    @DisplayName("상품 검색 색인 - 노출 조건으로 숨김 상품 제외")
+    void testFilter() {
+        List<UUID> result = index.search("치킨", document -> !document.hidden()).stream()
+                .map(hit -> hit.document().productId())
+                .toList();
+
+        assertTrue(result.isEmpty());
+        assertEquals(1, index.search("치킨", document -> true).size());
+    }
+
+    @Test
+    @DisplayName("상품 검색 색인 - 수정/제거한 상품은 이전 이름으로 검색되지 않음")
+    void testUpdateAndRemove() {
+        index.put(document(naengmyeon, "물냉면", "시원한 육수", false, false));
+
+        assertFalse(ranked("비빔").contains(naengmyeon));
+        assertEquals(List.of(naengmyeon), ranked("물냉면"));
+
+        index.remove(naengmyeon);
+
+        assertTrue(ranked("물냉면").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("상품 검색 색인 - 한 글자 검색어, 대소문자/전각 문자 구분 없이 조회")
+    void testSingleCharacterAndNormalization() {
+        UUID cola = UUID.randomUUID();
+        index.put(document(cola, "Coke 제로", "", false, false));
+
+        assertEquals(List.of(cola), ranked("ＣＯＫＥ"));
+        assertTrue(ranked("밥").containsAll(List.of(bibimbap, dolsot)));
+        assertTrue(ranked("   ").isEmpty());
+    }
+
+    private List<UUID> ranked(String query) {
+        return index.search(query, document -> true).stream()
+                .sorted(Comparator.comparingDouble(Hit::score).reversed())
+                .map(hit -> hit.document().productId())
+                .toList();
+    }
+
+    private Document document(UUID productId, String name, String description, boolean hidden, boolean deleted) {
+        LocalDateTime now = LocalDateTime.now();
+        return Document.of(productId, name, description, 1000, hidden, deleted, now, now);
+    }
+}
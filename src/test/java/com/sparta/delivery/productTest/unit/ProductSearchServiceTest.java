@@ -0,0 +1,87 @@
+package com.sparta.delivery.productTest.unit;
+
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductSearchService;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSearchServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchService productSearchService;
+
+    private Product bibimbap;
+    private Product dolsot;
+
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchService(productRepository, new SimpleMeterRegistry(), true, 1000, 10);
+
+        bibimbap = product("비빔밥");
+        dolsot = product("돌솥 비빔밥");
+        when(productRepository.findAllBy(any())).thenReturn(new SliceImpl<>(List.of(bibimbap, dolsot)));
+        productSearchService.rebuild();
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 색인에 아직 반영되지 않은 숨김 상품은 DB 에서 읽은 값으로 고객에게 노출하지 않음")
+    void testFilterLoadedProductsByRole() {
+        // 다른 replica 에서 숨김 처리되어 색인에는 아직 노출 상품으로 남아 있음
+        bibimbap.setHidden(true);
+        when(productRepository.findAllById(any())).thenReturn(List.of(bibimbap, dolsot));
+
+        assertEquals(List.of(dolsot), search(UserRoles.ROLE_CUSTOMER).getContent());
+        assertEquals(List.of(bibimbap, dolsot), search(UserRoles.ROLE_OWNER).getContent());
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 주기적으로 새 색인을 만들어 교체하면 변경을 놓친 상품도 반영")
+    void testRebuildReplacesIndex() {
+        // 변경 조회에서 놓친 상품 삭제 (DB 에서 지워짐)
+        when(productRepository.findAllBy(any())).thenReturn(new SliceImpl<>(List.of(dolsot)));
+        when(productRepository.findAllById(List.of(dolsot.getProductId()))).thenReturn(List.of(dolsot));
+
+        productSearchService.rebuild();
+
+        assertEquals(1, productSearchService.size());
+        Page<Product> page = search(UserRoles.ROLE_CUSTOMER);
+        assertEquals(List.of(dolsot), page.getContent());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    private Page<Product> search(UserRoles role) {
+        return productSearchService.search("비빔밥", role, "name", Sort.Direction.DESC, PageRequest.of(0, 10));
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .productId(UUID.randomUUID())
+                .name(name)
+                .description("")
+                .price(8000)
+                .quantity(10)
+                .hidden(false)
+                .build();
+    }
+}
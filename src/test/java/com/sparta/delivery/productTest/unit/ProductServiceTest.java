@@ -4,14 +4,19 @@ import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.DuplicateProductException;
 import com.sparta.delivery.config.global.exception.custom.ProductNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteService;
 import com.sparta.delivery.domain.product.dto.ProductRequestDto;
 import com.sparta.delivery.domain.product.dto.ProductResponseDto;
+import com.sparta.delivery.domain.product.dto.ProductStock;
 import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
 import com.sparta.delivery.domain.product.entity.Product;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductSearchService;
 import com.sparta.delivery.domain.product.service.ProductService;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreCatalogService;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,8 +27,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +49,12 @@ public class ProductServiceTest {
     @Mock
     private StoreRepository storeRepository;
     @Mock
+    private StoreCatalogService storeCatalogService;
+    @Mock
+    private ProductSearchService productSearchService;
+    @Mock
+    private AutocompleteService autocompleteService;
+    @Mock
     private PrincipalDetails principalDetails;
     private UUID productId;
     private UUID storeId;
@@ -252,15 +267,33 @@ public class ProductServiceTest {
             }
 
             @Test
-            @DisplayName("고객은 삭제되지 않은 상품 중 숨김 처리되지 않은 상품을 조회할 수 있다.")
+            @DisplayName("고객은 가게 카탈로그 캐시에서 삭제되지 않은 상품 중 숨김 처리되지 않은 상품을 조회할 수 있다.")
             void getStoreProductsSuccessForCustomer() {
+                when(storeCatalogService.findStore(storeId)).thenReturn(Optional.of(StoreSnapshot.of(store, List.of(savedProduct))));
+                when(productRepository.findStocksByProductIdIn(List.of(productId))).thenReturn(List.of(new ProductStock(productId, PRODUCT_QUANTITY)));
+                when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+                Page<ProductResponseDto> result = productService.getStoreProducts(storeId, 0, 10, "createdAt", "desc", principalDetails);
+
+                assertEquals(1, result.getTotalElements());
+                assertEquals(productId, result.getContent().get(0).getProductId());
+                // 재고는 캐시하지 않고 페이지 상품만 DB 에서 조회
+                assertEquals(PRODUCT_QUANTITY, result.getContent().get(0).getQuantity());
+                verify(storeRepository, never()).existsByStoreIdAndDeletedAtIsNull(any(UUID.class));
+                verify(productRepository, never()).findAllByStore_StoreIdAndDeletedAtIsNullAndHiddenFalse(any(UUID.class), any(Pageable.class));
+            }
+
+            @Test
+            @DisplayName("카탈로그에서 정렬할 수 없는 필드로 조회하면 삭제되지 않은 상품 중 숨김 처리되지 않은 상품을 DB 에서 조회한다.")
+            void getStoreProductsSuccessForCustomerWithUncachedSort() {
                 when(storeRepository.existsByStoreIdAndDeletedAtIsNull(any(UUID.class))).thenReturn(true);
                 when(productRepository.findAllByStore_StoreIdAndDeletedAtIsNullAndHiddenFalse(any(UUID.class), any(Pageable.class))).thenReturn(Page.empty());
                 when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
-                productService.getStoreProducts(storeId, 0, 10, "createdAt", "desc", principalDetails);
+                productService.getStoreProducts(storeId, 0, 10, "description", "desc", principalDetails);
 
                 verify(productRepository, times(1)).findAllByStore_StoreIdAndDeletedAtIsNullAndHiddenFalse(any(UUID.class), any(Pageable.class));
+                verify(storeCatalogService, never()).findStore(any(UUID.class));
             }
         }
 
@@ -271,10 +304,21 @@ public class ProductServiceTest {
             @DisplayName("해당 스토어가 존재하지 않으면 StoreNotFoundException을 발생시킨다.")
             void getStoreProductsFailStoreNotFound() {
                 when(storeRepository.existsByStoreIdAndDeletedAtIsNull(any(UUID.class))).thenReturn(false);
+                when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_MASTER);
 
                 assertThrows(StoreNotFoundException.class, () -> productService.getStoreProducts(storeId, 0, 10, "createdAt", "desc", principalDetails));
                 verify(storeRepository, times(1)).existsByStoreIdAndDeletedAtIsNull(any(UUID.class));
             }
+
+            @Test
+            @DisplayName("가게 카탈로그가 없으면(존재하지 않거나 삭제된 스토어) StoreNotFoundException을 발생시킨다.")
+            void getStoreProductsFailStoreNotFoundInCatalog() {
+                when(storeCatalogService.findStore(storeId)).thenReturn(Optional.empty());
+                when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+                assertThrows(StoreNotFoundException.class, () -> productService.getStoreProducts(storeId, 0, 10, "createdAt", "desc", principalDetails));
+                verify(storeCatalogService, times(1)).findStore(storeId);
+            }
         }
     }
 
@@ -344,6 +388,32 @@ public class ProductServiceTest {
 
                 verify(productRepository, times(1)).findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(anyString(), any(Pageable.class));
             }
+
+            @Test
+            @DisplayName("검색 색인이 준비되면 DB 조회 없이 색인에서 관련도 순으로 검색한다.")
+            void searchProductSuccessWithIndex() {
+                when(productSearchService.canSearch("relevance")).thenReturn(true);
+                when(productSearchService.search(eq(PRODUCT_NAME), eq(UserRoles.ROLE_CUSTOMER), eq("relevance"), eq(Sort.Direction.DESC), any(Pageable.class)))
+                        .thenReturn(new PageImpl<>(List.of(savedProduct)));
+                when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+                Page<ProductResponseDto> result = productService.searchProducts(PRODUCT_NAME, 0, 10, "relevance", "desc", principalDetails);
+
+                assertEquals(productId, result.getContent().get(0).getProductId());
+                verify(productRepository, never()).findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(anyString(), any(Pageable.class));
+            }
+
+            @Test
+            @DisplayName("검색 색인이 준비되기 전 관련도 순 검색은 DB 에서 최신순으로 검색한다.")
+            void searchProductFallbackBeforeIndexReady() {
+                when(productRepository.findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(anyString(), any(Pageable.class))).thenReturn(Page.empty());
+                when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+                productService.searchProducts(PRODUCT_NAME, 0, 10, "relevance", "desc", principalDetails);
+
+                verify(productRepository, times(1)).findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(anyString(),
+                        argThat(pageable -> pageable.getSort().getOrderFor("createdAt") != null));
+            }
         }
     }
 }
@@ -2,9 +2,16 @@ package com.sparta.delivery.regionTest.integration;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.config.global.exception.custom.RegionNotFoundException;
 import com.sparta.delivery.domain.region.dto.RegionReqDto;
+import com.sparta.delivery.domain.region.dto.RegionResDto;
+import com.sparta.delivery.domain.region.entity.Region;
+import com.sparta.delivery.domain.region.repository.RegionRepository;
+import com.sparta.delivery.domain.region.service.RegionService;
 import com.sparta.delivery.domain.store.dto.StoreReqDto;
+import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.dto.LoginRequestDto;
 import com.sparta.delivery.domain.user.dto.SignupReqDto;
 import com.sparta.delivery.domain.user.dto.UserRoleUpdateReqDto;
@@ -17,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
@@ -24,17 +33,19 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@Disabled
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -46,7 +57,14 @@ public class RegionServiceIntegrationTest {
     private ObjectMapper objectMapper;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+    @Autowired
+    private RegionService regionService;
 
+    @Disabled
     @Test
     @DisplayName("권한을 가진 MASTER가 다른 유저의 권한 CUSTOMER -> OWNER로 변경 후, OWNER가 지역 등록 성공")
     void testUpdateRoleAndCreateRegion() throws Exception {
@@ -98,6 +116,7 @@ public class RegionServiceIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Disabled
     @Test
     @DisplayName("유저가(CUSTOMER) OWNER조건인 지역등록(OWNER필요) 시도 후 실패")
     void testCreateRegionFail() throws Exception {
@@ -130,6 +149,77 @@ public class RegionServiceIntegrationTest {
                 andExpect(jsonPath("$.msg").value("(가계주인)허가된 사용자가 아닙니다.")); // 응답 메시지 검증;
     }
 
+    @Test
+    @DisplayName("운영 지역 검색 - 검색어가 포함된 지역을 페이지 단위로 조회")
+    void testSearchRegionPaging() {
+        String keyword = saveRegions(12);
+
+        Page<RegionResDto> firstPage = regionService.searchRegion(keyword, PageRequest.of(0, 10), "locality", "asc");
+        Page<RegionResDto> secondPage = regionService.searchRegion(keyword, PageRequest.of(1, 10), "locality", "asc");
+
+        assertThat(firstPage.getContent()).hasSize(10);
+        assertThat(firstPage.getTotalElements()).isEqualTo(12);
+        assertThat(firstPage.getTotalPages()).isEqualTo(2);
+        assertThat(secondPage.getContent()).extracting(RegionResDto::getLocality)
+                .containsExactly(keyword + "11동", keyword + "12동");
+
+        // 허용되지 않은 페이지 크기는 10 으로 조회
+        assertThat(regionService.searchRegion(keyword, PageRequest.of(0, 15), "locality", "asc").getContent()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("운영 지역 검색 - 정렬 방향 적용, 허용되지 않은 정렬 컬럼은 무시")
+    void testSearchRegionSorting() {
+        String keyword = saveRegions(3);
+
+        Page<RegionResDto> desc = regionService.searchRegion(keyword, PageRequest.of(0, 10), "locality", "desc");
+        assertThat(desc.getContent()).extracting(RegionResDto::getLocality)
+                .containsExactly(keyword + "03동", keyword + "02동", keyword + "01동");
+
+        Page<RegionResDto> asc = regionService.searchRegion(keyword, PageRequest.of(0, 10), "locality", "asc");
+        assertThat(asc.getContent()).extracting(RegionResDto::getLocality)
+                .containsExactly(keyword + "01동", keyword + "02동", keyword + "03동");
+
+        // 엔티티에 없는 컬럼이나 연관 엔티티 경로는 정렬 조건에서 제외하고 조회
+        assertThat(regionService.searchRegion(keyword, PageRequest.of(0, 10), "stores.user.password", "asc").getContent()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("운영 지역 검색 - 검색 결과가 없거나 마지막 페이지를 넘으면 예외")
+    void testSearchRegionEmpty() {
+        String keyword = saveRegions(2);
+
+        assertThatThrownBy(() -> regionService.searchRegion(keyword + "없음", PageRequest.of(0, 10), null, null))
+                .isInstanceOf(RegionNotFoundException.class)
+                .hasMessage("지역이 한개도 등록되어있지 않습니다.");
+
+        assertThatThrownBy(() -> regionService.searchRegion(keyword, PageRequest.of(1, 10), null, null))
+                .isInstanceOf(RegionNotFoundException.class)
+                .hasMessage("지역 검색 결과가 존재하지 않습니다.");
+    }
+
+    // 가게 하나에 "<검색어>01동" ~ "<검색어>NN동" 지역을 저장하고 검색어 반환 (다른 테스트의 지역과 겹치지 않는 검색어)
+    private String saveRegions(int count) {
+        String keyword = "검색" + UUID.randomUUID().toString().substring(0, 8);
+        Stores store = storeRepository.save(Stores.builder()
+                .name("지역검색가게")
+                .address("서울시 종로구")
+                .status(true)
+                .category(Category.한식)
+                .build());
+
+        List<Region> regions = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            regions.add(Region.builder()
+                    .province("도시")
+                    .city("서울")
+                    .locality(keyword + String.format("%02d", i) + "동")
+                    .stores(store)
+                    .build());
+        }
+        regionRepository.saveAll(regions);
+        return keyword;
+    }
 
     // 회원가입 후 응답에서 userId 추출
     private UUID signupUserAndGetId(String username, String password) throws Exception {
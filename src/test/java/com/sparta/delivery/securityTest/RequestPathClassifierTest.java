@@ -0,0 +1,59 @@
+package com.sparta.delivery.securityTest;
+
+import com.sparta.delivery.config.auth.AccessRule;
+import com.sparta.delivery.config.auth.RequestPathClassifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestPathClassifierTest {
+
+    private final RequestPathClassifier requestPathClassifier = new RequestPathClassifier();
+
+    @Test
+    @DisplayName("공용 URL 분류 - 메서드와 관계없이 인증 불필요")
+    void testClassifyPublic() {
+        assertTrue(requestPathClassifier.isPublic(new MockHttpServletRequest("POST", "/api/user/signin")));
+        assertTrue(requestPathClassifier.isPublic(new MockHttpServletRequest("GET", "/swagger-ui/index.html")));
+        assertTrue(requestPathClassifier.isPublic(new MockHttpServletRequest("GET", "/v3/api-docs/swagger-config")));
+    }
+
+    @Test
+    @DisplayName("권한 필요 URL 분류 - 메서드별 규칙 적용")
+    void testClassifyRoleRestricted() {
+        AccessRule storeOrder = requestPathClassifier.classify(new MockHttpServletRequest("GET", "/api/order/getStoreOrder/1234"));
+        assertEquals(AccessRule.AccessLevel.ROLE_RESTRICTED, storeOrder.getAccessLevel());
+        assertEquals(List.of("OWNER", "MANAGER", "MASTER"), storeOrder.getRoles());
+
+        AccessRule storeDelete = requestPathClassifier.classify(new MockHttpServletRequest("PATCH", "/api/store/1234/delete"));
+        assertEquals(List.of("MANAGER", "MASTER"), storeDelete.getRoles());
+
+        AccessRule userList = requestPathClassifier.classify(new MockHttpServletRequest("GET", "/api/user"));
+        assertEquals(List.of("MANAGER", "MASTER"), userList.getRoles());
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 URL 분류 - 인증 필요")
+    void testClassifyAuthenticated() {
+        // POST /api/order 는 별도 규칙이 없으므로 인증만 필요
+        AccessRule createOrder = requestPathClassifier.classify(new MockHttpServletRequest("POST", "/api/order"));
+        assertEquals(AccessRule.AccessLevel.AUTHENTICATED, createOrder.getAccessLevel());
+
+        // GET 규칙만 있는 경로라도 다른 메서드는 인증만 필요
+        AccessRule updateUser = requestPathClassifier.classify(new MockHttpServletRequest("PATCH", "/api/user/1234"));
+        assertEquals(AccessRule.AccessLevel.AUTHENTICATED, updateUser.getAccessLevel());
+    }
+
+    @Test
+    @DisplayName("같은 요청은 한 번만 분류")
+    void testClassifyCachedPerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/payment/1234");
+
+        assertSame(requestPathClassifier.classify(request), requestPathClassifier.classify(request));
+        assertEquals(List.of("MASTER"), requestPathClassifier.classify(request).getRoles());
+    }
+}
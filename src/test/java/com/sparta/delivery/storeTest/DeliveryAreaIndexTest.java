@@ -0,0 +1,99 @@
+package com.sparta.delivery.storeTest;
+
+import com.sparta.delivery.domain.geo.dto.GeoPoint;
+import com.sparta.delivery.domain.geo.service.LocalGeocoder;
+import com.sparta.delivery.domain.store.service.DeliveryAreaIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeliveryAreaIndexTest {
+
+    // 역삼동
+    private static final GeoPoint ADDRESS = new GeoPoint(37.5000, 127.0365);
+
+    private DeliveryAreaIndex index;
+
+    private final UUID nearStoreId = UUID.randomUUID();
+    private final UUID middleStoreId = UUID.randomUUID();
+    private final UUID smallRadiusStoreId = UUID.randomUUID();
+    private final UUID largeRadiusStoreId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index = new DeliveryAreaIndex();
+        index.put(middleStoreId, new GeoPoint(37.5100, 127.0365), 3000); // 약 1.1km
+        index.put(nearStoreId, new GeoPoint(37.5010, 127.0365), 3000); // 약 110m
+        index.put(smallRadiusStoreId, new GeoPoint(37.5300, 127.0365), 2000); // 약 3.3km, 반경 밖
+        index.put(largeRadiusStoreId, new GeoPoint(37.5300, 127.0365), 5000); // 약 3.3km, 반경 안
+    }
+
+    @Test
+    @DisplayName("배달 가능 가게 - 배송지가 배달 반경 안에 있는 가게만 가까운 순서로 조회")
+    void testSearch() {
+        List<DeliveryAreaIndex.Hit> hits = index.search(ADDRESS);
+
+        assertEquals(List.of(nearStoreId, middleStoreId, largeRadiusStoreId), storeIds(hits));
+        assertEquals(111, hits.get(0).distanceMeters(), 1);
+        assertTrue(index.search(new GeoPoint(35.1796, 129.0756)).isEmpty()); // 부산
+
+        // 페이지 단위 조회 (가까운 순서로 offset 이후 limit 개, 전체 가게 수)
+        DeliveryAreaIndex.SearchResult page = index.search(ADDRESS, 1, 1);
+        assertEquals(List.of(middleStoreId), storeIds(page.hits()));
+        assertEquals(3, page.total());
+        assertTrue(index.search(ADDRESS, 3, 10).hits().isEmpty());
+        assertEquals(3, index.search(ADDRESS, 3, 10).total());
+    }
+
+    @Test
+    @DisplayName("배달 가능 가게 - 격자 칸 경계와 상관없이 배달 반경으로만 판단")
+    void testRadiusAcrossCells() {
+        UUID storeId = UUID.randomUUID();
+        index.put(storeId, new GeoPoint(37.4000, 127.0000), 1000);
+
+        // 경도 0.01도 ≈ 882m (위도 37.4), 가게와 다른 칸
+        assertEquals(List.of(storeId), storeIds(index.search(new GeoPoint(37.4000, 127.0112))));
+        assertTrue(index.search(new GeoPoint(37.4000, 127.0116)).isEmpty());
+        assertEquals(List.of(storeId), storeIds(index.search(new GeoPoint(37.3912, 127.0000))));
+        assertTrue(index.search(new GeoPoint(37.3908, 127.0000)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("배달 가능 가게 - 위치, 반경이 바뀌거나 제거된 가게는 이전 칸에서 제거")
+    void testUpdateAndRemove() {
+        index.put(nearStoreId, new GeoPoint(37.5600, 126.9200), 3000); // 마포구로 이전
+        index.put(largeRadiusStoreId, new GeoPoint(37.5300, 127.0365), 1000); // 반경 축소
+        index.remove(middleStoreId);
+
+        assertTrue(index.search(ADDRESS).isEmpty());
+        assertEquals(List.of(nearStoreId), storeIds(index.search(new GeoPoint(37.5543, 126.9184))));
+
+        index.remove(nearStoreId);
+        index.remove(smallRadiusStoreId);
+        index.remove(largeRadiusStoreId);
+        assertEquals(0, index.size());
+        assertEquals(0, index.cellSize());
+    }
+
+    @Test
+    @DisplayName("배달 가능 가게 - 주소에 포함된 동(없으면 구) 의 좌표를 조회 테이블에서 조회")
+    void testGeocode() {
+        LocalGeocoder geocoder = new LocalGeocoder();
+
+        assertEquals(geocoder.geocode("역삼동").orElseThrow(), geocoder.geocode("서울특별시 강남구 역삼1동 123-4").orElseThrow());
+        // 같은 이름의 동은 주소에 포함된 구로 구분
+        assertNotEquals(geocoder.geocode("서울 강남구 신사동").orElseThrow(), geocoder.geocode("서울 은평구 신사동").orElseThrow());
+        assertTrue(geocoder.geocode("서울시 종로구").isPresent());
+        assertTrue(geocoder.geocode("부산광역시 해운대구 우동").isEmpty());
+        assertTrue(geocoder.geocode(" ").isEmpty());
+    }
+
+    private static List<UUID> storeIds(List<DeliveryAreaIndex.Hit> hits) {
+        return hits.stream().map(DeliveryAreaIndex.Hit::storeId).toList();
+    }
+}
@@ -0,0 +1,181 @@
+package com.sparta.delivery.storeTest;
+
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
+import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
+import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
+import com.sparta.delivery.domain.geo.service.LocationBackfillService;
+import com.sparta.delivery.domain.store.dto.DeliverableStoreResDto;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.DeliveryAreaService;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 테스트 설정은 store.delivery.enabled=false 이므로 DB 좌표 범위 조회로 처리
+@ActiveProfiles("test")
+@SpringBootTest
+public class DeliveryAreaServiceTest {
+
+    @Autowired
+    private DeliveryAreaService deliveryAreaService;
+
+    @Autowired
+    private LocationBackfillService locationBackfillService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private DeliveryAddressRepository deliveryAddressRepository;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Stores> stores = new ArrayList<>();
+    private final List<DeliveryAddress> addresses = new ArrayList<>();
+
+    private User customer;
+    private Stores nearStore;
+    private Stores farStore;
+
+    @BeforeEach
+    void setUp() {
+        customer = saveUser("customer", UserRoles.ROLE_CUSTOMER);
+        User owner = saveUser("owner", UserRoles.ROLE_OWNER);
+
+        // 다른 테스트의 가게와 겹치지 않도록 서해 좌표 사용 (위도 0.001도 ≈ 111m)
+        nearStore = saveStore(owner, "서해", 35.0010, 124.0000, 3000);
+        farStore = saveStore(owner, "서해", 35.0500, 124.0000, 3000); // 약 5.6km, 반경 밖
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryAddressRepository.deleteAll(addresses);
+        storeRepository.deleteAll(stores);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("배달 가능 가게 - 색인을 사용하지 않으면 DB 좌표 범위 조회 후 배달 반경 안의 가게만 가까운 순서로 조회")
+    void testFindFromDatabase() {
+        DeliveryAddress address = saveAddress(customer, "서해", 35.0000, 124.0000);
+
+        Page<DeliverableStoreResDto> page = find(address, customer);
+
+        assertEquals(List.of(nearStore.getStoreId()), page.getContent().stream().map(DeliverableStoreResDto::getStoreId).toList());
+        assertEquals(1, page.getTotalElements());
+        assertEquals(111, page.getContent().get(0).getDistanceMeters(), 1);
+        assertFalse(page.getContent().stream().anyMatch(store -> store.getStoreId().equals(farStore.getStoreId())));
+    }
+
+    @Test
+    @DisplayName("배달 가능 가게 - 배송지 주인 또는 MASTER 만 조회 가능")
+    void testPermission() {
+        DeliveryAddress address = saveAddress(customer, "서해", 35.0000, 124.0000);
+        User other = saveUser("other", UserRoles.ROLE_CUSTOMER);
+        User owner = saveUser("owner2", UserRoles.ROLE_OWNER);
+        User master = saveUser("master", UserRoles.ROLE_MASTER);
+
+        assertThrows(ForbiddenException.class, () -> find(address, other));
+        assertThrows(ForbiddenException.class, () -> find(address, owner));
+        assertEquals(1, find(address, master).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("배달 가능 가게 - 배송지 좌표가 없으면 IllegalArgumentException (400)")
+    void testMissingCoordinates() {
+        DeliveryAddress address = saveAddress(customer, "부산광역시 해운대구 우동", null, null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> find(address, customer));
+        assertTrue(exception.getMessage().contains("배송지 위치"));
+    }
+
+    @Test
+    @DisplayName("좌표 backfill - 좌표 저장 이전에 등록된 가게, 배송지의 좌표를 주소로 채워 배달 가능 가게로 조회")
+    void testBackfill() {
+        User owner = saveUser("legacyOwner", UserRoles.ROLE_OWNER);
+        Stores legacyStore = saveStore(owner, "서울특별시 강남구 역삼1동 123-4", null, null, null);
+        DeliveryAddress legacyAddress = saveAddress(customer, "서울 강남구 역삼동", null, null);
+        DeliveryAddress unknownAddress = saveAddress(customer, "부산광역시 해운대구 우동", null, null);
+
+        locationBackfillService.backfill();
+
+        Stores store = storeRepository.findById(legacyStore.getStoreId()).orElseThrow();
+        DeliveryAddress address = deliveryAddressRepository.findById(legacyAddress.getDeliveryAddressId()).orElseThrow();
+        assertNotNull(store.getLatitude());
+        assertEquals(store.getLatitude(), address.getLatitude());
+        assertEquals(store.getLongitude(), address.getLongitude());
+        // 조회 테이블에 없는 주소는 그대로 둠
+        assertNull(deliveryAddressRepository.findById(unknownAddress.getDeliveryAddressId()).orElseThrow().getLatitude());
+
+        assertTrue(find(address, customer).getContent().stream()
+                .anyMatch(deliverable -> deliverable.getStoreId().equals(legacyStore.getStoreId())));
+    }
+
+    private Page<DeliverableStoreResDto> find(DeliveryAddress address, User user) {
+        return deliveryAreaService.findDeliverableStores(address.getDeliveryAddressId(), new PrincipalDetails(user), PageRequest.of(0, 10));
+    }
+
+    private User saveUser(String name, UserRoles role) {
+        String username = name + suffix;
+        User user = userRepository.save(User.builder()
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .username(username)
+                .nickname(username)
+                .role(role)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    private Stores saveStore(User owner, String address, Double latitude, Double longitude, Integer deliveryRadius) {
+        Stores store = storeRepository.save(Stores.builder()
+                .name("deliveryStore" + suffix)
+                .address(address)
+                .latitude(latitude)
+                .longitude(longitude)
+                .deliveryRadius(deliveryRadius)
+                .status(true)
+                .category(Category.한식)
+                .user(owner)
+                .build());
+        stores.add(store);
+        return store;
+    }
+
+    private DeliveryAddress saveAddress(User user, String addressInfo, Double latitude, Double longitude) {
+        DeliveryAddress address = deliveryAddressRepository.save(DeliveryAddress.builder()
+                .deliveryAddress("집" + addresses.size())
+                .deliveryAddressInfo(addressInfo)
+                .detailAddress("")
+                .latitude(latitude)
+                .longitude(longitude)
+                .user(user)
+                .build());
+        addresses.add(address);
+        return address;
+    }
+}
@@ -0,0 +1,176 @@
+package com.sparta.delivery.storeTest;
+
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductService;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
+import com.sparta.delivery.domain.store.entity.StoreCatalogInvalidation;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.enums.Category;
+import com.sparta.delivery.domain.store.repository.StoreCatalogInvalidationRepository;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.StoreCatalogService;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "store.catalog.maxStores=100",
+        "store.catalog.warmup.stores=0",
+        "store.catalog.invalidation.pollMillis=3600000"  // 테스트에서 직접 pollInvalidations 호출
+})
+public class StoreCatalogServiceTest {
+
+    @Autowired
+    private StoreCatalogService storeCatalogService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreCatalogInvalidationRepository storeCatalogInvalidationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String username = "catalog" + UUID.randomUUID().toString().substring(0, 8);
+
+    private User owner;
+    private Stores store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .username(username)
+                .nickname(username)
+                .role(UserRoles.ROLE_OWNER)
+                .deliveryAddresses(new ArrayList<>())
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("catalogStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .category(Category.한식)
+                .user(owner)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("bibimbap")
+                .description("yummy~")
+                .price(9000)
+                .quantity(10)
+                .hidden(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(product.getProductId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+        storeCatalogInvalidationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("가게 카탈로그 캐시 - 두 번째 조회부터 DB 조회 없이 반환")
+    void testCacheHit() {
+        double hits = requests("hit");
+        double misses = requests("miss");
+
+        StoreSnapshot first = storeCatalogService.findStore(store.getStoreId()).orElseThrow();
+        StoreSnapshot second = storeCatalogService.findStore(store.getStoreId()).orElseThrow();
+
+        assertEquals("catalogStore", first.name());
+        assertEquals(1, first.products().size());
+        assertSame(first, second);
+        assertEquals(misses + 1, requests("miss"));
+        assertEquals(hits + 1, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("가게 카탈로그 캐시 - 상품 수정 시 제거되어 변경된 상품으로 조회")
+    void testInvalidateOnProductUpdate() {
+        assertEquals(9000, storeCatalogService.findStore(store.getStoreId()).orElseThrow().products().get(0).price());
+
+        PrincipalDetails principalDetails = mock(PrincipalDetails.class);
+        when(principalDetails.getUsername()).thenReturn(username);
+        when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_OWNER);
+        productService.updateProduct(product.getProductId(), ProductUpdateRequestDto.builder()
+                .name("bibimbap").description("yummy~").price(9500).quantity(10).hidden(false).build(), principalDetails);
+
+        assertEquals(9500, storeCatalogService.findStore(store.getStoreId()).orElseThrow().products().get(0).price());
+        assertEquals(1, storeCatalogInvalidationRepository.count());
+    }
+
+    @Test
+    @DisplayName("가게 카탈로그 캐시 - 재고가 바뀌어도 제거하지 않고 상품 목록은 현재 재고로 응답")
+    void testStockChangeKeepsCache() {
+        StoreSnapshot cached = storeCatalogService.findStore(store.getStoreId()).orElseThrow();
+
+        productService.decreaseProductQuantity(List.of(product));
+
+        assertSame(cached, storeCatalogService.findStore(store.getStoreId()).orElseThrow());
+        assertEquals(0, storeCatalogInvalidationRepository.count());
+
+        PrincipalDetails principalDetails = mock(PrincipalDetails.class);
+        when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+        assertEquals(9, productService.getStoreProducts(store.getStoreId(), 0, 10, "createdAt", "desc", principalDetails)
+                .getContent().get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("가게 카탈로그 캐시 - 다른 replica 의 무효화 로그를 읽어 제거")
+    void testInvalidateFromOtherReplica() {
+        storeCatalogService.findStore(store.getStoreId()).orElseThrow();
+
+        // 다른 replica 에서 가게 이름 변경 후 무효화 로그를 남긴 상황
+        Stores changed = storeRepository.findById(store.getStoreId()).orElseThrow();
+        changed.setName("renamedStore");
+        storeRepository.save(changed);
+        storeCatalogInvalidationRepository.save(StoreCatalogInvalidation.of(store.getStoreId(), LocalDateTime.now()));
+
+        assertEquals("catalogStore", storeCatalogService.findStore(store.getStoreId()).orElseThrow().name());
+
+        storeCatalogService.pollInvalidations();
+
+        assertEquals("renamedStore", storeCatalogService.findStore(store.getStoreId()).orElseThrow().name());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("store.catalog.requests").tag("result", result).counter().count();
+    }
+}
@@ -3,32 +3,39 @@ package com.sparta.delivery.storeTest;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.autocomplete.service.AutocompleteService;
 import com.sparta.delivery.domain.store.dto.StoreRegionResDto;
 import com.sparta.delivery.domain.store.dto.StoreReqDto;
 import com.sparta.delivery.domain.store.dto.StoreResDto;
+import com.sparta.delivery.domain.store.dto.StoreSnapshot;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.enums.Category;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.store.service.DeliveryAreaService;
+import com.sparta.delivery.domain.store.service.StoreCatalogService;
 import com.sparta.delivery.domain.store.service.StoreService;
 
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class StoreServiceTest {
@@ -39,7 +46,16 @@ public class StoreServiceTest {
     private StoreRepository storeRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserLookupService userLookupService;
+
+    @Mock
+    private StoreCatalogService storeCatalogService;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private DeliveryAreaService deliveryAreaService;
 
     private Stores testStore;
     private UUID storeId;
@@ -62,7 +78,7 @@ public class StoreServiceTest {
         StoreReqDto storeReqDto = new StoreReqDto("본죽", Category.한식, "종로동");
         User testUser = User.builder().username("tom").build();
         when(storeRepository.save(any(Stores.class))).thenReturn(testStore);
-        when(userRepository.findByUsernameAndDeletedAtIsNull(principalDetails.getUsername())).thenReturn(Optional.of(testUser));
+        when(userLookupService.findUser(principalDetails.getUsername())).thenReturn(Optional.of(testUser));
         // When - 가게를 저장했을때
         StoreResDto result = storeService.storeCreate(storeReqDto, principalDetails);
 
@@ -78,12 +94,15 @@ public class StoreServiceTest {
     @DisplayName("가게 리스트 조회 성공 테스트")
     void testGetListSuccess() {
         // Given
-        Stores testStore = Stores.builder().name("본죽").address("종로동").category(Category.한식).build();
-        Stores testStore2 = Stores.builder().name("쌀죽").address("본동").category(Category.한식).build();
+        Stores testStore = Stores.builder().storeId(UUID.randomUUID()).name("본죽").address("종로동").category(Category.한식).build();
+        Stores testStore2 = Stores.builder().storeId(UUID.randomUUID()).name("쌀죽").address("본동").category(Category.한식).build();
 
         Pageable pageable = PageRequest.of(0, 2, Sort.by("name").ascending());
-        Page<Stores> storeList = new PageImpl<>(List.of(testStore, testStore2), pageable, 2);
-        when(storeRepository.findAllByDeletedAtIsNull(any(Pageable.class))).thenReturn(storeList);
+        Page<UUID> storeIds = new PageImpl<>(List.of(testStore.getStoreId(), testStore2.getStoreId()), pageable, 2);
+        when(storeRepository.findStoreIdsByDeletedAtIsNull(any(Pageable.class))).thenReturn(storeIds);
+        when(storeCatalogService.findStores(storeIds.getContent())).thenReturn(Map.of(
+                testStore.getStoreId(), StoreSnapshot.of(testStore, List.of()),
+                testStore2.getStoreId(), StoreSnapshot.of(testStore2, List.of())));
 
         // When - 가게를 저장했을때
         Page<StoreRegionResDto> result = storeService.getStoreList(pageable);
@@ -106,8 +125,8 @@ public class StoreServiceTest {
     @DisplayName("가게 리스트 조회 실패 테스트")
     void testGetListFail() {
         // Given
-        Page<Stores> storeList = new PageImpl<>(List.of(), PageRequest.of(0, 2), 2);
-        when(storeRepository.findAllByDeletedAtIsNull(any(Pageable.class))).thenReturn(storeList);
+        Page<UUID> storeIds = new PageImpl<>(List.of(), PageRequest.of(0, 2), 2);
+        when(storeRepository.findStoreIdsByDeletedAtIsNull(any(Pageable.class))).thenReturn(storeIds);
         //When && Then - 예외발생 여부 테스트
         assertThrows(StoreNotFoundException.class, () -> storeService.getStoreList(PageRequest.of(0, 2)));
     }
@@ -117,7 +136,7 @@ public class StoreServiceTest {
     void testGetOneSuccess() {
         // Given
         Stores testStore = Stores.builder().name("본죽").address("종로동").category(Category.한식).storeId(storeId).build();
-        when(storeRepository.findByStoreIdAndDeletedAtIsNull(any(UUID.class))).thenReturn(Optional.of(testStore));
+        when(storeCatalogService.findStore(any(UUID.class))).thenReturn(Optional.of(StoreSnapshot.of(testStore, List.of())));
 
         // When - 가게를 저장했을때
         StoreRegionResDto result = storeService.getStoreOne(storeId);
@@ -136,7 +155,7 @@ public class StoreServiceTest {
     void testGetOnetFail() {
         // Given
         Stores testStore = Stores.builder().address("종로동").category(Category.한식).storeId(storeId).build();
-        when(storeRepository.findByStoreIdAndDeletedAtIsNull(any(UUID.class))).thenReturn(Optional.empty());
+        when(storeCatalogService.findStore(any(UUID.class))).thenReturn(Optional.empty());
         //When && Then - 예외발생 여부 테스트
         assertThrows(StoreNotFoundException.class, () -> storeService.getStoreOne(storeId));
     }
@@ -217,4 +236,34 @@ public class StoreServiceTest {
 
     }
 
+    @Test
+    @DisplayName("가게 검색 테스트 - 페이지 크기, 정렬 조건을 DB 조회에 전달")
+    void testSearchStoreSuccess() {
+        // Given
+        StoreResDto storeResDto = StoreResDto.builder().storeId(storeId).name("본죽").address("종로동").category(Category.한식).build();
+        when(storeRepository.searchStore(eq("본죽"), eq(Category.한식), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(storeResDto), PageRequest.of(0, 10), 1));
+
+        // When - 허용되지 않은 페이지 크기(15)로 검색했을때
+        Page<StoreResDto> result = storeService.searchStore("본죽", PageRequest.of(0, 15), "한식", "name", "asc");
+
+        // Then - 기본 크기(10)와 요청한 정렬 조건으로 조회
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(storeRepository).searchStore(eq("본죽"), eq(Category.한식), captor.capture());
+        assertEquals(10, captor.getValue().getPageSize());
+        assertEquals(Sort.Direction.ASC, captor.getValue().getSort().getOrderFor("name").getDirection());
+        assertEquals(1, result.getTotalElements());
+        assertEquals(storeId, result.getContent().get(0).getStoreId());
+    }
+
+    @Test
+    @DisplayName("가게 검색 실패 테스트 - 검색 결과 없음")
+    void testSearchStoreFail() {
+        // Given
+        when(storeRepository.searchStore(any(), eq(Category.한식), any(Pageable.class))).thenReturn(Page.empty());
+
+        //When && Then - 예외발생 여부 테스트
+        assertThrows(StoreNotFoundException.class, () -> storeService.searchStore(null, PageRequest.of(0, 10), "한식", "createdAt", "desc"));
+    }
+
 }
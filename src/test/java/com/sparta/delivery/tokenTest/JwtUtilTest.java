@@ -0,0 +1,78 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.token.dto.VerifiedJwt;
+import com.sparta.delivery.domain.token.service.JwtClaimsCache;
+import com.sparta.delivery.domain.token.service.JwtUtil;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 100);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 한 번의 파싱으로 모든 claim 추출")
+    void testVerifySuccess() {
+        String token = jwtUtil.createJwt("access", "customer", "customer@example.com", UserRoles.ROLE_CUSTOMER, 60_000L);
+
+        VerifiedJwt verifiedJwt = jwtUtil.verify(token);
+
+        assertTrue(verifiedJwt.isAccessToken());
+        assertEquals("customer", verifiedJwt.getUsername());
+        assertEquals("customer@example.com", verifiedJwt.getEmail());
+        assertEquals(UserRoles.ROLE_CUSTOMER.name(), verifiedJwt.getRole());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 같은 토큰 재요청 시 캐시된 결과 반환")
+    void testVerifyReturnsCachedResult() {
+        String token = jwtUtil.createJwt("access", "customer", "customer@example.com", UserRoles.ROLE_CUSTOMER, 60_000L);
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 서명이 변조된 토큰")
+    void testVerifyFailWhenSignatureTampered() {
+        String token = jwtUtil.createJwt("access", "customer", "customer@example.com", UserRoles.ROLE_CUSTOMER, 60_000L);
+        jwtUtil.verify(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰은 캐시하지 않음")
+    void testVerifyFailWhenExpired() {
+        String token = jwtUtil.createJwt("access", "customer", "customer@example.com", UserRoles.ROLE_CUSTOMER, -1_000L);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("캐시 최대 크기 초과 시 오래된 항목 제거")
+    void testClaimsCacheIsBounded() {
+        JwtClaimsCache claimsCache = new JwtClaimsCache(10);
+        for (int i = 0; i < 50; i++) {
+            String token = jwtUtil.createJwt("access", "user" + i, "user" + i + "@example.com", UserRoles.ROLE_CUSTOMER, 60_000L);
+            claimsCache.put(token, jwtUtil.verify(token));
+        }
+
+        assertTrue(claimsCache.size() <= 10);
+    }
+}
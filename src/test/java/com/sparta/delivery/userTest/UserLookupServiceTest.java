@@ -0,0 +1,114 @@
+package com.sparta.delivery.userTest;
+
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.user.dto.SignupReqDto;
+import com.sparta.delivery.domain.user.dto.UserIdentity;
+import com.sparta.delivery.domain.user.dto.UserRoleUpdateReqDto;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.entity.UserCacheInvalidation;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserCacheInvalidationRepository;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserLookupService;
+import com.sparta.delivery.domain.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "user.cache.maxSize=100",
+        "user.cache.invalidation.pollMillis=3600000"  // 테스트에서 직접 pollInvalidations 호출
+})
+public class UserLookupServiceTest {
+
+    @Autowired
+    private UserLookupService userLookupService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCacheInvalidationRepository userCacheInvalidationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String username = "lookup" + UUID.randomUUID().toString().substring(0, 8);
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userService.signup(new SignupReqDto(username, "lookupPassword1!", username + "@example.com", "lookupNick")).getUserId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+        userCacheInvalidationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용자 조회 캐시 - 두 번째 조회부터 DB 조회 없이 반환")
+    void testCacheHit() {
+        double hits = requests("hit");
+        double misses = requests("miss");
+
+        UserIdentity first = userLookupService.findIdentity(username).orElseThrow();
+        UserIdentity second = userLookupService.findIdentity(username).orElseThrow();
+
+        assertEquals(userId, first.getUserId());
+        assertSame(first, second);
+        assertEquals(misses + 1, requests("miss"));
+        assertEquals(hits + 1, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("사용자 조회 캐시 - 권한 변경 시 제거되어 변경된 권한으로 조회")
+    void testInvalidateOnRoleUpdate() {
+        assertEquals(UserRoles.ROLE_CUSTOMER, userLookupService.findIdentity(username).orElseThrow().getRole());
+
+        PrincipalDetails master = mock(PrincipalDetails.class);
+        when(master.getRole()).thenReturn(UserRoles.ROLE_MASTER);
+        userService.updateRole(userId, master, new UserRoleUpdateReqDto(UserRoles.ROLE_OWNER));
+
+        assertEquals(UserRoles.ROLE_OWNER, userLookupService.findIdentity(username).orElseThrow().getRole());
+        assertEquals(1, userCacheInvalidationRepository.count());
+    }
+
+    @Test
+    @DisplayName("사용자 조회 캐시 - 다른 replica 의 무효화 로그를 읽어 제거")
+    void testInvalidateFromOtherReplica() {
+        userLookupService.findIdentity(username).orElseThrow();
+
+        // 다른 replica 에서 권한 변경 후 무효화 로그를 남긴 상황
+        User user = userRepository.findById(userId).orElseThrow();
+        userRepository.save(user.toBuilder().role(UserRoles.ROLE_MANAGER).build());
+        userCacheInvalidationRepository.save(UserCacheInvalidation.of(username));
+
+        assertEquals(UserRoles.ROLE_CUSTOMER, userLookupService.findIdentity(username).orElseThrow().getRole());
+
+        userLookupService.pollInvalidations();
+
+        assertEquals(UserRoles.ROLE_MANAGER, userLookupService.findIdentity(username).orElseThrow().getRole());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("user.cache.requests").tag("result", result).counter().count();
+    }
+}